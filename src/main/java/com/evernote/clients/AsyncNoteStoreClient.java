@@ -0,0 +1,1158 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import com.evernote.edam.notestore.ClientUsageMetrics;
+import com.evernote.edam.notestore.NoteCollectionCounts;
+import com.evernote.edam.notestore.NoteEmailParameters;
+import com.evernote.edam.notestore.NoteFilter;
+import com.evernote.edam.notestore.NoteList;
+import com.evernote.edam.notestore.NoteVersionId;
+import com.evernote.edam.notestore.NotesMetadataList;
+import com.evernote.edam.notestore.NotesMetadataResultSpec;
+import com.evernote.edam.notestore.RelatedQuery;
+import com.evernote.edam.notestore.RelatedResult;
+import com.evernote.edam.notestore.RelatedResultSpec;
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.notestore.SyncChunkFilter;
+import com.evernote.edam.notestore.SyncState;
+import com.evernote.edam.type.LazyMap;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.Notebook;
+import com.evernote.edam.type.Resource;
+import com.evernote.edam.type.ResourceAttributes;
+import com.evernote.edam.type.SavedSearch;
+import com.evernote.edam.type.SharedNotebook;
+import com.evernote.edam.type.SharedNotebookRecipientSettings;
+import com.evernote.edam.type.Tag;
+import com.evernote.edam.userstore.AuthenticationResult;
+import com.evernote.thrift.TApplicationException;
+import com.evernote.thrift.TException;
+import com.evernote.thrift.transport.TTransport;
+import com.evernote.thrift.transport.TTransportException;
+
+/**
+ * An asynchronous counterpart of {@link NoteStoreClient}. Every call returns
+ * immediately with a {@link Future}, and optionally reports its outcome to an
+ * {@link OnClientCallback}, which may be null.
+ * <p>
+ * Calls are queued on an {@link ExecutorService} and carried out by a small set of
+ * {@link NoteStoreClient} instances that are re-used from call to call. Combine it
+ * with
+ * {@link ENClientFactory#setConnectionPool(com.evernote.thrift.transport.THttpConnectionPool)}
+ * to also share the underlying connections.
+ * <p>
+ * This doesn't make the I/O non-blocking. The calls go through the same blocking
+ * {@link com.evernote.thrift.transport.THttpClient} transport as the synchronous
+ * clients, so each call occupies an executor thread for its whole round trip. At most
+ * as many requests as the executor has threads are on the wire at once; further calls
+ * wait in the executor's queue until a thread is free.
+ * <p>
+ * It's thread safe.
+ * 
+ * @author alexchenzl
+ */
+public class AsyncNoteStoreClient {
+
+  private final ENClientFactory clientFactory;
+  private final String noteStoreUrl;
+  private final String token;
+  private final ExecutorService executor;
+  private final boolean ownsExecutor;
+  private final ConcurrentLinkedQueue<NoteStoreClient> idleClients =
+      new ConcurrentLinkedQueue<NoteStoreClient>();
+  private volatile boolean shutdown;
+
+  AsyncNoteStoreClient(ENClientFactory clientFactory, String noteStoreUrl, String token,
+      ExecutorService executor, boolean ownsExecutor) {
+    if (noteStoreUrl == null || token == null || executor == null) {
+      throw new IllegalArgumentException("All arguments must not be null!");
+    }
+    this.clientFactory = clientFactory;
+    this.noteStoreUrl = noteStoreUrl;
+    this.token = token;
+    this.executor = executor;
+    this.ownsExecutor = ownsExecutor;
+  }
+
+  /**
+   * @return the executor the calls are carried out on
+   */
+  public ExecutorService getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Stops accepting new calls and closes the idle clients. Calls that have already been
+   * submitted are still completed, and their clients are closed afterwards. If the
+   * executor was passed in by the caller, it is left running.
+   */
+  public void shutdown() {
+    shutdown = true;
+    if (ownsExecutor) {
+      executor.shutdown();
+    }
+    closeIdleClients();
+  }
+
+  /**
+   * A single call against a borrowed {@link NoteStoreClient}.
+   */
+  protected interface Call<T> {
+    T call(NoteStoreClient client) throws Exception;
+  }
+
+  /**
+   * Queues a call and returns its pending result.
+   */
+  protected <T> Future<T> execute(final Call<T> call, final OnClientCallback<T> callback) {
+    FutureTask<T> task = new FutureTask<T>(new Callable<T>() {
+      public T call() throws Exception {
+        NoteStoreClient client = borrowClient();
+        boolean reusable = false;
+        try {
+          T result = call.call(client);
+          reusable = true;
+          return result;
+        } catch (TApplicationException e) {
+          reusable = true;
+          throw e;
+        } catch (TException e) {
+          // the connection may be in an undefined state, don't use it again
+          throw e;
+        } catch (Exception e) {
+          // EDAM exceptions are complete responses
+          reusable = true;
+          throw e;
+        } finally {
+          if (reusable) {
+            idleClients.offer(client);
+            if (shutdown) {
+              closeIdleClients();
+            }
+          } else {
+            closeClient(client);
+          }
+        }
+      }
+    }) {
+      @Override
+      protected void done() {
+        if (callback == null || isCancelled()) {
+          return;
+        }
+        T result;
+        try {
+          result = get();
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          callback.onException(cause instanceof Exception ? (Exception) cause : e);
+          return;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          callback.onException(e);
+          return;
+        }
+        callback.onSuccess(result);
+      }
+    };
+    executor.execute(task);
+    return task;
+  }
+
+  /**
+   * Returns an idle client or creates a new one.
+   */
+  private NoteStoreClient borrowClient() throws TTransportException {
+    NoteStoreClient client = idleClients.poll();
+    if (client == null) {
+      client = createClient();
+    }
+    return client;
+  }
+
+  protected NoteStoreClient createClient() throws TTransportException {
+    return clientFactory.createStoreClient(NoteStoreClient.class, noteStoreUrl, token);
+  }
+
+  /**
+   * Closes the transport of a client that is dropped, so that a response that was
+   * only partly read gives its pooled connection back.
+   */
+  protected void closeClient(NoteStoreClient client) {
+    TTransport transport = client.getClient().getInputProtocol().getTransport();
+    transport.close();
+  }
+
+  private void closeIdleClients() {
+    NoteStoreClient client;
+    while ((client = idleClients.poll()) != null) {
+      closeClient(client);
+    }
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getSyncState()}
+   */
+  public Future<SyncState> getSyncState(final OnClientCallback<SyncState> callback) {
+    return execute(new Call<SyncState>() {
+      public SyncState call(NoteStoreClient client) throws Exception {
+        return client.getSyncState();
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link
+   * NoteStoreClient#getSyncStateWithMetrics(ClientUsageMetrics)}
+   */
+  public Future<SyncState> getSyncStateWithMetrics(final ClientUsageMetrics clientMetrics,
+      final OnClientCallback<SyncState> callback) {
+    return execute(new Call<SyncState>() {
+      public SyncState call(NoteStoreClient client) throws Exception {
+        return client.getSyncStateWithMetrics(clientMetrics);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getSyncChunk(int, int, boolean)}
+   */
+  public Future<SyncChunk> getSyncChunk(final int afterUSN, final int maxEntries,
+      final boolean fullSyncOnly, final OnClientCallback<SyncChunk> callback) {
+    return execute(new Call<SyncChunk>() {
+      public SyncChunk call(NoteStoreClient client) throws Exception {
+        return client.getSyncChunk(afterUSN, maxEntries, fullSyncOnly);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getFilteredSyncChunk(int, int,
+   * SyncChunkFilter)}
+   */
+  public Future<SyncChunk> getFilteredSyncChunk(final int afterUSN, final int maxEntries,
+      final SyncChunkFilter filter, final OnClientCallback<SyncChunk> callback) {
+    return execute(new Call<SyncChunk>() {
+      public SyncChunk call(NoteStoreClient client) throws Exception {
+        return client.getFilteredSyncChunk(afterUSN, maxEntries, filter);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link
+   * NoteStoreClient#getLinkedNotebookSyncState(LinkedNotebook)}
+   */
+  public Future<SyncState> getLinkedNotebookSyncState(final LinkedNotebook linkedNotebook,
+      final OnClientCallback<SyncState> callback) {
+    return execute(new Call<SyncState>() {
+      public SyncState call(NoteStoreClient client) throws Exception {
+        return client.getLinkedNotebookSyncState(linkedNotebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link
+   * NoteStoreClient#getLinkedNotebookSyncChunk(LinkedNotebook, int, int, boolean)}
+   */
+  public Future<SyncChunk> getLinkedNotebookSyncChunk(final LinkedNotebook linkedNotebook,
+      final int afterUSN, final int maxEntries, final boolean fullSyncOnly,
+      final OnClientCallback<SyncChunk> callback) {
+    return execute(new Call<SyncChunk>() {
+      public SyncChunk call(NoteStoreClient client) throws Exception {
+        return client.getLinkedNotebookSyncChunk(linkedNotebook, afterUSN, maxEntries,
+            fullSyncOnly);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#listNotebooks()}
+   */
+  public Future<List<Notebook>> listNotebooks(
+      final OnClientCallback<List<Notebook>> callback) {
+    return execute(new Call<List<Notebook>>() {
+      public List<Notebook> call(NoteStoreClient client) throws Exception {
+        return client.listNotebooks();
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getNotebook(String)}
+   */
+  public Future<Notebook> getNotebook(final String guid,
+      final OnClientCallback<Notebook> callback) {
+    return execute(new Call<Notebook>() {
+      public Notebook call(NoteStoreClient client) throws Exception {
+        return client.getNotebook(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getDefaultNotebook()}
+   */
+  public Future<Notebook> getDefaultNotebook(final OnClientCallback<Notebook> callback) {
+    return execute(new Call<Notebook>() {
+      public Notebook call(NoteStoreClient client) throws Exception {
+        return client.getDefaultNotebook();
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#createNotebook(Notebook)}
+   */
+  public Future<Notebook> createNotebook(final Notebook notebook,
+      final OnClientCallback<Notebook> callback) {
+    return execute(new Call<Notebook>() {
+      public Notebook call(NoteStoreClient client) throws Exception {
+        return client.createNotebook(notebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#updateNotebook(Notebook)}
+   */
+  public Future<Integer> updateNotebook(final Notebook notebook,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.updateNotebook(notebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#expungeNotebook(String)}
+   */
+  public Future<Integer> expungeNotebook(final String guid,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeNotebook(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#listTags()}
+   */
+  public Future<List<Tag>> listTags(final OnClientCallback<List<Tag>> callback) {
+    return execute(new Call<List<Tag>>() {
+      public List<Tag> call(NoteStoreClient client) throws Exception {
+        return client.listTags();
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#listTagsByNotebook(String)}
+   */
+  public Future<List<Tag>> listTagsByNotebook(final String notebookGuid,
+      final OnClientCallback<List<Tag>> callback) {
+    return execute(new Call<List<Tag>>() {
+      public List<Tag> call(NoteStoreClient client) throws Exception {
+        return client.listTagsByNotebook(notebookGuid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getTag(String)}
+   */
+  public Future<Tag> getTag(final String guid, final OnClientCallback<Tag> callback) {
+    return execute(new Call<Tag>() {
+      public Tag call(NoteStoreClient client) throws Exception {
+        return client.getTag(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#createTag(Tag)}
+   */
+  public Future<Tag> createTag(final Tag tag, final OnClientCallback<Tag> callback) {
+    return execute(new Call<Tag>() {
+      public Tag call(NoteStoreClient client) throws Exception {
+        return client.createTag(tag);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#updateTag(Tag)}
+   */
+  public Future<Integer> updateTag(final Tag tag,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.updateTag(tag);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#untagAll(String)}
+   */
+  public Future<Void> untagAll(final String guid, final OnClientCallback<Void> callback) {
+    return execute(new Call<Void>() {
+      public Void call(NoteStoreClient client) throws Exception {
+        client.untagAll(guid);
+        return null;
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#expungeTag(String)}
+   */
+  public Future<Integer> expungeTag(final String guid,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeTag(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#listSearches()}
+   */
+  public Future<List<SavedSearch>> listSearches(
+      final OnClientCallback<List<SavedSearch>> callback) {
+    return execute(new Call<List<SavedSearch>>() {
+      public List<SavedSearch> call(NoteStoreClient client) throws Exception {
+        return client.listSearches();
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getSearch(String)}
+   */
+  public Future<SavedSearch> getSearch(final String guid,
+      final OnClientCallback<SavedSearch> callback) {
+    return execute(new Call<SavedSearch>() {
+      public SavedSearch call(NoteStoreClient client) throws Exception {
+        return client.getSearch(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#createSearch(SavedSearch)}
+   */
+  public Future<SavedSearch> createSearch(final SavedSearch search,
+      final OnClientCallback<SavedSearch> callback) {
+    return execute(new Call<SavedSearch>() {
+      public SavedSearch call(NoteStoreClient client) throws Exception {
+        return client.createSearch(search);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#updateSearch(SavedSearch)}
+   */
+  public Future<Integer> updateSearch(final SavedSearch search,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.updateSearch(search);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#expungeSearch(String)}
+   */
+  public Future<Integer> expungeSearch(final String guid,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeSearch(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#findNotes(NoteFilter, int, int)}
+   */
+  public Future<NoteList> findNotes(final NoteFilter filter, final int offset,
+      final int maxNotes, final OnClientCallback<NoteList> callback) {
+    return execute(new Call<NoteList>() {
+      public NoteList call(NoteStoreClient client) throws Exception {
+        return client.findNotes(filter, offset, maxNotes);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#findNoteOffset(NoteFilter, String)}
+   */
+  public Future<Integer> findNoteOffset(final NoteFilter filter, final String guid,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.findNoteOffset(filter, guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#findNotesMetadata(NoteFilter, int,
+   * int, NotesMetadataResultSpec)}
+   */
+  public Future<NotesMetadataList> findNotesMetadata(final NoteFilter filter,
+      final int offset, final int maxNotes, final NotesMetadataResultSpec resultSpec,
+      final OnClientCallback<NotesMetadataList> callback) {
+    return execute(new Call<NotesMetadataList>() {
+      public NotesMetadataList call(NoteStoreClient client) throws Exception {
+        return client.findNotesMetadata(filter, offset, maxNotes, resultSpec);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#findNoteCounts(NoteFilter, boolean)}
+   */
+  public Future<NoteCollectionCounts> findNoteCounts(final NoteFilter filter,
+      final boolean withTrash, final OnClientCallback<NoteCollectionCounts> callback) {
+    return execute(new Call<NoteCollectionCounts>() {
+      public NoteCollectionCounts call(NoteStoreClient client) throws Exception {
+        return client.findNoteCounts(filter, withTrash);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getNote(String, boolean, boolean,
+   * boolean, boolean)}
+   */
+  public Future<Note> getNote(final String guid, final boolean withContent,
+      final boolean withResourcesData, final boolean withResourcesRecognition,
+      final boolean withResourcesAlternateData, final OnClientCallback<Note> callback) {
+    return execute(new Call<Note>() {
+      public Note call(NoteStoreClient client) throws Exception {
+        return client.getNote(guid, withContent, withResourcesData,
+            withResourcesRecognition, withResourcesAlternateData);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getNoteApplicationData(String)}
+   */
+  public Future<LazyMap> getNoteApplicationData(final String guid,
+      final OnClientCallback<LazyMap> callback) {
+    return execute(new Call<LazyMap>() {
+      public LazyMap call(NoteStoreClient client) throws Exception {
+        return client.getNoteApplicationData(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getNoteApplicationDataEntry(String,
+   * String)}
+   */
+  public Future<String> getNoteApplicationDataEntry(final String guid, final String key,
+      final OnClientCallback<String> callback) {
+    return execute(new Call<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        return client.getNoteApplicationDataEntry(guid, key);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#setNoteApplicationDataEntry(String,
+   * String, String)}
+   */
+  public Future<Integer> setNoteApplicationDataEntry(final String guid, final String key,
+      final String value, final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.setNoteApplicationDataEntry(guid, key, value);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#unsetNoteApplicationDataEntry(String,
+   * String)}
+   */
+  public Future<Integer> unsetNoteApplicationDataEntry(
+      final String guid, final String key, final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.unsetNoteApplicationDataEntry(guid, key);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getNoteContent(String)}
+   */
+  public Future<String> getNoteContent(final String guid,
+      final OnClientCallback<String> callback) {
+    return execute(new Call<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        return client.getNoteContent(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getNoteSearchText(String, boolean,
+   * boolean)}
+   */
+  public Future<String> getNoteSearchText(final String guid, final boolean noteOnly,
+      final boolean tokenizeForIndexing, final OnClientCallback<String> callback) {
+    return execute(new Call<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        return client.getNoteSearchText(guid, noteOnly, tokenizeForIndexing);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getResourceSearchText(String)}
+   */
+  public Future<String> getResourceSearchText(final String guid,
+      final OnClientCallback<String> callback) {
+    return execute(new Call<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        return client.getResourceSearchText(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getNoteTagNames(String)}
+   */
+  public Future<List<String>> getNoteTagNames(final String guid,
+      final OnClientCallback<List<String>> callback) {
+    return execute(new Call<List<String>>() {
+      public List<String> call(NoteStoreClient client) throws Exception {
+        return client.getNoteTagNames(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#createNote(Note)}
+   */
+  public Future<Note> createNote(final Note note, final OnClientCallback<Note> callback) {
+    return execute(new Call<Note>() {
+      public Note call(NoteStoreClient client) throws Exception {
+        return client.createNote(note);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#updateNote(Note)}
+   */
+  public Future<Note> updateNote(final Note note, final OnClientCallback<Note> callback) {
+    return execute(new Call<Note>() {
+      public Note call(NoteStoreClient client) throws Exception {
+        return client.updateNote(note);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#deleteNote(String)}
+   */
+  public Future<Integer> deleteNote(final String guid,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.deleteNote(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#expungeNote(String)}
+   */
+  public Future<Integer> expungeNote(final String guid,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeNote(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#expungeNotes(List)}
+   */
+  public Future<Integer> expungeNotes(final List<String> noteGuids,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeNotes(noteGuids);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#expungeInactiveNotes()}
+   */
+  public Future<Integer> expungeInactiveNotes(final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeInactiveNotes();
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#copyNote(String, String)}
+   */
+  public Future<Note> copyNote(final String noteGuid, final String toNotebookGuid,
+      final OnClientCallback<Note> callback) {
+    return execute(new Call<Note>() {
+      public Note call(NoteStoreClient client) throws Exception {
+        return client.copyNote(noteGuid, toNotebookGuid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#listNoteVersions(String)}
+   */
+  public Future<List<NoteVersionId>> listNoteVersions(final String noteGuid,
+      final OnClientCallback<List<NoteVersionId>> callback) {
+    return execute(new Call<List<NoteVersionId>>() {
+      public List<NoteVersionId> call(NoteStoreClient client) throws Exception {
+        return client.listNoteVersions(noteGuid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getNoteVersion(String, int, boolean,
+   * boolean, boolean)}
+   */
+  public Future<Note> getNoteVersion(final String noteGuid, final int updateSequenceNum,
+      final boolean withResourcesData, final boolean withResourcesRecognition,
+      final boolean withResourcesAlternateData, final OnClientCallback<Note> callback) {
+    return execute(new Call<Note>() {
+      public Note call(NoteStoreClient client) throws Exception {
+        return client.getNoteVersion(noteGuid, updateSequenceNum, withResourcesData,
+            withResourcesRecognition, withResourcesAlternateData);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getResource(String, boolean, boolean,
+   * boolean, boolean)}
+   */
+  public Future<Resource> getResource(final String guid, final boolean withData,
+      final boolean withRecognition, final boolean withAttributes,
+      final boolean withAlternateData, final OnClientCallback<Resource> callback) {
+    return execute(new Call<Resource>() {
+      public Resource call(NoteStoreClient client) throws Exception {
+        return client.getResource(guid, withData, withRecognition, withAttributes,
+            withAlternateData);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getResourceApplicationData(String)}
+   */
+  public Future<LazyMap> getResourceApplicationData(final String guid,
+      final OnClientCallback<LazyMap> callback) {
+    return execute(new Call<LazyMap>() {
+      public LazyMap call(NoteStoreClient client) throws Exception {
+        return client.getResourceApplicationData(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link
+   * NoteStoreClient#getResourceApplicationDataEntry(String, String)}
+   */
+  public Future<String> getResourceApplicationDataEntry(final String guid,
+      final String key, final OnClientCallback<String> callback) {
+    return execute(new Call<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        return client.getResourceApplicationDataEntry(guid, key);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link
+   * NoteStoreClient#setResourceApplicationDataEntry(String, String, String)}
+   */
+  public Future<Integer> setResourceApplicationDataEntry(final String guid,
+      final String key, final String value, final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.setResourceApplicationDataEntry(guid, key, value);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link
+   * NoteStoreClient#unsetResourceApplicationDataEntry(String, String)}
+   */
+  public Future<Integer> unsetResourceApplicationDataEntry(final String guid,
+      final String key, final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.unsetResourceApplicationDataEntry(guid, key);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#updateResource(Resource)}
+   */
+  public Future<Integer> updateResource(final Resource resource,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.updateResource(resource);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getResourceData(String)}
+   */
+  public Future<byte[]> getResourceData(final String guid,
+      final OnClientCallback<byte[]> callback) {
+    return execute(new Call<byte[]>() {
+      public byte[] call(NoteStoreClient client) throws Exception {
+        return client.getResourceData(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getResourceByHash(String, byte[],
+   * boolean, boolean, boolean)}
+   */
+  public Future<Resource> getResourceByHash(final String noteGuid,
+      final byte[] contentHash, final boolean withData, final boolean withRecognition,
+      final boolean withAlternateData, final OnClientCallback<Resource> callback) {
+    return execute(new Call<Resource>() {
+      public Resource call(NoteStoreClient client) throws Exception {
+        return client.getResourceByHash(noteGuid, contentHash, withData, withRecognition,
+            withAlternateData);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getResourceRecognition(String)}
+   */
+  public Future<byte[]> getResourceRecognition(final String guid,
+      final OnClientCallback<byte[]> callback) {
+    return execute(new Call<byte[]>() {
+      public byte[] call(NoteStoreClient client) throws Exception {
+        return client.getResourceRecognition(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getResourceAlternateData(String)}
+   */
+  public Future<byte[]> getResourceAlternateData(final String guid,
+      final OnClientCallback<byte[]> callback) {
+    return execute(new Call<byte[]>() {
+      public byte[] call(NoteStoreClient client) throws Exception {
+        return client.getResourceAlternateData(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getResourceAttributes(String)}
+   */
+  public Future<ResourceAttributes> getResourceAttributes(final String guid,
+      final OnClientCallback<ResourceAttributes> callback) {
+    return execute(new Call<ResourceAttributes>() {
+      public ResourceAttributes call(NoteStoreClient client) throws Exception {
+        return client.getResourceAttributes(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getPublicNotebook(int, String)}
+   */
+  public Future<Notebook> getPublicNotebook(final int userId, final String publicUri,
+      final OnClientCallback<Notebook> callback) {
+    return execute(new Call<Notebook>() {
+      public Notebook call(NoteStoreClient client) throws Exception {
+        return client.getPublicNotebook(userId, publicUri);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#createSharedNotebook(SharedNotebook)}
+   */
+  public Future<SharedNotebook> createSharedNotebook(final SharedNotebook sharedNotebook,
+      final OnClientCallback<SharedNotebook> callback) {
+    return execute(new Call<SharedNotebook>() {
+      public SharedNotebook call(NoteStoreClient client) throws Exception {
+        return client.createSharedNotebook(sharedNotebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#updateSharedNotebook(SharedNotebook)}
+   */
+  public Future<Integer> updateSharedNotebook(final SharedNotebook sharedNotebook,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.updateSharedNotebook(sharedNotebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link
+   * NoteStoreClient#sendMessageToSharedNotebookMembers(String, String, List)}
+   */
+  public Future<Integer> sendMessageToSharedNotebookMembers(final String notebookGuid,
+      final String messageText, final List<String> recipients,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.sendMessageToSharedNotebookMembers(notebookGuid, messageText,
+            recipients);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#listSharedNotebooks()}
+   */
+  public Future<List<SharedNotebook>> listSharedNotebooks(
+      final OnClientCallback<List<SharedNotebook>> callback) {
+    return execute(new Call<List<SharedNotebook>>() {
+      public List<SharedNotebook> call(NoteStoreClient client) throws Exception {
+        return client.listSharedNotebooks();
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#expungeSharedNotebooks(List)}
+   */
+  public Future<Integer> expungeSharedNotebooks(final List<Long> sharedNotebookIds,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeSharedNotebooks(sharedNotebookIds);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#createLinkedNotebook(LinkedNotebook)}
+   */
+  public Future<LinkedNotebook> createLinkedNotebook(final LinkedNotebook linkedNotebook,
+      final OnClientCallback<LinkedNotebook> callback) {
+    return execute(new Call<LinkedNotebook>() {
+      public LinkedNotebook call(NoteStoreClient client) throws Exception {
+        return client.createLinkedNotebook(linkedNotebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#updateLinkedNotebook(LinkedNotebook)}
+   */
+  public Future<Integer> updateLinkedNotebook(final LinkedNotebook linkedNotebook,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.updateLinkedNotebook(linkedNotebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#listLinkedNotebooks()}
+   */
+  public Future<List<LinkedNotebook>> listLinkedNotebooks(
+      final OnClientCallback<List<LinkedNotebook>> callback) {
+    return execute(new Call<List<LinkedNotebook>>() {
+      public List<LinkedNotebook> call(NoteStoreClient client) throws Exception {
+        return client.listLinkedNotebooks();
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#expungeLinkedNotebook(String)}
+   */
+  public Future<Integer> expungeLinkedNotebook(final String guid,
+      final OnClientCallback<Integer> callback) {
+    return execute(new Call<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeLinkedNotebook(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#authenticateToSharedNotebook(String)}
+   */
+  public Future<AuthenticationResult> authenticateToSharedNotebook(final String shareKey,
+      final OnClientCallback<AuthenticationResult> callback) {
+    return execute(new Call<AuthenticationResult>() {
+      public AuthenticationResult call(NoteStoreClient client) throws Exception {
+        return client.authenticateToSharedNotebook(shareKey);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#getSharedNotebookByAuth()}
+   */
+  public Future<SharedNotebook> getSharedNotebookByAuth(
+      final OnClientCallback<SharedNotebook> callback) {
+    return execute(new Call<SharedNotebook>() {
+      public SharedNotebook call(NoteStoreClient client) throws Exception {
+        return client.getSharedNotebookByAuth();
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#emailNote(NoteEmailParameters)}
+   */
+  public Future<Void> emailNote(final NoteEmailParameters parameters,
+      final OnClientCallback<Void> callback) {
+    return execute(new Call<Void>() {
+      public Void call(NoteStoreClient client) throws Exception {
+        client.emailNote(parameters);
+        return null;
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#shareNote(String)}
+   */
+  public Future<String> shareNote(final String guid,
+      final OnClientCallback<String> callback) {
+    return execute(new Call<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        return client.shareNote(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#stopSharingNote(String)}
+   */
+  public Future<Void> stopSharingNote(final String guid,
+      final OnClientCallback<Void> callback) {
+    return execute(new Call<Void>() {
+      public Void call(NoteStoreClient client) throws Exception {
+        client.stopSharingNote(guid);
+        return null;
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#authenticateToSharedNote(String,
+   * String, String)}
+   */
+  public Future<AuthenticationResult> authenticateToSharedNote(final String guid,
+      final String noteKey, final String authenticationToken,
+      final OnClientCallback<AuthenticationResult> callback) {
+    return execute(new Call<AuthenticationResult>() {
+      public AuthenticationResult call(NoteStoreClient client) throws Exception {
+        return client.authenticateToSharedNote(guid, noteKey, authenticationToken);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link NoteStoreClient#findRelated(RelatedQuery,
+   * RelatedResultSpec)}
+   */
+  public Future<RelatedResult> findRelated(final RelatedQuery query,
+      final RelatedResultSpec resultSpec,
+      final OnClientCallback<RelatedResult> callback) {
+    return execute(new Call<RelatedResult>() {
+      public RelatedResult call(NoteStoreClient client) throws Exception {
+        return client.findRelated(query, resultSpec);
+      }
+    }, callback);
+  }
+
+  /**
+   * Asynchronous version of {@link
+   * NoteStoreClient#setSharedNotebookRecipientSettings(String, long,
+   * SharedNotebookRecipientSettings)}
+   */
+  public Future<Void> setSharedNotebookRecipientSettings(
+      final String authenticationToken, final long sharedNotebookId,
+      final SharedNotebookRecipientSettings recipientSettings,
+      final OnClientCallback<Void> callback) {
+    return execute(new Call<Void>() {
+      public Void call(NoteStoreClient client) throws Exception {
+        client.setSharedNotebookRecipientSettings(authenticationToken, sharedNotebookId,
+            recipientSettings);
+        return null;
+      }
+    }, callback);
+  }
+
+}
@@ -23,7 +23,12 @@
  */
 package com.evernote.clients;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,6 +45,8 @@ import com.evernote.thrift.TException;
 import com.evernote.thrift.protocol.TBinaryProtocol;
 import com.evernote.thrift.protocol.TProtocol;
 import com.evernote.thrift.transport.THttpClient;
+import com.evernote.thrift.transport.THttpConnectionPool;
+import com.evernote.thrift.transport.TTransport;
 import com.evernote.thrift.transport.TTransportException;
 
 /**
@@ -57,6 +64,9 @@ public class ENClientFactory {
   private String userAgent;
   private Map<String, String> customHeaders;
   private AuthenticationResult businessAuthenticationResult;
+  private boolean bufferResponses;
+  private boolean compressResponses;
+  private THttpConnectionPool connectionPool;
 
   /**
    * @param auth
@@ -95,14 +105,91 @@ public class ENClientFactory {
    */
   public NoteStoreClient createNoteStoreClient() throws EDAMUserException,
       EDAMSystemException, TException {
+    return createStoreClient(NoteStoreClient.class, getNoteStoreUrl(), this.evernoteAuth
+        .getToken());
+  }
+
+  /**
+   * Creates a new {@link AsyncNoteStoreClient} that carries out up to
+   * maxConcurrentCalls calls at the same time on its own daemon threads. Call
+   * {@link AsyncNoteStoreClient#shutdown()} once it's no longer needed.
+   * 
+   * The returned client is thread safe.
+   * 
+   * @param maxConcurrentCalls The maximum number of requests on the wire at once
+   * @throws TException
+   * @throws EDAMSystemException
+   * @throws EDAMUserException
+   */
+  public AsyncNoteStoreClient createAsyncNoteStoreClient(int maxConcurrentCalls)
+      throws EDAMUserException, EDAMSystemException, TException {
+    if (maxConcurrentCalls < 1) {
+      throw new IllegalArgumentException("maxConcurrentCalls must be positive");
+    }
+    final AtomicInteger threadCount = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(maxConcurrentCalls,
+        new ThreadFactory() {
+          public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "AsyncNoteStoreClient-" + threadCount
+                .incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+    return new AsyncNoteStoreClient(this, getNoteStoreUrl(), evernoteAuth.getToken(),
+        executor, true);
+  }
 
+  /**
+   * Creates a new {@link AsyncNoteStoreClient} that carries out its calls on the given
+   * executor. The executor is not shut down by the client.
+   * 
+   * The returned client is thread safe.
+   * 
+   * @param executor
+   * @throws TException
+   * @throws EDAMSystemException
+   * @throws EDAMUserException
+   */
+  public AsyncNoteStoreClient createAsyncNoteStoreClient(ExecutorService executor)
+      throws EDAMUserException, EDAMSystemException, TException {
+    return new AsyncNoteStoreClient(this, getNoteStoreUrl(), evernoteAuth.getToken(),
+        executor, false);
+  }
+
+  /**
+   * Creates a new {@link NoteStoreClientPool} that lends NoteStore clients for the
+   * account of this factory to any number of threads. Call
+   * {@link NoteStoreClientPool#shutdown()} once it's no longer needed.
+   *
+   * The returned pool is thread safe.
+   *
+   * @throws TException
+   * @throws EDAMSystemException
+   * @throws EDAMUserException
+   */
+  public NoteStoreClientPool createNoteStoreClientPool() throws EDAMUserException,
+      EDAMSystemException, TException {
+    return new NoteStoreClientPool(this, getNoteStoreUrl(), evernoteAuth.getToken());
+  }
+
+  String getNoteStoreUrl() throws EDAMUserException, EDAMSystemException,
+      TException {
     String noteStoreUrl = this.evernoteAuth.getNoteStoreUrl();
     if (noteStoreUrl == null) {
       noteStoreUrl = createUserStoreClient().getNoteStoreUrl();
       this.evernoteAuth.setNoteStoreUrl(noteStoreUrl);
     }
-    return createStoreClient(NoteStoreClient.class, noteStoreUrl, this.evernoteAuth
-        .getToken());
+    return noteStoreUrl;
+  }
+
+  /**
+   * @return The NoteStore URL of the business, or null if the user hasn't been
+   *         authenticated to the business yet
+   */
+  synchronized String getBusinessNoteStoreUrl() {
+    return businessAuthenticationResult == null ? null : businessAuthenticationResult
+        .getNoteStoreUrl();
   }
 
   /**
@@ -176,7 +263,7 @@ public class ENClientFactory {
    * Creates a new {@link ENSearchHelper} instance.
    * 
    * The returned instance can be used for any number of API calls, but is NOT thread
-   * safe.
+   * safe. Call {@link ENSearchHelper#shutdown()} once it's no longer needed.
    * 
    * @return A new {@link ENSearchHelper} object
    * @throws TException
@@ -191,16 +278,7 @@ public class ENClientFactory {
 
   protected <T> T createStoreClient(Class<T> clientClass, String url, String token)
       throws TTransportException {
-    THttpClient transport = new THttpClient(url);
-
-    transport.setCustomHeader(USER_AGENT_KEY, generateUserAgent());
-    if (customHeaders != null) {
-      for (Map.Entry<String, String> header : customHeaders.entrySet()) {
-        transport.setCustomHeader(header.getKey(), header.getValue());
-      }
-    }
-
-    TProtocol protocol = new TBinaryProtocol(transport);
+    TProtocol protocol = new TBinaryProtocol(createTransport(url));
     try {
       return clientClass.getDeclaredConstructor(TProtocol.class, TProtocol.class,
           String.class).newInstance(protocol, protocol, token);
@@ -210,11 +288,57 @@ public class ENClientFactory {
     }
   }
 
+  /**
+   * Creates the transport used by a new store client. By default this is a
+   * {@link THttpClient} configured with the settings of this factory.
+   * <p>
+   * Subclasses may override this method to talk to the service through a different HTTP
+   * implementation, e.g. one that multiplexes concurrent calls to the same host over a
+   * single HTTP/2 connection. The returned transport must send the headers returned by
+   * {@link #getRequestHeaders()} with each request.
+   * 
+   * @param url The URL of the UserStore or NoteStore
+   * @throws TTransportException
+   */
+  protected TTransport createTransport(String url) throws TTransportException {
+    THttpConnectionPool pool;
+    boolean buffer;
+    boolean compress;
+    synchronized (this) {
+      pool = connectionPool;
+      buffer = bufferResponses;
+      compress = compressResponses;
+    }
+    THttpClient transport = pool != null ? new THttpClient(url, pool)
+        : new THttpClient(url);
+    transport.setBufferResponse(buffer);
+    transport.setCompressResponses(compress);
+    transport.setCustomHeaders(getRequestHeaders());
+    return transport;
+  }
+
+  /**
+   * @return The HTTP headers sent with each request, including the user agent
+   */
+  protected Map<String, String> getRequestHeaders() {
+    Map<String, String> headers = new LinkedHashMap<String, String>();
+    headers.put(USER_AGENT_KEY, generateUserAgent());
+    synchronized (this) {
+      if (customHeaders != null) {
+        headers.putAll(customHeaders);
+      }
+    }
+    return headers;
+  }
+
   /**
    * The user agent defined for the connection
    */
   protected String generateUserAgent() {
-    String id = userAgent;
+    String id;
+    synchronized (this) {
+      id = userAgent;
+    }
     if (id == null) {
       Matcher matcher = CONSUMER_KEY_REGEX.matcher(evernoteAuth.getToken());
       if (matcher.find() && matcher.groupCount() >= 1 && matcher.group(1) != null) {
@@ -250,4 +374,41 @@ public class ENClientFactory {
     this.customHeaders = customHeaders;
   }
 
+  /**
+   * Enables reading whole responses into memory before they are decoded, which makes
+   * decoding considerably faster at the cost of holding each response in a buffer.
+   * Applies to clients created after this call.
+   * 
+   * @param bufferResponses
+   */
+  public synchronized void setBufferResponses(boolean bufferResponses) {
+    this.bufferResponses = bufferResponses;
+  }
+
+  /**
+   * Asks the service to send gzip or deflate compressed responses, which are
+   * decompressed while they are decoded. Applies to clients created after this call.
+   * 
+   * @param compressResponses
+   */
+  public synchronized void setCompressResponses(boolean compressResponses) {
+    this.compressResponses = compressResponses;
+  }
+
+  /**
+   * Makes all clients created after this call send their requests over persistent
+   * connections borrowed from the given pool, so that NoteStore and UserStore clients
+   * talking to the same host share warm connections. The same pool may be shared by
+   * several factories. Pass null to open a new connection for every call again.
+   * 
+   * @param connectionPool
+   */
+  public synchronized void setConnectionPool(THttpConnectionPool connectionPool) {
+    this.connectionPool = connectionPool;
+  }
+
+  public synchronized THttpConnectionPool getConnectionPool() {
+    return connectionPool;
+  }
+
 }
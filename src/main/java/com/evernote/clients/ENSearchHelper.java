@@ -4,10 +4,24 @@
 package com.evernote.clients;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import com.evernote.clients.FederatedSearchResult.ScopeType;
 import com.evernote.edam.error.EDAMNotFoundException;
 import com.evernote.edam.error.EDAMSystemException;
 import com.evernote.edam.error.EDAMUserException;
@@ -17,11 +31,12 @@ import com.evernote.edam.notestore.NotesMetadataResultSpec;
 import com.evernote.edam.type.LinkedNotebook;
 import com.evernote.edam.type.NoteSortOrder;
 import com.evernote.thrift.TException;
+import com.evernote.thrift.transport.TTransportException;
 
 /**
  * Provides helper methods to search notes in different note stores.
  * <p>
- * It's NOT thread safe.
+ * It's NOT thread safe, although its searches may use several threads internally.
  *
  * @author alexchenzl
  */
@@ -33,6 +48,9 @@ public class ENSearchHelper {
   // cache ENLinkedNotebookHelper objects for re-use
   private final Map<String, ENLinkedNotebookHelper> linkedNotebookHelpers =
       new HashMap<String, ENLinkedNotebookHelper>();
+  private ExecutorService executor;
+  private NoteStoreClientPool clientPool;
+  private boolean ownsClientPool;
 
   public ENSearchHelper(ENClientFactory factory, NoteStoreClient client) {
     if (factory == null || client == null) {
@@ -42,6 +60,57 @@ public class ENSearchHelper {
     this.personalClient = client;
   }
 
+  /**
+   * Sets the executor that fetches pages in parallel for searches with
+   * {@link SearchParam#setMaxConcurrentPages(int)} greater than 1. The executor is not
+   * shut down by this helper. Pass null to always fetch pages one after the other.
+   * 
+   * @param executor
+   */
+  public void setExecutor(ExecutorService executor) {
+    this.executor = executor;
+  }
+
+  public ExecutorService getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Sets the pool that lends the clients for fetching pages in parallel. By default a
+   * pool is created with {@link ENClientFactory#createNoteStoreClientPool()} on first
+   * use and shut down by {@link #shutdown()}. The given pool is not shut down by this
+   * helper.
+   * 
+   * @param clientPool
+   */
+  public void setClientPool(NoteStoreClientPool clientPool) {
+    NoteStoreClientPool created;
+    synchronized (this) {
+      created = ownsClientPool ? this.clientPool : null;
+      this.clientPool = clientPool;
+      ownsClientPool = false;
+    }
+    if (created != null) {
+      created.shutdown();
+    }
+  }
+
+  /**
+   * Shuts down the client pool this helper has created, which closes its idle clients
+   * and the connections they hold. Neither the executor nor a pool set with
+   * {@link #setClientPool(NoteStoreClientPool)} is shut down. Searches that fetch
+   * pages in parallel fail after this call.
+   */
+  public void shutdown() {
+    NoteStoreClientPool created;
+    synchronized (this) {
+      created = ownsClientPool ? clientPool : null;
+    }
+    if (created != null) {
+      created.shutdown();
+    }
+  }
+
   /**
    * Searches personal notes in the user's account. It will not search shared notebook or
    * business notebook that the user has joined
@@ -58,7 +127,9 @@ public class ENSearchHelper {
     if (search == null) {
       return null;
     }
-    return findNotesMetadata(search, personalClient, search.getNoteFilter());
+    String noteStoreUrl = isParallel(search) ? clientFactory.getNoteStoreUrl() : null;
+    return findNotesMetadata(search, personalClient, noteStoreUrl, search
+        .getNoteFilter());
   }
 
   /**
@@ -91,7 +162,8 @@ public class ENSearchHelper {
     NoteFilter noteFilter = new NoteFilter(search.getNoteFilter());
     noteFilter.setNotebookGuid(notebookGuid);
 
-    return findNotesMetadata(search, linkedNotebookHelper.getSharedClient(), noteFilter);
+    return findNotesMetadata(search, linkedNotebookHelper.getSharedClient(),
+        linkedNotebook.getNoteStoreUrl(), noteFilter);
   }
 
   /**
@@ -111,36 +183,480 @@ public class ENSearchHelper {
       return null;
     }
     getBusinessClient();
-    return findNotesMetadata(search, businessClient, search.getNoteFilter());
+    return findNotesMetadata(search, businessClient, clientFactory
+        .getBusinessNoteStoreUrl(), search.getNoteFilter());
   }
 
-  private List<NotesMetadataList> findNotesMetadata(SearchParam search,
-      NoteStoreClient client, NoteFilter filter) throws EDAMUserException,
-      EDAMSystemException, EDAMNotFoundException, TException {
+  /**
+   * Like {@link #findPersonalNotes(SearchParam)}, but returns the notes one by one and
+   * fetches the pages of the result only as far as the caller iterates. If the helper
+   * has an executor, see {@link #setExecutor(ExecutorService)}, the next page is
+   * prefetched while the caller processes the current one. The timeout and
+   * maxConcurrentPages of the search are ignored.
+   * 
+   * @param search A {@link SearchParam} object that wraps all parameters for this search
+   * @return An iterator over the matching notes, which should be closed if the caller
+   *         stops before the end
+   */
+  public NoteMetadataIterator iteratePersonalNotes(SearchParam search) {
+    if (search == null) {
+      return null;
+    }
+    return createIterator(search, personalClient, search.getNoteFilter());
+  }
+
+  /**
+   * Like {@link #findNotesInLinkedNotebook(SearchParam, LinkedNotebook)}, but returns an
+   * iterator that fetches the pages on demand, see
+   * {@link #iteratePersonalNotes(SearchParam)}.
+   * 
+   * @param search A {@link SearchParam} object that wraps all parameters for this search
+   * @param linkedNotebook The specified LinkedNotebook
+   * @throws EDAMUserException
+   * @throws EDAMSystemException
+   * @throws EDAMNotFoundException
+   * @throws TException
+   */
+  public NoteMetadataIterator iterateNotesInLinkedNotebook(SearchParam search,
+      LinkedNotebook linkedNotebook) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    if (search == null || linkedNotebook == null) {
+      return null;
+    }
+    ENLinkedNotebookHelper linkedNotebookHelper = getLinkedNotebookHelper(linkedNotebook);
+    if (linkedNotebookHelper == null) {
+      return null;
+    }
+    NoteFilter noteFilter = new NoteFilter(search.getNoteFilter());
+    noteFilter.setNotebookGuid(linkedNotebookHelper.getCorrespondingNotebookGuid());
+    return createIterator(search, linkedNotebookHelper.getSharedClient(), noteFilter);
+  }
+
+  /**
+   * Like {@link #findBusinessNotes(SearchParam)}, but returns an iterator that fetches
+   * the pages on demand, see {@link #iteratePersonalNotes(SearchParam)}.
+   * 
+   * @param search A {@link SearchParam} object that wraps all parameters for this search
+   * @throws EDAMUserException
+   * @throws EDAMSystemException
+   * @throws TException
+   */
+  public NoteMetadataIterator iterateBusinessNotes(SearchParam search)
+      throws EDAMUserException, EDAMSystemException, TException {
+    if (search == null) {
+      return null;
+    }
+    return createIterator(search, getBusinessClient(), search.getNoteFilter());
+  }
+
+  private NoteMetadataIterator createIterator(SearchParam search, NoteStoreClient client,
+      NoteFilter filter) {
+    int pageSize = search.getPageSize() > 0 ? search.getPageSize() : Math.max(search
+        .getMaxNotes() - search.getOffset(), 1);
+    return new NoteMetadataIterator(client, filter, search.getResultSpec(), search
+        .getOffset(), search.getMaxNotes(), pageSize, executor);
+  }
+
+  /**
+   * Searches the user's personal notes, the given linked notebooks and optionally the
+   * business notebooks the user has joined, all at the same time, and merges the notes
+   * of all note stores in the order of the note filter.
+   * <p>
+   * The scopes are searched in parallel on the executor set with
+   * {@link #setExecutor(ExecutorService)}, or one after the other if there is none. On
+   * the executor, each scope borrows a client for its note store from the client pool,
+   * see {@link #setClientPool(NoteStoreClientPool)}, so that a scope that is still
+   * running after the timeout doesn't share a client with later calls on this helper.
+   * Without an executor the scopes use the clients of this helper. The pages of each
+   * scope are fetched one after the other. {@link SearchParam#getTimeout()} applies to
+   * all scopes, counted from this call: a scope that hasn't finished by then is
+   * returned with the pages it has found so far, so a slow shard doesn't hold up the
+   * whole search. A scope that fails doesn't fail the search either, see
+   * {@link FederatedSearchResult.Scope#getException()}.
+   * <p>
+   * The offset and maxNotes of the search apply to the merged list. Each scope is
+   * searched from its first note up to maxNotes, because any of those notes may end up
+   * in the requested part of the merged list.
+   * 
+   * @param search A {@link SearchParam} object that wraps all parameters for this search
+   * @param linkedNotebooks The linked notebooks to search, may be null. If
+   *          includeBusiness is true, business notebooks among them are skipped because
+   *          the business search covers them.
+   * @param includeBusiness Whether to search the business notebooks the user has joined
+   * @param listener Receives each scope as soon as it's finished, may be null
+   * @return The pages of each scope and the merged notes
+   * @throws TException if the calling thread is interrupted while waiting
+   */
+  public FederatedSearchResult findNotesInAllScopes(SearchParam search,
+      List<LinkedNotebook> linkedNotebooks, boolean includeBusiness,
+      FederatedSearchResult.Listener listener) throws TException {
+    if (search == null) {
+      return null;
+    }
+    SearchParam scopeParam = search.copyForScopes();
+    long deadline = search.getTimeout() > 0 ? System.currentTimeMillis()
+        + search.getTimeout() : 0;
+    boolean pooled = executor != null;
+    List<ScopeSearch> scopeSearches = new ArrayList<ScopeSearch>();
+    scopeSearches.add(new ScopeSearch(ScopeType.PERSONAL, null, scopeParam, deadline,
+        pooled, listener));
+    if (linkedNotebooks != null) {
+      Set<String> guids = new HashSet<String>();
+      for (LinkedNotebook linkedNotebook : linkedNotebooks) {
+        if ((includeBusiness && linkedNotebook.isSetBusinessId())
+            || !guids.add(linkedNotebook.getGuid())) {
+          continue;
+        }
+        scopeSearches.add(new ScopeSearch(ScopeType.LINKED_NOTEBOOK, linkedNotebook,
+            scopeParam, deadline, pooled, listener));
+      }
+    }
+    if (includeBusiness) {
+      scopeSearches.add(new ScopeSearch(ScopeType.BUSINESS, null, scopeParam, deadline,
+          pooled, listener));
+    }
+
+    if (executor == null) {
+      for (ScopeSearch scope : scopeSearches) {
+        if (deadline != 0 && System.currentTimeMillis() >= deadline) {
+          // the remaining scopes are reported as timed out
+          break;
+        }
+        scope.run();
+      }
+    } else {
+      List<Future<?>> futures = new ArrayList<Future<?>>(scopeSearches.size());
+      for (ScopeSearch scope : scopeSearches) {
+        futures.add(executor.submit(scope));
+      }
+      try {
+        for (Future<?> future : futures) {
+          if (deadline == 0) {
+            future.get();
+          } else {
+            future.get(Math.max(deadline - System.currentTimeMillis(), 0),
+                TimeUnit.MILLISECONDS);
+          }
+        }
+      } catch (TimeoutException e) {
+        // report the unfinished scopes as timed out
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new TTransportException("Interrupted while waiting for search results");
+      } catch (ExecutionException e) {
+        // can't happen, scope searches catch all exceptions
+        throw new TException(e.getCause());
+      }
+    }
+
+    List<FederatedSearchResult.Scope> scopes = new ArrayList<FederatedSearchResult.Scope>(
+        scopeSearches.size());
+    for (ScopeSearch scope : scopeSearches) {
+      scopes.add(scope.finish(true));
+    }
+    return new FederatedSearchResult(scopes, scopeParam.getNoteFilter(), search
+        .getOffset(), search.getMaxNotes());
+  }
 
+  /**
+   * Searches a single scope of a federated search on the thread it runs on.
+   */
+  private class ScopeSearch implements Runnable {
+    private final ScopeType type;
+    private final LinkedNotebook linkedNotebook;
+    private final SearchParam search;
+    private final long deadline;
+    private final boolean pooled;
+    private final FederatedSearchResult.Listener listener;
+    private final List<NotesMetadataList> pages = Collections
+        .synchronizedList(new ArrayList<NotesMetadataList>());
+    private final AtomicReference<FederatedSearchResult.Scope> result =
+        new AtomicReference<FederatedSearchResult.Scope>();
+    private volatile Exception exception;
+
+    /**
+     * @param pooled whether to search with a client borrowed from the pool instead of
+     *          the client of this helper, because the search may still be running when
+     *          the helper is used again
+     */
+    ScopeSearch(ScopeType type, LinkedNotebook linkedNotebook, SearchParam search,
+        long deadline, boolean pooled, FederatedSearchResult.Listener listener) {
+      this.type = type;
+      this.linkedNotebook = linkedNotebook;
+      this.search = search;
+      this.deadline = deadline;
+      this.pooled = pooled;
+      this.listener = listener;
+    }
+
+    public void run() {
+      try {
+        switch (type) {
+          case PERSONAL:
+            findNotes(personalClient, clientFactory.getNoteStoreUrl(), search
+                .getNoteFilter());
+            break;
+          case LINKED_NOTEBOOK:
+            ENLinkedNotebookHelper helper = getLinkedNotebookHelper(linkedNotebook);
+            if (helper != null) {
+              NoteFilter filter = new NoteFilter(search.getNoteFilter());
+              filter.setNotebookGuid(helper.getCorrespondingNotebookGuid());
+              findNotes(helper.getSharedClient(), linkedNotebook.getNoteStoreUrl(),
+                  filter);
+            }
+            break;
+          case BUSINESS:
+            NoteStoreClient client = getBusinessClient();
+            findNotes(client, clientFactory.getBusinessNoteStoreUrl(), search
+                .getNoteFilter());
+            break;
+        }
+      } catch (Exception e) {
+        exception = e;
+      }
+      finish(exception == null && isCutShort());
+    }
+
+    /**
+     * Fetches the pages with the given client, or with a client borrowed from the pool
+     * for the same note store and token.
+     */
+    private void findNotes(NoteStoreClient client, String noteStoreUrl,
+        final NoteFilter filter) throws Exception {
+      if (!pooled) {
+        findNotesMetadata(search, client, null, filter, deadline, pages);
+        return;
+      }
+      getClientPool().execute(noteStoreUrl, client.getToken(),
+          new NoteStoreClientPool.Call<Void>() {
+            public Void call(NoteStoreClient pooledClient) throws Exception {
+              findNotesMetadata(search, pooledClient, null, filter, deadline, pages);
+              return null;
+            }
+          });
+    }
+
+    /**
+     * @return true if the deadline stopped the search before the last note
+     */
+    private boolean isCutShort() {
+      if (deadline == 0 || System.currentTimeMillis() < deadline) {
+        return false;
+      }
+      synchronized (pages) {
+        if (pages.isEmpty()) {
+          return true;
+        }
+        NotesMetadataList last = pages.get(pages.size() - 1);
+        return last.getNotesSize() > 0
+            && last.getStartIndex() + last.getNotesSize() < Math.min(search
+                .getMaxNotes(), last.getTotalNotes());
+      }
+    }
+
+    /**
+     * Reports the scope to the listener the first time it's called.
+     * 
+     * @param timedOut whether the search is given up if it hasn't reported yet
+     */
+    FederatedSearchResult.Scope finish(boolean timedOut) {
+      if (result.get() == null) {
+        List<NotesMetadataList> found;
+        synchronized (pages) {
+          found = new ArrayList<NotesMetadataList>(pages);
+        }
+        FederatedSearchResult.Scope scope = new FederatedSearchResult.Scope(type,
+            linkedNotebook, found, exception, timedOut);
+        if (result.compareAndSet(null, scope) && listener != null) {
+          listener.onScopeFinished(scope);
+        }
+      }
+      return result.get();
+    }
+  }
+
+  private boolean isParallel(SearchParam search) {
+    return executor != null && search.getMaxConcurrentPages() > 1;
+  }
+
+  /**
+   * Fetches the notes from the offset up to maxNotes of the search, or up to the last
+   * matching note. Once the first page has returned the total number of matching
+   * notes, the remaining pages are fetched in parallel if the search allows it and a
+   * NoteStore URL is known for the client.
+   */
+  private List<NotesMetadataList> findNotesMetadata(SearchParam search,
+      NoteStoreClient client, String noteStoreUrl, NoteFilter filter)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException, TException {
     List<NotesMetadataList> result = new ArrayList<NotesMetadataList>();
-    final int maxNotes = search.getMaxNotes();
+    long deadline = search.getTimeout() > 0 ? System.currentTimeMillis()
+        + search.getTimeout() : 0;
+    findNotesMetadata(search, client, noteStoreUrl, filter, deadline, result);
+    return result;
+  }
+
+  private void findNotesMetadata(SearchParam search, NoteStoreClient client,
+      String noteStoreUrl, NoteFilter filter, long deadline,
+      List<NotesMetadataList> result) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    int pageSize = search.getPageSize() > 0 ? search.getPageSize() : search
+        .getMaxNotes();
     int offset = search.getOffset();
+    if (offset >= search.getMaxNotes()) {
+      return;
+    }
 
-    int remaining = maxNotes - offset;
-    while (remaining > 0) {
-      NotesMetadataList notesMetadata = client.findNotesMetadata(filter, offset, maxNotes,
-          search.getResultSpec());
-      result.add(notesMetadata);
+    NotesMetadataList first = client.findNotesMetadata(filter, offset, Math.min(pageSize,
+        search.getMaxNotes() - offset), search.getResultSpec());
+    result.add(first);
+    offset = first.getStartIndex() + first.getNotesSize();
+    int end = Math.min(search.getMaxNotes(), first.getTotalNotes());
+    if (offset >= end || first.getNotesSize() == 0) {
+      return;
+    }
+
+    if (!isParallel(search) || noteStoreUrl == null) {
+      fetchPages(search, client, filter, offset, end, pageSize, deadline, result);
+      return;
+    }
+    if (search.getPageSize() <= 0) {
+      // the server may return fewer notes than asked for, use its page size
+      pageSize = first.getNotesSize();
+    }
+    fetchPagesInParallel(search, client, noteStoreUrl, filter, offset, end, pageSize,
+        deadline, result);
+  }
 
+  /**
+   * Fetches the pages one after the other until the end offset, the last matching note
+   * or the deadline has been reached.
+   */
+  private static void fetchPages(SearchParam search, NoteStoreClient client,
+      NoteFilter filter, int offset, int end, int pageSize, long deadline,
+      List<NotesMetadataList> result) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    while (offset < end && (deadline == 0 || System.currentTimeMillis() < deadline)) {
+      NotesMetadataList notesMetadata = client.findNotesMetadata(filter, offset, Math.min(
+          pageSize, end - offset), search.getResultSpec());
+      result.add(notesMetadata);
+      if (notesMetadata.getNotesSize() == 0) {
+        break;
+      }
       offset = notesMetadata.getStartIndex() + notesMetadata.getNotesSize();
-      if (notesMetadata.getTotalNotes() <= offset) {
-        remaining = 0;
-      } else {
-        remaining = maxNotes - offset;
+      end = Math.min(end, notesMetadata.getTotalNotes());
+    }
+  }
+
+  /**
+   * Fetches the pages from the offset to the end offset with up to maxConcurrentPages
+   * requests on the wire at once, and adds them to the result in order. Each worker
+   * borrows one client from the pool and fetches pages until none are left. If the
+   * deadline passes, the pages that have arrived in order so far are returned and the
+   * remaining pages are not requested anymore.
+   */
+  private void fetchPagesInParallel(final SearchParam search, NoteStoreClient client,
+      final String noteStoreUrl, final NoteFilter filter, int offset, int end,
+      final int pageSize, long deadline, List<NotesMetadataList> result)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException, TException {
+    int pageCount = (end - offset + pageSize - 1) / pageSize;
+    final int[] offsets = new int[pageCount];
+    final int[] counts = new int[pageCount];
+    for (int i = 0; i < pageCount; i++) {
+      offsets[i] = offset + i * pageSize;
+      counts[i] = Math.min(pageSize, end - offsets[i]);
+    }
+
+    final NoteStoreClientPool pool = getClientPool();
+    final String token = client.getToken();
+    final AtomicReferenceArray<NotesMetadataList> pages =
+        new AtomicReferenceArray<NotesMetadataList>(pageCount);
+    final AtomicInteger nextPage = new AtomicInteger();
+    final AtomicBoolean stopped = new AtomicBoolean();
+    final NoteStoreClientPool.Call<Void> worker = new NoteStoreClientPool.Call<Void>() {
+      public Void call(NoteStoreClient pooledClient) throws Exception {
+        int page;
+        while (!stopped.get() && (page = nextPage.getAndIncrement()) < offsets.length) {
+          pages.set(page, pooledClient.findNotesMetadata(filter, offsets[page],
+              counts[page], search.getResultSpec()));
+        }
+        return null;
       }
+    };
+
+    int workerCount = Math.min(search.getMaxConcurrentPages(), pageCount);
+    List<Future<Void>> futures = new ArrayList<Future<Void>>(workerCount);
+    try {
+      for (int i = 0; i < workerCount; i++) {
+        futures.add(executor.submit(new Callable<Void>() {
+          public Void call() throws Exception {
+            return pool.execute(noteStoreUrl, token, worker);
+          }
+        }));
+      }
+      for (Future<Void> future : futures) {
+        if (deadline == 0) {
+          future.get();
+        } else {
+          future.get(Math.max(deadline - System.currentTimeMillis(), 0),
+              TimeUnit.MILLISECONDS);
+        }
+      }
+    } catch (TimeoutException e) {
+      // return what has arrived within the budget
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TTransportException("Interrupted while waiting for search results");
+    } catch (ExecutionException e) {
+      throwCause(e);
+    } finally {
+      stopped.set(true);
     }
-    return result;
 
+    for (int i = 0; i < pageCount; i++) {
+      NotesMetadataList page = pages.get(i);
+      if (page == null) {
+        break;
+      }
+      result.add(page);
+      // fill the gap if the server returned fewer notes than asked for
+      int pageEnd = Math.min(offsets[i] + counts[i], page.getTotalNotes());
+      int next = page.getStartIndex() + page.getNotesSize();
+      if (next < pageEnd && page.getNotesSize() > 0) {
+        fetchPages(search, client, filter, next, pageEnd, pageSize, deadline, result);
+      }
+    }
+  }
+
+  private synchronized NoteStoreClientPool getClientPool() throws EDAMUserException,
+      EDAMSystemException, TException {
+    if (clientPool == null) {
+      clientPool = clientFactory.createNoteStoreClientPool();
+      ownsClientPool = true;
+    }
+    return clientPool;
   }
 
-  private NoteStoreClient getBusinessClient() throws TException, EDAMUserException,
-      EDAMSystemException {
+  private static void throwCause(ExecutionException e) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    Throwable cause = e.getCause();
+    if (cause instanceof EDAMUserException) {
+      throw (EDAMUserException) cause;
+    } else if (cause instanceof EDAMSystemException) {
+      throw (EDAMSystemException) cause;
+    } else if (cause instanceof EDAMNotFoundException) {
+      throw (EDAMNotFoundException) cause;
+    } else if (cause instanceof TException) {
+      throw (TException) cause;
+    } else if (cause instanceof RuntimeException) {
+      throw (RuntimeException) cause;
+    } else if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    throw new TException(cause);
+  }
+
+  private synchronized NoteStoreClient getBusinessClient() throws TException,
+      EDAMUserException, EDAMSystemException {
     if (businessClient == null) {
       ENBusinessNotebookHelper businessNotebookHelper = clientFactory
           .createBusinessNotebookHelper();
@@ -152,11 +668,17 @@ public class ENSearchHelper {
   private ENLinkedNotebookHelper getLinkedNotebookHelper(LinkedNotebook linkedNotebook)
       throws EDAMUserException, EDAMSystemException, TException, EDAMNotFoundException {
     if (linkedNotebook != null) {
-      ENLinkedNotebookHelper helper = linkedNotebookHelpers.get(linkedNotebook.getGuid());
+      ENLinkedNotebookHelper helper;
+      // federated searches look up helpers from several threads
+      synchronized (linkedNotebookHelpers) {
+        helper = linkedNotebookHelpers.get(linkedNotebook.getGuid());
+      }
       if (helper == null) {
         helper = clientFactory.createLinkedNotebookHelper(linkedNotebook);
         if (helper != null) {
-          linkedNotebookHelpers.put(linkedNotebook.getGuid(), helper);
+          synchronized (linkedNotebookHelpers) {
+            linkedNotebookHelpers.put(linkedNotebook.getGuid(), helper);
+          }
         }
       }
       return helper;
@@ -173,10 +695,14 @@ public class ENSearchHelper {
     private NotesMetadataResultSpec resultSpec;
     private int offset;
     private int maxNotes;
+    private int pageSize;
+    private int maxConcurrentPages;
+    private long timeout;
 
     public SearchParam() {
       this.offset = 0;
       this.maxNotes = 256;
+      this.maxConcurrentPages = 1;
     }
 
     public NoteFilter getNoteFilter() {
@@ -219,6 +745,76 @@ public class ENSearchHelper {
     public void setMaxNotes(int maxNotes) {
       this.maxNotes = maxNotes;
     }
+
+    public int getPageSize() {
+      return pageSize;
+    }
+
+    /**
+     * @param pageSize the number of notes to ask for per call. 0, the default, asks for
+     *          all notes up to maxNotes in each call and, when fetching in parallel,
+     *          uses the number of notes the server returned for the first page.
+     */
+    public void setPageSize(int pageSize) {
+      this.pageSize = pageSize;
+    }
+
+    public int getMaxConcurrentPages() {
+      return maxConcurrentPages;
+    }
+
+    /**
+     * @param maxConcurrentPages how many pages may be fetched at the same time after the
+     *          first page has returned the total number of matching notes. Pages are
+     *          only fetched in parallel if the helper has an executor, see
+     *          {@link ENSearchHelper#setExecutor(ExecutorService)}.
+     */
+    public void setMaxConcurrentPages(int maxConcurrentPages) {
+      if (maxConcurrentPages < 1) {
+        throw new IllegalArgumentException("maxConcurrentPages must be positive");
+      }
+      this.maxConcurrentPages = maxConcurrentPages;
+    }
+
+    public long getTimeout() {
+      return timeout;
+    }
+
+    /**
+     * @param timeout the latency budget of the search in milliseconds. Once it has been
+     *          spent, no more pages are requested and the pages that have arrived in
+     *          order so far are returned. 0, the default, means no limit.
+     */
+    public void setTimeout(long timeout) {
+      this.timeout = timeout;
+    }
+
+    /**
+     * @return A copy for the scopes of a federated search, which fetches its pages one
+     *         after the other from the first note up to maxNotes and includes the sort
+     *         key of the notes in the result spec
+     */
+    SearchParam copyForScopes() {
+      SearchParam copy = new SearchParam();
+      copy.noteFilter = new NoteFilter(getNoteFilter());
+      copy.resultSpec = new NotesMetadataResultSpec(getResultSpec());
+      copy.offset = 0;
+      copy.maxNotes = maxNotes;
+      copy.pageSize = pageSize;
+      copy.timeout = timeout;
+      NoteSortOrder order = copy.noteFilter.isSetOrder() ? NoteSortOrder.findByValue(
+          copy.noteFilter.getOrder()) : null;
+      if (order == NoteSortOrder.CREATED) {
+        copy.resultSpec.setIncludeCreated(true);
+      } else if (order == NoteSortOrder.UPDATED) {
+        copy.resultSpec.setIncludeUpdated(true);
+      } else if (order == NoteSortOrder.UPDATE_SEQUENCE_NUMBER) {
+        copy.resultSpec.setIncludeUpdateSequenceNum(true);
+      } else if (order == NoteSortOrder.TITLE) {
+        copy.resultSpec.setIncludeTitle(true);
+      }
+      return copy;
+    }
   }
 
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.clients;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.evernote.edam.notestore.NoteFilter;
+import com.evernote.edam.notestore.NoteMetadata;
+import com.evernote.edam.notestore.NotesMetadataList;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.type.NoteSortOrder;
+
+/**
+ * The result of {@link ENSearchHelper#findNotesInAllScopes(ENSearchHelper.SearchParam,
+ * List, boolean, Listener)}: the pages found in each scope, and the notes of all scopes
+ * merged into one list in the order requested by the {@link NoteFilter}, from the
+ * offset up to maxNotes of the search.
+ */
+public class FederatedSearchResult {
+
+  /**
+   * The kinds of note stores searched by a federated search.
+   */
+  public enum ScopeType {
+    PERSONAL, LINKED_NOTEBOOK, BUSINESS
+  }
+
+  /**
+   * Receives each scope as soon as its search has finished, failed or timed out.
+   * <p>
+   * It's called on the thread that searched the scope, so implementations should
+   * return quickly.
+   */
+  public interface Listener {
+    void onScopeFinished(Scope scope);
+  }
+
+  /**
+   * The outcome of searching a single note store.
+   */
+  public static class Scope {
+    private final ScopeType type;
+    private final LinkedNotebook linkedNotebook;
+    private final List<NotesMetadataList> pages;
+    private final Exception exception;
+    private final boolean timedOut;
+
+    Scope(ScopeType type, LinkedNotebook linkedNotebook, List<NotesMetadataList> pages,
+        Exception exception, boolean timedOut) {
+      this.type = type;
+      this.linkedNotebook = linkedNotebook;
+      this.pages = Collections.unmodifiableList(pages);
+      this.exception = exception;
+      this.timedOut = timedOut;
+    }
+
+    public ScopeType getType() {
+      return type;
+    }
+
+    /**
+     * @return The searched linked notebook, or null for the personal and business scope
+     */
+    public LinkedNotebook getLinkedNotebook() {
+      return linkedNotebook;
+    }
+
+    /**
+     * @return The pages found before the search finished, failed or timed out
+     */
+    public List<NotesMetadataList> getPages() {
+      return pages;
+    }
+
+    /**
+     * @return The exception the search of this scope failed with, or null
+     */
+    public Exception getException() {
+      return exception;
+    }
+
+    /**
+     * @return true if the search of this scope didn't finish within the timeout
+     */
+    public boolean isTimedOut() {
+      return timedOut;
+    }
+
+    /**
+     * @return true if the scope has neither failed nor timed out
+     */
+    public boolean isComplete() {
+      return exception == null && !timedOut;
+    }
+  }
+
+  private final List<Scope> scopes;
+  private final List<NoteMetadata> notes = new ArrayList<NoteMetadata>();
+  private final List<Scope> noteScopes = new ArrayList<Scope>();
+
+  /**
+   * @param offset The index of the first merged note to keep
+   * @param maxNotes The index after the last merged note to keep
+   */
+  FederatedSearchResult(List<Scope> scopes, NoteFilter filter, int offset,
+      int maxNotes) {
+    this.scopes = Collections.unmodifiableList(scopes);
+    merge(filter, offset, maxNotes);
+  }
+
+  public List<Scope> getScopes() {
+    return scopes;
+  }
+
+  /**
+   * @return true if all scopes have neither failed nor timed out
+   */
+  public boolean isComplete() {
+    for (Scope scope : scopes) {
+      if (!scope.isComplete()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return The notes of all scopes in the order of {@link NoteFilter#getOrder()} and
+   *         {@link NoteFilter#isAscending()}, from the offset up to maxNotes of the
+   *         search. Notes ordered by relevance are interleaved by their rank within
+   *         their scope.
+   */
+  public List<NoteMetadata> getNotes() {
+    return Collections.unmodifiableList(notes);
+  }
+
+  /**
+   * @return The scope the note at the given index of {@link #getNotes()} was found in
+   */
+  public Scope getScope(int noteIndex) {
+    return noteScopes.get(noteIndex);
+  }
+
+  /**
+   * Merges the already sorted notes of the scopes with a k-way merge, and keeps the
+   * merged notes from the offset up to maxNotes.
+   */
+  private void merge(NoteFilter filter, int offset, int maxNotes) {
+    NoteSortOrder order = filter != null && filter.isSetOrder() ? NoteSortOrder
+        .findByValue(filter.getOrder()) : null;
+    final Comparator<NoteMetadata> comparator = createComparator(order, filter != null
+        && filter.isAscending());
+    PriorityQueue<Cursor> queue = new PriorityQueue<Cursor>(Math.max(scopes.size(), 1),
+        new Comparator<Cursor>() {
+          public int compare(Cursor a, Cursor b) {
+            int result = comparator == null ? 0 : comparator.compare(a.current(), b
+                .current());
+            if (result == 0) {
+              result = a.rank < b.rank ? -1 : (a.rank == b.rank ? 0 : 1);
+            }
+            return result != 0 ? result : (a.scopeIndex < b.scopeIndex ? -1 : 1);
+          }
+        });
+    for (int i = 0; i < scopes.size(); i++) {
+      Cursor cursor = new Cursor(scopes.get(i), i);
+      if (cursor.advance()) {
+        queue.add(cursor);
+      }
+    }
+    for (int i = 0; i < maxNotes && !queue.isEmpty(); i++) {
+      Cursor cursor = queue.poll();
+      if (i >= offset) {
+        notes.add(cursor.current());
+        noteScopes.add(cursor.scope);
+      }
+      if (cursor.advance()) {
+        queue.add(cursor);
+      }
+    }
+  }
+
+  /**
+   * @return A comparator for the given order, or null if notes are ordered by
+   *         relevance, which can't be compared between note stores
+   */
+  static Comparator<NoteMetadata> createComparator(NoteSortOrder order,
+      final boolean ascending) {
+    if (order == null) {
+      return null;
+    }
+    switch (order) {
+      case CREATED:
+        return new Comparator<NoteMetadata>() {
+          public int compare(NoteMetadata a, NoteMetadata b) {
+            return direction(compareLongs(a.getCreated(), b.getCreated()), ascending);
+          }
+        };
+      case UPDATED:
+        return new Comparator<NoteMetadata>() {
+          public int compare(NoteMetadata a, NoteMetadata b) {
+            return direction(compareLongs(a.getUpdated(), b.getUpdated()), ascending);
+          }
+        };
+      case UPDATE_SEQUENCE_NUMBER:
+        return new Comparator<NoteMetadata>() {
+          public int compare(NoteMetadata a, NoteMetadata b) {
+            return direction(compareLongs(a.getUpdateSequenceNum(), b
+                .getUpdateSequenceNum()), ascending);
+          }
+        };
+      case TITLE:
+        return new Comparator<NoteMetadata>() {
+          public int compare(NoteMetadata a, NoteMetadata b) {
+            String titleA = a.getTitle() == null ? "" : a.getTitle();
+            String titleB = b.getTitle() == null ? "" : b.getTitle();
+            return direction(String.CASE_INSENSITIVE_ORDER.compare(titleA, titleB),
+                ascending);
+          }
+        };
+      default:
+        return null;
+    }
+  }
+
+  private static int compareLongs(long a, long b) {
+    return a < b ? -1 : (a == b ? 0 : 1);
+  }
+
+  private static int direction(int result, boolean ascending) {
+    return ascending ? result : -result;
+  }
+
+  /**
+   * Walks over the notes of all pages of a scope.
+   */
+  private static class Cursor {
+    final Scope scope;
+    final int scopeIndex;
+    int page;
+    int index = -1;
+    int rank = -1;
+
+    Cursor(Scope scope, int scopeIndex) {
+      this.scope = scope;
+      this.scopeIndex = scopeIndex;
+    }
+
+    NoteMetadata current() {
+      return scope.getPages().get(page).getNotes().get(index);
+    }
+
+    boolean advance() {
+      index++;
+      while (page < scope.getPages().size()) {
+        NotesMetadataList list = scope.getPages().get(page);
+        if (index < list.getNotesSize()) {
+          rank++;
+          return true;
+        }
+        page++;
+        index = 0;
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.clients;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.evernote.edam.notestore.NoteFilter;
+import com.evernote.edam.notestore.NoteMetadata;
+import com.evernote.edam.notestore.NotesMetadataList;
+import com.evernote.edam.notestore.NotesMetadataResultSpec;
+
+/**
+ * Iterates over the notes matching a search and fetches the pages of the result only
+ * when they're needed, so that only the current page and the one after it are held in
+ * memory. See {@link ENSearchHelper#iteratePersonalNotes(ENSearchHelper.SearchParam)}.
+ * <p>
+ * If an executor is given, the next page is requested in the background as soon as a
+ * page arrives, so that fetching it overlaps with processing the current page. No
+ * page is requested after the last note up to maxNotes or after {@link #close()}.
+ * <p>
+ * The NoteStoreClient is in use while a page is being fetched, so it must not be used
+ * by other threads until the iteration is finished or {@link #close()} has returned.
+ * If fetching a page
+ * fails, {@link #hasNext()} and {@link #next()} throw a RuntimeException whose cause
+ * is the EDAM exception or TException of the call.
+ * <p>
+ * It's NOT thread safe.
+ */
+public class NoteMetadataIterator implements Iterator<NoteMetadata>, Closeable {
+
+  private final NoteStoreClient client;
+  private final NoteFilter filter;
+  private final NotesMetadataResultSpec resultSpec;
+  private final int pageSize;
+  private final ExecutorService executor;
+
+  private int nextOffset;
+  private int end;
+  private int totalNotes = -1;
+  private NotesMetadataList page;
+  private int index;
+  private Future<NotesMetadataList> prefetch;
+  private volatile boolean closed;
+
+  /**
+   * @param offset The index of the first note
+   * @param maxNotes The index after the last note
+   * @param pageSize The number of notes to ask for per call
+   * @param executor Prefetches the next page, may be null
+   */
+  NoteMetadataIterator(NoteStoreClient client, NoteFilter filter,
+      NotesMetadataResultSpec resultSpec, int offset, int maxNotes, int pageSize,
+      ExecutorService executor) {
+    if (client == null || filter == null || resultSpec == null) {
+      throw new IllegalArgumentException("All arguments must not be null!");
+    }
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("pageSize must be positive");
+    }
+    this.client = client;
+    this.filter = filter;
+    this.resultSpec = resultSpec;
+    this.nextOffset = offset;
+    this.end = maxNotes;
+    this.pageSize = pageSize;
+    this.executor = executor;
+  }
+
+  /**
+   * @return The total number of notes matching the search, or -1 if no page has been
+   *         fetched yet
+   */
+  public int getTotalNotes() {
+    return totalNotes;
+  }
+
+  /**
+   * @return The page the last note returned by {@link #next()} belongs to, e.g. to
+   *         look at its searched words, or null if no page has been fetched yet
+   */
+  public NotesMetadataList getCurrentPage() {
+    return page;
+  }
+
+  public boolean hasNext() {
+    while (page == null || index >= page.getNotesSize()) {
+      if (!nextPage()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public NoteMetadata next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return page.getNotes().get(index++);
+  }
+
+  public void remove() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Stops the iteration. A prefetch that hasn't started yet is skipped; this method
+   * waits for one that is already on the wire and drops its page, so that the client
+   * can be used again once it returns.
+   */
+  public void close() {
+    closed = true;
+    page = null;
+    if (prefetch != null) {
+      boolean interrupted = false;
+      while (true) {
+        try {
+          prefetch.get();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          // the page is dropped anyway
+          break;
+        }
+      }
+      prefetch = null;
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private boolean nextPage() {
+    if (closed || nextOffset >= end) {
+      return false;
+    }
+    NotesMetadataList next;
+    if (prefetch != null) {
+      try {
+        next = prefetch.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while fetching notes at offset "
+            + nextOffset, e);
+      } catch (ExecutionException e) {
+        throw new RuntimeException("Couldn't fetch notes at offset " + nextOffset, e
+            .getCause());
+      } finally {
+        prefetch = null;
+      }
+    } else {
+      try {
+        next = fetch(nextOffset, Math.min(pageSize, end - nextOffset));
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new RuntimeException("Couldn't fetch notes at offset " + nextOffset, e);
+      }
+    }
+
+    page = next;
+    index = 0;
+    totalNotes = next.getTotalNotes();
+    if (next.getNotesSize() == 0) {
+      end = nextOffset;
+      return false;
+    }
+    nextOffset = next.getStartIndex() + next.getNotesSize();
+    end = Math.min(end, totalNotes);
+    if (executor != null && nextOffset < end) {
+      final int offset = nextOffset;
+      final int maxNotes = Math.min(pageSize, end - nextOffset);
+      prefetch = executor.submit(new Callable<NotesMetadataList>() {
+        public NotesMetadataList call() throws Exception {
+          if (closed) {
+            return null;
+          }
+          return fetch(offset, maxNotes);
+        }
+      });
+    }
+    return true;
+  }
+
+  private NotesMetadataList fetch(int offset, int maxNotes) throws Exception {
+    return client.findNotesMetadata(filter, offset, maxNotes, resultSpec);
+  }
+}
@@ -35,6 +35,7 @@ import com.evernote.edam.notestore.NoteFilter;
 import com.evernote.edam.notestore.NoteList;
 import com.evernote.edam.notestore.NoteStore;
 import com.evernote.edam.notestore.NoteVersionId;
+import com.evernote.edam.notestore.NotesMetadataColumns;
 import com.evernote.edam.notestore.NotesMetadataList;
 import com.evernote.edam.notestore.NotesMetadataResultSpec;
 import com.evernote.edam.notestore.RelatedQuery;
@@ -42,6 +43,8 @@ import com.evernote.edam.notestore.RelatedResult;
 import com.evernote.edam.notestore.RelatedResultSpec;
 import com.evernote.edam.notestore.SyncChunk;
 import com.evernote.edam.notestore.SyncChunkFilter;
+import com.evernote.edam.notestore.SyncChunkStreamReader;
+import com.evernote.edam.notestore.SyncChunkVisitor;
 import com.evernote.edam.notestore.SyncState;
 import com.evernote.edam.type.LazyMap;
 import com.evernote.edam.type.LinkedNotebook;
@@ -55,7 +58,9 @@ import com.evernote.edam.type.SharedNotebookRecipientSettings;
 import com.evernote.edam.type.Tag;
 import com.evernote.edam.userstore.AuthenticationResult;
 import com.evernote.thrift.TException;
+import com.evernote.thrift.protocol.TFieldMask;
 import com.evernote.thrift.protocol.TProtocol;
+import com.evernote.thrift.protocol.TStringTable;
 
 /**
  * A wrapper for NoteStore.Client.
@@ -99,6 +104,44 @@ public class NoteStoreClient {
     return client;
   }
 
+  /**
+   * Makes this client skip the fields excluded by the given mask when it decodes
+   * responses, e.g. to fetch notes without reading their content. Pass null to
+   * decode all fields again.
+   */
+  public void setFieldMask(TFieldMask fieldMask) {
+    getClient().getInputProtocol().setFieldMask(fieldMask);
+  }
+
+  /**
+   * Makes this client keep the resources and attributes of notes, and the data and
+   * attributes of resources, encoded until they are first accessed. Only has an
+   * effect if responses are buffered, see ENClientFactory#setBufferResponses(boolean).
+   */
+  public void setLazyDecoding(boolean lazyDecoding) {
+    getClient().getInputProtocol().setLazyDecoding(lazyDecoding);
+  }
+
+  /**
+   * Makes this client return the same String instance for short strings that repeat
+   * in responses, such as notebook and tag GUIDs, instead of decoding each
+   * occurrence, see TStringTable.
+   */
+  public void setStringDeduplication(boolean deduplicate) {
+    getClient().getInputProtocol().setStringTable(
+        deduplicate ? new TStringTable() : null);
+  }
+
+  /**
+   * Makes this client keep the bodies and hashes of resource data, and the content
+   * hashes of notes, as views of the response buffer instead of copying them. Use
+   * Data#bufferForBody() to access a body without copying it. Only has an effect if
+   * responses are buffered, see ENClientFactory#setBufferResponses(boolean).
+   */
+  public void setZeroCopyBinary(boolean zeroCopyBinary) {
+    getClient().getInputProtocol().setZeroCopyBinary(zeroCopyBinary);
+  }
+
   /**
    * @return authToken inserted into calls
    */
@@ -131,6 +174,19 @@ public class NoteStoreClient {
     return getClient().getSyncChunk(getToken(), afterUSN, maxEntries, fullSyncOnly);
   }
 
+  /**
+   * Like {@link #getSyncChunk(int, int, boolean)}, but hands each entry of the chunk to
+   * the visitor as soon as it has been decoded, see {@link SyncChunkStreamReader}.
+   * 
+   * @return The chunk without its entry lists
+   */
+  public SyncChunk getSyncChunk(int afterUSN, int maxEntries, boolean fullSyncOnly,
+      SyncChunkVisitor visitor) throws EDAMUserException, EDAMSystemException,
+      TException {
+    return new SyncChunkStreamReader(getClient()).getSyncChunk(getToken(), afterUSN,
+        maxEntries, fullSyncOnly, visitor);
+  }
+
   /**
    * Please refer to NoteStore.Client#getFilteredSyncChunk(String, int, int,
    * com.evernote.edam.notestore.SyncChunkFilter)
@@ -140,6 +196,20 @@ public class NoteStoreClient {
     return getClient().getFilteredSyncChunk(getToken(), afterUSN, maxEntries, filter);
   }
 
+  /**
+   * Like {@link #getFilteredSyncChunk(int, int, SyncChunkFilter)}, but hands each entry
+   * of the chunk to the visitor as soon as it has been decoded, see
+   * {@link SyncChunkStreamReader}.
+   * 
+   * @return The chunk without its entry lists
+   */
+  public SyncChunk getFilteredSyncChunk(int afterUSN, int maxEntries,
+      SyncChunkFilter filter, SyncChunkVisitor visitor) throws EDAMUserException,
+      EDAMSystemException, TException {
+    return new SyncChunkStreamReader(getClient()).getFilteredSyncChunk(getToken(),
+        afterUSN, maxEntries, filter, visitor);
+  }
+
   /**
    * Please refer to NoteStore.Client#getLinkedNotebookSyncState(String,
    * com.evernote.edam.type.LinkedNotebook)
@@ -161,6 +231,20 @@ public class NoteStoreClient {
         maxEntries, fullSyncOnly);
   }
 
+  /**
+   * Like {@link #getLinkedNotebookSyncChunk(LinkedNotebook, int, int, boolean)}, but
+   * hands each entry of the chunk to the visitor as soon as it has been decoded, see
+   * {@link SyncChunkStreamReader}.
+   * 
+   * @return The chunk without its entry lists
+   */
+  public SyncChunk getLinkedNotebookSyncChunk(LinkedNotebook linkedNotebook, int afterUSN,
+      int maxEntries, boolean fullSyncOnly, SyncChunkVisitor visitor)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException, TException {
+    return new SyncChunkStreamReader(getClient()).getLinkedNotebookSyncChunk(getToken(),
+        linkedNotebook, afterUSN, maxEntries, fullSyncOnly, visitor);
+  }
+
   /**
    * Please refer to NoteStore.Client#listNotebooks(String)
    */
@@ -338,6 +422,17 @@ public class NoteStoreClient {
         resultSpec);
   }
 
+  /**
+   * Like {@link #findNotesMetadata(NoteFilter, int, int, NotesMetadataResultSpec)}, but
+   * decodes the notes directly into columns, see {@link NotesMetadataColumns}.
+   */
+  public NotesMetadataColumns findNotesMetadataColumns(NoteFilter filter, int offset,
+      int maxNotes, NotesMetadataResultSpec resultSpec) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return NotesMetadataColumns.findNotesMetadata(getClient(), getToken(), filter,
+        offset, maxNotes, resultSpec);
+  }
+
   /**
    * Please refer to NoteStore.Client#findNoteCounts(String,
    * com.evernote.edam.notestore.NoteFilter, boolean)
@@ -0,0 +1,535 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list
+ * of conditions and the following disclaimer in the documentation and/or other materials
+ * provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import com.evernote.thrift.TApplicationException;
+import com.evernote.thrift.TException;
+import com.evernote.thrift.transport.TTransport;
+import com.evernote.thrift.transport.TTransportException;
+
+/**
+ * A pool of {@link NoteStoreClient}s that lets any number of threads share a small set
+ * of clients. A single NoteStoreClient is NOT thread safe, so a thread borrows one
+ * with {@link #borrowClient()}, makes its calls and hands it back with
+ * {@link #returnClient(NoteStoreClient)}, or lets {@link #execute(Call)} do both.
+ * <p>
+ * Clients are kept per token and NoteStore URL. At most
+ * {@link #getMaxClientsPerShard()} clients for the same NoteStore URL are borrowed at
+ * any time, whatever their token; callers that need a client while the limit is
+ * reached wait up to {@link #getBorrowTimeout()} milliseconds for one to be returned.
+ * Clients that stay idle for longer than {@link #getIdleTimeout()} milliseconds are
+ * closed. Idle eviction happens lazily whenever a client is borrowed or returned, or
+ * when {@link #evictIdleClients()} is called.
+ * <p>
+ * Combine it with
+ * {@link ENClientFactory#setConnectionPool(com.evernote.thrift.transport.THttpConnectionPool)}
+ * to also share the underlying connections.
+ * <p>
+ * This class is thread safe.
+ */
+public class NoteStoreClientPool {
+
+  public static final int DEFAULT_MAX_CLIENTS_PER_SHARD = 8;
+  public static final long DEFAULT_IDLE_TIMEOUT = 5 * 60 * 1000L;
+  public static final long DEFAULT_BORROW_TIMEOUT = 60 * 1000L;
+
+  private final ENClientFactory clientFactory;
+  private final String noteStoreUrl;
+  private final String token;
+
+  private final Map<String, ShardPool> shards = new HashMap<String, ShardPool>();
+  private final Map<NoteStoreClient, PooledClient> leased =
+      new IdentityHashMap<NoteStoreClient, PooledClient>();
+
+  private int maxClientsPerShard = DEFAULT_MAX_CLIENTS_PER_SHARD;
+  private long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+  private long borrowTimeout = DEFAULT_BORROW_TIMEOUT;
+  private boolean shutdown;
+
+  private long createdCount;
+  private long reusedCount;
+  private long evictedCount;
+  private long closedCount;
+
+  NoteStoreClientPool(ENClientFactory clientFactory, String noteStoreUrl, String token) {
+    if (noteStoreUrl == null || token == null) {
+      throw new IllegalArgumentException("All arguments must not be null!");
+    }
+    this.clientFactory = clientFactory;
+    this.noteStoreUrl = noteStoreUrl;
+    this.token = token;
+  }
+
+  public synchronized int getMaxClientsPerShard() {
+    return maxClientsPerShard;
+  }
+
+  /**
+   * @param maxClientsPerShard how many clients for the same NoteStore URL may be
+   *          borrowed at the same time
+   */
+  public synchronized void setMaxClientsPerShard(int maxClientsPerShard) {
+    if (maxClientsPerShard < 1) {
+      throw new IllegalArgumentException("maxClientsPerShard must be positive");
+    }
+    this.maxClientsPerShard = maxClientsPerShard;
+    notifyAll();
+  }
+
+  public synchronized long getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  /**
+   * @param idleTimeout how long, in milliseconds, a client may stay unused before it
+   *          is closed
+   */
+  public synchronized void setIdleTimeout(long idleTimeout) {
+    this.idleTimeout = idleTimeout;
+  }
+
+  public synchronized long getBorrowTimeout() {
+    return borrowTimeout;
+  }
+
+  /**
+   * @param borrowTimeout how long, in milliseconds, to wait for a client when the per
+   *          shard limit has been reached. 0 means wait forever.
+   */
+  public synchronized void setBorrowTimeout(long borrowTimeout) {
+    this.borrowTimeout = borrowTimeout;
+  }
+
+  /**
+   * @return the number of clients created by this pool
+   */
+  public synchronized long getCreatedCount() {
+    return createdCount;
+  }
+
+  /**
+   * @return the number of times an idle client was handed out again
+   */
+  public synchronized long getReusedCount() {
+    return reusedCount;
+  }
+
+  /**
+   * @return the number of idle clients closed because of the idle timeout
+   */
+  public synchronized long getEvictedCount() {
+    return evictedCount;
+  }
+
+  /**
+   * @return the number of clients closed because they couldn't be reused
+   */
+  public synchronized long getClosedCount() {
+    return closedCount;
+  }
+
+  /**
+   * @return the number of clients currently borrowed
+   */
+  public synchronized int getLeasedCount() {
+    return leased.size();
+  }
+
+  /**
+   * @return the number of clients currently borrowed for the given NoteStore URL
+   */
+  public synchronized int getLeasedCount(String noteStoreUrl) {
+    ShardPool shard = shards.get(noteStoreUrl);
+    return shard == null ? 0 : shard.leased;
+  }
+
+  /**
+   * @return the number of clients waiting to be reused
+   */
+  public synchronized int getIdleCount() {
+    int idle = 0;
+    for (ShardPool shard : shards.values()) {
+      for (LinkedList<PooledClient> clients : shard.idle.values()) {
+        idle += clients.size();
+      }
+    }
+    return idle;
+  }
+
+  /**
+   * A single call against a borrowed {@link NoteStoreClient}.
+   */
+  public interface Call<T> {
+    T call(NoteStoreClient client) throws Exception;
+  }
+
+  /**
+   * Borrows a client for the account of the factory that created this pool, makes the
+   * call and returns the client. A client whose call failed with a transport or
+   * protocol error is closed instead of being reused, since its connection may be in
+   * an undefined state.
+   */
+  public <T> T execute(Call<T> call) throws Exception {
+    return execute(noteStoreUrl, token, call);
+  }
+
+  /**
+   * Like {@link #execute(Call)}, for the given NoteStore URL and token.
+   */
+  public <T> T execute(String noteStoreUrl, String token, Call<T> call) throws Exception {
+    NoteStoreClient client = borrowClient(noteStoreUrl, token);
+    boolean reusable = false;
+    try {
+      T result = call.call(client);
+      reusable = true;
+      return result;
+    } catch (TApplicationException e) {
+      reusable = true;
+      throw e;
+    } catch (TException e) {
+      // the connection may be in an undefined state, don't use it again
+      throw e;
+    } catch (Exception e) {
+      // EDAM exceptions are complete responses
+      reusable = true;
+      throw e;
+    } finally {
+      returnClient(client, reusable);
+    }
+  }
+
+  /**
+   * Borrows a client for the account of the factory that created this pool.
+   */
+  public NoteStoreClient borrowClient() throws TTransportException {
+    return borrowClient(noteStoreUrl, token);
+  }
+
+  /**
+   * Borrows a client for the given NoteStore URL and token, e.g. for a linked or
+   * business notebook, creating a new one if no idle client is available. The client
+   * must be handed back with {@link #returnClient(NoteStoreClient)} or
+   * {@link #returnClient(NoteStoreClient, boolean)}.
+   * 
+   * @throws TTransportException if the pool has been shut down, or no client became
+   *           available within the borrow timeout
+   */
+  public NoteStoreClient borrowClient(String noteStoreUrl, String token)
+      throws TTransportException {
+    if (noteStoreUrl == null || token == null) {
+      throw new IllegalArgumentException("All arguments must not be null!");
+    }
+    evictIdleClients();
+    PooledClient pooled = null;
+    synchronized (this) {
+      ShardPool shard = getShard(noteStoreUrl);
+
+      long deadline = borrowTimeout > 0 ? System.currentTimeMillis() + borrowTimeout : 0;
+      while (true) {
+        if (shutdown) {
+          throw new TTransportException("NoteStore client pool has been shut down");
+        }
+        if (shard.leased < maxClientsPerShard) {
+          LinkedList<PooledClient> idle = shard.idle.get(token);
+          shard.leased++;
+          if (idle != null && !idle.isEmpty()) {
+            pooled = idle.removeFirst();
+            leased.put(pooled.client, pooled);
+            reusedCount++;
+            return pooled.client;
+          }
+          createdCount++;
+          break;
+        }
+        long wait = 0;
+        if (deadline > 0) {
+          wait = deadline - System.currentTimeMillis();
+          if (wait <= 0) {
+            throw new TTransportException("Timed out waiting for a NoteStore client for "
+                + noteStoreUrl);
+          }
+        }
+        try {
+          wait(wait);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new TTransportException(
+              "Interrupted while waiting for a NoteStore client for " + noteStoreUrl);
+        }
+      }
+    }
+
+    try {
+      pooled = new PooledClient(createClient(noteStoreUrl, token), noteStoreUrl, token);
+    } catch (TTransportException e) {
+      releaseLease(noteStoreUrl);
+      throw e;
+    } catch (RuntimeException e) {
+      releaseLease(noteStoreUrl);
+      throw e;
+    }
+    synchronized (this) {
+      leased.put(pooled.client, pooled);
+    }
+    return pooled.client;
+  }
+
+  private synchronized void releaseLease(String noteStoreUrl) {
+    shards.get(noteStoreUrl).leased--;
+    notifyAll();
+  }
+
+  /**
+   * Hands a borrowed client back to the pool so that it can be reused.
+   */
+  public void returnClient(NoteStoreClient client) {
+    returnClient(client, true);
+  }
+
+  /**
+   * Hands a borrowed client back to the pool. Pass false if a call failed with a
+   * transport or protocol error, so that the client is closed instead of reused.
+   */
+  public void returnClient(NoteStoreClient client, boolean reusable) {
+    PooledClient pooled;
+    List<PooledClient> expired;
+    synchronized (this) {
+      pooled = leased.remove(client);
+      if (pooled == null) {
+        throw new IllegalArgumentException("The client wasn't borrowed from this pool");
+      }
+      shards.get(pooled.noteStoreUrl).leased--;
+      if (reusable && !shutdown) {
+        pooled.lastUsed = System.currentTimeMillis();
+        getIdle(pooled.noteStoreUrl, pooled.token).addFirst(pooled);
+        pooled = null;
+      } else {
+        closedCount++;
+      }
+      expired = removeExpiredClients();
+      notifyAll();
+    }
+    if (pooled != null) {
+      closeClient(pooled.client);
+    }
+    closeClients(expired);
+  }
+
+  /**
+   * Creates idle clients for the account of the factory that created this pool, so
+   * that the first calls don't pay for looking up the NoteStore URL and setting up
+   * the clients.
+   * 
+   * @param count the number of idle clients to have, capped so that the clients of the
+   *          shard, idle or borrowed, don't exceed {@link #getMaxClientsPerShard()}
+   */
+  public void warmUp(int count) throws TTransportException {
+    warmUp(noteStoreUrl, token, count);
+  }
+
+  /**
+   * Like {@link #warmUp(int)}, for the given NoteStore URL and token.
+   */
+  public void warmUp(String noteStoreUrl, String token, int count)
+      throws TTransportException {
+    int missing;
+    synchronized (this) {
+      if (shutdown) {
+        throw new TTransportException("NoteStore client pool has been shut down");
+      }
+      ShardPool shard = getShard(noteStoreUrl);
+      int clients = shard.leased + shard.warming;
+      for (LinkedList<PooledClient> idle : shard.idle.values()) {
+        clients += idle.size();
+      }
+      missing = Math.min(count - getIdle(noteStoreUrl, token).size(), maxClientsPerShard
+          - clients);
+      if (missing <= 0) {
+        return;
+      }
+      // reserves the slots so that concurrent calls don't exceed the limit
+      shard.warming += missing;
+    }
+    int created = 0;
+    try {
+      for (; created < missing; created++) {
+        PooledClient pooled = new PooledClient(createClient(noteStoreUrl, token),
+            noteStoreUrl, token);
+        pooled.lastUsed = System.currentTimeMillis();
+        boolean added;
+        synchronized (this) {
+          shards.get(noteStoreUrl).warming--;
+          createdCount++;
+          added = !shutdown;
+          if (added) {
+            getIdle(noteStoreUrl, token).addLast(pooled);
+          } else {
+            closedCount++;
+          }
+          notifyAll();
+        }
+        if (!added) {
+          closeClient(pooled.client);
+          created = missing;
+        }
+      }
+    } finally {
+      if (created < missing) {
+        synchronized (this) {
+          shards.get(noteStoreUrl).warming -= missing - created;
+        }
+      }
+    }
+  }
+
+  /**
+   * Closes all clients that have been idle for longer than the idle timeout.
+   */
+  public void evictIdleClients() {
+    List<PooledClient> expired;
+    synchronized (this) {
+      expired = removeExpiredClients();
+    }
+    closeClients(expired);
+  }
+
+  /**
+   * Removes the clients that have been idle for longer than the idle timeout. They are
+   * closed by the caller once it has released the lock, so that a slow close doesn't
+   * hold up the other threads.
+   */
+  private List<PooledClient> removeExpiredClients() {
+    List<PooledClient> expired = new ArrayList<PooledClient>();
+    long now = System.currentTimeMillis();
+    for (ShardPool shard : shards.values()) {
+      for (LinkedList<PooledClient> clients : shard.idle.values()) {
+        Iterator<PooledClient> it = clients.iterator();
+        while (it.hasNext()) {
+          PooledClient pooled = it.next();
+          if (now - pooled.lastUsed >= idleTimeout) {
+            it.remove();
+            expired.add(pooled);
+            evictedCount++;
+          }
+        }
+      }
+    }
+    return expired;
+  }
+
+  /**
+   * Closes all idle clients. Clients that are borrowed are closed as soon as they are
+   * returned, and no new clients are handed out.
+   */
+  public void shutdown() {
+    List<PooledClient> idleClients = new ArrayList<PooledClient>();
+    synchronized (this) {
+      shutdown = true;
+      for (ShardPool shard : shards.values()) {
+        for (LinkedList<PooledClient> clients : shard.idle.values()) {
+          idleClients.addAll(clients);
+          closedCount += clients.size();
+        }
+        shard.idle.clear();
+      }
+      notifyAll();
+    }
+    closeClients(idleClients);
+  }
+
+  private void closeClients(List<PooledClient> clients) {
+    for (PooledClient pooled : clients) {
+      closeClient(pooled.client);
+    }
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "NoteStoreClientPool(leased:" + getLeasedCount() + ", idle:" + getIdleCount()
+        + ", created:" + createdCount + ", reused:" + reusedCount + ", evicted:"
+        + evictedCount + ", closed:" + closedCount + ")";
+  }
+
+  protected NoteStoreClient createClient(String noteStoreUrl, String token)
+      throws TTransportException {
+    return clientFactory.createStoreClient(NoteStoreClient.class, noteStoreUrl, token);
+  }
+
+  /**
+   * Closes the transport of a client that is dropped from the pool.
+   */
+  protected void closeClient(NoteStoreClient client) {
+    TTransport transport = client.getClient().getInputProtocol().getTransport();
+    transport.close();
+  }
+
+  private ShardPool getShard(String noteStoreUrl) {
+    ShardPool shard = shards.get(noteStoreUrl);
+    if (shard == null) {
+      shard = new ShardPool();
+      shards.put(noteStoreUrl, shard);
+    }
+    return shard;
+  }
+
+  private LinkedList<PooledClient> getIdle(String noteStoreUrl, String token) {
+    ShardPool shard = getShard(noteStoreUrl);
+    LinkedList<PooledClient> idle = shard.idle.get(token);
+    if (idle == null) {
+      idle = new LinkedList<PooledClient>();
+      shard.idle.put(token, idle);
+    }
+    return idle;
+  }
+
+  private static class ShardPool {
+    // idle clients per token, most recently used first
+    final Map<String, LinkedList<PooledClient>> idle =
+        new HashMap<String, LinkedList<PooledClient>>();
+    int leased;
+    // slots reserved by warmUp for clients that are being created
+    int warming;
+  }
+
+  private static class PooledClient {
+    final NoteStoreClient client;
+    final String noteStoreUrl;
+    final String token;
+    long lastUsed;
+
+    PooledClient(NoteStoreClient client, String noteStoreUrl, String token) {
+      this.client = client;
+      this.noteStoreUrl = noteStoreUrl;
+      this.token = token;
+    }
+  }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.clients;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.evernote.edam.error.EDAMNotFoundException;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.error.EDAMUserException;
+import com.evernote.edam.notestore.NoteStore;
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.notestore.SyncChunkFilter;
+import com.evernote.edam.notestore.SyncState;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.thrift.TException;
+import com.evernote.thrift.transport.THttpClient;
+import com.evernote.thrift.transport.TTransport;
+import com.evernote.thrift.transport.TTransportException;
+
+/**
+ * Keeps a {@link SyncStore} up to date with an account, or with a linked notebook, by
+ * running the incremental sync loop: it compares the update count of the store with
+ * the {@link SyncState} of the service, starts over with a full sync if the service's
+ * fullSyncBefore is later than the last sync, and then fetches the chunks after the
+ * store's update count, following chunkHighUSN until it reaches the updateCount of
+ * the service. Each chunk is applied to the store together with the update count it
+ * brings the store up to, so an interrupted sync resumes after the last applied chunk.
+ * <p>
+ * The number of entries asked for per chunk is tuned after each chunk so that a
+ * response is about {@link #getTargetChunkBytes()} bytes, as measured by the
+ * {@link THttpClient} of the client. If an executor is set, chunks are fetched and
+ * decoded on it while the calling thread applies the previous chunk to the store, up
+ * to {@link #PIPELINE_DEPTH} chunks ahead.
+ * <p>
+ * The NoteStoreClient must not be used by other threads while a sync is running. It's
+ * NOT thread safe.
+ */
+public class SyncEngine {
+
+  public static final int DEFAULT_MAX_ENTRIES = 100;
+  public static final int MIN_MAX_ENTRIES = 10;
+  public static final int MAX_MAX_ENTRIES = 5000;
+  public static final long DEFAULT_TARGET_CHUNK_BYTES = 1024 * 1024L;
+
+  /** How many fetched chunks may wait to be applied */
+  public static final int PIPELINE_DEPTH = 2;
+
+  private final NoteStoreClient client;
+  private final LinkedNotebook linkedNotebook;
+  private final SyncStore store;
+  private SyncChunkFilter filter = createDefaultFilter();
+  private ExecutorService executor;
+  private long targetChunkBytes = DEFAULT_TARGET_CHUNK_BYTES;
+  private volatile int maxEntries = DEFAULT_MAX_ENTRIES;
+  private volatile int chunkCount;
+
+  /**
+   * Creates an engine that syncs the account of the client with
+   * {@link NoteStoreClient#getFilteredSyncChunk(int, int, SyncChunkFilter)}.
+   */
+  public SyncEngine(NoteStoreClient client, SyncStore store) {
+    this(client, null, store);
+  }
+
+  /**
+   * Creates an engine that syncs the given linked notebook, or the account of the
+   * client if linkedNotebook is null. The client must be the one of the note store of
+   * the linked notebook, see {@link ENLinkedNotebookHelper#getSharedClient()}.
+   */
+  public SyncEngine(NoteStoreClient client, LinkedNotebook linkedNotebook,
+      SyncStore store) {
+    if (client == null || store == null) {
+      throw new IllegalArgumentException("client and store must not be null!");
+    }
+    this.client = client;
+    this.linkedNotebook = linkedNotebook;
+    this.store = store;
+  }
+
+  private static SyncChunkFilter createDefaultFilter() {
+    SyncChunkFilter filter = new SyncChunkFilter();
+    filter.setIncludeNotes(true);
+    filter.setIncludeNoteResources(true);
+    filter.setIncludeNoteAttributes(true);
+    filter.setIncludeNotebooks(true);
+    filter.setIncludeTags(true);
+    filter.setIncludeSearches(true);
+    filter.setIncludeResources(true);
+    filter.setIncludeLinkedNotebooks(true);
+    filter.setIncludeExpunged(true);
+    return filter;
+  }
+
+  public SyncChunkFilter getSyncChunkFilter() {
+    return filter;
+  }
+
+  /**
+   * @param filter The entries to fetch. By default all entries are fetched except for
+   *          the full application data maps. Expunged entries are never fetched during
+   *          a full sync. Not used for linked notebooks.
+   */
+  public void setSyncChunkFilter(SyncChunkFilter filter) {
+    if (filter == null) {
+      throw new IllegalArgumentException("filter must not be null");
+    }
+    this.filter = filter;
+  }
+
+  public ExecutorService getExecutor() {
+    return executor;
+  }
+
+  /**
+   * @param executor Fetches the chunks while the previous ones are being applied. The
+   *          executor is not shut down by the engine. Pass null to fetch and apply the
+   *          chunks one after the other on the calling thread.
+   */
+  public void setExecutor(ExecutorService executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * @return The number of entries asked for in the next chunk
+   */
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  /**
+   * @param maxEntries The number of entries to ask for in the next chunk
+   */
+  public void setMaxEntries(int maxEntries) {
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("maxEntries must be positive");
+    }
+    this.maxEntries = maxEntries;
+  }
+
+  public long getTargetChunkBytes() {
+    return targetChunkBytes;
+  }
+
+  /**
+   * @param targetChunkBytes The response size to tune maxEntries for. 0 keeps maxEntries
+   *          as it is.
+   */
+  public void setTargetChunkBytes(long targetChunkBytes) {
+    this.targetChunkBytes = targetChunkBytes;
+  }
+
+  /**
+   * @return The number of chunks fetched by the last sync
+   */
+  public int getChunkCount() {
+    return chunkCount;
+  }
+
+  /**
+   * Brings the store up to date with the service.
+   * 
+   * Chunks that have been applied before a failure stay applied. Once this method
+   * returns or throws, the engine no longer uses the client.
+   * 
+   * @return The update count the store is up to date with
+   * @throws SyncStoreException if the store fails
+   */
+  public int sync() throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException, SyncStoreException {
+    chunkCount = 0;
+    SyncState state = linkedNotebook == null ? client.getSyncState() : client
+        .getLinkedNotebookSyncState(linkedNotebook);
+    int afterUSN = store.getUpdateCount();
+    boolean fullSync = afterUSN == 0 || state.getFullSyncBefore() > store
+        .getLastSyncTime();
+    if (fullSync) {
+      store.clear();
+      afterUSN = 0;
+    }
+    if (afterUSN >= state.getUpdateCount()) {
+      return afterUSN;
+    }
+    if (executor == null) {
+      return fetchChunks(afterUSN, fullSync, new ChunkHandler() {
+        public boolean handle(SyncChunk chunk) throws SyncStoreException {
+          apply(chunk);
+          return true;
+        }
+      });
+    }
+    return syncPipelined(afterUSN, fullSync);
+  }
+
+  /**
+   * Fetches the chunks on the executor and applies them on the calling thread.
+   */
+  private int syncPipelined(final int afterUSN, final boolean fullSync)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException, TException,
+      SyncStoreException {
+    final BlockingQueue<Fetched> queue = new ArrayBlockingQueue<Fetched>(PIPELINE_DEPTH);
+    final AtomicBoolean stopped = new AtomicBoolean();
+    Future<?> fetcher = executor.submit(new Runnable() {
+      public void run() {
+        if (stopped.get()) {
+          return;
+        }
+        Fetched last;
+        try {
+          fetchChunks(afterUSN, fullSync, new ChunkHandler() {
+            public boolean handle(SyncChunk chunk) {
+              return put(new Fetched(chunk, null));
+            }
+          });
+          last = new Fetched(null, null);
+        } catch (Throwable t) {
+          last = new Fetched(null, t);
+        }
+        put(last);
+      }
+
+      private boolean put(Fetched fetched) {
+        try {
+          while (!stopped.get()) {
+            if (queue.offer(fetched, 100, TimeUnit.MILLISECONDS)) {
+              return true;
+            }
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return false;
+      }
+    });
+
+    int updateCount = afterUSN;
+    try {
+      while (true) {
+        Fetched fetched = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (fetched == null) {
+          if (!fetcher.isDone()) {
+            continue;
+          }
+          // the fetcher may have queued its last entry just before it finished
+          fetched = queue.poll();
+          if (fetched == null) {
+            throw new TTransportException("Sync chunk fetcher stopped unexpectedly");
+          }
+        }
+        if (fetched.exception != null) {
+          throwFetchException(fetched.exception);
+        }
+        if (fetched.chunk == null) {
+          return updateCount;
+        }
+        updateCount = apply(fetched.chunk);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TTransportException("Interrupted while waiting for a sync chunk");
+    } finally {
+      // lets the fetcher finish if the store failed, and waits until it no longer uses
+      // the client
+      stopped.set(true);
+      awaitFetcher(fetcher);
+    }
+  }
+
+  private static void awaitFetcher(Future<?> fetcher) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        fetcher.get();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      } catch (ExecutionException e) {
+        // can't happen, the fetcher passes all exceptions on through the queue
+        break;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void throwFetchException(Throwable t) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    if (t instanceof EDAMUserException) {
+      throw (EDAMUserException) t;
+    } else if (t instanceof EDAMSystemException) {
+      throw (EDAMSystemException) t;
+    } else if (t instanceof EDAMNotFoundException) {
+      throw (EDAMNotFoundException) t;
+    } else if (t instanceof TException) {
+      throw (TException) t;
+    } else if (t instanceof RuntimeException) {
+      throw (RuntimeException) t;
+    } else if (t instanceof Error) {
+      throw (Error) t;
+    }
+    throw new TException(t);
+  }
+
+  private interface ChunkHandler {
+    /**
+     * @return false to stop fetching
+     */
+    boolean handle(SyncChunk chunk) throws SyncStoreException;
+  }
+
+  private static class Fetched {
+    final SyncChunk chunk;
+    final Throwable exception;
+
+    Fetched(SyncChunk chunk, Throwable exception) {
+      this.chunk = chunk;
+      this.exception = exception;
+    }
+  }
+
+  /**
+   * Fetches the chunks after the given USN up to the update count of the service.
+   * 
+   * @return The update count reached
+   */
+  private int fetchChunks(int afterUSN, boolean fullSync, ChunkHandler handler)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException, TException,
+      SyncStoreException {
+    while (true) {
+      long responseBytes = getResponseBytes();
+      SyncChunk chunk = fetchChunk(afterUSN, fullSync);
+      chunkCount++;
+      tuneMaxEntries(chunk, responseBytes);
+      if (!handler.handle(chunk)) {
+        return afterUSN;
+      }
+      int updateCount = getUpdateCount(chunk);
+      // stop if the chunk didn't move forward, so a misbehaving service can't loop
+      if (updateCount >= chunk.getUpdateCount() || updateCount <= afterUSN) {
+        return updateCount;
+      }
+      afterUSN = updateCount;
+    }
+  }
+
+  private SyncChunk fetchChunk(int afterUSN, boolean fullSync) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    if (linkedNotebook != null) {
+      return client.getLinkedNotebookSyncChunk(linkedNotebook, afterUSN, maxEntries,
+          fullSync);
+    }
+    SyncChunkFilter chunkFilter = filter;
+    if (fullSync && chunkFilter.isIncludeExpunged()) {
+      chunkFilter = new SyncChunkFilter(filter);
+      chunkFilter.setIncludeExpunged(false);
+    }
+    return client.getFilteredSyncChunk(afterUSN, maxEntries, chunkFilter);
+  }
+
+  private int apply(SyncChunk chunk) throws SyncStoreException {
+    int updateCount = getUpdateCount(chunk);
+    store.applyChunk(chunk, updateCount, chunk.getCurrentTime());
+    return updateCount;
+  }
+
+  /**
+   * @return The update count the store is up to date with once the chunk is applied
+   */
+  private static int getUpdateCount(SyncChunk chunk) {
+    // a chunk without chunkHighUSN has no entries after afterUSN
+    return chunk.isSetChunkHighUSN() ? chunk.getChunkHighUSN() : chunk.getUpdateCount();
+  }
+
+  /**
+   * Adjusts maxEntries so that the next response is about targetChunkBytes, growing at
+   * most by a factor of two per chunk.
+   */
+  private void tuneMaxEntries(SyncChunk chunk, long responseBytesBefore) {
+    long responseBytes = getResponseBytes() - responseBytesBefore;
+    int entries = countEntries(chunk);
+    if (targetChunkBytes <= 0 || responseBytesBefore < 0 || responseBytes <= 0
+        || entries == 0) {
+      return;
+    }
+    long estimate = targetChunkBytes * entries / responseBytes;
+    estimate = Math.min(estimate, 2L * maxEntries);
+    maxEntries = (int) Math.max(MIN_MAX_ENTRIES, Math.min(MAX_MAX_ENTRIES, estimate));
+  }
+
+  static int countEntries(SyncChunk chunk) {
+    return chunk.getNotesSize() + chunk.getNotebooksSize() + chunk.getTagsSize()
+        + chunk.getSearchesSize() + chunk.getResourcesSize()
+        + chunk.getLinkedNotebooksSize() + chunk.getExpungedNotesSize()
+        + chunk.getExpungedNotebooksSize() + chunk.getExpungedTagsSize()
+        + chunk.getExpungedSearchesSize() + chunk.getExpungedLinkedNotebooksSize();
+  }
+
+  /**
+   * @return The number of response bytes received by the client so far, or -1 if it
+   *         can't be measured
+   */
+  protected long getResponseBytes() {
+    NoteStore.Client noteStore = client.getClient();
+    if (noteStore == null) {
+      return -1;
+    }
+    TTransport transport = noteStore.getInputProtocol().getTransport();
+    return transport instanceof THttpClient ? ((THttpClient) transport)
+        .getResponseBytes() : -1;
+  }
+}
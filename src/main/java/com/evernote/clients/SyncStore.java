@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.clients;
+
+import com.evernote.edam.notestore.SyncChunk;
+
+/**
+ * The local copy of an account that a {@link SyncEngine} keeps up to date, e.g. a
+ * database or a search index.
+ * <p>
+ * The methods are called on the thread that runs {@link SyncEngine#sync()}, one at a
+ * time. Failures of the underlying storage are reported as a
+ * {@link SyncStoreException}.
+ */
+public interface SyncStore {
+
+  /**
+   * @return The update count the local copy is up to date with, as last passed to
+   *         {@link #applyChunk(SyncChunk, int, long)}, or 0 if it has never been synced
+   */
+  int getUpdateCount() throws SyncStoreException;
+
+  /**
+   * @return The service time of the last sync, as last passed to
+   *         {@link #applyChunk(SyncChunk, int, long)}, or 0 if it has never been synced
+   */
+  long getLastSyncTime() throws SyncStoreException;
+
+  /**
+   * Removes all local data and resets the update count to 0 before a full sync,
+   * because the service has asked for one or the local copy has never been synced.
+   */
+  void clear() throws SyncStoreException;
+
+  /**
+   * Applies the new, changed and expunged entries of a chunk to the local copy and
+   * stores the given update count and time with them. The store should do both
+   * atomically, so that an interrupted sync resumes after the last applied chunk.
+   * 
+   * @param chunk The chunk, in the order in which chunks are returned by the service
+   * @param updateCount The update count the local copy is up to date with once the
+   *          chunk has been applied
+   * @param syncTime The service time at which the chunk was created
+   */
+  void applyChunk(SyncChunk chunk, int updateCount, long syncTime)
+      throws SyncStoreException;
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.clients;
+
+/**
+ * Thrown by a {@link SyncStore} that fails to read or update the local copy. The
+ * {@link SyncEngine} passes it on to the caller of {@link SyncEngine#sync()}.
+ */
+public class SyncStoreException extends Exception {
+
+  private static final long serialVersionUID = 1L;
+
+  public SyncStoreException(String message) {
+    super(message);
+  }
+
+  public SyncStoreException(Throwable cause) {
+    super(cause);
+  }
+
+  public SyncStoreException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -40,6 +41,10 @@ public class EDAMNotFoundException extends Exception implements TBase<EDAMNotFou
 
   // isset id assignments
 
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
+
   public EDAMNotFoundException() {
   }
 
@@ -60,6 +65,8 @@ public class EDAMNotFoundException extends Exception implements TBase<EDAMNotFou
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.identifier = null;
     this.key = null;
   }
@@ -146,7 +153,36 @@ public class EDAMNotFoundException extends Exception implements TBase<EDAMNotFou
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetIdentifier()) ? 131071 : 524287);
+    if (isSetIdentifier())
+      hashCode = hashCode * 8191 + identifier.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetKey()) ? 131071 : 524287);
+    if (isSetKey())
+      hashCode = hashCode * 8191 + key.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(EDAMNotFoundException other) {
@@ -180,6 +216,7 @@ public class EDAMNotFoundException extends Exception implements TBase<EDAMNotFou
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -187,6 +224,11 @@ public class EDAMNotFoundException extends Exception implements TBase<EDAMNotFou
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // IDENTIFIER
           if (field.type == TType.STRING) {
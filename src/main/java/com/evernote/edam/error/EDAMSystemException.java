@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -43,7 +44,11 @@ public class EDAMSystemException extends Exception implements TBase<EDAMSystemEx
 
   // isset id assignments
   private static final int __RATELIMITDURATION_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public EDAMSystemException() {
   }
@@ -59,7 +64,7 @@ public class EDAMSystemException extends Exception implements TBase<EDAMSystemEx
    * Performs a deep copy on <i>other</i>.
    */
   public EDAMSystemException(EDAMSystemException other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetErrorCode()) {
       this.errorCode = other.errorCode;
     }
@@ -74,6 +79,8 @@ public class EDAMSystemException extends Exception implements TBase<EDAMSystemEx
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.errorCode = null;
     this.message = null;
     setRateLimitDurationIsSet(false);
@@ -144,16 +151,16 @@ public class EDAMSystemException extends Exception implements TBase<EDAMSystemEx
   }
 
   public void unsetRateLimitDuration() {
-    __isset_vector[__RATELIMITDURATION_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RATELIMITDURATION_ISSET_ID);
   }
 
   /** Returns true if field rateLimitDuration is set (has been asigned a value) and false otherwise */
   public boolean isSetRateLimitDuration() {
-    return __isset_vector[__RATELIMITDURATION_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __RATELIMITDURATION_ISSET_ID);
   }
 
   public void setRateLimitDurationIsSet(boolean value) {
-    __isset_vector[__RATELIMITDURATION_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RATELIMITDURATION_ISSET_ID, value);
   }
 
   @Override
@@ -201,7 +208,40 @@ public class EDAMSystemException extends Exception implements TBase<EDAMSystemEx
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetErrorCode()) ? 131071 : 524287);
+    if (isSetErrorCode())
+      hashCode = hashCode * 8191 + errorCode.getValue();
+
+    hashCode = hashCode * 8191 + ((isSetMessage()) ? 131071 : 524287);
+    if (isSetMessage())
+      hashCode = hashCode * 8191 + message.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetRateLimitDuration()) ? 131071 : 524287);
+    if (isSetRateLimitDuration())
+      hashCode = hashCode * 8191 + rateLimitDuration;
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(EDAMSystemException other) {
@@ -244,6 +284,7 @@ public class EDAMSystemException extends Exception implements TBase<EDAMSystemEx
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -251,6 +292,11 @@ public class EDAMSystemException extends Exception implements TBase<EDAMSystemEx
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // ERROR_CODE
           if (field.type == TType.I32) {
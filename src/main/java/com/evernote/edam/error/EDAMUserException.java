@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -44,6 +45,10 @@ public class EDAMUserException extends Exception implements TBase<EDAMUserExcept
 
   // isset id assignments
 
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
+
   public EDAMUserException() {
   }
 
@@ -71,6 +76,8 @@ public class EDAMUserException extends Exception implements TBase<EDAMUserExcept
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.errorCode = null;
     this.parameter = null;
   }
@@ -165,7 +172,36 @@ public class EDAMUserException extends Exception implements TBase<EDAMUserExcept
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetErrorCode()) ? 131071 : 524287);
+    if (isSetErrorCode())
+      hashCode = hashCode * 8191 + errorCode.getValue();
+
+    hashCode = hashCode * 8191 + ((isSetParameter()) ? 131071 : 524287);
+    if (isSetParameter())
+      hashCode = hashCode * 8191 + parameter.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(EDAMUserException other) {
@@ -199,6 +235,7 @@ public class EDAMUserException extends Exception implements TBase<EDAMUserExcept
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -206,6 +243,11 @@ public class EDAMUserException extends Exception implements TBase<EDAMUserExcept
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // ERROR_CODE
           if (field.type == TType.I32) {
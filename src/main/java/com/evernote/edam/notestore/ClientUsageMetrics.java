@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -48,7 +49,11 @@ public class ClientUsageMetrics implements TBase<ClientUsageMetrics>, java.io.Se
 
   // isset id assignments
   private static final int __SESSIONS_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public ClientUsageMetrics() {
   }
@@ -57,7 +62,7 @@ public class ClientUsageMetrics implements TBase<ClientUsageMetrics>, java.io.Se
    * Performs a deep copy on <i>other</i>.
    */
   public ClientUsageMetrics(ClientUsageMetrics other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.sessions = other.sessions;
   }
 
@@ -66,6 +71,8 @@ public class ClientUsageMetrics implements TBase<ClientUsageMetrics>, java.io.Se
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setSessionsIsSet(false);
     this.sessions = 0;
   }
@@ -80,16 +87,16 @@ public class ClientUsageMetrics implements TBase<ClientUsageMetrics>, java.io.Se
   }
 
   public void unsetSessions() {
-    __isset_vector[__SESSIONS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SESSIONS_ISSET_ID);
   }
 
   /** Returns true if field sessions is set (has been asigned a value) and false otherwise */
   public boolean isSetSessions() {
-    return __isset_vector[__SESSIONS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SESSIONS_ISSET_ID);
   }
 
   public void setSessionsIsSet(boolean value) {
-    __isset_vector[__SESSIONS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONS_ISSET_ID, value);
   }
 
   @Override
@@ -119,7 +126,32 @@ public class ClientUsageMetrics implements TBase<ClientUsageMetrics>, java.io.Se
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetSessions()) ? 131071 : 524287);
+    if (isSetSessions())
+      hashCode = hashCode * 8191 + sessions;
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(ClientUsageMetrics other) {
@@ -144,6 +176,7 @@ public class ClientUsageMetrics implements TBase<ClientUsageMetrics>, java.io.Se
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -151,6 +184,11 @@ public class ClientUsageMetrics implements TBase<ClientUsageMetrics>, java.io.Se
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // SESSIONS
           if (field.type == TType.I32) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -55,7 +56,11 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
 
   // isset id assignments
   private static final int __TRASHCOUNT_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public NoteCollectionCounts() {
   }
@@ -64,7 +69,7 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
    * Performs a deep copy on <i>other</i>.
    */
   public NoteCollectionCounts(NoteCollectionCounts other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetNotebookCounts()) {
       Map<String,Integer> __this__notebookCounts = new HashMap<String,Integer>();
       for (Map.Entry<String, Integer> other_element : other.notebookCounts.entrySet()) {
@@ -103,6 +108,8 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.notebookCounts = null;
     this.tagCounts = null;
     setTrashCountIsSet(false);
@@ -187,16 +194,16 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
   }
 
   public void unsetTrashCount() {
-    __isset_vector[__TRASHCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TRASHCOUNT_ISSET_ID);
   }
 
   /** Returns true if field trashCount is set (has been asigned a value) and false otherwise */
   public boolean isSetTrashCount() {
-    return __isset_vector[__TRASHCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __TRASHCOUNT_ISSET_ID);
   }
 
   public void setTrashCountIsSet(boolean value) {
-    __isset_vector[__TRASHCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TRASHCOUNT_ISSET_ID, value);
   }
 
   @Override
@@ -244,7 +251,40 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetNotebookCounts()) ? 131071 : 524287);
+    if (isSetNotebookCounts())
+      hashCode = hashCode * 8191 + notebookCounts.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTagCounts()) ? 131071 : 524287);
+    if (isSetTagCounts())
+      hashCode = hashCode * 8191 + tagCounts.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTrashCount()) ? 131071 : 524287);
+    if (isSetTrashCount())
+      hashCode = hashCode * 8191 + trashCount;
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(NoteCollectionCounts other) {
@@ -287,6 +327,7 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -294,6 +335,11 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // NOTEBOOK_COUNTS
           if (field.type == TType.MAP) {
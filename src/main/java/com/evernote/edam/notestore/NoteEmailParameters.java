@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -83,6 +84,10 @@ public class NoteEmailParameters implements TBase<NoteEmailParameters>, java.io.
 
   // isset id assignments
 
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
+
   public NoteEmailParameters() {
   }
 
@@ -123,6 +128,8 @@ public class NoteEmailParameters implements TBase<NoteEmailParameters>, java.io.
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.guid = null;
     this.note = null;
     this.toAddresses = null;
@@ -371,7 +378,52 @@ public class NoteEmailParameters implements TBase<NoteEmailParameters>, java.io.
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetGuid()) ? 131071 : 524287);
+    if (isSetGuid())
+      hashCode = hashCode * 8191 + guid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetNote()) ? 131071 : 524287);
+    if (isSetNote())
+      hashCode = hashCode * 8191 + note.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetToAddresses()) ? 131071 : 524287);
+    if (isSetToAddresses())
+      hashCode = hashCode * 8191 + toAddresses.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetCcAddresses()) ? 131071 : 524287);
+    if (isSetCcAddresses())
+      hashCode = hashCode * 8191 + ccAddresses.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSubject()) ? 131071 : 524287);
+    if (isSetSubject())
+      hashCode = hashCode * 8191 + subject.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetMessage()) ? 131071 : 524287);
+    if (isSetMessage())
+      hashCode = hashCode * 8191 + message.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(NoteEmailParameters other) {
@@ -441,6 +493,7 @@ public class NoteEmailParameters implements TBase<NoteEmailParameters>, java.io.
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -448,6 +501,11 @@ public class NoteEmailParameters implements TBase<NoteEmailParameters>, java.io.
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // GUID
           if (field.type == TType.STRING) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -104,7 +105,11 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
   private static final int __ORDER_ISSET_ID = 0;
   private static final int __ASCENDING_ISSET_ID = 1;
   private static final int __INACTIVE_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public NoteFilter() {
   }
@@ -113,7 +118,7 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
    * Performs a deep copy on <i>other</i>.
    */
   public NoteFilter(NoteFilter other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.order = other.order;
     this.ascending = other.ascending;
     if (other.isSetWords()) {
@@ -143,6 +148,8 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setOrderIsSet(false);
     this.order = 0;
     setAscendingIsSet(false);
@@ -166,16 +173,16 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
   }
 
   public void unsetOrder() {
-    __isset_vector[__ORDER_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ORDER_ISSET_ID);
   }
 
   /** Returns true if field order is set (has been asigned a value) and false otherwise */
   public boolean isSetOrder() {
-    return __isset_vector[__ORDER_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ORDER_ISSET_ID);
   }
 
   public void setOrderIsSet(boolean value) {
-    __isset_vector[__ORDER_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ORDER_ISSET_ID, value);
   }
 
   public boolean isAscending() {
@@ -188,16 +195,16 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
   }
 
   public void unsetAscending() {
-    __isset_vector[__ASCENDING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ASCENDING_ISSET_ID);
   }
 
   /** Returns true if field ascending is set (has been asigned a value) and false otherwise */
   public boolean isSetAscending() {
-    return __isset_vector[__ASCENDING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ASCENDING_ISSET_ID);
   }
 
   public void setAscendingIsSet(boolean value) {
-    __isset_vector[__ASCENDING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ASCENDING_ISSET_ID, value);
   }
 
   public String getWords() {
@@ -317,16 +324,16 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
   }
 
   public void unsetInactive() {
-    __isset_vector[__INACTIVE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INACTIVE_ISSET_ID);
   }
 
   /** Returns true if field inactive is set (has been asigned a value) and false otherwise */
   public boolean isSetInactive() {
-    return __isset_vector[__INACTIVE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INACTIVE_ISSET_ID);
   }
 
   public void setInactiveIsSet(boolean value) {
-    __isset_vector[__INACTIVE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INACTIVE_ISSET_ID, value);
   }
 
   public String getEmphasized() {
@@ -442,7 +449,60 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetOrder()) ? 131071 : 524287);
+    if (isSetOrder())
+      hashCode = hashCode * 8191 + order;
+
+    hashCode = hashCode * 8191 + ((isSetAscending()) ? 131071 : 524287);
+    if (isSetAscending())
+      hashCode = hashCode * 8191 + (ascending ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetWords()) ? 131071 : 524287);
+    if (isSetWords())
+      hashCode = hashCode * 8191 + words.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetNotebookGuid()) ? 131071 : 524287);
+    if (isSetNotebookGuid())
+      hashCode = hashCode * 8191 + notebookGuid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTagGuids()) ? 131071 : 524287);
+    if (isSetTagGuids())
+      hashCode = hashCode * 8191 + tagGuids.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTimeZone()) ? 131071 : 524287);
+    if (isSetTimeZone())
+      hashCode = hashCode * 8191 + timeZone.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetInactive()) ? 131071 : 524287);
+    if (isSetInactive())
+      hashCode = hashCode * 8191 + (inactive ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetEmphasized()) ? 131071 : 524287);
+    if (isSetEmphasized())
+      hashCode = hashCode * 8191 + emphasized.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(NoteFilter other) {
@@ -530,6 +590,7 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -537,6 +598,11 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // ORDER
           if (field.type == TType.I32) {
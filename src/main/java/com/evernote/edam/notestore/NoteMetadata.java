@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -75,7 +76,11 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   private static final int __DELETED_ISSET_ID = 3;
   private static final int __UPDATESEQUENCENUM_ISSET_ID = 4;
   private static final int __LARGESTRESOURCESIZE_ISSET_ID = 5;
-  private boolean[] __isset_vector = new boolean[6];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public NoteMetadata() {
   }
@@ -91,7 +96,7 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
    * Performs a deep copy on <i>other</i>.
    */
   public NoteMetadata(NoteMetadata other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetGuid()) {
       this.guid = other.guid;
     }
@@ -127,6 +132,8 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.guid = null;
     this.title = null;
     setContentLengthIsSet(false);
@@ -203,16 +210,16 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void unsetContentLength() {
-    __isset_vector[__CONTENTLENGTH_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID);
   }
 
   /** Returns true if field contentLength is set (has been asigned a value) and false otherwise */
   public boolean isSetContentLength() {
-    return __isset_vector[__CONTENTLENGTH_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID);
   }
 
   public void setContentLengthIsSet(boolean value) {
-    __isset_vector[__CONTENTLENGTH_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID, value);
   }
 
   public long getCreated() {
@@ -225,16 +232,16 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void unsetCreated() {
-    __isset_vector[__CREATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CREATED_ISSET_ID);
   }
 
   /** Returns true if field created is set (has been asigned a value) and false otherwise */
   public boolean isSetCreated() {
-    return __isset_vector[__CREATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CREATED_ISSET_ID);
   }
 
   public void setCreatedIsSet(boolean value) {
-    __isset_vector[__CREATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CREATED_ISSET_ID, value);
   }
 
   public long getUpdated() {
@@ -247,16 +254,16 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void unsetUpdated() {
-    __isset_vector[__UPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   /** Returns true if field updated is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdated() {
-    return __isset_vector[__UPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   public void setUpdatedIsSet(boolean value) {
-    __isset_vector[__UPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATED_ISSET_ID, value);
   }
 
   public long getDeleted() {
@@ -269,16 +276,16 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void unsetDeleted() {
-    __isset_vector[__DELETED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DELETED_ISSET_ID);
   }
 
   /** Returns true if field deleted is set (has been asigned a value) and false otherwise */
   public boolean isSetDeleted() {
-    return __isset_vector[__DELETED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DELETED_ISSET_ID);
   }
 
   public void setDeletedIsSet(boolean value) {
-    __isset_vector[__DELETED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DELETED_ISSET_ID, value);
   }
 
   public int getUpdateSequenceNum() {
@@ -291,16 +298,16 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void unsetUpdateSequenceNum() {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateSequenceNum() {
-    return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public String getNotebookGuid() {
@@ -420,16 +427,16 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void unsetLargestResourceSize() {
-    __isset_vector[__LARGESTRESOURCESIZE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LARGESTRESOURCESIZE_ISSET_ID);
   }
 
   /** Returns true if field largestResourceSize is set (has been asigned a value) and false otherwise */
   public boolean isSetLargestResourceSize() {
-    return __isset_vector[__LARGESTRESOURCESIZE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LARGESTRESOURCESIZE_ISSET_ID);
   }
 
   public void setLargestResourceSizeIsSet(boolean value) {
-    __isset_vector[__LARGESTRESOURCESIZE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LARGESTRESOURCESIZE_ISSET_ID, value);
   }
 
   @Override
@@ -558,7 +565,76 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetGuid()) ? 131071 : 524287);
+    if (isSetGuid())
+      hashCode = hashCode * 8191 + guid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTitle()) ? 131071 : 524287);
+    if (isSetTitle())
+      hashCode = hashCode * 8191 + title.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetContentLength()) ? 131071 : 524287);
+    if (isSetContentLength())
+      hashCode = hashCode * 8191 + contentLength;
+
+    hashCode = hashCode * 8191 + ((isSetCreated()) ? 131071 : 524287);
+    if (isSetCreated())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(created);
+
+    hashCode = hashCode * 8191 + ((isSetUpdated()) ? 131071 : 524287);
+    if (isSetUpdated())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(updated);
+
+    hashCode = hashCode * 8191 + ((isSetDeleted()) ? 131071 : 524287);
+    if (isSetDeleted())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(deleted);
+
+    hashCode = hashCode * 8191 + ((isSetUpdateSequenceNum()) ? 131071 : 524287);
+    if (isSetUpdateSequenceNum())
+      hashCode = hashCode * 8191 + updateSequenceNum;
+
+    hashCode = hashCode * 8191 + ((isSetNotebookGuid()) ? 131071 : 524287);
+    if (isSetNotebookGuid())
+      hashCode = hashCode * 8191 + notebookGuid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTagGuids()) ? 131071 : 524287);
+    if (isSetTagGuids())
+      hashCode = hashCode * 8191 + tagGuids.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetAttributes()) ? 131071 : 524287);
+    if (isSetAttributes())
+      hashCode = hashCode * 8191 + attributes.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetLargestResourceMime()) ? 131071 : 524287);
+    if (isSetLargestResourceMime())
+      hashCode = hashCode * 8191 + largestResourceMime.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetLargestResourceSize()) ? 131071 : 524287);
+    if (isSetLargestResourceSize())
+      hashCode = hashCode * 8191 + largestResourceSize;
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(NoteMetadata other) {
@@ -682,6 +758,7 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -689,6 +766,11 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // GUID
           if (field.type == TType.STRING) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -3550,6 +3551,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -3557,6 +3559,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -3690,6 +3697,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -3697,6 +3705,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -3842,6 +3855,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -3849,6 +3863,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -3995,6 +4014,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -4002,6 +4022,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -4080,7 +4105,7 @@ public class NoteStore {
     private static final int __AFTERUSN_ISSET_ID = 0;
     private static final int __MAXENTRIES_ISSET_ID = 1;
     private static final int __FULLSYNCONLY_ISSET_ID = 2;
-    private boolean[] __isset_vector = new boolean[3];
+    private byte __isset_bitfield = 0;
 
     public getSyncChunk_args() {
     }
@@ -4089,7 +4114,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getSyncChunk_args(getSyncChunk_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -4128,11 +4153,11 @@ public class NoteStore {
 
     /** Returns true if field afterUSN is set (has been asigned a value) and false otherwise */
     public boolean isSetAfterUSN() {
-      return __isset_vector[__AFTERUSN_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __AFTERUSN_ISSET_ID);
     }
 
     public void setAfterUSNIsSet(boolean value) {
-      __isset_vector[__AFTERUSN_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __AFTERUSN_ISSET_ID, value);
     }
 
     public void setMaxEntries(int maxEntries) {
@@ -4142,11 +4167,11 @@ public class NoteStore {
 
     /** Returns true if field maxEntries is set (has been asigned a value) and false otherwise */
     public boolean isSetMaxEntries() {
-      return __isset_vector[__MAXENTRIES_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __MAXENTRIES_ISSET_ID);
     }
 
     public void setMaxEntriesIsSet(boolean value) {
-      __isset_vector[__MAXENTRIES_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXENTRIES_ISSET_ID, value);
     }
 
     public void setFullSyncOnly(boolean fullSyncOnly) {
@@ -4156,11 +4181,11 @@ public class NoteStore {
 
     /** Returns true if field fullSyncOnly is set (has been asigned a value) and false otherwise */
     public boolean isSetFullSyncOnly() {
-      return __isset_vector[__FULLSYNCONLY_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __FULLSYNCONLY_ISSET_ID);
     }
 
     public void setFullSyncOnlyIsSet(boolean value) {
-      __isset_vector[__FULLSYNCONLY_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FULLSYNCONLY_ISSET_ID, value);
     }
 
     public int compareTo(getSyncChunk_args other) {
@@ -4212,6 +4237,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -4219,6 +4245,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -4385,6 +4416,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -4392,6 +4424,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -4469,7 +4506,7 @@ public class NoteStore {
     // isset id assignments
     private static final int __AFTERUSN_ISSET_ID = 0;
     private static final int __MAXENTRIES_ISSET_ID = 1;
-    private boolean[] __isset_vector = new boolean[2];
+    private byte __isset_bitfield = 0;
 
     public getFilteredSyncChunk_args() {
     }
@@ -4478,7 +4515,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getFilteredSyncChunk_args(getFilteredSyncChunk_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -4518,11 +4555,11 @@ public class NoteStore {
 
     /** Returns true if field afterUSN is set (has been asigned a value) and false otherwise */
     public boolean isSetAfterUSN() {
-      return __isset_vector[__AFTERUSN_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __AFTERUSN_ISSET_ID);
     }
 
     public void setAfterUSNIsSet(boolean value) {
-      __isset_vector[__AFTERUSN_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __AFTERUSN_ISSET_ID, value);
     }
 
     public void setMaxEntries(int maxEntries) {
@@ -4532,11 +4569,11 @@ public class NoteStore {
 
     /** Returns true if field maxEntries is set (has been asigned a value) and false otherwise */
     public boolean isSetMaxEntries() {
-      return __isset_vector[__MAXENTRIES_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __MAXENTRIES_ISSET_ID);
     }
 
     public void setMaxEntriesIsSet(boolean value) {
-      __isset_vector[__MAXENTRIES_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXENTRIES_ISSET_ID, value);
     }
 
     public void setFilter(SyncChunkFilter filter) {
@@ -4597,6 +4634,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -4604,6 +4642,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -4772,6 +4815,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -4779,6 +4823,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -4924,6 +4973,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -4931,6 +4981,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -5097,6 +5152,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -5104,6 +5160,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -5196,7 +5257,7 @@ public class NoteStore {
     private static final int __AFTERUSN_ISSET_ID = 0;
     private static final int __MAXENTRIES_ISSET_ID = 1;
     private static final int __FULLSYNCONLY_ISSET_ID = 2;
-    private boolean[] __isset_vector = new boolean[3];
+    private byte __isset_bitfield = 0;
 
     public getLinkedNotebookSyncChunk_args() {
     }
@@ -5205,7 +5266,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getLinkedNotebookSyncChunk_args(getLinkedNotebookSyncChunk_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -5257,11 +5318,11 @@ public class NoteStore {
 
     /** Returns true if field afterUSN is set (has been asigned a value) and false otherwise */
     public boolean isSetAfterUSN() {
-      return __isset_vector[__AFTERUSN_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __AFTERUSN_ISSET_ID);
     }
 
     public void setAfterUSNIsSet(boolean value) {
-      __isset_vector[__AFTERUSN_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __AFTERUSN_ISSET_ID, value);
     }
 
     public void setMaxEntries(int maxEntries) {
@@ -5271,11 +5332,11 @@ public class NoteStore {
 
     /** Returns true if field maxEntries is set (has been asigned a value) and false otherwise */
     public boolean isSetMaxEntries() {
-      return __isset_vector[__MAXENTRIES_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __MAXENTRIES_ISSET_ID);
     }
 
     public void setMaxEntriesIsSet(boolean value) {
-      __isset_vector[__MAXENTRIES_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXENTRIES_ISSET_ID, value);
     }
 
     public void setFullSyncOnly(boolean fullSyncOnly) {
@@ -5285,11 +5346,11 @@ public class NoteStore {
 
     /** Returns true if field fullSyncOnly is set (has been asigned a value) and false otherwise */
     public boolean isSetFullSyncOnly() {
-      return __isset_vector[__FULLSYNCONLY_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __FULLSYNCONLY_ISSET_ID);
     }
 
     public void setFullSyncOnlyIsSet(boolean value) {
-      __isset_vector[__FULLSYNCONLY_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FULLSYNCONLY_ISSET_ID, value);
     }
 
     public int compareTo(getLinkedNotebookSyncChunk_args other) {
@@ -5350,6 +5411,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -5357,6 +5419,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -5556,6 +5623,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -5563,6 +5631,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -5696,6 +5769,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -5703,6 +5777,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -5840,6 +5919,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -5847,6 +5927,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
@@ -6009,6 +6094,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -6016,6 +6102,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -6181,6 +6272,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -6188,6 +6280,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -6321,6 +6418,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -6328,6 +6426,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -6461,6 +6564,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -6468,6 +6572,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -6613,6 +6722,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -6620,6 +6730,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -6766,6 +6881,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -6773,6 +6889,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -6918,6 +7039,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -6925,6 +7047,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -6990,7 +7117,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public updateNotebook_result() {
     }
@@ -6999,7 +7126,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public updateNotebook_result(updateNotebook_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -7026,11 +7153,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -7097,6 +7224,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -7104,6 +7232,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -7261,6 +7394,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -7268,6 +7402,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -7332,7 +7471,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeNotebook_result() {
     }
@@ -7341,7 +7480,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeNotebook_result(expungeNotebook_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -7368,11 +7507,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -7439,6 +7578,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -7446,6 +7586,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -7579,6 +7724,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -7586,6 +7732,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -7723,6 +7874,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -7730,6 +7882,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
@@ -7892,6 +8049,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -7899,6 +8057,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -8068,6 +8231,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -8075,6 +8239,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
@@ -8249,6 +8418,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -8256,6 +8426,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -8421,6 +8596,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -8428,6 +8604,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -8585,6 +8766,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -8592,6 +8774,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -8758,6 +8945,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -8765,6 +8953,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -8922,6 +9115,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -8929,6 +9123,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -8994,7 +9193,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public updateTag_result() {
     }
@@ -9003,7 +9202,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public updateTag_result(updateTag_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -9030,11 +9229,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -9101,6 +9300,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -9108,6 +9308,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -9265,6 +9470,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -9272,6 +9478,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -9417,6 +9628,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -9424,6 +9636,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // USER_EXCEPTION
             if (field.type == TType.STRUCT) {
@@ -9569,6 +9786,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -9576,6 +9794,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -9640,7 +9863,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeTag_result() {
     }
@@ -9649,7 +9872,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeTag_result(expungeTag_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -9676,11 +9899,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -9747,6 +9970,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -9754,6 +9978,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -9887,6 +10116,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -9894,6 +10124,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -10031,6 +10266,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -10038,6 +10274,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
@@ -10200,6 +10441,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -10207,6 +10449,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -10372,6 +10619,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -10379,6 +10627,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -10536,6 +10789,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -10543,6 +10797,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -10689,6 +10948,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -10696,6 +10956,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -10841,6 +11106,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -10848,6 +11114,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -10913,7 +11184,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public updateSearch_result() {
     }
@@ -10922,7 +11193,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public updateSearch_result(updateSearch_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -10949,11 +11220,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -11020,6 +11291,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -11027,6 +11299,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -11184,6 +11461,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -11191,6 +11469,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -11255,7 +11538,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeSearch_result() {
     }
@@ -11264,7 +11547,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeSearch_result(expungeSearch_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -11291,11 +11574,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -11362,6 +11645,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -11369,6 +11653,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -11458,7 +11747,7 @@ public class NoteStore {
     // isset id assignments
     private static final int __OFFSET_ISSET_ID = 0;
     private static final int __MAXNOTES_ISSET_ID = 1;
-    private boolean[] __isset_vector = new boolean[2];
+    private byte __isset_bitfield = 0;
 
     public findNotes_args() {
     }
@@ -11467,7 +11756,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public findNotes_args(findNotes_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -11516,11 +11805,11 @@ public class NoteStore {
 
     /** Returns true if field offset is set (has been asigned a value) and false otherwise */
     public boolean isSetOffset() {
-      return __isset_vector[__OFFSET_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
     }
 
     public void setOffsetIsSet(boolean value) {
-      __isset_vector[__OFFSET_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
     }
 
     public void setMaxNotes(int maxNotes) {
@@ -11530,11 +11819,11 @@ public class NoteStore {
 
     /** Returns true if field maxNotes is set (has been asigned a value) and false otherwise */
     public boolean isSetMaxNotes() {
-      return __isset_vector[__MAXNOTES_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __MAXNOTES_ISSET_ID);
     }
 
     public void setMaxNotesIsSet(boolean value) {
-      __isset_vector[__MAXNOTES_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXNOTES_ISSET_ID, value);
     }
 
     public int compareTo(findNotes_args other) {
@@ -11586,6 +11875,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -11593,6 +11883,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -11781,6 +12076,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -11788,6 +12084,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -11969,6 +12270,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -11976,6 +12278,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -12053,7 +12360,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public findNoteOffset_result() {
     }
@@ -12062,7 +12369,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public findNoteOffset_result(findNoteOffset_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -12089,11 +12396,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -12160,6 +12467,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -12167,6 +12475,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -12258,7 +12571,7 @@ public class NoteStore {
     // isset id assignments
     private static final int __OFFSET_ISSET_ID = 0;
     private static final int __MAXNOTES_ISSET_ID = 1;
-    private boolean[] __isset_vector = new boolean[2];
+    private byte __isset_bitfield = 0;
 
     public findNotesMetadata_args() {
     }
@@ -12267,7 +12580,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public findNotesMetadata_args(findNotesMetadata_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -12320,11 +12633,11 @@ public class NoteStore {
 
     /** Returns true if field offset is set (has been asigned a value) and false otherwise */
     public boolean isSetOffset() {
-      return __isset_vector[__OFFSET_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
     }
 
     public void setOffsetIsSet(boolean value) {
-      __isset_vector[__OFFSET_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
     }
 
     public void setMaxNotes(int maxNotes) {
@@ -12334,11 +12647,11 @@ public class NoteStore {
 
     /** Returns true if field maxNotes is set (has been asigned a value) and false otherwise */
     public boolean isSetMaxNotes() {
-      return __isset_vector[__MAXNOTES_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __MAXNOTES_ISSET_ID);
     }
 
     public void setMaxNotesIsSet(boolean value) {
-      __isset_vector[__MAXNOTES_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXNOTES_ISSET_ID, value);
     }
 
     public void setResultSpec(NotesMetadataResultSpec resultSpec) {
@@ -12408,6 +12721,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -12415,6 +12729,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -12616,6 +12935,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -12623,6 +12943,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -12709,7 +13034,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __WITHTRASH_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public findNoteCounts_args() {
     }
@@ -12718,7 +13043,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public findNoteCounts_args(findNoteCounts_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -12764,11 +13089,11 @@ public class NoteStore {
 
     /** Returns true if field withTrash is set (has been asigned a value) and false otherwise */
     public boolean isSetWithTrash() {
-      return __isset_vector[__WITHTRASH_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHTRASH_ISSET_ID);
     }
 
     public void setWithTrashIsSet(boolean value) {
-      __isset_vector[__WITHTRASH_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHTRASH_ISSET_ID, value);
     }
 
     public int compareTo(findNoteCounts_args other) {
@@ -12811,6 +13136,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -12818,6 +13144,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -12995,6 +13326,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -13002,6 +13334,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -13097,7 +13434,7 @@ public class NoteStore {
     private static final int __WITHRESOURCESDATA_ISSET_ID = 1;
     private static final int __WITHRESOURCESRECOGNITION_ISSET_ID = 2;
     private static final int __WITHRESOURCESALTERNATEDATA_ISSET_ID = 3;
-    private boolean[] __isset_vector = new boolean[4];
+    private byte __isset_bitfield = 0;
 
     public getNote_args() {
     }
@@ -13106,7 +13443,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getNote_args(getNote_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -13161,11 +13498,11 @@ public class NoteStore {
 
     /** Returns true if field withContent is set (has been asigned a value) and false otherwise */
     public boolean isSetWithContent() {
-      return __isset_vector[__WITHCONTENT_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHCONTENT_ISSET_ID);
     }
 
     public void setWithContentIsSet(boolean value) {
-      __isset_vector[__WITHCONTENT_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHCONTENT_ISSET_ID, value);
     }
 
     public void setWithResourcesData(boolean withResourcesData) {
@@ -13175,11 +13512,11 @@ public class NoteStore {
 
     /** Returns true if field withResourcesData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithResourcesData() {
-      return __isset_vector[__WITHRESOURCESDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRESOURCESDATA_ISSET_ID);
     }
 
     public void setWithResourcesDataIsSet(boolean value) {
-      __isset_vector[__WITHRESOURCESDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRESOURCESDATA_ISSET_ID, value);
     }
 
     public void setWithResourcesRecognition(boolean withResourcesRecognition) {
@@ -13189,11 +13526,11 @@ public class NoteStore {
 
     /** Returns true if field withResourcesRecognition is set (has been asigned a value) and false otherwise */
     public boolean isSetWithResourcesRecognition() {
-      return __isset_vector[__WITHRESOURCESRECOGNITION_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRESOURCESRECOGNITION_ISSET_ID);
     }
 
     public void setWithResourcesRecognitionIsSet(boolean value) {
-      __isset_vector[__WITHRESOURCESRECOGNITION_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRESOURCESRECOGNITION_ISSET_ID, value);
     }
 
     public void setWithResourcesAlternateData(boolean withResourcesAlternateData) {
@@ -13203,11 +13540,11 @@ public class NoteStore {
 
     /** Returns true if field withResourcesAlternateData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithResourcesAlternateData() {
-      return __isset_vector[__WITHRESOURCESALTERNATEDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRESOURCESALTERNATEDATA_ISSET_ID);
     }
 
     public void setWithResourcesAlternateDataIsSet(boolean value) {
-      __isset_vector[__WITHRESOURCESALTERNATEDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRESOURCESALTERNATEDATA_ISSET_ID, value);
     }
 
     public int compareTo(getNote_args other) {
@@ -13277,6 +13614,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -13284,6 +13622,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -13493,6 +13836,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -13500,6 +13844,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -13657,6 +14006,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -13664,6 +14014,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -13829,6 +14184,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -13836,6 +14192,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -14017,6 +14378,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -14024,6 +14386,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -14201,6 +14568,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -14208,6 +14576,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRING) {
@@ -14412,6 +14785,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -14419,6 +14793,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -14507,7 +14886,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public setNoteApplicationDataEntry_result() {
     }
@@ -14516,7 +14895,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public setNoteApplicationDataEntry_result(setNoteApplicationDataEntry_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -14543,11 +14922,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -14614,6 +14993,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -14621,6 +15001,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -14802,6 +15187,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -14809,6 +15195,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -14885,7 +15276,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public unsetNoteApplicationDataEntry_result() {
     }
@@ -14894,7 +15285,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public unsetNoteApplicationDataEntry_result(unsetNoteApplicationDataEntry_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -14921,11 +15312,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -14992,6 +15383,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -14999,6 +15391,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -15156,6 +15553,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -15163,6 +15561,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -15328,6 +15731,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -15335,6 +15739,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRING) {
@@ -15423,7 +15832,7 @@ public class NoteStore {
     // isset id assignments
     private static final int __NOTEONLY_ISSET_ID = 0;
     private static final int __TOKENIZEFORINDEXING_ISSET_ID = 1;
-    private boolean[] __isset_vector = new boolean[2];
+    private byte __isset_bitfield = 0;
 
     public getNoteSearchText_args() {
     }
@@ -15432,7 +15841,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getNoteSearchText_args(getNoteSearchText_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -15481,11 +15890,11 @@ public class NoteStore {
 
     /** Returns true if field noteOnly is set (has been asigned a value) and false otherwise */
     public boolean isSetNoteOnly() {
-      return __isset_vector[__NOTEONLY_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __NOTEONLY_ISSET_ID);
     }
 
     public void setNoteOnlyIsSet(boolean value) {
-      __isset_vector[__NOTEONLY_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOTEONLY_ISSET_ID, value);
     }
 
     public void setTokenizeForIndexing(boolean tokenizeForIndexing) {
@@ -15495,11 +15904,11 @@ public class NoteStore {
 
     /** Returns true if field tokenizeForIndexing is set (has been asigned a value) and false otherwise */
     public boolean isSetTokenizeForIndexing() {
-      return __isset_vector[__TOKENIZEFORINDEXING_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __TOKENIZEFORINDEXING_ISSET_ID);
     }
 
     public void setTokenizeForIndexingIsSet(boolean value) {
-      __isset_vector[__TOKENIZEFORINDEXING_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TOKENIZEFORINDEXING_ISSET_ID, value);
     }
 
     public int compareTo(getNoteSearchText_args other) {
@@ -15551,6 +15960,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -15558,6 +15968,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -15745,6 +16160,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -15752,6 +16168,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRING) {
@@ -15908,6 +16329,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -15915,6 +16337,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -16080,6 +16507,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -16087,6 +16515,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRING) {
@@ -16243,6 +16676,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -16250,6 +16684,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -16419,6 +16858,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -16426,6 +16866,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
@@ -16599,6 +17044,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -16606,6 +17052,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -16772,6 +17223,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -16779,6 +17231,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -16936,6 +17393,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -16943,6 +17401,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -17109,6 +17572,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -17116,6 +17580,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -17273,6 +17742,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -17280,6 +17750,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -17344,7 +17819,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public deleteNote_result() {
     }
@@ -17353,7 +17828,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public deleteNote_result(deleteNote_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -17380,11 +17855,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -17451,6 +17926,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -17458,6 +17934,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -17615,6 +18096,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -17622,6 +18104,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -17686,7 +18173,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeNote_result() {
     }
@@ -17695,7 +18182,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeNote_result(expungeNote_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -17722,11 +18209,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -17793,6 +18280,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -17800,6 +18288,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -17961,6 +18454,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -17968,6 +18462,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -18049,7 +18548,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeNotes_result() {
     }
@@ -18058,7 +18557,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeNotes_result(expungeNotes_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -18085,11 +18584,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -18156,6 +18655,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -18163,6 +18663,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -18296,6 +18801,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -18303,6 +18809,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -18353,7 +18864,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeInactiveNotes_result() {
     }
@@ -18362,7 +18873,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeInactiveNotes_result(expungeInactiveNotes_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -18385,11 +18896,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -18442,6 +18953,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -18449,6 +18961,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -18618,6 +19135,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -18625,6 +19143,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -18802,6 +19325,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -18809,6 +19333,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -18966,6 +19495,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -18973,6 +19503,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -19142,6 +19677,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -19149,6 +19685,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
@@ -19261,7 +19802,7 @@ public class NoteStore {
     private static final int __WITHRESOURCESDATA_ISSET_ID = 1;
     private static final int __WITHRESOURCESRECOGNITION_ISSET_ID = 2;
     private static final int __WITHRESOURCESALTERNATEDATA_ISSET_ID = 3;
-    private boolean[] __isset_vector = new boolean[4];
+    private byte __isset_bitfield = 0;
 
     public getNoteVersion_args() {
     }
@@ -19270,7 +19811,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getNoteVersion_args(getNoteVersion_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -19325,11 +19866,11 @@ public class NoteStore {
 
     /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
     public boolean isSetUpdateSequenceNum() {
-      return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
     }
 
     public void setUpdateSequenceNumIsSet(boolean value) {
-      __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
     }
 
     public void setWithResourcesData(boolean withResourcesData) {
@@ -19339,11 +19880,11 @@ public class NoteStore {
 
     /** Returns true if field withResourcesData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithResourcesData() {
-      return __isset_vector[__WITHRESOURCESDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRESOURCESDATA_ISSET_ID);
     }
 
     public void setWithResourcesDataIsSet(boolean value) {
-      __isset_vector[__WITHRESOURCESDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRESOURCESDATA_ISSET_ID, value);
     }
 
     public void setWithResourcesRecognition(boolean withResourcesRecognition) {
@@ -19353,11 +19894,11 @@ public class NoteStore {
 
     /** Returns true if field withResourcesRecognition is set (has been asigned a value) and false otherwise */
     public boolean isSetWithResourcesRecognition() {
-      return __isset_vector[__WITHRESOURCESRECOGNITION_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRESOURCESRECOGNITION_ISSET_ID);
     }
 
     public void setWithResourcesRecognitionIsSet(boolean value) {
-      __isset_vector[__WITHRESOURCESRECOGNITION_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRESOURCESRECOGNITION_ISSET_ID, value);
     }
 
     public void setWithResourcesAlternateData(boolean withResourcesAlternateData) {
@@ -19367,11 +19908,11 @@ public class NoteStore {
 
     /** Returns true if field withResourcesAlternateData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithResourcesAlternateData() {
-      return __isset_vector[__WITHRESOURCESALTERNATEDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRESOURCESALTERNATEDATA_ISSET_ID);
     }
 
     public void setWithResourcesAlternateDataIsSet(boolean value) {
-      __isset_vector[__WITHRESOURCESALTERNATEDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRESOURCESALTERNATEDATA_ISSET_ID, value);
     }
 
     public int compareTo(getNoteVersion_args other) {
@@ -19441,6 +19982,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -19448,6 +19990,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -19657,6 +20204,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -19664,6 +20212,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -19759,7 +20312,7 @@ public class NoteStore {
     private static final int __WITHRECOGNITION_ISSET_ID = 1;
     private static final int __WITHATTRIBUTES_ISSET_ID = 2;
     private static final int __WITHALTERNATEDATA_ISSET_ID = 3;
-    private boolean[] __isset_vector = new boolean[4];
+    private byte __isset_bitfield = 0;
 
     public getResource_args() {
     }
@@ -19768,7 +20321,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getResource_args(getResource_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -19823,11 +20376,11 @@ public class NoteStore {
 
     /** Returns true if field withData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithData() {
-      return __isset_vector[__WITHDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHDATA_ISSET_ID);
     }
 
     public void setWithDataIsSet(boolean value) {
-      __isset_vector[__WITHDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHDATA_ISSET_ID, value);
     }
 
     public void setWithRecognition(boolean withRecognition) {
@@ -19837,11 +20390,11 @@ public class NoteStore {
 
     /** Returns true if field withRecognition is set (has been asigned a value) and false otherwise */
     public boolean isSetWithRecognition() {
-      return __isset_vector[__WITHRECOGNITION_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRECOGNITION_ISSET_ID);
     }
 
     public void setWithRecognitionIsSet(boolean value) {
-      __isset_vector[__WITHRECOGNITION_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRECOGNITION_ISSET_ID, value);
     }
 
     public void setWithAttributes(boolean withAttributes) {
@@ -19851,11 +20404,11 @@ public class NoteStore {
 
     /** Returns true if field withAttributes is set (has been asigned a value) and false otherwise */
     public boolean isSetWithAttributes() {
-      return __isset_vector[__WITHATTRIBUTES_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHATTRIBUTES_ISSET_ID);
     }
 
     public void setWithAttributesIsSet(boolean value) {
-      __isset_vector[__WITHATTRIBUTES_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHATTRIBUTES_ISSET_ID, value);
     }
 
     public void setWithAlternateData(boolean withAlternateData) {
@@ -19865,11 +20418,11 @@ public class NoteStore {
 
     /** Returns true if field withAlternateData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithAlternateData() {
-      return __isset_vector[__WITHALTERNATEDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHALTERNATEDATA_ISSET_ID);
     }
 
     public void setWithAlternateDataIsSet(boolean value) {
-      __isset_vector[__WITHALTERNATEDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHALTERNATEDATA_ISSET_ID, value);
     }
 
     public int compareTo(getResource_args other) {
@@ -19939,6 +20492,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -19946,6 +20500,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -20155,6 +20714,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -20162,6 +20722,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -20319,6 +20884,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -20326,6 +20892,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -20491,6 +21062,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -20498,6 +21070,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -20679,6 +21256,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -20686,6 +21264,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -20863,6 +21446,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -20870,6 +21454,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRING) {
@@ -21074,6 +21663,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -21081,6 +21671,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -21169,7 +21764,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public setResourceApplicationDataEntry_result() {
     }
@@ -21178,7 +21773,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public setResourceApplicationDataEntry_result(setResourceApplicationDataEntry_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -21205,11 +21800,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -21276,6 +21871,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -21283,6 +21879,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -21464,6 +22065,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -21471,6 +22073,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -21547,7 +22154,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public unsetResourceApplicationDataEntry_result() {
     }
@@ -21556,7 +22163,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public unsetResourceApplicationDataEntry_result(unsetResourceApplicationDataEntry_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -21583,11 +22190,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -21654,6 +22261,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -21661,6 +22269,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -21818,6 +22431,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -21825,6 +22439,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -21890,7 +22509,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public updateResource_result() {
     }
@@ -21899,7 +22518,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public updateResource_result(updateResource_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -21926,11 +22545,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -21997,6 +22616,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -22004,6 +22624,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -22161,6 +22786,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -22168,6 +22794,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -22334,6 +22965,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -22341,6 +22973,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRING) {
@@ -22434,7 +23071,7 @@ public class NoteStore {
     private static final int __WITHDATA_ISSET_ID = 0;
     private static final int __WITHRECOGNITION_ISSET_ID = 1;
     private static final int __WITHALTERNATEDATA_ISSET_ID = 2;
-    private boolean[] __isset_vector = new boolean[3];
+    private byte __isset_bitfield = 0;
 
     public getResourceByHash_args() {
     }
@@ -22443,7 +23080,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getResourceByHash_args(getResourceByHash_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -22509,11 +23146,11 @@ public class NoteStore {
 
     /** Returns true if field withData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithData() {
-      return __isset_vector[__WITHDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHDATA_ISSET_ID);
     }
 
     public void setWithDataIsSet(boolean value) {
-      __isset_vector[__WITHDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHDATA_ISSET_ID, value);
     }
 
     public void setWithRecognition(boolean withRecognition) {
@@ -22523,11 +23160,11 @@ public class NoteStore {
 
     /** Returns true if field withRecognition is set (has been asigned a value) and false otherwise */
     public boolean isSetWithRecognition() {
-      return __isset_vector[__WITHRECOGNITION_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRECOGNITION_ISSET_ID);
     }
 
     public void setWithRecognitionIsSet(boolean value) {
-      __isset_vector[__WITHRECOGNITION_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRECOGNITION_ISSET_ID, value);
     }
 
     public void setWithAlternateData(boolean withAlternateData) {
@@ -22537,11 +23174,11 @@ public class NoteStore {
 
     /** Returns true if field withAlternateData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithAlternateData() {
-      return __isset_vector[__WITHALTERNATEDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHALTERNATEDATA_ISSET_ID);
     }
 
     public void setWithAlternateDataIsSet(boolean value) {
-      __isset_vector[__WITHALTERNATEDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHALTERNATEDATA_ISSET_ID, value);
     }
 
     public int compareTo(getResourceByHash_args other) {
@@ -22611,6 +23248,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -22618,6 +23256,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -22828,6 +23471,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -22835,6 +23479,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -22992,6 +23641,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -22999,6 +23649,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -23165,6 +23820,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -23172,6 +23828,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRING) {
@@ -23328,6 +23989,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -23335,6 +23997,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -23501,6 +24168,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -23508,6 +24176,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRING) {
@@ -23664,6 +24337,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -23671,6 +24345,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -23836,6 +24515,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -23843,6 +24523,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -23927,7 +24612,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __USERID_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public getPublicNotebook_args() {
     }
@@ -23936,7 +24621,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getPublicNotebook_args(getPublicNotebook_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.userId = other.userId;
       if (other.isSetPublicUri()) {
         this.publicUri = other.publicUri;
@@ -23960,11 +24645,11 @@ public class NoteStore {
 
     /** Returns true if field userId is set (has been asigned a value) and false otherwise */
     public boolean isSetUserId() {
-      return __isset_vector[__USERID_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
     }
 
     public void setUserIdIsSet(boolean value) {
-      __isset_vector[__USERID_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
     }
 
     public void setPublicUri(String publicUri) {
@@ -24007,6 +24692,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -24014,6 +24700,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // USER_ID
             if (field.type == TType.I32) {
@@ -24158,6 +24849,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -24165,6 +24857,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -24310,6 +25007,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -24317,6 +25015,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -24483,6 +25186,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -24490,6 +25194,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -24647,6 +25356,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -24654,6 +25364,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -24719,7 +25434,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public updateSharedNotebook_result() {
     }
@@ -24728,7 +25443,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public updateSharedNotebook_result(updateSharedNotebook_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -24755,11 +25470,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -24826,6 +25541,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -24833,6 +25549,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -24919,7 +25640,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SHAREDNOTEBOOKID_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public setSharedNotebookRecipientSettings_args() {
     }
@@ -24928,7 +25649,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public setSharedNotebookRecipientSettings_args(setSharedNotebookRecipientSettings_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -24965,11 +25686,11 @@ public class NoteStore {
 
     /** Returns true if field sharedNotebookId is set (has been asigned a value) and false otherwise */
     public boolean isSetSharedNotebookId() {
-      return __isset_vector[__SHAREDNOTEBOOKID_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SHAREDNOTEBOOKID_ISSET_ID);
     }
 
     public void setSharedNotebookIdIsSet(boolean value) {
-      __isset_vector[__SHAREDNOTEBOOKID_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SHAREDNOTEBOOKID_ISSET_ID, value);
     }
 
     public void setRecipientSettings(com.evernote.edam.type.SharedNotebookRecipientSettings recipientSettings) {
@@ -25021,6 +25742,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -25028,6 +25750,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -25104,7 +25831,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public setSharedNotebookRecipientSettings_result() {
     }
@@ -25113,7 +25840,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public setSharedNotebookRecipientSettings_result(setSharedNotebookRecipientSettings_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -25140,11 +25867,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -25211,6 +25938,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -25218,6 +25946,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -25427,6 +26160,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -25434,6 +26168,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -25539,7 +26278,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public sendMessageToSharedNotebookMembers_result() {
     }
@@ -25548,7 +26287,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public sendMessageToSharedNotebookMembers_result(sendMessageToSharedNotebookMembers_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -25575,11 +26314,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -25646,6 +26385,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -25653,6 +26393,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -25786,6 +26531,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -25793,6 +26539,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -25950,6 +26701,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -25957,6 +26709,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
@@ -26135,6 +26892,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -26142,6 +26900,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -26223,7 +26986,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeSharedNotebooks_result() {
     }
@@ -26232,7 +26995,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeSharedNotebooks_result(expungeSharedNotebooks_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -26259,11 +27022,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -26330,6 +27093,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -26337,6 +27101,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -26494,6 +27263,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -26501,6 +27271,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -26667,6 +27442,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -26674,6 +27450,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -26831,6 +27612,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -26838,6 +27620,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -26903,7 +27690,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public updateLinkedNotebook_result() {
     }
@@ -26912,7 +27699,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public updateLinkedNotebook_result(updateLinkedNotebook_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -26939,11 +27726,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -27010,6 +27797,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -27017,6 +27805,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -27150,6 +27943,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -27157,6 +27951,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -27314,6 +28113,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -27321,6 +28121,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.LIST) {
@@ -27495,6 +28300,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -27502,6 +28308,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -27566,7 +28377,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeLinkedNotebook_result() {
     }
@@ -27575,7 +28386,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeLinkedNotebook_result(expungeLinkedNotebook_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -27602,11 +28413,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -27673,6 +28484,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -27680,6 +28492,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.I32) {
@@ -27837,6 +28654,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -27844,6 +28662,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // SHARE_KEY
             if (field.type == TType.STRING) {
@@ -28009,6 +28832,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -28016,6 +28840,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -28149,6 +28978,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -28156,6 +28986,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -28309,6 +29144,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -28316,6 +29152,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -28473,6 +29314,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -28480,6 +29322,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -28626,6 +29473,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -28633,6 +29481,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // USER_EXCEPTION
             if (field.type == TType.STRUCT) {
@@ -28778,6 +29631,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -28785,6 +29639,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -28950,6 +29809,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -28957,6 +29817,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRING) {
@@ -29113,6 +29978,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -29120,6 +29986,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -29265,6 +30136,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -29272,6 +30144,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // USER_EXCEPTION
             if (field.type == TType.STRUCT) {
@@ -29441,6 +30318,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -29448,6 +30326,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // GUID
             if (field.type == TType.STRING) {
@@ -29625,6 +30508,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -29632,6 +30516,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -29813,6 +30702,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -29820,6 +30710,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -29999,6 +30894,7 @@ public class NoteStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -30006,6 +30902,11 @@ public class NoteStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
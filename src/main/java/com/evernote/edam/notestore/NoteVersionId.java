@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -65,7 +66,11 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
   private static final int __UPDATESEQUENCENUM_ISSET_ID = 0;
   private static final int __UPDATED_ISSET_ID = 1;
   private static final int __SAVED_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public NoteVersionId() {
   }
@@ -90,7 +95,7 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
    * Performs a deep copy on <i>other</i>.
    */
   public NoteVersionId(NoteVersionId other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.updateSequenceNum = other.updateSequenceNum;
     this.updated = other.updated;
     this.saved = other.saved;
@@ -104,6 +109,8 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setUpdateSequenceNumIsSet(false);
     this.updateSequenceNum = 0;
     setUpdatedIsSet(false);
@@ -123,16 +130,16 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
   }
 
   public void unsetUpdateSequenceNum() {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateSequenceNum() {
-    return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public long getUpdated() {
@@ -145,16 +152,16 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
   }
 
   public void unsetUpdated() {
-    __isset_vector[__UPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   /** Returns true if field updated is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdated() {
-    return __isset_vector[__UPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   public void setUpdatedIsSet(boolean value) {
-    __isset_vector[__UPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATED_ISSET_ID, value);
   }
 
   public long getSaved() {
@@ -167,16 +174,16 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
   }
 
   public void unsetSaved() {
-    __isset_vector[__SAVED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SAVED_ISSET_ID);
   }
 
   /** Returns true if field saved is set (has been asigned a value) and false otherwise */
   public boolean isSetSaved() {
-    return __isset_vector[__SAVED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SAVED_ISSET_ID);
   }
 
   public void setSavedIsSet(boolean value) {
-    __isset_vector[__SAVED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SAVED_ISSET_ID, value);
   }
 
   public String getTitle() {
@@ -256,7 +263,38 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + updateSequenceNum;
+
+    hashCode = hashCode * 8191 + TBaseHelper.hashCode(updated);
+
+    hashCode = hashCode * 8191 + TBaseHelper.hashCode(saved);
+
+    hashCode = hashCode * 8191 + ((isSetTitle()) ? 131071 : 524287);
+    if (isSetTitle())
+      hashCode = hashCode * 8191 + title.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(NoteVersionId other) {
@@ -308,6 +346,7 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -315,6 +354,11 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // UPDATE_SEQUENCE_NUM
           if (field.type == TType.I32) {
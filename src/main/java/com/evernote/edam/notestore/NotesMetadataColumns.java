@@ -0,0 +1,677 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.edam.notestore;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.evernote.edam.error.EDAMNotFoundException;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.error.EDAMUserException;
+import com.evernote.edam.type.NoteAttributes;
+import com.evernote.thrift.TApplicationException;
+import com.evernote.thrift.TException;
+import com.evernote.thrift.protocol.TField;
+import com.evernote.thrift.protocol.TList;
+import com.evernote.thrift.protocol.TMessage;
+import com.evernote.thrift.protocol.TMessageType;
+import com.evernote.thrift.protocol.TProtocol;
+import com.evernote.thrift.protocol.TProtocolException;
+import com.evernote.thrift.protocol.TProtocolUtil;
+import com.evernote.thrift.protocol.TStruct;
+import com.evernote.thrift.protocol.TType;
+
+/**
+ * A read only, column oriented form of {@link NotesMetadataList} for large result
+ * sets. Instead of one {@link NoteMetadata} object per note, each field of the notes
+ * is kept in an array indexed by the position of the note in the result:
+ * created, updated and deleted in <code>long[]</code>s, contentLength,
+ * updateSequenceNum and largestResourceSize in <code>int[]</code>s. Notebook GUIDs,
+ * tag GUIDs and largestResourceMime are dictionary encoded, i.e. each distinct value
+ * is stored once and notes refer to it by its index in the dictionary.
+ * <p>
+ * The columns are filled directly from the wire by
+ * {@link #findNotesMetadata(NoteStore.Client, String, NoteFilter, int, int, NotesMetadataResultSpec)}
+ * or {@link #read(TProtocol)}, without creating NoteMetadata objects. The
+ * attributes of the notes, if requested, are still read as {@link NoteAttributes}.
+ * <p>
+ * The arrays returned by the <code>get*Column()</code> methods are the internal
+ * columns of this object and must not be modified. Their entries for notes whose
+ * value isn't set are 0, see e.g. {@link #isSetCreated(int)}.
+ */
+public class NotesMetadataColumns {
+
+  private static final TStruct STRUCT_DESC = new TStruct("NotesMetadataList");
+  private static final TStruct NOTE_STRUCT_DESC = new TStruct("NoteMetadata");
+
+  /**
+   * The most notes, tags or words that space is reserved for before they are read.
+   * List sizes come from the wire, so the columns grow as the elements arrive instead
+   * of trusting a corrupt or hostile size.
+   */
+  private static final int INITIAL_CAPACITY = 256;
+
+  private int startIndex;
+  private int totalNotes;
+  private int updateCount;
+  private boolean updateCountSet;
+  private List<String> stoppedWords;
+  private List<String> searchedWords;
+
+  private int size;
+  private String[] guids;
+  private String[] titles;
+  private int[] contentLengths;
+  private long[] created;
+  private long[] updated;
+  private long[] deleted;
+  private int[] updateSequenceNums;
+  private int[] notebookIndexes;
+  private int[] tagOffsets;
+  private int[] tagIndexes;
+  private NoteAttributes[] attributes;
+  private int[] largestResourceMimeIndexes;
+  private int[] largestResourceSizes;
+
+  // which notes have a value in the primitive columns
+  private BitSet contentLengthSet;
+  private BitSet createdSet;
+  private BitSet updatedSet;
+  private BitSet deletedSet;
+  private BitSet updateSequenceNumSet;
+  private BitSet tagGuidsSet;
+  private BitSet largestResourceSizeSet;
+
+  private final Dictionary notebookGuidDictionary = new Dictionary();
+  private final Dictionary tagGuidDictionary = new Dictionary();
+  private final Dictionary largestResourceMimeDictionary = new Dictionary();
+
+  private NotesMetadataColumns() {
+    allocate(0);
+  }
+
+  /**
+   * Columnar version of
+   * {@link NoteStore.Client#findNotesMetadata(String, NoteFilter, int, int, NotesMetadataResultSpec)}.
+   */
+  public static NotesMetadataColumns findNotesMetadata(NoteStore.Client client,
+      String authenticationToken, NoteFilter filter, int offset, int maxNotes,
+      NotesMetadataResultSpec resultSpec) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    client.send_findNotesMetadata(authenticationToken, filter, offset, maxNotes,
+        resultSpec);
+
+    TProtocol iprot = client.getInputProtocol();
+    TMessage msg = iprot.readMessageBegin();
+    if (msg.type == TMessageType.EXCEPTION) {
+      TApplicationException x = TApplicationException.read(iprot);
+      iprot.readMessageEnd();
+      throw x;
+    }
+    if (msg.seqid != client.seqid_) {
+      throw new TApplicationException(TApplicationException.BAD_SEQUENCE_ID,
+          "findNotesMetadata failed: out of sequence response");
+    }
+
+    // the findNotesMetadata_result struct
+    NotesMetadataColumns success = null;
+    EDAMUserException userException = null;
+    EDAMSystemException systemException = null;
+    EDAMNotFoundException notFoundException = null;
+    iprot.readStructBegin();
+    while (true) {
+      TField field = iprot.readFieldBegin();
+      if (field.type == TType.STOP) {
+        break;
+      }
+      if (field.type != TType.STRUCT) {
+        TProtocolUtil.skip(iprot, field.type);
+      } else if (field.id == 0) {
+        success = read(iprot);
+      } else if (field.id == 1) {
+        userException = new EDAMUserException();
+        userException.read(iprot);
+      } else if (field.id == 2) {
+        systemException = new EDAMSystemException();
+        systemException.read(iprot);
+      } else if (field.id == 3) {
+        notFoundException = new EDAMNotFoundException();
+        notFoundException.read(iprot);
+      } else {
+        TProtocolUtil.skip(iprot, field.type);
+      }
+      iprot.readFieldEnd();
+    }
+    iprot.readStructEnd();
+    iprot.readMessageEnd();
+
+    if (success != null) {
+      return success;
+    }
+    if (userException != null) {
+      throw userException;
+    }
+    if (systemException != null) {
+      throw systemException;
+    }
+    if (notFoundException != null) {
+      throw notFoundException;
+    }
+    throw new TApplicationException(TApplicationException.MISSING_RESULT,
+        "findNotesMetadata failed: unknown result");
+  }
+
+  /**
+   * Reads a NotesMetadataList struct from the protocol into columns. Fields excluded
+   * by the field mask of the protocol are skipped.
+   */
+  public static NotesMetadataColumns read(TProtocol iprot) throws TException {
+    NotesMetadataColumns columns = new NotesMetadataColumns();
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
+    boolean startIndexSet = false;
+    boolean totalNotesSet = false;
+    boolean notesSet = false;
+    iprot.readStructBegin();
+    while (true) {
+      TField field = iprot.readFieldBegin();
+      if (field.type == TType.STOP) {
+        break;
+      }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
+      if (field.id == 1 && field.type == TType.I32) {
+        columns.startIndex = iprot.readI32();
+        startIndexSet = true;
+      } else if (field.id == 2 && field.type == TType.I32) {
+        columns.totalNotes = iprot.readI32();
+        totalNotesSet = true;
+      } else if (field.id == 3 && field.type == TType.LIST) {
+        columns.readNotes(iprot);
+        notesSet = true;
+      } else if (field.id == 4 && field.type == TType.LIST) {
+        columns.stoppedWords = readStrings(iprot);
+      } else if (field.id == 5 && field.type == TType.LIST) {
+        columns.searchedWords = readStrings(iprot);
+      } else if (field.id == 6 && field.type == TType.I32) {
+        columns.updateCount = iprot.readI32();
+        columns.updateCountSet = true;
+      } else {
+        TProtocolUtil.skip(iprot, field.type);
+      }
+      iprot.readFieldEnd();
+    }
+    iprot.readStructEnd();
+
+    if (!startIndexSet) {
+      throw new TProtocolException("Required field 'startIndex' is unset!");
+    }
+    if (!totalNotesSet) {
+      throw new TProtocolException("Required field 'totalNotes' is unset!");
+    }
+    if (!notesSet) {
+      throw new TProtocolException("Required field 'notes' is unset!");
+    }
+    return columns;
+  }
+
+  private void allocate(int capacity) {
+    size = 0;
+    guids = new String[capacity];
+    titles = new String[capacity];
+    contentLengths = new int[capacity];
+    created = new long[capacity];
+    updated = new long[capacity];
+    deleted = new long[capacity];
+    updateSequenceNums = new int[capacity];
+    notebookIndexes = new int[capacity];
+    tagOffsets = new int[capacity + 1];
+    tagIndexes = new int[capacity];
+    attributes = new NoteAttributes[capacity];
+    largestResourceMimeIndexes = new int[capacity];
+    largestResourceSizes = new int[capacity];
+
+    contentLengthSet = new BitSet(capacity);
+    createdSet = new BitSet(capacity);
+    updatedSet = new BitSet(capacity);
+    deletedSet = new BitSet(capacity);
+    updateSequenceNumSet = new BitSet(capacity);
+    tagGuidsSet = new BitSet(capacity);
+    largestResourceSizeSet = new BitSet(capacity);
+  }
+
+  /**
+   * Changes the length of the note columns, keeping the notes read so far.
+   */
+  private void resize(int capacity) {
+    guids = (String[]) copy(guids, new String[capacity], size);
+    titles = (String[]) copy(titles, new String[capacity], size);
+    contentLengths = (int[]) copy(contentLengths, new int[capacity], size);
+    created = (long[]) copy(created, new long[capacity], size);
+    updated = (long[]) copy(updated, new long[capacity], size);
+    deleted = (long[]) copy(deleted, new long[capacity], size);
+    updateSequenceNums = (int[]) copy(updateSequenceNums, new int[capacity], size);
+    notebookIndexes = (int[]) copy(notebookIndexes, new int[capacity], size);
+    tagOffsets = (int[]) copy(tagOffsets, new int[capacity + 1], size + 1);
+    attributes = (NoteAttributes[]) copy(attributes, new NoteAttributes[capacity], size);
+    largestResourceMimeIndexes = (int[]) copy(largestResourceMimeIndexes,
+        new int[capacity], size);
+    largestResourceSizes = (int[]) copy(largestResourceSizes, new int[capacity], size);
+  }
+
+  private static Object copy(Object src, Object dest, int length) {
+    System.arraycopy(src, 0, dest, 0, length);
+    return dest;
+  }
+
+  private static void checkSize(TList list) throws TProtocolException {
+    if (list.size < 0) {
+      throw new TProtocolException(TProtocolException.NEGATIVE_SIZE,
+          "Negative list size: " + list.size);
+    }
+  }
+
+  private void readNotes(TProtocol iprot) throws TException {
+    TList list = iprot.readListBegin();
+    checkSize(list);
+    if (list.elemType != TType.STRUCT) {
+      for (int i = 0; i < list.size; i++) {
+        TProtocolUtil.skip(iprot, list.elemType);
+      }
+      allocate(0);
+    } else {
+      allocate(Math.min(list.size, INITIAL_CAPACITY));
+      BitSet excluded = iprot.getExcludedFields(NOTE_STRUCT_DESC);
+      for (int i = 0; i < list.size; i++) {
+        if (i == guids.length) {
+          resize(2 * i);
+        }
+        readNote(iprot, i, excluded);
+        size++;
+      }
+      if (size < guids.length) {
+        resize(size);
+      }
+    }
+    iprot.readListEnd();
+  }
+
+  private void readNote(TProtocol iprot, int i, BitSet excluded) throws TException {
+    notebookIndexes[i] = -1;
+    largestResourceMimeIndexes[i] = -1;
+    int tagCount = 0;
+
+    iprot.readStructBegin();
+    while (true) {
+      TField field = iprot.readFieldBegin();
+      if (field.type == TType.STOP) {
+        break;
+      }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
+      if (field.id == 1 && field.type == TType.STRING) {
+        guids[i] = iprot.readString();
+      } else if (field.id == 2 && field.type == TType.STRING) {
+        titles[i] = iprot.readString();
+      } else if (field.id == 5 && field.type == TType.I32) {
+        contentLengths[i] = iprot.readI32();
+        contentLengthSet.set(i);
+      } else if (field.id == 6 && field.type == TType.I64) {
+        created[i] = iprot.readI64();
+        createdSet.set(i);
+      } else if (field.id == 7 && field.type == TType.I64) {
+        updated[i] = iprot.readI64();
+        updatedSet.set(i);
+      } else if (field.id == 8 && field.type == TType.I64) {
+        deleted[i] = iprot.readI64();
+        deletedSet.set(i);
+      } else if (field.id == 10 && field.type == TType.I32) {
+        updateSequenceNums[i] = iprot.readI32();
+        updateSequenceNumSet.set(i);
+      } else if (field.id == 11 && field.type == TType.STRING) {
+        notebookIndexes[i] = notebookGuidDictionary.add(iprot.readString());
+      } else if (field.id == 12 && field.type == TType.LIST) {
+        tagCount = readTagGuids(iprot, i);
+        tagGuidsSet.set(i);
+      } else if (field.id == 14 && field.type == TType.STRUCT) {
+        attributes[i] = new NoteAttributes();
+        attributes[i].read(iprot);
+      } else if (field.id == 20 && field.type == TType.STRING) {
+        largestResourceMimeIndexes[i] = largestResourceMimeDictionary.add(iprot
+            .readString());
+      } else if (field.id == 21 && field.type == TType.I32) {
+        largestResourceSizes[i] = iprot.readI32();
+        largestResourceSizeSet.set(i);
+      } else {
+        TProtocolUtil.skip(iprot, field.type);
+      }
+      iprot.readFieldEnd();
+    }
+    iprot.readStructEnd();
+
+    if (guids[i] == null) {
+      throw new TProtocolException("Required field 'guid' is unset! Note: " + i);
+    }
+    tagOffsets[i + 1] = tagOffsets[i] + tagCount;
+  }
+
+  private int readTagGuids(TProtocol iprot, int i) throws TException {
+    TList list = iprot.readListBegin();
+    checkSize(list);
+    if (list.elemType != TType.STRING) {
+      for (int j = 0; j < list.size; j++) {
+        TProtocolUtil.skip(iprot, list.elemType);
+      }
+      iprot.readListEnd();
+      return 0;
+    }
+    int offset = tagOffsets[i];
+    for (int j = 0; j < list.size; j++) {
+      if (offset + j == tagIndexes.length) {
+        tagIndexes = (int[]) copy(tagIndexes,
+            new int[Math.max(INITIAL_CAPACITY, 2 * tagIndexes.length)], offset + j);
+      }
+      tagIndexes[offset + j] = tagGuidDictionary.add(iprot.readString());
+    }
+    iprot.readListEnd();
+    return list.size;
+  }
+
+  private static List<String> readStrings(TProtocol iprot) throws TException {
+    TList list = iprot.readListBegin();
+    checkSize(list);
+    List<String> strings = new ArrayList<String>(Math.min(list.size, INITIAL_CAPACITY));
+    for (int i = 0; i < list.size; i++) {
+      if (list.elemType == TType.STRING) {
+        strings.add(iprot.readString());
+      } else {
+        TProtocolUtil.skip(iprot, list.elemType);
+      }
+    }
+    iprot.readListEnd();
+    return strings;
+  }
+
+  /**
+   * @return the number of notes
+   */
+  public int size() {
+    return size;
+  }
+
+  public int getStartIndex() {
+    return startIndex;
+  }
+
+  public int getTotalNotes() {
+    return totalNotes;
+  }
+
+  public int getUpdateCount() {
+    return updateCount;
+  }
+
+  public boolean isSetUpdateCount() {
+    return updateCountSet;
+  }
+
+  public List<String> getStoppedWords() {
+    return stoppedWords;
+  }
+
+  public List<String> getSearchedWords() {
+    return searchedWords;
+  }
+
+  public String getGuid(int note) {
+    return guids[note];
+  }
+
+  public String getTitle(int note) {
+    return titles[note];
+  }
+
+  public int getContentLength(int note) {
+    return contentLengths[note];
+  }
+
+  public boolean isSetContentLength(int note) {
+    return contentLengthSet.get(note);
+  }
+
+  public long getCreated(int note) {
+    return created[note];
+  }
+
+  public boolean isSetCreated(int note) {
+    return createdSet.get(note);
+  }
+
+  public long getUpdated(int note) {
+    return updated[note];
+  }
+
+  public boolean isSetUpdated(int note) {
+    return updatedSet.get(note);
+  }
+
+  public long getDeleted(int note) {
+    return deleted[note];
+  }
+
+  public boolean isSetDeleted(int note) {
+    return deletedSet.get(note);
+  }
+
+  public int getUpdateSequenceNum(int note) {
+    return updateSequenceNums[note];
+  }
+
+  public boolean isSetUpdateSequenceNum(int note) {
+    return updateSequenceNumSet.get(note);
+  }
+
+  /**
+   * @return the GUID of the note's notebook, or null if it isn't set
+   */
+  public String getNotebookGuid(int note) {
+    return notebookGuidDictionary.get(notebookIndexes[note]);
+  }
+
+  /**
+   * @return the index of the note's notebook GUID in
+   *         {@link #getNotebookGuidDictionary()}, or -1 if it isn't set
+   */
+  public int getNotebookIndex(int note) {
+    return notebookIndexes[note];
+  }
+
+  /**
+   * @return the tag GUIDs of the note, or null if they aren't set
+   */
+  public List<String> getTagGuids(int note) {
+    if (!tagGuidsSet.get(note)) {
+      return null;
+    }
+    List<String> tags = new ArrayList<String>(getTagCount(note));
+    for (int i = tagOffsets[note]; i < tagOffsets[note + 1]; i++) {
+      tags.add(tagGuidDictionary.get(tagIndexes[i]));
+    }
+    return tags;
+  }
+
+  public boolean isSetTagGuids(int note) {
+    return tagGuidsSet.get(note);
+  }
+
+  public int getTagCount(int note) {
+    return tagOffsets[note + 1] - tagOffsets[note];
+  }
+
+  /**
+   * @return the index in {@link #getTagGuidDictionary()} of the given tag of the note
+   */
+  public int getTagIndex(int note, int tag) {
+    if (tag < 0 || tag >= getTagCount(note)) {
+      throw new IndexOutOfBoundsException("Tag: " + tag + ", count: " + getTagCount(note));
+    }
+    return tagIndexes[tagOffsets[note] + tag];
+  }
+
+  public NoteAttributes getAttributes(int note) {
+    return attributes[note];
+  }
+
+  /**
+   * @return the MIME type of the note's largest resource, or null if it isn't set
+   */
+  public String getLargestResourceMime(int note) {
+    return largestResourceMimeDictionary.get(largestResourceMimeIndexes[note]);
+  }
+
+  public int getLargestResourceSize(int note) {
+    return largestResourceSizes[note];
+  }
+
+  public boolean isSetLargestResourceSize(int note) {
+    return largestResourceSizeSet.get(note);
+  }
+
+  public int[] getContentLengthColumn() {
+    return contentLengths;
+  }
+
+  public long[] getCreatedColumn() {
+    return created;
+  }
+
+  public long[] getUpdatedColumn() {
+    return updated;
+  }
+
+  public long[] getDeletedColumn() {
+    return deleted;
+  }
+
+  public int[] getUpdateSequenceNumColumn() {
+    return updateSequenceNums;
+  }
+
+  /**
+   * @return the indexes of the notebook GUIDs of the notes in
+   *         {@link #getNotebookGuidDictionary()}, -1 for notes without one
+   */
+  public int[] getNotebookIndexColumn() {
+    return notebookIndexes;
+  }
+
+  public int[] getLargestResourceSizeColumn() {
+    return largestResourceSizes;
+  }
+
+  /**
+   * @return the distinct notebook GUIDs of the notes, in order of appearance
+   */
+  public List<String> getNotebookGuidDictionary() {
+    return Collections.unmodifiableList(notebookGuidDictionary.values);
+  }
+
+  /**
+   * @return the distinct tag GUIDs of the notes, in order of appearance
+   */
+  public List<String> getTagGuidDictionary() {
+    return Collections.unmodifiableList(tagGuidDictionary.values);
+  }
+
+  /**
+   * @return the distinct MIME types of the notes' largest resources, in order of
+   *         appearance
+   */
+  public List<String> getLargestResourceMimeDictionary() {
+    return Collections.unmodifiableList(largestResourceMimeDictionary.values);
+  }
+
+  /**
+   * Creates the NoteMetadata object for a single note.
+   */
+  public NoteMetadata toNoteMetadata(int note) {
+    NoteMetadata metadata = new NoteMetadata();
+    metadata.setGuid(guids[note]);
+    metadata.setTitle(titles[note]);
+    if (isSetContentLength(note)) {
+      metadata.setContentLength(contentLengths[note]);
+    }
+    if (isSetCreated(note)) {
+      metadata.setCreated(created[note]);
+    }
+    if (isSetUpdated(note)) {
+      metadata.setUpdated(updated[note]);
+    }
+    if (isSetDeleted(note)) {
+      metadata.setDeleted(deleted[note]);
+    }
+    if (isSetUpdateSequenceNum(note)) {
+      metadata.setUpdateSequenceNum(updateSequenceNums[note]);
+    }
+    metadata.setNotebookGuid(getNotebookGuid(note));
+    metadata.setTagGuids(getTagGuids(note));
+    metadata.setAttributes(attributes[note]);
+    metadata.setLargestResourceMime(getLargestResourceMime(note));
+    if (isSetLargestResourceSize(note)) {
+      metadata.setLargestResourceSize(largestResourceSizes[note]);
+    }
+    return metadata;
+  }
+
+  /**
+   * Converts the columns back into the regular, row oriented form.
+   */
+  public NotesMetadataList toNotesMetadataList() {
+    NotesMetadataList list = new NotesMetadataList();
+    list.setStartIndex(startIndex);
+    list.setTotalNotes(totalNotes);
+    List<NoteMetadata> notes = new ArrayList<NoteMetadata>(size);
+    for (int i = 0; i < size; i++) {
+      notes.add(toNoteMetadata(i));
+    }
+    list.setNotes(notes);
+    list.setStoppedWords(stoppedWords);
+    list.setSearchedWords(searchedWords);
+    if (updateCountSet) {
+      list.setUpdateCount(updateCount);
+    }
+    return list;
+  }
+
+  /**
+   * Maps each distinct string to the index it was first added at.
+   */
+  private static class Dictionary {
+    final List<String> values = new ArrayList<String>();
+    final Map<String, Integer> indexes = new HashMap<String, Integer>();
+
+    int add(String value) {
+      Integer index = indexes.get(value);
+      if (index == null) {
+        index = values.size();
+        values.add(value);
+        indexes.put(value, index);
+      }
+      return index;
+    }
+
+    String get(int index) {
+      return index < 0 ? null : values.get(index);
+    }
+  }
+}
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -91,7 +92,11 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
   private static final int __STARTINDEX_ISSET_ID = 0;
   private static final int __TOTALNOTES_ISSET_ID = 1;
   private static final int __UPDATECOUNT_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public NotesMetadataList() {
   }
@@ -113,7 +118,7 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
    * Performs a deep copy on <i>other</i>.
    */
   public NotesMetadataList(NotesMetadataList other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.startIndex = other.startIndex;
     this.totalNotes = other.totalNotes;
     if (other.isSetNotes()) {
@@ -145,6 +150,8 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setStartIndexIsSet(false);
     this.startIndex = 0;
     setTotalNotesIsSet(false);
@@ -166,16 +173,16 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
   }
 
   public void unsetStartIndex() {
-    __isset_vector[__STARTINDEX_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __STARTINDEX_ISSET_ID);
   }
 
   /** Returns true if field startIndex is set (has been asigned a value) and false otherwise */
   public boolean isSetStartIndex() {
-    return __isset_vector[__STARTINDEX_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __STARTINDEX_ISSET_ID);
   }
 
   public void setStartIndexIsSet(boolean value) {
-    __isset_vector[__STARTINDEX_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __STARTINDEX_ISSET_ID, value);
   }
 
   public int getTotalNotes() {
@@ -188,16 +195,16 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
   }
 
   public void unsetTotalNotes() {
-    __isset_vector[__TOTALNOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TOTALNOTES_ISSET_ID);
   }
 
   /** Returns true if field totalNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetTotalNotes() {
-    return __isset_vector[__TOTALNOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __TOTALNOTES_ISSET_ID);
   }
 
   public void setTotalNotesIsSet(boolean value) {
-    __isset_vector[__TOTALNOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TOTALNOTES_ISSET_ID, value);
   }
 
   public int getNotesSize() {
@@ -324,16 +331,16 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
   }
 
   public void unsetUpdateCount() {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   /** Returns true if field updateCount is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateCount() {
-    return __isset_vector[__UPDATECOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   public void setUpdateCountIsSet(boolean value) {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID, value);
   }
 
   @Override
@@ -408,7 +415,48 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + startIndex;
+
+    hashCode = hashCode * 8191 + totalNotes;
+
+    hashCode = hashCode * 8191 + ((isSetNotes()) ? 131071 : 524287);
+    if (isSetNotes())
+      hashCode = hashCode * 8191 + notes.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetStoppedWords()) ? 131071 : 524287);
+    if (isSetStoppedWords())
+      hashCode = hashCode * 8191 + stoppedWords.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSearchedWords()) ? 131071 : 524287);
+    if (isSetSearchedWords())
+      hashCode = hashCode * 8191 + searchedWords.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetUpdateCount()) ? 131071 : 524287);
+    if (isSetUpdateCount())
+      hashCode = hashCode * 8191 + updateCount;
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(NotesMetadataList other) {
@@ -478,6 +526,7 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -485,6 +534,11 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // START_INDEX
           if (field.type == TType.I32) {
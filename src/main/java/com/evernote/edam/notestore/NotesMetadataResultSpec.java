@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -68,7 +69,11 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   private static final int __INCLUDEATTRIBUTES_ISSET_ID = 8;
   private static final int __INCLUDELARGESTRESOURCEMIME_ISSET_ID = 9;
   private static final int __INCLUDELARGESTRESOURCESIZE_ISSET_ID = 10;
-  private boolean[] __isset_vector = new boolean[11];
+  private short __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public NotesMetadataResultSpec() {
   }
@@ -77,7 +82,7 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
    * Performs a deep copy on <i>other</i>.
    */
   public NotesMetadataResultSpec(NotesMetadataResultSpec other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.includeTitle = other.includeTitle;
     this.includeContentLength = other.includeContentLength;
     this.includeCreated = other.includeCreated;
@@ -96,6 +101,8 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setIncludeTitleIsSet(false);
     this.includeTitle = false;
     setIncludeContentLengthIsSet(false);
@@ -130,16 +137,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeTitle() {
-    __isset_vector[__INCLUDETITLE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDETITLE_ISSET_ID);
   }
 
   /** Returns true if field includeTitle is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeTitle() {
-    return __isset_vector[__INCLUDETITLE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDETITLE_ISSET_ID);
   }
 
   public void setIncludeTitleIsSet(boolean value) {
-    __isset_vector[__INCLUDETITLE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDETITLE_ISSET_ID, value);
   }
 
   public boolean isIncludeContentLength() {
@@ -152,16 +159,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeContentLength() {
-    __isset_vector[__INCLUDECONTENTLENGTH_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDECONTENTLENGTH_ISSET_ID);
   }
 
   /** Returns true if field includeContentLength is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeContentLength() {
-    return __isset_vector[__INCLUDECONTENTLENGTH_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDECONTENTLENGTH_ISSET_ID);
   }
 
   public void setIncludeContentLengthIsSet(boolean value) {
-    __isset_vector[__INCLUDECONTENTLENGTH_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDECONTENTLENGTH_ISSET_ID, value);
   }
 
   public boolean isIncludeCreated() {
@@ -174,16 +181,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeCreated() {
-    __isset_vector[__INCLUDECREATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDECREATED_ISSET_ID);
   }
 
   /** Returns true if field includeCreated is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeCreated() {
-    return __isset_vector[__INCLUDECREATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDECREATED_ISSET_ID);
   }
 
   public void setIncludeCreatedIsSet(boolean value) {
-    __isset_vector[__INCLUDECREATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDECREATED_ISSET_ID, value);
   }
 
   public boolean isIncludeUpdated() {
@@ -196,16 +203,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeUpdated() {
-    __isset_vector[__INCLUDEUPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEUPDATED_ISSET_ID);
   }
 
   /** Returns true if field includeUpdated is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeUpdated() {
-    return __isset_vector[__INCLUDEUPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEUPDATED_ISSET_ID);
   }
 
   public void setIncludeUpdatedIsSet(boolean value) {
-    __isset_vector[__INCLUDEUPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEUPDATED_ISSET_ID, value);
   }
 
   public boolean isIncludeDeleted() {
@@ -218,16 +225,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeDeleted() {
-    __isset_vector[__INCLUDEDELETED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEDELETED_ISSET_ID);
   }
 
   /** Returns true if field includeDeleted is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeDeleted() {
-    return __isset_vector[__INCLUDEDELETED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEDELETED_ISSET_ID);
   }
 
   public void setIncludeDeletedIsSet(boolean value) {
-    __isset_vector[__INCLUDEDELETED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEDELETED_ISSET_ID, value);
   }
 
   public boolean isIncludeUpdateSequenceNum() {
@@ -240,16 +247,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeUpdateSequenceNum() {
-    __isset_vector[__INCLUDEUPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEUPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field includeUpdateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeUpdateSequenceNum() {
-    return __isset_vector[__INCLUDEUPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEUPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setIncludeUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__INCLUDEUPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEUPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public boolean isIncludeNotebookGuid() {
@@ -262,16 +269,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeNotebookGuid() {
-    __isset_vector[__INCLUDENOTEBOOKGUID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTEBOOKGUID_ISSET_ID);
   }
 
   /** Returns true if field includeNotebookGuid is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNotebookGuid() {
-    return __isset_vector[__INCLUDENOTEBOOKGUID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTEBOOKGUID_ISSET_ID);
   }
 
   public void setIncludeNotebookGuidIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTEBOOKGUID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTEBOOKGUID_ISSET_ID, value);
   }
 
   public boolean isIncludeTagGuids() {
@@ -284,16 +291,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeTagGuids() {
-    __isset_vector[__INCLUDETAGGUIDS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDETAGGUIDS_ISSET_ID);
   }
 
   /** Returns true if field includeTagGuids is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeTagGuids() {
-    return __isset_vector[__INCLUDETAGGUIDS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDETAGGUIDS_ISSET_ID);
   }
 
   public void setIncludeTagGuidsIsSet(boolean value) {
-    __isset_vector[__INCLUDETAGGUIDS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDETAGGUIDS_ISSET_ID, value);
   }
 
   public boolean isIncludeAttributes() {
@@ -306,16 +313,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeAttributes() {
-    __isset_vector[__INCLUDEATTRIBUTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEATTRIBUTES_ISSET_ID);
   }
 
   /** Returns true if field includeAttributes is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeAttributes() {
-    return __isset_vector[__INCLUDEATTRIBUTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEATTRIBUTES_ISSET_ID);
   }
 
   public void setIncludeAttributesIsSet(boolean value) {
-    __isset_vector[__INCLUDEATTRIBUTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEATTRIBUTES_ISSET_ID, value);
   }
 
   public boolean isIncludeLargestResourceMime() {
@@ -328,16 +335,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeLargestResourceMime() {
-    __isset_vector[__INCLUDELARGESTRESOURCEMIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDELARGESTRESOURCEMIME_ISSET_ID);
   }
 
   /** Returns true if field includeLargestResourceMime is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeLargestResourceMime() {
-    return __isset_vector[__INCLUDELARGESTRESOURCEMIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDELARGESTRESOURCEMIME_ISSET_ID);
   }
 
   public void setIncludeLargestResourceMimeIsSet(boolean value) {
-    __isset_vector[__INCLUDELARGESTRESOURCEMIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDELARGESTRESOURCEMIME_ISSET_ID, value);
   }
 
   public boolean isIncludeLargestResourceSize() {
@@ -350,16 +357,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeLargestResourceSize() {
-    __isset_vector[__INCLUDELARGESTRESOURCESIZE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDELARGESTRESOURCESIZE_ISSET_ID);
   }
 
   /** Returns true if field includeLargestResourceSize is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeLargestResourceSize() {
-    return __isset_vector[__INCLUDELARGESTRESOURCESIZE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDELARGESTRESOURCESIZE_ISSET_ID);
   }
 
   public void setIncludeLargestResourceSizeIsSet(boolean value) {
-    __isset_vector[__INCLUDELARGESTRESOURCESIZE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDELARGESTRESOURCESIZE_ISSET_ID, value);
   }
 
   @Override
@@ -479,7 +486,72 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetIncludeTitle()) ? 131071 : 524287);
+    if (isSetIncludeTitle())
+      hashCode = hashCode * 8191 + (includeTitle ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeContentLength()) ? 131071 : 524287);
+    if (isSetIncludeContentLength())
+      hashCode = hashCode * 8191 + (includeContentLength ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeCreated()) ? 131071 : 524287);
+    if (isSetIncludeCreated())
+      hashCode = hashCode * 8191 + (includeCreated ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeUpdated()) ? 131071 : 524287);
+    if (isSetIncludeUpdated())
+      hashCode = hashCode * 8191 + (includeUpdated ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeDeleted()) ? 131071 : 524287);
+    if (isSetIncludeDeleted())
+      hashCode = hashCode * 8191 + (includeDeleted ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeUpdateSequenceNum()) ? 131071 : 524287);
+    if (isSetIncludeUpdateSequenceNum())
+      hashCode = hashCode * 8191 + (includeUpdateSequenceNum ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeNotebookGuid()) ? 131071 : 524287);
+    if (isSetIncludeNotebookGuid())
+      hashCode = hashCode * 8191 + (includeNotebookGuid ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeTagGuids()) ? 131071 : 524287);
+    if (isSetIncludeTagGuids())
+      hashCode = hashCode * 8191 + (includeTagGuids ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeAttributes()) ? 131071 : 524287);
+    if (isSetIncludeAttributes())
+      hashCode = hashCode * 8191 + (includeAttributes ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeLargestResourceMime()) ? 131071 : 524287);
+    if (isSetIncludeLargestResourceMime())
+      hashCode = hashCode * 8191 + (includeLargestResourceMime ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeLargestResourceSize()) ? 131071 : 524287);
+    if (isSetIncludeLargestResourceSize())
+      hashCode = hashCode * 8191 + (includeLargestResourceSize ? 131071 : 524287);
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(NotesMetadataResultSpec other) {
@@ -594,6 +666,7 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -601,6 +674,11 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 2: // INCLUDE_TITLE
           if (field.type == TType.BOOL) {
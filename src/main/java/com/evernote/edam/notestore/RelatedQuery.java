@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -62,6 +63,10 @@ public class RelatedQuery implements TBase<RelatedQuery>, java.io.Serializable,
 
   // isset id assignments
 
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
+
   public RelatedQuery() {
   }
 
@@ -88,6 +93,8 @@ public class RelatedQuery implements TBase<RelatedQuery>, java.io.Serializable,
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.noteGuid = null;
     this.plainText = null;
     this.filter = null;
@@ -240,7 +247,44 @@ public class RelatedQuery implements TBase<RelatedQuery>, java.io.Serializable,
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetNoteGuid()) ? 131071 : 524287);
+    if (isSetNoteGuid())
+      hashCode = hashCode * 8191 + noteGuid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetPlainText()) ? 131071 : 524287);
+    if (isSetPlainText())
+      hashCode = hashCode * 8191 + plainText.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetFilter()) ? 131071 : 524287);
+    if (isSetFilter())
+      hashCode = hashCode * 8191 + filter.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetReferenceUri()) ? 131071 : 524287);
+    if (isSetReferenceUri())
+      hashCode = hashCode * 8191 + referenceUri.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(RelatedQuery other) {
@@ -292,6 +336,7 @@ public class RelatedQuery implements TBase<RelatedQuery>, java.io.Serializable,
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -299,6 +344,11 @@ public class RelatedQuery implements TBase<RelatedQuery>, java.io.Serializable,
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // NOTE_GUID
           if (field.type == TType.STRING) {
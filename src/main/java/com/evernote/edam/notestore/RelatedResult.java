@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -61,6 +62,10 @@ public class RelatedResult implements TBase<RelatedResult>, java.io.Serializable
 
   // isset id assignments
 
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
+
   public RelatedResult() {
   }
 
@@ -103,6 +108,8 @@ public class RelatedResult implements TBase<RelatedResult>, java.io.Serializable
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.notes = null;
     this.notebooks = null;
     this.tags = null;
@@ -315,7 +322,44 @@ public class RelatedResult implements TBase<RelatedResult>, java.io.Serializable
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetNotes()) ? 131071 : 524287);
+    if (isSetNotes())
+      hashCode = hashCode * 8191 + notes.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetNotebooks()) ? 131071 : 524287);
+    if (isSetNotebooks())
+      hashCode = hashCode * 8191 + notebooks.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTags()) ? 131071 : 524287);
+    if (isSetTags())
+      hashCode = hashCode * 8191 + tags.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetContainingNotebooks()) ? 131071 : 524287);
+    if (isSetContainingNotebooks())
+      hashCode = hashCode * 8191 + containingNotebooks.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(RelatedResult other) {
@@ -367,6 +411,7 @@ public class RelatedResult implements TBase<RelatedResult>, java.io.Serializable
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -374,6 +419,11 @@ public class RelatedResult implements TBase<RelatedResult>, java.io.Serializable
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // NOTES
           if (field.type == TType.LIST) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -77,7 +78,11 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   private static final int __MAXTAGS_ISSET_ID = 2;
   private static final int __WRITABLENOTEBOOKSONLY_ISSET_ID = 3;
   private static final int __INCLUDECONTAININGNOTEBOOKS_ISSET_ID = 4;
-  private boolean[] __isset_vector = new boolean[5];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public RelatedResultSpec() {
   }
@@ -86,7 +91,7 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
    * Performs a deep copy on <i>other</i>.
    */
   public RelatedResultSpec(RelatedResultSpec other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.maxNotes = other.maxNotes;
     this.maxNotebooks = other.maxNotebooks;
     this.maxTags = other.maxTags;
@@ -99,6 +104,8 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setMaxNotesIsSet(false);
     this.maxNotes = 0;
     setMaxNotebooksIsSet(false);
@@ -121,16 +128,16 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   }
 
   public void unsetMaxNotes() {
-    __isset_vector[__MAXNOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXNOTES_ISSET_ID);
   }
 
   /** Returns true if field maxNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetMaxNotes() {
-    return __isset_vector[__MAXNOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __MAXNOTES_ISSET_ID);
   }
 
   public void setMaxNotesIsSet(boolean value) {
-    __isset_vector[__MAXNOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXNOTES_ISSET_ID, value);
   }
 
   public int getMaxNotebooks() {
@@ -143,16 +150,16 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   }
 
   public void unsetMaxNotebooks() {
-    __isset_vector[__MAXNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field maxNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetMaxNotebooks() {
-    return __isset_vector[__MAXNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __MAXNOTEBOOKS_ISSET_ID);
   }
 
   public void setMaxNotebooksIsSet(boolean value) {
-    __isset_vector[__MAXNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXNOTEBOOKS_ISSET_ID, value);
   }
 
   public int getMaxTags() {
@@ -165,16 +172,16 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   }
 
   public void unsetMaxTags() {
-    __isset_vector[__MAXTAGS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXTAGS_ISSET_ID);
   }
 
   /** Returns true if field maxTags is set (has been asigned a value) and false otherwise */
   public boolean isSetMaxTags() {
-    return __isset_vector[__MAXTAGS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __MAXTAGS_ISSET_ID);
   }
 
   public void setMaxTagsIsSet(boolean value) {
-    __isset_vector[__MAXTAGS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXTAGS_ISSET_ID, value);
   }
 
   public boolean isWritableNotebooksOnly() {
@@ -187,16 +194,16 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   }
 
   public void unsetWritableNotebooksOnly() {
-    __isset_vector[__WRITABLENOTEBOOKSONLY_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WRITABLENOTEBOOKSONLY_ISSET_ID);
   }
 
   /** Returns true if field writableNotebooksOnly is set (has been asigned a value) and false otherwise */
   public boolean isSetWritableNotebooksOnly() {
-    return __isset_vector[__WRITABLENOTEBOOKSONLY_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __WRITABLENOTEBOOKSONLY_ISSET_ID);
   }
 
   public void setWritableNotebooksOnlyIsSet(boolean value) {
-    __isset_vector[__WRITABLENOTEBOOKSONLY_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WRITABLENOTEBOOKSONLY_ISSET_ID, value);
   }
 
   public boolean isIncludeContainingNotebooks() {
@@ -209,16 +216,16 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   }
 
   public void unsetIncludeContainingNotebooks() {
-    __isset_vector[__INCLUDECONTAININGNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDECONTAININGNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field includeContainingNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeContainingNotebooks() {
-    return __isset_vector[__INCLUDECONTAININGNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDECONTAININGNOTEBOOKS_ISSET_ID);
   }
 
   public void setIncludeContainingNotebooksIsSet(boolean value) {
-    __isset_vector[__INCLUDECONTAININGNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDECONTAININGNOTEBOOKS_ISSET_ID, value);
   }
 
   @Override
@@ -284,7 +291,48 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetMaxNotes()) ? 131071 : 524287);
+    if (isSetMaxNotes())
+      hashCode = hashCode * 8191 + maxNotes;
+
+    hashCode = hashCode * 8191 + ((isSetMaxNotebooks()) ? 131071 : 524287);
+    if (isSetMaxNotebooks())
+      hashCode = hashCode * 8191 + maxNotebooks;
+
+    hashCode = hashCode * 8191 + ((isSetMaxTags()) ? 131071 : 524287);
+    if (isSetMaxTags())
+      hashCode = hashCode * 8191 + maxTags;
+
+    hashCode = hashCode * 8191 + ((isSetWritableNotebooksOnly()) ? 131071 : 524287);
+    if (isSetWritableNotebooksOnly())
+      hashCode = hashCode * 8191 + (writableNotebooksOnly ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeContainingNotebooks()) ? 131071 : 524287);
+    if (isSetIncludeContainingNotebooks())
+      hashCode = hashCode * 8191 + (includeContainingNotebooks ? 131071 : 524287);
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(RelatedResultSpec other) {
@@ -345,6 +393,7 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -352,6 +401,11 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // MAX_NOTES
           if (field.type == TType.I32) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -160,7 +161,11 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
   private static final int __CURRENTTIME_ISSET_ID = 0;
   private static final int __CHUNKHIGHUSN_ISSET_ID = 1;
   private static final int __UPDATECOUNT_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public SyncChunk() {
   }
@@ -180,7 +185,7 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
    * Performs a deep copy on <i>other</i>.
    */
   public SyncChunk(SyncChunk other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.currentTime = other.currentTime;
     this.chunkHighUSN = other.chunkHighUSN;
     this.updateCount = other.updateCount;
@@ -268,6 +273,8 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setCurrentTimeIsSet(false);
     this.currentTime = 0;
     setChunkHighUSNIsSet(false);
@@ -297,16 +304,16 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
   }
 
   public void unsetCurrentTime() {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   /** Returns true if field currentTime is set (has been asigned a value) and false otherwise */
   public boolean isSetCurrentTime() {
-    return __isset_vector[__CURRENTTIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   public void setCurrentTimeIsSet(boolean value) {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CURRENTTIME_ISSET_ID, value);
   }
 
   public int getChunkHighUSN() {
@@ -319,16 +326,16 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
   }
 
   public void unsetChunkHighUSN() {
-    __isset_vector[__CHUNKHIGHUSN_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CHUNKHIGHUSN_ISSET_ID);
   }
 
   /** Returns true if field chunkHighUSN is set (has been asigned a value) and false otherwise */
   public boolean isSetChunkHighUSN() {
-    return __isset_vector[__CHUNKHIGHUSN_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CHUNKHIGHUSN_ISSET_ID);
   }
 
   public void setChunkHighUSNIsSet(boolean value) {
-    __isset_vector[__CHUNKHIGHUSN_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CHUNKHIGHUSN_ISSET_ID, value);
   }
 
   public int getUpdateCount() {
@@ -341,16 +348,16 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
   }
 
   public void unsetUpdateCount() {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   /** Returns true if field updateCount is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateCount() {
-    return __isset_vector[__UPDATECOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   public void setUpdateCountIsSet(boolean value) {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID, value);
   }
 
   public int getNotesSize() {
@@ -915,7 +922,80 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + TBaseHelper.hashCode(currentTime);
+
+    hashCode = hashCode * 8191 + ((isSetChunkHighUSN()) ? 131071 : 524287);
+    if (isSetChunkHighUSN())
+      hashCode = hashCode * 8191 + chunkHighUSN;
+
+    hashCode = hashCode * 8191 + updateCount;
+
+    hashCode = hashCode * 8191 + ((isSetNotes()) ? 131071 : 524287);
+    if (isSetNotes())
+      hashCode = hashCode * 8191 + notes.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetNotebooks()) ? 131071 : 524287);
+    if (isSetNotebooks())
+      hashCode = hashCode * 8191 + notebooks.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTags()) ? 131071 : 524287);
+    if (isSetTags())
+      hashCode = hashCode * 8191 + tags.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSearches()) ? 131071 : 524287);
+    if (isSetSearches())
+      hashCode = hashCode * 8191 + searches.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetResources()) ? 131071 : 524287);
+    if (isSetResources())
+      hashCode = hashCode * 8191 + resources.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetExpungedNotes()) ? 131071 : 524287);
+    if (isSetExpungedNotes())
+      hashCode = hashCode * 8191 + expungedNotes.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetExpungedNotebooks()) ? 131071 : 524287);
+    if (isSetExpungedNotebooks())
+      hashCode = hashCode * 8191 + expungedNotebooks.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetExpungedTags()) ? 131071 : 524287);
+    if (isSetExpungedTags())
+      hashCode = hashCode * 8191 + expungedTags.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetExpungedSearches()) ? 131071 : 524287);
+    if (isSetExpungedSearches())
+      hashCode = hashCode * 8191 + expungedSearches.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetLinkedNotebooks()) ? 131071 : 524287);
+    if (isSetLinkedNotebooks())
+      hashCode = hashCode * 8191 + linkedNotebooks.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetExpungedLinkedNotebooks()) ? 131071 : 524287);
+    if (isSetExpungedLinkedNotebooks())
+      hashCode = hashCode * 8191 + expungedLinkedNotebooks.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(SyncChunk other) {
@@ -1057,6 +1137,7 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -1064,6 +1145,11 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // CURRENT_TIME
           if (field.type == TType.I64) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -154,7 +155,11 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   private static final int __INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID = 9;
   private static final int __INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID = 10;
   private static final int __INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID = 11;
-  private boolean[] __isset_vector = new boolean[12];
+  private short __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public SyncChunkFilter() {
   }
@@ -163,7 +168,7 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
    * Performs a deep copy on <i>other</i>.
    */
   public SyncChunkFilter(SyncChunkFilter other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.includeNotes = other.includeNotes;
     this.includeNoteResources = other.includeNoteResources;
     this.includeNoteAttributes = other.includeNoteAttributes;
@@ -186,6 +191,8 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setIncludeNotesIsSet(false);
     this.includeNotes = false;
     setIncludeNoteResourcesIsSet(false);
@@ -223,16 +230,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeNotes() {
-    __isset_vector[__INCLUDENOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTES_ISSET_ID);
   }
 
   /** Returns true if field includeNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNotes() {
-    return __isset_vector[__INCLUDENOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTES_ISSET_ID);
   }
 
   public void setIncludeNotesIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTES_ISSET_ID, value);
   }
 
   public boolean isIncludeNoteResources() {
@@ -245,16 +252,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeNoteResources() {
-    __isset_vector[__INCLUDENOTERESOURCES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTERESOURCES_ISSET_ID);
   }
 
   /** Returns true if field includeNoteResources is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNoteResources() {
-    return __isset_vector[__INCLUDENOTERESOURCES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTERESOURCES_ISSET_ID);
   }
 
   public void setIncludeNoteResourcesIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTERESOURCES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTERESOURCES_ISSET_ID, value);
   }
 
   public boolean isIncludeNoteAttributes() {
@@ -267,16 +274,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeNoteAttributes() {
-    __isset_vector[__INCLUDENOTEATTRIBUTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTEATTRIBUTES_ISSET_ID);
   }
 
   /** Returns true if field includeNoteAttributes is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNoteAttributes() {
-    return __isset_vector[__INCLUDENOTEATTRIBUTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTEATTRIBUTES_ISSET_ID);
   }
 
   public void setIncludeNoteAttributesIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTEATTRIBUTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTEATTRIBUTES_ISSET_ID, value);
   }
 
   public boolean isIncludeNotebooks() {
@@ -289,16 +296,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeNotebooks() {
-    __isset_vector[__INCLUDENOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field includeNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNotebooks() {
-    return __isset_vector[__INCLUDENOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTEBOOKS_ISSET_ID);
   }
 
   public void setIncludeNotebooksIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTEBOOKS_ISSET_ID, value);
   }
 
   public boolean isIncludeTags() {
@@ -311,16 +318,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeTags() {
-    __isset_vector[__INCLUDETAGS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDETAGS_ISSET_ID);
   }
 
   /** Returns true if field includeTags is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeTags() {
-    return __isset_vector[__INCLUDETAGS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDETAGS_ISSET_ID);
   }
 
   public void setIncludeTagsIsSet(boolean value) {
-    __isset_vector[__INCLUDETAGS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDETAGS_ISSET_ID, value);
   }
 
   public boolean isIncludeSearches() {
@@ -333,16 +340,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeSearches() {
-    __isset_vector[__INCLUDESEARCHES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDESEARCHES_ISSET_ID);
   }
 
   /** Returns true if field includeSearches is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeSearches() {
-    return __isset_vector[__INCLUDESEARCHES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDESEARCHES_ISSET_ID);
   }
 
   public void setIncludeSearchesIsSet(boolean value) {
-    __isset_vector[__INCLUDESEARCHES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDESEARCHES_ISSET_ID, value);
   }
 
   public boolean isIncludeResources() {
@@ -355,16 +362,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeResources() {
-    __isset_vector[__INCLUDERESOURCES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDERESOURCES_ISSET_ID);
   }
 
   /** Returns true if field includeResources is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeResources() {
-    return __isset_vector[__INCLUDERESOURCES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDERESOURCES_ISSET_ID);
   }
 
   public void setIncludeResourcesIsSet(boolean value) {
-    __isset_vector[__INCLUDERESOURCES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDERESOURCES_ISSET_ID, value);
   }
 
   public boolean isIncludeLinkedNotebooks() {
@@ -377,16 +384,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeLinkedNotebooks() {
-    __isset_vector[__INCLUDELINKEDNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDELINKEDNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field includeLinkedNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeLinkedNotebooks() {
-    return __isset_vector[__INCLUDELINKEDNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDELINKEDNOTEBOOKS_ISSET_ID);
   }
 
   public void setIncludeLinkedNotebooksIsSet(boolean value) {
-    __isset_vector[__INCLUDELINKEDNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDELINKEDNOTEBOOKS_ISSET_ID, value);
   }
 
   public boolean isIncludeExpunged() {
@@ -399,16 +406,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeExpunged() {
-    __isset_vector[__INCLUDEEXPUNGED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEEXPUNGED_ISSET_ID);
   }
 
   /** Returns true if field includeExpunged is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeExpunged() {
-    return __isset_vector[__INCLUDEEXPUNGED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEEXPUNGED_ISSET_ID);
   }
 
   public void setIncludeExpungedIsSet(boolean value) {
-    __isset_vector[__INCLUDEEXPUNGED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEEXPUNGED_ISSET_ID, value);
   }
 
   public boolean isIncludeNoteApplicationDataFullMap() {
@@ -421,16 +428,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeNoteApplicationDataFullMap() {
-    __isset_vector[__INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID);
   }
 
   /** Returns true if field includeNoteApplicationDataFullMap is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNoteApplicationDataFullMap() {
-    return __isset_vector[__INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID);
   }
 
   public void setIncludeNoteApplicationDataFullMapIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID, value);
   }
 
   public boolean isIncludeResourceApplicationDataFullMap() {
@@ -443,16 +450,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeResourceApplicationDataFullMap() {
-    __isset_vector[__INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID);
   }
 
   /** Returns true if field includeResourceApplicationDataFullMap is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeResourceApplicationDataFullMap() {
-    return __isset_vector[__INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID);
   }
 
   public void setIncludeResourceApplicationDataFullMapIsSet(boolean value) {
-    __isset_vector[__INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID, value);
   }
 
   public boolean isIncludeNoteResourceApplicationDataFullMap() {
@@ -465,16 +472,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeNoteResourceApplicationDataFullMap() {
-    __isset_vector[__INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID);
   }
 
   /** Returns true if field includeNoteResourceApplicationDataFullMap is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNoteResourceApplicationDataFullMap() {
-    return __isset_vector[__INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID);
   }
 
   public void setIncludeNoteResourceApplicationDataFullMapIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID, value);
   }
 
   public String getRequireNoteContentClass() {
@@ -635,7 +642,80 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetIncludeNotes()) ? 131071 : 524287);
+    if (isSetIncludeNotes())
+      hashCode = hashCode * 8191 + (includeNotes ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeNoteResources()) ? 131071 : 524287);
+    if (isSetIncludeNoteResources())
+      hashCode = hashCode * 8191 + (includeNoteResources ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeNoteAttributes()) ? 131071 : 524287);
+    if (isSetIncludeNoteAttributes())
+      hashCode = hashCode * 8191 + (includeNoteAttributes ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeNotebooks()) ? 131071 : 524287);
+    if (isSetIncludeNotebooks())
+      hashCode = hashCode * 8191 + (includeNotebooks ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeTags()) ? 131071 : 524287);
+    if (isSetIncludeTags())
+      hashCode = hashCode * 8191 + (includeTags ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeSearches()) ? 131071 : 524287);
+    if (isSetIncludeSearches())
+      hashCode = hashCode * 8191 + (includeSearches ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeResources()) ? 131071 : 524287);
+    if (isSetIncludeResources())
+      hashCode = hashCode * 8191 + (includeResources ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeLinkedNotebooks()) ? 131071 : 524287);
+    if (isSetIncludeLinkedNotebooks())
+      hashCode = hashCode * 8191 + (includeLinkedNotebooks ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeExpunged()) ? 131071 : 524287);
+    if (isSetIncludeExpunged())
+      hashCode = hashCode * 8191 + (includeExpunged ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeNoteApplicationDataFullMap()) ? 131071 : 524287);
+    if (isSetIncludeNoteApplicationDataFullMap())
+      hashCode = hashCode * 8191 + (includeNoteApplicationDataFullMap ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeResourceApplicationDataFullMap()) ? 131071 : 524287);
+    if (isSetIncludeResourceApplicationDataFullMap())
+      hashCode = hashCode * 8191 + (includeResourceApplicationDataFullMap ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeNoteResourceApplicationDataFullMap()) ? 131071 : 524287);
+    if (isSetIncludeNoteResourceApplicationDataFullMap())
+      hashCode = hashCode * 8191 + (includeNoteResourceApplicationDataFullMap ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetRequireNoteContentClass()) ? 131071 : 524287);
+    if (isSetRequireNoteContentClass())
+      hashCode = hashCode * 8191 + requireNoteContentClass.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(SyncChunkFilter other) {
@@ -768,6 +848,7 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -775,6 +856,11 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // INCLUDE_NOTES
           if (field.type == TType.BOOL) {
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.edam.notestore;
+
+import java.util.BitSet;
+
+import com.evernote.edam.error.EDAMNotFoundException;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.error.EDAMUserException;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.Notebook;
+import com.evernote.edam.type.Resource;
+import com.evernote.edam.type.SavedSearch;
+import com.evernote.edam.type.Tag;
+import com.evernote.thrift.TApplicationException;
+import com.evernote.thrift.TException;
+import com.evernote.thrift.TStructPool;
+import com.evernote.thrift.protocol.TField;
+import com.evernote.thrift.protocol.TList;
+import com.evernote.thrift.protocol.TMessage;
+import com.evernote.thrift.protocol.TMessageType;
+import com.evernote.thrift.protocol.TProtocol;
+import com.evernote.thrift.protocol.TProtocolUtil;
+import com.evernote.thrift.protocol.TStruct;
+import com.evernote.thrift.protocol.TType;
+
+/**
+ * Makes the sync chunk calls of a {@link NoteStore.Client}, but hands each entry of
+ * the returned chunk to a {@link SyncChunkVisitor} as soon as it has been decoded
+ * instead of collecting them in lists. Entries are processed while the rest of the
+ * response is still arriving, and memory use doesn't grow with the size of the
+ * chunk. This only holds if the transport streams responses, i.e. if response
+ * buffering is turned off.
+ * <p>
+ * The {@link SyncChunk} returned by each call only carries the currentTime,
+ * chunkHighUSN and updateCount fields; all entry lists are left unset.
+ * <p>
+ * With a {@link TStructPool} set, entries are read into instances acquired from the
+ * pool. A visitor that is done with an entry can release it to the pool, so that
+ * a long sync loop keeps decoding into the same few instances. Notes and resources
+ * also refill the lists, attributes and resources of their previous read, see
+ * {@link com.evernote.thrift.TRecyclable}. A released entry, and anything obtained
+ * from it, must not be used any more.
+ * <p>
+ * Like the client it wraps, this class is not thread safe.
+ */
+public class SyncChunkStreamReader {
+
+  private static final TStruct STRUCT_DESC = new TStruct("SyncChunk");
+
+  private final NoteStore.Client client;
+  private TStructPool structPool;
+
+  public SyncChunkStreamReader(NoteStore.Client client) {
+    if (client == null) {
+      throw new IllegalArgumentException("Client must not be null");
+    }
+    this.client = client;
+  }
+
+  public TStructPool getStructPool() {
+    return structPool;
+  }
+
+  /**
+   * Makes this reader decode entries into structs acquired from the given pool.
+   * Pass null to allocate a new struct for each entry.
+   */
+  public void setStructPool(TStructPool structPool) {
+    this.structPool = structPool;
+  }
+
+  /**
+   * Streaming version of {@link NoteStore.Client#getSyncChunk(String, int, int, boolean)}.
+   */
+  public SyncChunk getSyncChunk(String authenticationToken, int afterUSN,
+      int maxEntries, boolean fullSyncOnly, SyncChunkVisitor visitor)
+      throws EDAMUserException, EDAMSystemException, TException {
+    client.send_getSyncChunk(authenticationToken, afterUSN, maxEntries, fullSyncOnly);
+    Result result = receive("getSyncChunk", visitor);
+    if (result.success != null) {
+      return result.success;
+    }
+    if (result.userException != null) {
+      throw result.userException;
+    }
+    if (result.systemException != null) {
+      throw result.systemException;
+    }
+    throw new TApplicationException(TApplicationException.MISSING_RESULT,
+        "getSyncChunk failed: unknown result");
+  }
+
+  /**
+   * Streaming version of
+   * {@link NoteStore.Client#getFilteredSyncChunk(String, int, int, SyncChunkFilter)}.
+   */
+  public SyncChunk getFilteredSyncChunk(String authenticationToken, int afterUSN,
+      int maxEntries, SyncChunkFilter filter, SyncChunkVisitor visitor)
+      throws EDAMUserException, EDAMSystemException, TException {
+    client.send_getFilteredSyncChunk(authenticationToken, afterUSN, maxEntries, filter);
+    Result result = receive("getFilteredSyncChunk", visitor);
+    if (result.success != null) {
+      return result.success;
+    }
+    if (result.userException != null) {
+      throw result.userException;
+    }
+    if (result.systemException != null) {
+      throw result.systemException;
+    }
+    throw new TApplicationException(TApplicationException.MISSING_RESULT,
+        "getFilteredSyncChunk failed: unknown result");
+  }
+
+  /**
+   * Streaming version of
+   * {@link NoteStore.Client#getLinkedNotebookSyncChunk(String, LinkedNotebook, int, int, boolean)}.
+   */
+  public SyncChunk getLinkedNotebookSyncChunk(String authenticationToken,
+      LinkedNotebook linkedNotebook, int afterUSN, int maxEntries, boolean fullSyncOnly,
+      SyncChunkVisitor visitor) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    client.send_getLinkedNotebookSyncChunk(authenticationToken, linkedNotebook, afterUSN,
+        maxEntries, fullSyncOnly);
+    Result result = receive("getLinkedNotebookSyncChunk", visitor);
+    if (result.success != null) {
+      return result.success;
+    }
+    if (result.userException != null) {
+      throw result.userException;
+    }
+    if (result.systemException != null) {
+      throw result.systemException;
+    }
+    if (result.notFoundException != null) {
+      throw result.notFoundException;
+    }
+    throw new TApplicationException(TApplicationException.MISSING_RESULT,
+        "getLinkedNotebookSyncChunk failed: unknown result");
+  }
+
+  /**
+   * Reads a SyncChunk struct from the protocol, handing its entries to the visitor.
+   * Fields excluded by the field mask of the protocol are skipped.
+   *
+   * @return the chunk without any of its entry lists
+   */
+  public static SyncChunk read(TProtocol iprot, SyncChunkVisitor visitor)
+      throws TException {
+    return read(iprot, visitor, null);
+  }
+
+  /**
+   * Like {@link #read(TProtocol, SyncChunkVisitor)}, but reads the entries into
+   * structs acquired from the given pool, if it isn't null.
+   */
+  public static SyncChunk read(TProtocol iprot, SyncChunkVisitor visitor,
+      TStructPool pool) throws TException {
+    SyncChunk chunk = new SyncChunk();
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
+    iprot.readStructBegin();
+    while (true) {
+      TField field = iprot.readFieldBegin();
+      if (field.type == TType.STOP) {
+        break;
+      }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
+      if (field.id <= 3) {
+        readHeaderField(iprot, field, chunk);
+      } else if (field.type == TType.LIST) {
+        readEntries(iprot, field.id, visitor, pool);
+      } else {
+        TProtocolUtil.skip(iprot, field.type);
+      }
+      iprot.readFieldEnd();
+    }
+    iprot.readStructEnd();
+    chunk.validate();
+    return chunk;
+  }
+
+  private static void readHeaderField(TProtocol iprot, TField field, SyncChunk chunk)
+      throws TException {
+    if (field.id == 1 && field.type == TType.I64) {
+      chunk.setCurrentTime(iprot.readI64());
+    } else if (field.id == 2 && field.type == TType.I32) {
+      chunk.setChunkHighUSN(iprot.readI32());
+    } else if (field.id == 3 && field.type == TType.I32) {
+      chunk.setUpdateCount(iprot.readI32());
+    } else {
+      TProtocolUtil.skip(iprot, field.type);
+    }
+  }
+
+  private static void readEntries(TProtocol iprot, short fieldId,
+      SyncChunkVisitor visitor, TStructPool pool) throws TException {
+    TList list = iprot.readListBegin();
+    for (int i = 0; i < list.size; i++) {
+      switch (fieldId) {
+        case 4: // NOTES
+          Note note = pool != null ? pool.acquire(Note.class) : new Note();
+          note.read(iprot);
+          visitor.visitNote(note);
+          break;
+        case 5: // NOTEBOOKS
+          Notebook notebook = pool != null ? pool.acquire(Notebook.class) : new Notebook();
+          notebook.read(iprot);
+          visitor.visitNotebook(notebook);
+          break;
+        case 6: // TAGS
+          Tag tag = pool != null ? pool.acquire(Tag.class) : new Tag();
+          tag.read(iprot);
+          visitor.visitTag(tag);
+          break;
+        case 7: // SEARCHES
+          SavedSearch search = pool != null ? pool.acquire(SavedSearch.class)
+              : new SavedSearch();
+          search.read(iprot);
+          visitor.visitSearch(search);
+          break;
+        case 8: // RESOURCES
+          Resource resource = pool != null ? pool.acquire(Resource.class) : new Resource();
+          resource.read(iprot);
+          visitor.visitResource(resource);
+          break;
+        case 9: // EXPUNGED_NOTES
+          visitor.visitExpungedNote(iprot.readString());
+          break;
+        case 10: // EXPUNGED_NOTEBOOKS
+          visitor.visitExpungedNotebook(iprot.readString());
+          break;
+        case 11: // EXPUNGED_TAGS
+          visitor.visitExpungedTag(iprot.readString());
+          break;
+        case 12: // EXPUNGED_SEARCHES
+          visitor.visitExpungedSearch(iprot.readString());
+          break;
+        case 13: // LINKED_NOTEBOOKS
+          LinkedNotebook linkedNotebook = pool != null ? pool
+              .acquire(LinkedNotebook.class) : new LinkedNotebook();
+          linkedNotebook.read(iprot);
+          visitor.visitLinkedNotebook(linkedNotebook);
+          break;
+        case 14: // EXPUNGED_LINKED_NOTEBOOKS
+          visitor.visitExpungedLinkedNotebook(iprot.readString());
+          break;
+        default:
+          TProtocolUtil.skip(iprot, list.elemType);
+      }
+    }
+    iprot.readListEnd();
+  }
+
+  private Result receive(String method, SyncChunkVisitor visitor) throws TException {
+    TProtocol iprot = client.getInputProtocol();
+    TMessage msg = iprot.readMessageBegin();
+    if (msg.type == TMessageType.EXCEPTION) {
+      TApplicationException x = TApplicationException.read(iprot);
+      iprot.readMessageEnd();
+      throw x;
+    }
+    if (msg.seqid != client.seqid_) {
+      throw new TApplicationException(TApplicationException.BAD_SEQUENCE_ID, method
+          + " failed: out of sequence response");
+    }
+
+    // the *SyncChunk_result structs
+    Result result = new Result();
+    iprot.readStructBegin();
+    while (true) {
+      TField field = iprot.readFieldBegin();
+      if (field.type == TType.STOP) {
+        break;
+      }
+      if (field.type != TType.STRUCT) {
+        TProtocolUtil.skip(iprot, field.type);
+      } else if (field.id == 0) {
+        result.success = read(iprot, visitor, structPool);
+      } else if (field.id == 1) {
+        result.userException = new EDAMUserException();
+        result.userException.read(iprot);
+      } else if (field.id == 2) {
+        result.systemException = new EDAMSystemException();
+        result.systemException.read(iprot);
+      } else if (field.id == 3) {
+        result.notFoundException = new EDAMNotFoundException();
+        result.notFoundException.read(iprot);
+      } else {
+        TProtocolUtil.skip(iprot, field.type);
+      }
+      iprot.readFieldEnd();
+    }
+    iprot.readStructEnd();
+    iprot.readMessageEnd();
+    return result;
+  }
+
+  private static class Result {
+    SyncChunk success;
+    EDAMUserException userException;
+    EDAMSystemException systemException;
+    EDAMNotFoundException notFoundException;
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.edam.notestore;
+
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.Notebook;
+import com.evernote.edam.type.Resource;
+import com.evernote.edam.type.SavedSearch;
+import com.evernote.edam.type.Tag;
+
+/**
+ * Receives the entries of a {@link SyncChunk} one at a time while the chunk is being
+ * decoded by a {@link SyncChunkStreamReader}. Entries are handed over in the order
+ * in which the service sends them, and no reference to them is kept once the visit
+ * method returns.
+ * <p>
+ * All methods do nothing by default, so subclasses only need to override the ones
+ * for the entries they are interested in. Exceptions thrown by a visit method abort
+ * the decoding of the chunk.
+ */
+public abstract class SyncChunkVisitor {
+
+  public void visitNote(Note note) {}
+
+  public void visitNotebook(Notebook notebook) {}
+
+  public void visitTag(Tag tag) {}
+
+  public void visitSearch(SavedSearch search) {}
+
+  public void visitResource(Resource resource) {}
+
+  public void visitLinkedNotebook(LinkedNotebook linkedNotebook) {}
+
+  public void visitExpungedNote(String guid) {}
+
+  public void visitExpungedNotebook(String guid) {}
+
+  public void visitExpungedTag(String guid) {}
+
+  public void visitExpungedSearch(String guid) {}
+
+  public void visitExpungedLinkedNotebook(String guid) {}
+}
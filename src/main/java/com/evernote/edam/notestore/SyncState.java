@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -73,7 +74,11 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
   private static final int __FULLSYNCBEFORE_ISSET_ID = 1;
   private static final int __UPDATECOUNT_ISSET_ID = 2;
   private static final int __UPLOADED_ISSET_ID = 3;
-  private boolean[] __isset_vector = new boolean[4];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public SyncState() {
   }
@@ -96,7 +101,7 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
    * Performs a deep copy on <i>other</i>.
    */
   public SyncState(SyncState other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.currentTime = other.currentTime;
     this.fullSyncBefore = other.fullSyncBefore;
     this.updateCount = other.updateCount;
@@ -108,6 +113,8 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setCurrentTimeIsSet(false);
     this.currentTime = 0;
     setFullSyncBeforeIsSet(false);
@@ -128,16 +135,16 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
   }
 
   public void unsetCurrentTime() {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   /** Returns true if field currentTime is set (has been asigned a value) and false otherwise */
   public boolean isSetCurrentTime() {
-    return __isset_vector[__CURRENTTIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   public void setCurrentTimeIsSet(boolean value) {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CURRENTTIME_ISSET_ID, value);
   }
 
   public long getFullSyncBefore() {
@@ -150,16 +157,16 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
   }
 
   public void unsetFullSyncBefore() {
-    __isset_vector[__FULLSYNCBEFORE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FULLSYNCBEFORE_ISSET_ID);
   }
 
   /** Returns true if field fullSyncBefore is set (has been asigned a value) and false otherwise */
   public boolean isSetFullSyncBefore() {
-    return __isset_vector[__FULLSYNCBEFORE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __FULLSYNCBEFORE_ISSET_ID);
   }
 
   public void setFullSyncBeforeIsSet(boolean value) {
-    __isset_vector[__FULLSYNCBEFORE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FULLSYNCBEFORE_ISSET_ID, value);
   }
 
   public int getUpdateCount() {
@@ -172,16 +179,16 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
   }
 
   public void unsetUpdateCount() {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   /** Returns true if field updateCount is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateCount() {
-    return __isset_vector[__UPDATECOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   public void setUpdateCountIsSet(boolean value) {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID, value);
   }
 
   public long getUploaded() {
@@ -194,16 +201,16 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
   }
 
   public void unsetUploaded() {
-    __isset_vector[__UPLOADED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPLOADED_ISSET_ID);
   }
 
   /** Returns true if field uploaded is set (has been asigned a value) and false otherwise */
   public boolean isSetUploaded() {
-    return __isset_vector[__UPLOADED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPLOADED_ISSET_ID);
   }
 
   public void setUploadedIsSet(boolean value) {
-    __isset_vector[__UPLOADED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPLOADED_ISSET_ID, value);
   }
 
   @Override
@@ -260,7 +267,38 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + TBaseHelper.hashCode(currentTime);
+
+    hashCode = hashCode * 8191 + TBaseHelper.hashCode(fullSyncBefore);
+
+    hashCode = hashCode * 8191 + updateCount;
+
+    hashCode = hashCode * 8191 + ((isSetUploaded()) ? 131071 : 524287);
+    if (isSetUploaded())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(uploaded);
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(SyncState other) {
@@ -312,6 +350,7 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -319,6 +358,11 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // CURRENT_TIME
           if (field.type == TType.I64) {
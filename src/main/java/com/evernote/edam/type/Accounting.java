@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -170,7 +171,11 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   private static final int __BUSINESSID_ISSET_ID = 11;
   private static final int __UNITDISCOUNT_ISSET_ID = 12;
   private static final int __NEXTCHARGEDATE_ISSET_ID = 13;
-  private boolean[] __isset_vector = new boolean[14];
+  private short __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public Accounting() {
   }
@@ -179,7 +184,7 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
    * Performs a deep copy on <i>other</i>.
    */
   public Accounting(Accounting other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.uploadLimit = other.uploadLimit;
     this.uploadLimitEnd = other.uploadLimitEnd;
     this.uploadLimitNextMonth = other.uploadLimitNextMonth;
@@ -228,6 +233,8 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setUploadLimitIsSet(false);
     this.uploadLimit = 0;
     setUploadLimitEndIsSet(false);
@@ -277,16 +284,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetUploadLimit() {
-    __isset_vector[__UPLOADLIMIT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPLOADLIMIT_ISSET_ID);
   }
 
   /** Returns true if field uploadLimit is set (has been asigned a value) and false otherwise */
   public boolean isSetUploadLimit() {
-    return __isset_vector[__UPLOADLIMIT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPLOADLIMIT_ISSET_ID);
   }
 
   public void setUploadLimitIsSet(boolean value) {
-    __isset_vector[__UPLOADLIMIT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPLOADLIMIT_ISSET_ID, value);
   }
 
   public long getUploadLimitEnd() {
@@ -299,16 +306,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetUploadLimitEnd() {
-    __isset_vector[__UPLOADLIMITEND_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPLOADLIMITEND_ISSET_ID);
   }
 
   /** Returns true if field uploadLimitEnd is set (has been asigned a value) and false otherwise */
   public boolean isSetUploadLimitEnd() {
-    return __isset_vector[__UPLOADLIMITEND_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPLOADLIMITEND_ISSET_ID);
   }
 
   public void setUploadLimitEndIsSet(boolean value) {
-    __isset_vector[__UPLOADLIMITEND_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPLOADLIMITEND_ISSET_ID, value);
   }
 
   public long getUploadLimitNextMonth() {
@@ -321,16 +328,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetUploadLimitNextMonth() {
-    __isset_vector[__UPLOADLIMITNEXTMONTH_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPLOADLIMITNEXTMONTH_ISSET_ID);
   }
 
   /** Returns true if field uploadLimitNextMonth is set (has been asigned a value) and false otherwise */
   public boolean isSetUploadLimitNextMonth() {
-    return __isset_vector[__UPLOADLIMITNEXTMONTH_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPLOADLIMITNEXTMONTH_ISSET_ID);
   }
 
   public void setUploadLimitNextMonthIsSet(boolean value) {
-    __isset_vector[__UPLOADLIMITNEXTMONTH_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPLOADLIMITNEXTMONTH_ISSET_ID, value);
   }
 
   /**
@@ -420,16 +427,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetPremiumServiceStart() {
-    __isset_vector[__PREMIUMSERVICESTART_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMSERVICESTART_ISSET_ID);
   }
 
   /** Returns true if field premiumServiceStart is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumServiceStart() {
-    return __isset_vector[__PREMIUMSERVICESTART_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMSERVICESTART_ISSET_ID);
   }
 
   public void setPremiumServiceStartIsSet(boolean value) {
-    __isset_vector[__PREMIUMSERVICESTART_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMSERVICESTART_ISSET_ID, value);
   }
 
   public String getPremiumServiceSKU() {
@@ -465,16 +472,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetLastSuccessfulCharge() {
-    __isset_vector[__LASTSUCCESSFULCHARGE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LASTSUCCESSFULCHARGE_ISSET_ID);
   }
 
   /** Returns true if field lastSuccessfulCharge is set (has been asigned a value) and false otherwise */
   public boolean isSetLastSuccessfulCharge() {
-    return __isset_vector[__LASTSUCCESSFULCHARGE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LASTSUCCESSFULCHARGE_ISSET_ID);
   }
 
   public void setLastSuccessfulChargeIsSet(boolean value) {
-    __isset_vector[__LASTSUCCESSFULCHARGE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LASTSUCCESSFULCHARGE_ISSET_ID, value);
   }
 
   public long getLastFailedCharge() {
@@ -487,16 +494,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetLastFailedCharge() {
-    __isset_vector[__LASTFAILEDCHARGE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LASTFAILEDCHARGE_ISSET_ID);
   }
 
   /** Returns true if field lastFailedCharge is set (has been asigned a value) and false otherwise */
   public boolean isSetLastFailedCharge() {
-    return __isset_vector[__LASTFAILEDCHARGE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LASTFAILEDCHARGE_ISSET_ID);
   }
 
   public void setLastFailedChargeIsSet(boolean value) {
-    __isset_vector[__LASTFAILEDCHARGE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LASTFAILEDCHARGE_ISSET_ID, value);
   }
 
   public String getLastFailedChargeReason() {
@@ -532,16 +539,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetNextPaymentDue() {
-    __isset_vector[__NEXTPAYMENTDUE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NEXTPAYMENTDUE_ISSET_ID);
   }
 
   /** Returns true if field nextPaymentDue is set (has been asigned a value) and false otherwise */
   public boolean isSetNextPaymentDue() {
-    return __isset_vector[__NEXTPAYMENTDUE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NEXTPAYMENTDUE_ISSET_ID);
   }
 
   public void setNextPaymentDueIsSet(boolean value) {
-    __isset_vector[__NEXTPAYMENTDUE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NEXTPAYMENTDUE_ISSET_ID, value);
   }
 
   public long getPremiumLockUntil() {
@@ -554,16 +561,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetPremiumLockUntil() {
-    __isset_vector[__PREMIUMLOCKUNTIL_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMLOCKUNTIL_ISSET_ID);
   }
 
   /** Returns true if field premiumLockUntil is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumLockUntil() {
-    return __isset_vector[__PREMIUMLOCKUNTIL_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMLOCKUNTIL_ISSET_ID);
   }
 
   public void setPremiumLockUntilIsSet(boolean value) {
-    __isset_vector[__PREMIUMLOCKUNTIL_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMLOCKUNTIL_ISSET_ID, value);
   }
 
   public long getUpdated() {
@@ -576,16 +583,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetUpdated() {
-    __isset_vector[__UPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   /** Returns true if field updated is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdated() {
-    return __isset_vector[__UPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   public void setUpdatedIsSet(boolean value) {
-    __isset_vector[__UPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATED_ISSET_ID, value);
   }
 
   public String getPremiumSubscriptionNumber() {
@@ -621,16 +628,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetLastRequestedCharge() {
-    __isset_vector[__LASTREQUESTEDCHARGE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LASTREQUESTEDCHARGE_ISSET_ID);
   }
 
   /** Returns true if field lastRequestedCharge is set (has been asigned a value) and false otherwise */
   public boolean isSetLastRequestedCharge() {
-    return __isset_vector[__LASTREQUESTEDCHARGE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LASTREQUESTEDCHARGE_ISSET_ID);
   }
 
   public void setLastRequestedChargeIsSet(boolean value) {
-    __isset_vector[__LASTREQUESTEDCHARGE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LASTREQUESTEDCHARGE_ISSET_ID, value);
   }
 
   public String getCurrency() {
@@ -666,16 +673,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetUnitPrice() {
-    __isset_vector[__UNITPRICE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UNITPRICE_ISSET_ID);
   }
 
   /** Returns true if field unitPrice is set (has been asigned a value) and false otherwise */
   public boolean isSetUnitPrice() {
-    return __isset_vector[__UNITPRICE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UNITPRICE_ISSET_ID);
   }
 
   public void setUnitPriceIsSet(boolean value) {
-    __isset_vector[__UNITPRICE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UNITPRICE_ISSET_ID, value);
   }
 
   public int getBusinessId() {
@@ -688,16 +695,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetBusinessId() {
-    __isset_vector[__BUSINESSID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BUSINESSID_ISSET_ID);
   }
 
   /** Returns true if field businessId is set (has been asigned a value) and false otherwise */
   public boolean isSetBusinessId() {
-    return __isset_vector[__BUSINESSID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __BUSINESSID_ISSET_ID);
   }
 
   public void setBusinessIdIsSet(boolean value) {
-    __isset_vector[__BUSINESSID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BUSINESSID_ISSET_ID, value);
   }
 
   public String getBusinessName() {
@@ -764,16 +771,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetUnitDiscount() {
-    __isset_vector[__UNITDISCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UNITDISCOUNT_ISSET_ID);
   }
 
   /** Returns true if field unitDiscount is set (has been asigned a value) and false otherwise */
   public boolean isSetUnitDiscount() {
-    return __isset_vector[__UNITDISCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UNITDISCOUNT_ISSET_ID);
   }
 
   public void setUnitDiscountIsSet(boolean value) {
-    __isset_vector[__UNITDISCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UNITDISCOUNT_ISSET_ID, value);
   }
 
   public long getNextChargeDate() {
@@ -786,16 +793,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetNextChargeDate() {
-    __isset_vector[__NEXTCHARGEDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NEXTCHARGEDATE_ISSET_ID);
   }
 
   /** Returns true if field nextChargeDate is set (has been asigned a value) and false otherwise */
   public boolean isSetNextChargeDate() {
-    return __isset_vector[__NEXTCHARGEDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NEXTCHARGEDATE_ISSET_ID);
   }
 
   public void setNextChargeDateIsSet(boolean value) {
-    __isset_vector[__NEXTCHARGEDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NEXTCHARGEDATE_ISSET_ID, value);
   }
 
   @Override
@@ -1023,7 +1030,120 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetUploadLimit()) ? 131071 : 524287);
+    if (isSetUploadLimit())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(uploadLimit);
+
+    hashCode = hashCode * 8191 + ((isSetUploadLimitEnd()) ? 131071 : 524287);
+    if (isSetUploadLimitEnd())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(uploadLimitEnd);
+
+    hashCode = hashCode * 8191 + ((isSetUploadLimitNextMonth()) ? 131071 : 524287);
+    if (isSetUploadLimitNextMonth())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(uploadLimitNextMonth);
+
+    hashCode = hashCode * 8191 + ((isSetPremiumServiceStatus()) ? 131071 : 524287);
+    if (isSetPremiumServiceStatus())
+      hashCode = hashCode * 8191 + premiumServiceStatus.getValue();
+
+    hashCode = hashCode * 8191 + ((isSetPremiumOrderNumber()) ? 131071 : 524287);
+    if (isSetPremiumOrderNumber())
+      hashCode = hashCode * 8191 + premiumOrderNumber.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetPremiumCommerceService()) ? 131071 : 524287);
+    if (isSetPremiumCommerceService())
+      hashCode = hashCode * 8191 + premiumCommerceService.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetPremiumServiceStart()) ? 131071 : 524287);
+    if (isSetPremiumServiceStart())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(premiumServiceStart);
+
+    hashCode = hashCode * 8191 + ((isSetPremiumServiceSKU()) ? 131071 : 524287);
+    if (isSetPremiumServiceSKU())
+      hashCode = hashCode * 8191 + premiumServiceSKU.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetLastSuccessfulCharge()) ? 131071 : 524287);
+    if (isSetLastSuccessfulCharge())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(lastSuccessfulCharge);
+
+    hashCode = hashCode * 8191 + ((isSetLastFailedCharge()) ? 131071 : 524287);
+    if (isSetLastFailedCharge())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(lastFailedCharge);
+
+    hashCode = hashCode * 8191 + ((isSetLastFailedChargeReason()) ? 131071 : 524287);
+    if (isSetLastFailedChargeReason())
+      hashCode = hashCode * 8191 + lastFailedChargeReason.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetNextPaymentDue()) ? 131071 : 524287);
+    if (isSetNextPaymentDue())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(nextPaymentDue);
+
+    hashCode = hashCode * 8191 + ((isSetPremiumLockUntil()) ? 131071 : 524287);
+    if (isSetPremiumLockUntil())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(premiumLockUntil);
+
+    hashCode = hashCode * 8191 + ((isSetUpdated()) ? 131071 : 524287);
+    if (isSetUpdated())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(updated);
+
+    hashCode = hashCode * 8191 + ((isSetPremiumSubscriptionNumber()) ? 131071 : 524287);
+    if (isSetPremiumSubscriptionNumber())
+      hashCode = hashCode * 8191 + premiumSubscriptionNumber.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetLastRequestedCharge()) ? 131071 : 524287);
+    if (isSetLastRequestedCharge())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(lastRequestedCharge);
+
+    hashCode = hashCode * 8191 + ((isSetCurrency()) ? 131071 : 524287);
+    if (isSetCurrency())
+      hashCode = hashCode * 8191 + currency.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetUnitPrice()) ? 131071 : 524287);
+    if (isSetUnitPrice())
+      hashCode = hashCode * 8191 + unitPrice;
+
+    hashCode = hashCode * 8191 + ((isSetBusinessId()) ? 131071 : 524287);
+    if (isSetBusinessId())
+      hashCode = hashCode * 8191 + businessId;
+
+    hashCode = hashCode * 8191 + ((isSetBusinessName()) ? 131071 : 524287);
+    if (isSetBusinessName())
+      hashCode = hashCode * 8191 + businessName.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetBusinessRole()) ? 131071 : 524287);
+    if (isSetBusinessRole())
+      hashCode = hashCode * 8191 + businessRole.getValue();
+
+    hashCode = hashCode * 8191 + ((isSetUnitDiscount()) ? 131071 : 524287);
+    if (isSetUnitDiscount())
+      hashCode = hashCode * 8191 + unitDiscount;
+
+    hashCode = hashCode * 8191 + ((isSetNextChargeDate()) ? 131071 : 524287);
+    if (isSetNextChargeDate())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(nextChargeDate);
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(Accounting other) {
@@ -1246,6 +1366,7 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -1253,6 +1374,11 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // UPLOAD_LIMIT
           if (field.type == TType.I64) {
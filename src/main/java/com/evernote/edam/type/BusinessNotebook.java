@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -58,7 +59,11 @@ public class BusinessNotebook implements TBase<BusinessNotebook>, java.io.Serial
 
   // isset id assignments
   private static final int __RECOMMENDED_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public BusinessNotebook() {
   }
@@ -67,7 +72,7 @@ public class BusinessNotebook implements TBase<BusinessNotebook>, java.io.Serial
    * Performs a deep copy on <i>other</i>.
    */
   public BusinessNotebook(BusinessNotebook other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetNotebookDescription()) {
       this.notebookDescription = other.notebookDescription;
     }
@@ -82,6 +87,8 @@ public class BusinessNotebook implements TBase<BusinessNotebook>, java.io.Serial
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.notebookDescription = null;
     this.privilege = null;
     setRecommendedIsSet(false);
@@ -152,16 +159,16 @@ public class BusinessNotebook implements TBase<BusinessNotebook>, java.io.Serial
   }
 
   public void unsetRecommended() {
-    __isset_vector[__RECOMMENDED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECOMMENDED_ISSET_ID);
   }
 
   /** Returns true if field recommended is set (has been asigned a value) and false otherwise */
   public boolean isSetRecommended() {
-    return __isset_vector[__RECOMMENDED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __RECOMMENDED_ISSET_ID);
   }
 
   public void setRecommendedIsSet(boolean value) {
-    __isset_vector[__RECOMMENDED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECOMMENDED_ISSET_ID, value);
   }
 
   @Override
@@ -209,7 +216,40 @@ public class BusinessNotebook implements TBase<BusinessNotebook>, java.io.Serial
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetNotebookDescription()) ? 131071 : 524287);
+    if (isSetNotebookDescription())
+      hashCode = hashCode * 8191 + notebookDescription.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetPrivilege()) ? 131071 : 524287);
+    if (isSetPrivilege())
+      hashCode = hashCode * 8191 + privilege.getValue();
+
+    hashCode = hashCode * 8191 + ((isSetRecommended()) ? 131071 : 524287);
+    if (isSetRecommended())
+      hashCode = hashCode * 8191 + (recommended ? 131071 : 524287);
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(BusinessNotebook other) {
@@ -252,6 +292,7 @@ public class BusinessNotebook implements TBase<BusinessNotebook>, java.io.Serial
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -259,6 +300,11 @@ public class BusinessNotebook implements TBase<BusinessNotebook>, java.io.Serial
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // NOTEBOOK_DESCRIPTION
           if (field.type == TType.STRING) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -53,7 +54,11 @@ public class BusinessUserInfo implements TBase<BusinessUserInfo>, java.io.Serial
 
   // isset id assignments
   private static final int __BUSINESSID_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public BusinessUserInfo() {
   }
@@ -62,7 +67,7 @@ public class BusinessUserInfo implements TBase<BusinessUserInfo>, java.io.Serial
    * Performs a deep copy on <i>other</i>.
    */
   public BusinessUserInfo(BusinessUserInfo other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.businessId = other.businessId;
     if (other.isSetBusinessName()) {
       this.businessName = other.businessName;
@@ -80,6 +85,8 @@ public class BusinessUserInfo implements TBase<BusinessUserInfo>, java.io.Serial
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setBusinessIdIsSet(false);
     this.businessId = 0;
     this.businessName = null;
@@ -97,16 +104,16 @@ public class BusinessUserInfo implements TBase<BusinessUserInfo>, java.io.Serial
   }
 
   public void unsetBusinessId() {
-    __isset_vector[__BUSINESSID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BUSINESSID_ISSET_ID);
   }
 
   /** Returns true if field businessId is set (has been asigned a value) and false otherwise */
   public boolean isSetBusinessId() {
-    return __isset_vector[__BUSINESSID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __BUSINESSID_ISSET_ID);
   }
 
   public void setBusinessIdIsSet(boolean value) {
-    __isset_vector[__BUSINESSID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BUSINESSID_ISSET_ID, value);
   }
 
   public String getBusinessName() {
@@ -240,7 +247,44 @@ public class BusinessUserInfo implements TBase<BusinessUserInfo>, java.io.Serial
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetBusinessId()) ? 131071 : 524287);
+    if (isSetBusinessId())
+      hashCode = hashCode * 8191 + businessId;
+
+    hashCode = hashCode * 8191 + ((isSetBusinessName()) ? 131071 : 524287);
+    if (isSetBusinessName())
+      hashCode = hashCode * 8191 + businessName.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetRole()) ? 131071 : 524287);
+    if (isSetRole())
+      hashCode = hashCode * 8191 + role.getValue();
+
+    hashCode = hashCode * 8191 + ((isSetEmail()) ? 131071 : 524287);
+    if (isSetEmail())
+      hashCode = hashCode * 8191 + email.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(BusinessUserInfo other) {
@@ -292,6 +336,7 @@ public class BusinessUserInfo implements TBase<BusinessUserInfo>, java.io.Serial
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -299,6 +344,11 @@ public class BusinessUserInfo implements TBase<BusinessUserInfo>, java.io.Serial
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // BUSINESS_ID
           if (field.type == TType.I32) {
@@ -11,6 +11,8 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
+import java.nio.ByteBuffer;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -50,14 +52,18 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
   private static final TField SIZE_FIELD_DESC = new TField("size", TType.I32, (short)2);
   private static final TField BODY_FIELD_DESC = new TField("body", TType.STRING, (short)3);
 
-  private byte[] bodyHash;
+  private transient ByteBuffer bodyHash;
   private int size;
-  private byte[] body;
+  private transient ByteBuffer body;
 
 
   // isset id assignments
   private static final int __SIZE_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public Data() {
   }
@@ -66,15 +72,13 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
    * Performs a deep copy on <i>other</i>.
    */
   public Data(Data other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetBodyHash()) {
-      this.bodyHash = new byte[other.bodyHash.length];
-      System.arraycopy(other.bodyHash, 0, bodyHash, 0, other.bodyHash.length);
+      this.bodyHash = TBaseHelper.copyBinary(other.bodyHash);
     }
     this.size = other.size;
     if (other.isSetBody()) {
-      this.body = new byte[other.body.length];
-      System.arraycopy(other.body, 0, body, 0, other.body.length);
+      this.body = TBaseHelper.copyBinary(other.body);
     }
   }
 
@@ -83,6 +87,8 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.bodyHash = null;
     setSizeIsSet(false);
     this.size = 0;
@@ -90,10 +96,22 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
   }
 
   public byte[] getBodyHash() {
-    return this.bodyHash;
+    setBodyHash(TBaseHelper.rightSize(bodyHash));
+    return bodyHash == null ? null : bodyHash.array();
+  }
+
+  /**
+   * @return a view of bodyHash, which may share memory with the buffer it was read from
+   */
+  public ByteBuffer bufferForBodyHash() {
+    return bodyHash == null ? null : bodyHash.duplicate();
   }
 
   public void setBodyHash(byte[] bodyHash) {
+    setBodyHash(bodyHash == null ? (ByteBuffer)null : ByteBuffer.wrap(bodyHash));
+  }
+
+  public void setBodyHash(ByteBuffer bodyHash) {
     this.bodyHash = bodyHash;
   }
 
@@ -122,23 +140,35 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
   }
 
   public void unsetSize() {
-    __isset_vector[__SIZE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SIZE_ISSET_ID);
   }
 
   /** Returns true if field size is set (has been asigned a value) and false otherwise */
   public boolean isSetSize() {
-    return __isset_vector[__SIZE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SIZE_ISSET_ID);
   }
 
   public void setSizeIsSet(boolean value) {
-    __isset_vector[__SIZE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SIZE_ISSET_ID, value);
   }
 
   public byte[] getBody() {
-    return this.body;
+    setBody(TBaseHelper.rightSize(body));
+    return body == null ? null : body.array();
+  }
+
+  /**
+   * @return a view of body, which may share memory with the buffer it was read from
+   */
+  public ByteBuffer bufferForBody() {
+    return body == null ? null : body.duplicate();
   }
 
   public void setBody(byte[] body) {
+    setBody(body == null ? (ByteBuffer)null : ByteBuffer.wrap(body));
+  }
+
+  public void setBody(ByteBuffer body) {
     this.body = body;
   }
 
@@ -202,7 +232,40 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetBodyHash()) ? 131071 : 524287);
+    if (isSetBodyHash())
+      hashCode = hashCode * 8191 + bodyHash.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSize()) ? 131071 : 524287);
+    if (isSetSize())
+      hashCode = hashCode * 8191 + size;
+
+    hashCode = hashCode * 8191 + ((isSetBody()) ? 131071 : 524287);
+    if (isSetBody())
+      hashCode = hashCode * 8191 + body.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(Data other) {
@@ -245,6 +308,7 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -252,10 +316,15 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // BODY_HASH
           if (field.type == TType.STRING) {
-            this.bodyHash = iprot.readBytes();
+            this.bodyHash = iprot.readBinaryField();
           } else { 
             TProtocolUtil.skip(iprot, field.type);
           }
@@ -270,7 +339,7 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
           break;
         case 3: // BODY
           if (field.type == TType.STRING) {
-            this.body = iprot.readBytes();
+            this.body = iprot.readBinaryField();
           } else { 
             TProtocolUtil.skip(iprot, field.type);
           }
@@ -345,6 +414,19 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
     return sb.toString();
   }
 
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    out.defaultWriteObject();
+    out.writeObject(getBodyHash());
+    out.writeObject(getBody());
+  }
+
+  private void readObject(java.io.ObjectInputStream in)
+      throws java.io.IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    setBodyHash((byte[])in.readObject());
+    setBody((byte[])in.readObject());
+  }
+
   public void validate() throws TException {
     // check for required fields
   }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.edam.type;
+
+/**
+ * An EDAM GUID, such as {@code 0d6f2a3c-5ce4-4ae1-b7f4-2a8b6f1c2e3d}, packed into two
+ * longs instead of a 36 character string.
+ * <p>
+ * Only GUIDs matching {@link com.evernote.edam.limits.Constants#EDAM_GUID_REGEX} can
+ * be represented, i.e. 32 lower case hex digits in groups of 8-4-4-4-12, so
+ * {@link #toString()} returns exactly the string the GUID was parsed from. Ordering
+ * by {@link #compareTo(Guid)} is the same as ordering the strings.
+ * <p>
+ * Instances are immutable. See {@link GuidMap} and {@link GuidSet} for collections
+ * that store GUIDs without creating Guid objects.
+ */
+public final class Guid implements Comparable<Guid>, java.io.Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /** The length of the string form */
+  public static final int LENGTH = 36;
+
+  private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+  // value of each lower case hex digit, -1 for all other characters
+  private static final byte[] VALUES = new byte[128];
+
+  static {
+    for (int i = 0; i < VALUES.length; i++) {
+      VALUES[i] = -1;
+    }
+    for (int i = 0; i < DIGITS.length; i++) {
+      VALUES[DIGITS[i]] = (byte) i;
+    }
+  }
+
+  private final long mostSignificantBits;
+  private final long leastSignificantBits;
+
+  public Guid(long mostSignificantBits, long leastSignificantBits) {
+    this.mostSignificantBits = mostSignificantBits;
+    this.leastSignificantBits = leastSignificantBits;
+  }
+
+  /**
+   * @throws IllegalArgumentException if the string isn't a valid EDAM GUID
+   */
+  public static Guid parse(CharSequence guid) {
+    return new Guid(parseMostSignificantBits(guid), parseLeastSignificantBits(guid));
+  }
+
+  /**
+   * @return true if the string is a valid EDAM GUID
+   */
+  public static boolean isValid(CharSequence guid) {
+    if (guid == null || guid.length() != LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < LENGTH; i++) {
+      char c = guid.charAt(i);
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (c != '-') {
+          return false;
+        }
+      } else if (c >= VALUES.length || VALUES[c] < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the first 16 hex digits of the given GUID string
+   * @throws IllegalArgumentException if the string isn't a valid EDAM GUID
+   */
+  public static long parseMostSignificantBits(CharSequence guid) {
+    checkFormat(guid);
+    long bits = parseHex(guid, 0, 8);
+    bits = (bits << 16) | parseHex(guid, 9, 13);
+    return (bits << 16) | parseHex(guid, 14, 18);
+  }
+
+  /**
+   * @return the last 16 hex digits of the given GUID string
+   * @throws IllegalArgumentException if the string isn't a valid EDAM GUID
+   */
+  public static long parseLeastSignificantBits(CharSequence guid) {
+    checkFormat(guid);
+    long bits = parseHex(guid, 19, 23);
+    return (bits << 48) | parseHex(guid, 24, 36);
+  }
+
+  private static void checkFormat(CharSequence guid) {
+    if (guid == null) {
+      throw new IllegalArgumentException("GUID must not be null");
+    }
+    if (guid.length() != LENGTH || guid.charAt(8) != '-' || guid.charAt(13) != '-'
+        || guid.charAt(18) != '-' || guid.charAt(23) != '-') {
+      throw new IllegalArgumentException("Invalid GUID: " + guid);
+    }
+  }
+
+  private static long parseHex(CharSequence guid, int start, int end) {
+    long value = 0;
+    for (int i = start; i < end; i++) {
+      char c = guid.charAt(i);
+      int digit = c < VALUES.length ? VALUES[c] : -1;
+      if (digit < 0) {
+        throw new IllegalArgumentException("Invalid GUID: " + guid);
+      }
+      value = (value << 4) | digit;
+    }
+    return value;
+  }
+
+  /**
+   * Formats a GUID given as two longs.
+   */
+  public static String toString(long mostSignificantBits, long leastSignificantBits) {
+    char[] chars = new char[LENGTH];
+    formatHex(mostSignificantBits >>> 32, chars, 0, 8);
+    chars[8] = '-';
+    formatHex(mostSignificantBits >>> 16, chars, 9, 4);
+    chars[13] = '-';
+    formatHex(mostSignificantBits, chars, 14, 4);
+    chars[18] = '-';
+    formatHex(leastSignificantBits >>> 48, chars, 19, 4);
+    chars[23] = '-';
+    formatHex(leastSignificantBits, chars, 24, 12);
+    return new String(chars);
+  }
+
+  private static void formatHex(long value, char[] chars, int offset, int digits) {
+    for (int i = offset + digits - 1; i >= offset; i--) {
+      chars[i] = DIGITS[(int) value & 0xf];
+      value >>>= 4;
+    }
+  }
+
+  /**
+   * Hashes a GUID given as two longs, mixing all bits into the result.
+   */
+  public static int hashCode(long mostSignificantBits, long leastSignificantBits) {
+    long h = mostSignificantBits * 0x9e3779b97f4a7c15L + leastSignificantBits;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    return (int) h;
+  }
+
+  public long getMostSignificantBits() {
+    return mostSignificantBits;
+  }
+
+  public long getLeastSignificantBits() {
+    return leastSignificantBits;
+  }
+
+  public int compareTo(Guid other) {
+    int result = compareUnsigned(mostSignificantBits, other.mostSignificantBits);
+    if (result != 0) {
+      return result;
+    }
+    return compareUnsigned(leastSignificantBits, other.leastSignificantBits);
+  }
+
+  private static int compareUnsigned(long a, long b) {
+    a += Long.MIN_VALUE;
+    b += Long.MIN_VALUE;
+    return a < b ? -1 : (a == b ? 0 : 1);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof Guid)) {
+      return false;
+    }
+    Guid other = (Guid) obj;
+    return mostSignificantBits == other.mostSignificantBits
+        && leastSignificantBits == other.leastSignificantBits;
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode(mostSignificantBits, leastSignificantBits);
+  }
+
+  @Override
+  public String toString() {
+    return toString(mostSignificantBits, leastSignificantBits);
+  }
+}
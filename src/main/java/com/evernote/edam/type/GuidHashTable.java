@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.edam.type;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Open addressing hash table with linear probing, storing each GUID as two adjacent
+ * longs. Removal shifts the following entries back instead of leaving tombstones.
+ * Shared by {@link GuidMap} and {@link GuidSet}.
+ */
+abstract class GuidHashTable {
+
+  private static final int MIN_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  // the two halves of the GUID in slot i are at 2 * i and 2 * i + 1
+  private long[] keys;
+  private boolean[] used;
+  private Object[] values;
+  private final boolean hasValues;
+  private int size;
+  private int mask;
+  private int threshold;
+  private int modCount;
+
+  GuidHashTable(int expectedSize, boolean hasValues) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+    }
+    this.hasValues = hasValues;
+    int capacity = MIN_CAPACITY;
+    while (capacity < MAX_CAPACITY && capacity / 4 * 3 < expectedSize) {
+      capacity <<= 1;
+    }
+    allocate(capacity);
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity * 2];
+    used = new boolean[capacity];
+    values = hasValues ? new Object[capacity] : null;
+    mask = capacity - 1;
+    threshold = capacity / 4 * 3;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    for (int i = 0; i < used.length; i++) {
+      used[i] = false;
+    }
+    if (values != null) {
+      for (int i = 0; i < values.length; i++) {
+        values[i] = null;
+      }
+    }
+    size = 0;
+    modCount++;
+  }
+
+  /**
+   * @return the slot of the GUID, or <code>-(insertion slot + 1)</code> if it's not
+   *         in the table
+   */
+  final int find(long mostSignificantBits, long leastSignificantBits) {
+    int slot = Guid.hashCode(mostSignificantBits, leastSignificantBits) & mask;
+    while (used[slot]) {
+      if (keys[2 * slot] == mostSignificantBits
+          && keys[2 * slot + 1] == leastSignificantBits) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -(slot + 1);
+  }
+
+  /**
+   * Adds a GUID that {@link #find(long, long)} didn't find.
+   *
+   * @param notFound the result of find
+   * @return the slot of the new GUID
+   */
+  final int add(long mostSignificantBits, long leastSignificantBits, int notFound) {
+    if (size >= threshold) {
+      grow();
+      notFound = find(mostSignificantBits, leastSignificantBits);
+    }
+    int slot = -(notFound + 1);
+    used[slot] = true;
+    keys[2 * slot] = mostSignificantBits;
+    keys[2 * slot + 1] = leastSignificantBits;
+    size++;
+    modCount++;
+    return slot;
+  }
+
+  private void grow() {
+    if (used.length >= MAX_CAPACITY) {
+      throw new IllegalStateException("GUID table is full");
+    }
+    long[] oldKeys = keys;
+    boolean[] oldUsed = used;
+    Object[] oldValues = values;
+    allocate(used.length * 2);
+    for (int i = 0; i < oldUsed.length; i++) {
+      if (oldUsed[i]) {
+        int slot = -(find(oldKeys[2 * i], oldKeys[2 * i + 1]) + 1);
+        used[slot] = true;
+        keys[2 * slot] = oldKeys[2 * i];
+        keys[2 * slot + 1] = oldKeys[2 * i + 1];
+        if (oldValues != null) {
+          values[slot] = oldValues[i];
+        }
+      }
+    }
+  }
+
+  final void removeSlot(int slot) {
+    int gap = slot;
+    int next = (gap + 1) & mask;
+    while (used[next]) {
+      int home = Guid.hashCode(keys[2 * next], keys[2 * next + 1]) & mask;
+      // the entry can fill the gap if the gap lies between its home slot and its slot
+      if (((next - home) & mask) >= ((next - gap) & mask)) {
+        keys[2 * gap] = keys[2 * next];
+        keys[2 * gap + 1] = keys[2 * next + 1];
+        if (values != null) {
+          values[gap] = values[next];
+        }
+        gap = next;
+      }
+      next = (next + 1) & mask;
+    }
+    used[gap] = false;
+    if (values != null) {
+      values[gap] = null;
+    }
+    size--;
+    modCount++;
+  }
+
+  final Object valueAt(int slot) {
+    return values[slot];
+  }
+
+  final void setValueAt(int slot, Object value) {
+    values[slot] = value;
+  }
+
+  /**
+   * Iterates over the slots that hold a GUID. Modifying the table while iterating
+   * makes the iterator fail.
+   */
+  abstract class SlotIterator<T> implements Iterator<T> {
+    private final int expectedModCount = modCount;
+    private int next = advance(0);
+
+    private int advance(int from) {
+      while (from < used.length && !used[from]) {
+        from++;
+      }
+      return from;
+    }
+
+    public boolean hasNext() {
+      return next < used.length;
+    }
+
+    public T next() {
+      if (expectedModCount != modCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (next >= used.length) {
+        throw new NoSuchElementException();
+      }
+      int slot = next;
+      next = advance(slot + 1);
+      return get(slot, keys[2 * slot], keys[2 * slot + 1]);
+    }
+
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    abstract T get(int slot, long mostSignificantBits, long leastSignificantBits);
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.edam.type;
+
+import java.util.Iterator;
+
+/**
+ * A map from GUIDs to values that stores the GUIDs as pairs of longs in an open
+ * addressing hash table, without a {@link Guid}, String or entry object per key.
+ * Keys can be given as {@link Guid}s, as strings, or as the two longs of a Guid.
+ * <p>
+ * Null values aren't supported. This class is not thread safe.
+ */
+public class GuidMap<V> extends GuidHashTable {
+
+  public GuidMap() {
+    this(0);
+  }
+
+  /**
+   * @param expectedSize the number of entries the map can hold without growing
+   */
+  public GuidMap(int expectedSize) {
+    super(expectedSize, true);
+  }
+
+  /**
+   * @return the value for the GUID, or null if the map doesn't contain it
+   */
+  @SuppressWarnings("unchecked")
+  public V get(long mostSignificantBits, long leastSignificantBits) {
+    int slot = find(mostSignificantBits, leastSignificantBits);
+    return slot < 0 ? null : (V) valueAt(slot);
+  }
+
+  public V get(Guid guid) {
+    return get(guid.getMostSignificantBits(), guid.getLeastSignificantBits());
+  }
+
+  /**
+   * @throws IllegalArgumentException if the string isn't a valid EDAM GUID
+   */
+  public V get(String guid) {
+    return get(Guid.parseMostSignificantBits(guid), Guid.parseLeastSignificantBits(guid));
+  }
+
+  public boolean containsKey(long mostSignificantBits, long leastSignificantBits) {
+    return find(mostSignificantBits, leastSignificantBits) >= 0;
+  }
+
+  public boolean containsKey(Guid guid) {
+    return containsKey(guid.getMostSignificantBits(), guid.getLeastSignificantBits());
+  }
+
+  /**
+   * @throws IllegalArgumentException if the string isn't a valid EDAM GUID
+   */
+  public boolean containsKey(String guid) {
+    return containsKey(Guid.parseMostSignificantBits(guid),
+        Guid.parseLeastSignificantBits(guid));
+  }
+
+  /**
+   * @return the previous value for the GUID, or null if there was none
+   */
+  @SuppressWarnings("unchecked")
+  public V put(long mostSignificantBits, long leastSignificantBits, V value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Null values aren't supported");
+    }
+    int slot = find(mostSignificantBits, leastSignificantBits);
+    if (slot >= 0) {
+      V previous = (V) valueAt(slot);
+      setValueAt(slot, value);
+      return previous;
+    }
+    slot = add(mostSignificantBits, leastSignificantBits, slot);
+    setValueAt(slot, value);
+    return null;
+  }
+
+  public V put(Guid guid, V value) {
+    return put(guid.getMostSignificantBits(), guid.getLeastSignificantBits(), value);
+  }
+
+  /**
+   * @throws IllegalArgumentException if the string isn't a valid EDAM GUID
+   */
+  public V put(String guid, V value) {
+    return put(Guid.parseMostSignificantBits(guid), Guid.parseLeastSignificantBits(guid),
+        value);
+  }
+
+  /**
+   * @return the removed value, or null if the map didn't contain the GUID
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(long mostSignificantBits, long leastSignificantBits) {
+    int slot = find(mostSignificantBits, leastSignificantBits);
+    if (slot < 0) {
+      return null;
+    }
+    V previous = (V) valueAt(slot);
+    removeSlot(slot);
+    return previous;
+  }
+
+  public V remove(Guid guid) {
+    return remove(guid.getMostSignificantBits(), guid.getLeastSignificantBits());
+  }
+
+  /**
+   * @throws IllegalArgumentException if the string isn't a valid EDAM GUID
+   */
+  public V remove(String guid) {
+    return remove(Guid.parseMostSignificantBits(guid),
+        Guid.parseLeastSignificantBits(guid));
+  }
+
+  /**
+   * @return the keys of the map, in no particular order
+   */
+  public Iterator<Guid> keyIterator() {
+    return new SlotIterator<Guid>() {
+      @Override
+      Guid get(int slot, long mostSignificantBits, long leastSignificantBits) {
+        return new Guid(mostSignificantBits, leastSignificantBits);
+      }
+    };
+  }
+
+  /**
+   * @return the values of the map, in the same order as {@link #keyIterator()}
+   */
+  public Iterator<V> valueIterator() {
+    return new SlotIterator<V>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      V get(int slot, long mostSignificantBits, long leastSignificantBits) {
+        return (V) valueAt(slot);
+      }
+    };
+  }
+}
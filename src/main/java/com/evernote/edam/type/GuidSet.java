@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.edam.type;
+
+import java.util.Iterator;
+
+/**
+ * A set of GUIDs that stores them as pairs of longs in an open addressing hash
+ * table, without a {@link Guid} or String object per element. GUIDs can be given as
+ * {@link Guid}s, as strings, or as the two longs of a Guid.
+ * <p>
+ * This class is not thread safe.
+ */
+public class GuidSet extends GuidHashTable implements Iterable<Guid> {
+
+  public GuidSet() {
+    this(0);
+  }
+
+  /**
+   * @param expectedSize the number of GUIDs the set can hold without growing
+   */
+  public GuidSet(int expectedSize) {
+    super(expectedSize, false);
+  }
+
+  public boolean contains(long mostSignificantBits, long leastSignificantBits) {
+    return find(mostSignificantBits, leastSignificantBits) >= 0;
+  }
+
+  public boolean contains(Guid guid) {
+    return contains(guid.getMostSignificantBits(), guid.getLeastSignificantBits());
+  }
+
+  /**
+   * @throws IllegalArgumentException if the string isn't a valid EDAM GUID
+   */
+  public boolean contains(String guid) {
+    return contains(Guid.parseMostSignificantBits(guid),
+        Guid.parseLeastSignificantBits(guid));
+  }
+
+  /**
+   * @return true if the GUID wasn't in the set yet
+   */
+  public boolean add(long mostSignificantBits, long leastSignificantBits) {
+    int slot = find(mostSignificantBits, leastSignificantBits);
+    if (slot >= 0) {
+      return false;
+    }
+    add(mostSignificantBits, leastSignificantBits, slot);
+    return true;
+  }
+
+  public boolean add(Guid guid) {
+    return add(guid.getMostSignificantBits(), guid.getLeastSignificantBits());
+  }
+
+  /**
+   * @throws IllegalArgumentException if the string isn't a valid EDAM GUID
+   */
+  public boolean add(String guid) {
+    return add(Guid.parseMostSignificantBits(guid), Guid.parseLeastSignificantBits(guid));
+  }
+
+  /**
+   * @return true if the GUID was in the set
+   */
+  public boolean remove(long mostSignificantBits, long leastSignificantBits) {
+    int slot = find(mostSignificantBits, leastSignificantBits);
+    if (slot < 0) {
+      return false;
+    }
+    removeSlot(slot);
+    return true;
+  }
+
+  public boolean remove(Guid guid) {
+    return remove(guid.getMostSignificantBits(), guid.getLeastSignificantBits());
+  }
+
+  /**
+   * @throws IllegalArgumentException if the string isn't a valid EDAM GUID
+   */
+  public boolean remove(String guid) {
+    return remove(Guid.parseMostSignificantBits(guid),
+        Guid.parseLeastSignificantBits(guid));
+  }
+
+  /**
+   * @return the GUIDs of the set, in no particular order
+   */
+  public Iterator<Guid> iterator() {
+    return new SlotIterator<Guid>() {
+      @Override
+      Guid get(int slot, long mostSignificantBits, long leastSignificantBits) {
+        return new Guid(mostSignificantBits, leastSignificantBits);
+      }
+    };
+  }
+}
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -56,6 +57,10 @@ public class LazyMap implements TBase<LazyMap>, java.io.Serializable, Cloneable
 
   // isset id assignments
 
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
+
   public LazyMap() {
   }
 
@@ -92,6 +97,8 @@ public class LazyMap implements TBase<LazyMap>, java.io.Serializable, Cloneable
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.keysOnly = null;
     this.fullMap = null;
   }
@@ -204,7 +211,36 @@ public class LazyMap implements TBase<LazyMap>, java.io.Serializable, Cloneable
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetKeysOnly()) ? 131071 : 524287);
+    if (isSetKeysOnly())
+      hashCode = hashCode * 8191 + keysOnly.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetFullMap()) ? 131071 : 524287);
+    if (isSetFullMap())
+      hashCode = hashCode * 8191 + fullMap.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(LazyMap other) {
@@ -238,6 +274,7 @@ public class LazyMap implements TBase<LazyMap>, java.io.Serializable, Cloneable
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -245,6 +282,11 @@ public class LazyMap implements TBase<LazyMap>, java.io.Serializable, Cloneable
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // KEYS_ONLY
           if (field.type == TType.SET) {
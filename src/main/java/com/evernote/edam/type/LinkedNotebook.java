@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -118,7 +119,11 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
   // isset id assignments
   private static final int __UPDATESEQUENCENUM_ISSET_ID = 0;
   private static final int __BUSINESSID_ISSET_ID = 1;
-  private boolean[] __isset_vector = new boolean[2];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public LinkedNotebook() {
   }
@@ -127,7 +132,7 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
    * Performs a deep copy on <i>other</i>.
    */
   public LinkedNotebook(LinkedNotebook other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetShareName()) {
       this.shareName = other.shareName;
     }
@@ -164,6 +169,8 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.shareName = null;
     this.username = null;
     this.shardId = null;
@@ -327,16 +334,16 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
   }
 
   public void unsetUpdateSequenceNum() {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateSequenceNum() {
-    return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public String getNoteStoreUrl() {
@@ -418,16 +425,16 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
   }
 
   public void unsetBusinessId() {
-    __isset_vector[__BUSINESSID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BUSINESSID_ISSET_ID);
   }
 
   /** Returns true if field businessId is set (has been asigned a value) and false otherwise */
   public boolean isSetBusinessId() {
-    return __isset_vector[__BUSINESSID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __BUSINESSID_ISSET_ID);
   }
 
   public void setBusinessIdIsSet(boolean value) {
-    __isset_vector[__BUSINESSID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BUSINESSID_ISSET_ID, value);
   }
 
   @Override
@@ -547,7 +554,72 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetShareName()) ? 131071 : 524287);
+    if (isSetShareName())
+      hashCode = hashCode * 8191 + shareName.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetUsername()) ? 131071 : 524287);
+    if (isSetUsername())
+      hashCode = hashCode * 8191 + username.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetShardId()) ? 131071 : 524287);
+    if (isSetShardId())
+      hashCode = hashCode * 8191 + shardId.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetShareKey()) ? 131071 : 524287);
+    if (isSetShareKey())
+      hashCode = hashCode * 8191 + shareKey.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetUri()) ? 131071 : 524287);
+    if (isSetUri())
+      hashCode = hashCode * 8191 + uri.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetGuid()) ? 131071 : 524287);
+    if (isSetGuid())
+      hashCode = hashCode * 8191 + guid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetUpdateSequenceNum()) ? 131071 : 524287);
+    if (isSetUpdateSequenceNum())
+      hashCode = hashCode * 8191 + updateSequenceNum;
+
+    hashCode = hashCode * 8191 + ((isSetNoteStoreUrl()) ? 131071 : 524287);
+    if (isSetNoteStoreUrl())
+      hashCode = hashCode * 8191 + noteStoreUrl.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetWebApiUrlPrefix()) ? 131071 : 524287);
+    if (isSetWebApiUrlPrefix())
+      hashCode = hashCode * 8191 + webApiUrlPrefix.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetStack()) ? 131071 : 524287);
+    if (isSetStack())
+      hashCode = hashCode * 8191 + stack.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetBusinessId()) ? 131071 : 524287);
+    if (isSetBusinessId())
+      hashCode = hashCode * 8191 + businessId;
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(LinkedNotebook other) {
@@ -662,6 +734,7 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -669,6 +742,11 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 2: // SHARE_NAME
           if (field.type == TType.STRING) {
@@ -11,6 +11,8 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
+import java.nio.ByteBuffer;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -144,7 +146,7 @@ import com.evernote.thrift.protocol.*;
  *   </dd>
  * </dl>
  */
-public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
+public class Note implements TBase<Note>, java.io.Serializable, Cloneable, TRecyclable {
   private static final TStruct STRUCT_DESC = new TStruct("Note");
 
   private static final TField GUID_FIELD_DESC = new TField("guid", TType.STRING, (short)1);
@@ -166,7 +168,7 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   private String guid;
   private String title;
   private String content;
-  private byte[] contentHash;
+  private transient ByteBuffer contentHash;
   private int contentLength;
   private long created;
   private long updated;
@@ -179,6 +181,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   private NoteAttributes attributes;
   private List<String> tagNames;
 
+  // encoded values that are decoded on first access, see TProtocol#setLazyDecoding
+  private transient TLazySlice resourcesSlice;
+  private transient TLazySlice attributesSlice;
+
+  // the values created by read(), which recycle() keeps for the next read to refill
+  private transient List<String> tagGuidsOwned;
+  private transient List<Resource> resourcesOwned;
+  private transient NoteAttributes attributesOwned;
+  private transient List<String> tagNamesOwned;
+  private transient boolean __recycled;
 
   // isset id assignments
   private static final int __CONTENTLENGTH_ISSET_ID = 0;
@@ -187,7 +199,11 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   private static final int __DELETED_ISSET_ID = 3;
   private static final int __ACTIVE_ISSET_ID = 4;
   private static final int __UPDATESEQUENCENUM_ISSET_ID = 5;
-  private boolean[] __isset_vector = new boolean[6];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public Note() {
   }
@@ -196,7 +212,8 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
    * Performs a deep copy on <i>other</i>.
    */
   public Note(Note other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    other.decodeLazyFields();
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetGuid()) {
       this.guid = other.guid;
     }
@@ -207,8 +224,7 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
       this.content = other.content;
     }
     if (other.isSetContentHash()) {
-      this.contentHash = new byte[other.contentHash.length];
-      System.arraycopy(other.contentHash, 0, contentHash, 0, other.contentHash.length);
+      this.contentHash = TBaseHelper.copyBinary(other.contentHash);
     }
     this.contentLength = other.contentLength;
     this.created = other.created;
@@ -250,6 +266,10 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
+    this.resourcesSlice = null;
+    this.attributesSlice = null;
     this.guid = null;
     this.title = null;
     this.content = null;
@@ -271,6 +291,45 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
     this.resources = null;
     this.attributes = null;
     this.tagNames = null;
+    this.tagGuidsOwned = null;
+    this.resourcesOwned = null;
+    this.attributesOwned = null;
+    this.tagNamesOwned = null;
+    __recycled = false;
+  }
+
+  /**
+   * Clears this note like {@link #clear()}, but keeps the tag lists, resources and
+   * attributes created by {@link #read(TProtocol)} for the next read to refill, see
+   * {@link TRecyclable}.
+   */
+  public void recycle() {
+    List<String> tagGuids = this.tagGuids == this.tagGuidsOwned ? this.tagGuids : null;
+    List<Resource> resources = this.resources == this.resourcesOwned ? this.resources
+        : null;
+    NoteAttributes attributes = this.attributes == this.attributesOwned ? this.attributes
+        : null;
+    List<String> tagNames = this.tagNames == this.tagNamesOwned ? this.tagNames : null;
+    clear();
+    if (tagGuids != null) {
+      tagGuids.clear();
+      this.tagGuidsOwned = tagGuids;
+    }
+    if (resources != null) {
+      for (Resource resource : resources) {
+        resource.recycle();
+      }
+      this.resourcesOwned = resources;
+    }
+    if (attributes != null) {
+      attributes.clear();
+      this.attributesOwned = attributes;
+    }
+    if (tagNames != null) {
+      tagNames.clear();
+      this.tagNamesOwned = tagNames;
+    }
+    __recycled = true;
   }
 
   public String getGuid() {
@@ -343,10 +402,22 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public byte[] getContentHash() {
-    return this.contentHash;
+    setContentHash(TBaseHelper.rightSize(contentHash));
+    return contentHash == null ? null : contentHash.array();
+  }
+
+  /**
+   * @return a view of contentHash, which may share memory with the buffer it was read from
+   */
+  public ByteBuffer bufferForContentHash() {
+    return contentHash == null ? null : contentHash.duplicate();
   }
 
   public void setContentHash(byte[] contentHash) {
+    setContentHash(contentHash == null ? (ByteBuffer)null : ByteBuffer.wrap(contentHash));
+  }
+
+  public void setContentHash(ByteBuffer contentHash) {
     this.contentHash = contentHash;
   }
 
@@ -375,16 +446,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void unsetContentLength() {
-    __isset_vector[__CONTENTLENGTH_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID);
   }
 
   /** Returns true if field contentLength is set (has been asigned a value) and false otherwise */
   public boolean isSetContentLength() {
-    return __isset_vector[__CONTENTLENGTH_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID);
   }
 
   public void setContentLengthIsSet(boolean value) {
-    __isset_vector[__CONTENTLENGTH_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID, value);
   }
 
   public long getCreated() {
@@ -397,16 +468,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void unsetCreated() {
-    __isset_vector[__CREATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CREATED_ISSET_ID);
   }
 
   /** Returns true if field created is set (has been asigned a value) and false otherwise */
   public boolean isSetCreated() {
-    return __isset_vector[__CREATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CREATED_ISSET_ID);
   }
 
   public void setCreatedIsSet(boolean value) {
-    __isset_vector[__CREATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CREATED_ISSET_ID, value);
   }
 
   public long getUpdated() {
@@ -419,16 +490,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void unsetUpdated() {
-    __isset_vector[__UPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   /** Returns true if field updated is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdated() {
-    return __isset_vector[__UPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   public void setUpdatedIsSet(boolean value) {
-    __isset_vector[__UPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATED_ISSET_ID, value);
   }
 
   public long getDeleted() {
@@ -441,16 +512,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void unsetDeleted() {
-    __isset_vector[__DELETED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DELETED_ISSET_ID);
   }
 
   /** Returns true if field deleted is set (has been asigned a value) and false otherwise */
   public boolean isSetDeleted() {
-    return __isset_vector[__DELETED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DELETED_ISSET_ID);
   }
 
   public void setDeletedIsSet(boolean value) {
-    __isset_vector[__DELETED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DELETED_ISSET_ID, value);
   }
 
   public boolean isActive() {
@@ -463,16 +534,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void unsetActive() {
-    __isset_vector[__ACTIVE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ACTIVE_ISSET_ID);
   }
 
   /** Returns true if field active is set (has been asigned a value) and false otherwise */
   public boolean isSetActive() {
-    return __isset_vector[__ACTIVE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ACTIVE_ISSET_ID);
   }
 
   public void setActiveIsSet(boolean value) {
-    __isset_vector[__ACTIVE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ACTIVE_ISSET_ID, value);
   }
 
   public int getUpdateSequenceNum() {
@@ -485,16 +556,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void unsetUpdateSequenceNum() {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateSequenceNum() {
-    return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public String getNotebookGuid() {
@@ -559,14 +630,17 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public int getResourcesSize() {
+    decodeResources();
     return (this.resources == null) ? 0 : this.resources.size();
   }
 
   public java.util.Iterator<Resource> getResourcesIterator() {
+    decodeResources();
     return (this.resources == null) ? null : this.resources.iterator();
   }
 
   public void addToResources(Resource elem) {
+    decodeResources();
     if (this.resources == null) {
       this.resources = new ArrayList<Resource>();
     }
@@ -574,48 +648,56 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public List<Resource> getResources() {
+    decodeResources();
     return this.resources;
   }
 
   public void setResources(List<Resource> resources) {
+    this.resourcesSlice = null;
     this.resources = resources;
   }
 
   public void unsetResources() {
+    this.resourcesSlice = null;
     this.resources = null;
   }
 
   /** Returns true if field resources is set (has been asigned a value) and false otherwise */
   public boolean isSetResources() {
-    return this.resources != null;
+    return this.resources != null || this.resourcesSlice != null;
   }
 
   public void setResourcesIsSet(boolean value) {
     if (!value) {
       this.resources = null;
+      this.resourcesSlice = null;
     }
   }
 
   public NoteAttributes getAttributes() {
+    decodeAttributes();
     return this.attributes;
   }
 
   public void setAttributes(NoteAttributes attributes) {
+    this.attributesSlice = null;
     this.attributes = attributes;
   }
 
   public void unsetAttributes() {
+    this.attributesSlice = null;
     this.attributes = null;
   }
 
   /** Returns true if field attributes is set (has been asigned a value) and false otherwise */
   public boolean isSetAttributes() {
-    return this.attributes != null;
+    return this.attributes != null || this.attributesSlice != null;
   }
 
   public void setAttributesIsSet(boolean value) {
     if (!value) {
       this.attributes = null;
+      this.attributesSlice = null;
     }
   }
 
@@ -669,6 +751,8 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   public boolean equals(Note that) {
     if (that == null)
       return false;
+    this.decodeLazyFields();
+    that.decodeLazyFields();
 
     boolean this_present_guid = true && this.isSetGuid();
     boolean that_present_guid = true && that.isSetGuid();
@@ -810,7 +894,89 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    decodeLazyFields();
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetGuid()) ? 131071 : 524287);
+    if (isSetGuid())
+      hashCode = hashCode * 8191 + guid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTitle()) ? 131071 : 524287);
+    if (isSetTitle())
+      hashCode = hashCode * 8191 + title.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetContent()) ? 131071 : 524287);
+    if (isSetContent())
+      hashCode = hashCode * 8191 + content.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetContentHash()) ? 131071 : 524287);
+    if (isSetContentHash())
+      hashCode = hashCode * 8191 + contentHash.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetContentLength()) ? 131071 : 524287);
+    if (isSetContentLength())
+      hashCode = hashCode * 8191 + contentLength;
+
+    hashCode = hashCode * 8191 + ((isSetCreated()) ? 131071 : 524287);
+    if (isSetCreated())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(created);
+
+    hashCode = hashCode * 8191 + ((isSetUpdated()) ? 131071 : 524287);
+    if (isSetUpdated())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(updated);
+
+    hashCode = hashCode * 8191 + ((isSetDeleted()) ? 131071 : 524287);
+    if (isSetDeleted())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(deleted);
+
+    hashCode = hashCode * 8191 + ((isSetActive()) ? 131071 : 524287);
+    if (isSetActive())
+      hashCode = hashCode * 8191 + (active ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetUpdateSequenceNum()) ? 131071 : 524287);
+    if (isSetUpdateSequenceNum())
+      hashCode = hashCode * 8191 + updateSequenceNum;
+
+    hashCode = hashCode * 8191 + ((isSetNotebookGuid()) ? 131071 : 524287);
+    if (isSetNotebookGuid())
+      hashCode = hashCode * 8191 + notebookGuid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTagGuids()) ? 131071 : 524287);
+    if (isSetTagGuids())
+      hashCode = hashCode * 8191 + tagGuids.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetResources()) ? 131071 : 524287);
+    if (isSetResources())
+      hashCode = hashCode * 8191 + resources.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetAttributes()) ? 131071 : 524287);
+    if (isSetAttributes())
+      hashCode = hashCode * 8191 + attributes.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTagNames()) ? 131071 : 524287);
+    if (isSetTagNames())
+      hashCode = hashCode * 8191 + tagNames.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(Note other) {
@@ -820,6 +986,8 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
 
     int lastComparison = 0;
     Note typedOther = (Note)other;
+    this.decodeLazyFields();
+    typedOther.decodeLazyFields();
 
     lastComparison = Boolean.valueOf(isSetGuid()).compareTo(typedOther.isSetGuid());
     if (lastComparison != 0) {
@@ -961,6 +1129,7 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -968,6 +1137,11 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // GUID
           if (field.type == TType.STRING) {
@@ -992,7 +1166,7 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
           break;
         case 4: // CONTENT_HASH
           if (field.type == TType.STRING) {
-            this.contentHash = iprot.readBytes();
+            this.contentHash = iprot.readBinaryField();
           } else { 
             TProtocolUtil.skip(iprot, field.type);
           }
@@ -1056,7 +1230,9 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
           if (field.type == TType.LIST) {
             {
               TList _list22 = iprot.readListBegin();
-              this.tagGuids = new ArrayList<String>(_list22.size);
+              this.tagGuids = __recycled && this.tagGuidsOwned != null
+                  ? this.tagGuidsOwned : new ArrayList<String>(_list22.size);
+              this.tagGuidsOwned = this.tagGuids;
               for (int _i23 = 0; _i23 < _list22.size; ++_i23)
               {
                 String _elem24;
@@ -1071,17 +1247,9 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
           break;
         case 13: // RESOURCES
           if (field.type == TType.LIST) {
-            {
-              TList _list25 = iprot.readListBegin();
-              this.resources = new ArrayList<Resource>(_list25.size);
-              for (int _i26 = 0; _i26 < _list25.size; ++_i26)
-              {
-                Resource _elem27;
-                _elem27 = new Resource();
-                _elem27.read(iprot);
-                this.resources.add(_elem27);
-              }
-              iprot.readListEnd();
+            this.resourcesSlice = iprot.readLazySlice(field.type);
+            if (this.resourcesSlice == null) {
+              readResources(iprot);
             }
           } else { 
             TProtocolUtil.skip(iprot, field.type);
@@ -1089,8 +1257,10 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
           break;
         case 14: // ATTRIBUTES
           if (field.type == TType.STRUCT) {
-            this.attributes = new NoteAttributes();
-            this.attributes.read(iprot);
+            this.attributesSlice = iprot.readLazySlice(field.type);
+            if (this.attributesSlice == null) {
+              readAttributes(iprot);
+            }
           } else { 
             TProtocolUtil.skip(iprot, field.type);
           }
@@ -1099,7 +1269,9 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
           if (field.type == TType.LIST) {
             {
               TList _list28 = iprot.readListBegin();
-              this.tagNames = new ArrayList<String>(_list28.size);
+              this.tagNames = __recycled && this.tagNamesOwned != null
+                  ? this.tagNamesOwned : new ArrayList<String>(_list28.size);
+              this.tagNamesOwned = this.tagNames;
               for (int _i29 = 0; _i29 < _list28.size; ++_i29)
               {
                 String _elem30;
@@ -1118,10 +1290,12 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
       iprot.readFieldEnd();
     }
     iprot.readStructEnd();
+    __recycled = false;
     validate();
   }
 
   public void write(TProtocol oprot) throws TException {
+    decodeLazyFields();
     validate();
 
     oprot.writeStructBegin(STRUCT_DESC);
@@ -1245,6 +1419,7 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
 
   @Override
   public String toString() {
+    decodeLazyFields();
     StringBuilder sb = new StringBuilder("Note(");
     boolean first = true;
 
@@ -1377,6 +1552,81 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
     return sb.toString();
   }
 
+  private void decodeLazyFields() {
+    decodeResources();
+    decodeAttributes();
+  }
+
+  private void decodeResources() {
+    if (this.resourcesSlice != null) {
+      TProtocol iprot = this.resourcesSlice.getProtocol();
+      this.resourcesSlice = null;
+      try {
+        readResources(iprot);
+      } catch (TException e) {
+        throw new IllegalStateException("Failed to decode Note.resources", e);
+      }
+    }
+  }
+
+  private void decodeAttributes() {
+    if (this.attributesSlice != null) {
+      TProtocol iprot = this.attributesSlice.getProtocol();
+      this.attributesSlice = null;
+      try {
+        readAttributes(iprot);
+      } catch (TException e) {
+        throw new IllegalStateException("Failed to decode Note.attributes", e);
+      }
+    }
+  }
+
+  private void readResources(TProtocol iprot) throws TException {
+    {
+      TList _list25 = iprot.readListBegin();
+      // a recycled list still holds its recycled resources, which are read into again
+      this.resources = __recycled && this.resourcesOwned != null
+          ? this.resourcesOwned : new ArrayList<Resource>(_list25.size);
+      this.resourcesOwned = this.resources;
+      int _reused = this.resources.size();
+      for (int _i26 = 0; _i26 < _list25.size; ++_i26)
+      {
+        Resource _elem27;
+        if (_i26 < _reused) {
+          _elem27 = this.resources.get(_i26);
+          _elem27.read(iprot);
+        } else {
+          _elem27 = new Resource();
+          _elem27.read(iprot);
+          this.resources.add(_elem27);
+        }
+      }
+      while (this.resources.size() > _list25.size) {
+        this.resources.remove(this.resources.size() - 1);
+      }
+      iprot.readListEnd();
+    }
+  }
+
+  private void readAttributes(TProtocol iprot) throws TException {
+    this.attributes = __recycled && this.attributesOwned != null ? this.attributesOwned
+        : new NoteAttributes();
+    this.attributesOwned = this.attributes;
+    this.attributes.read(iprot);
+  }
+
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    decodeLazyFields();
+    out.defaultWriteObject();
+    out.writeObject(getContentHash());
+  }
+
+  private void readObject(java.io.ObjectInputStream in)
+      throws java.io.IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    setContentHash((byte[])in.readObject());
+  }
+
   public void validate() throws TException {
     // check for required fields
   }
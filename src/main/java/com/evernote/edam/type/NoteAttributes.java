@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -242,7 +243,11 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   private static final int __REMINDERTIME_ISSET_ID = 7;
   private static final int __CREATORID_ISSET_ID = 8;
   private static final int __LASTEDITORID_ISSET_ID = 9;
-  private boolean[] __isset_vector = new boolean[10];
+  private short __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public NoteAttributes() {
   }
@@ -251,7 +256,7 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
    * Performs a deep copy on <i>other</i>.
    */
   public NoteAttributes(NoteAttributes other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.subjectDate = other.subjectDate;
     this.latitude = other.latitude;
     this.longitude = other.longitude;
@@ -308,6 +313,8 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setSubjectDateIsSet(false);
     this.subjectDate = 0;
     setLatitudeIsSet(false);
@@ -349,16 +356,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetSubjectDate() {
-    __isset_vector[__SUBJECTDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUBJECTDATE_ISSET_ID);
   }
 
   /** Returns true if field subjectDate is set (has been asigned a value) and false otherwise */
   public boolean isSetSubjectDate() {
-    return __isset_vector[__SUBJECTDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SUBJECTDATE_ISSET_ID);
   }
 
   public void setSubjectDateIsSet(boolean value) {
-    __isset_vector[__SUBJECTDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUBJECTDATE_ISSET_ID, value);
   }
 
   public double getLatitude() {
@@ -371,16 +378,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetLatitude() {
-    __isset_vector[__LATITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LATITUDE_ISSET_ID);
   }
 
   /** Returns true if field latitude is set (has been asigned a value) and false otherwise */
   public boolean isSetLatitude() {
-    return __isset_vector[__LATITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LATITUDE_ISSET_ID);
   }
 
   public void setLatitudeIsSet(boolean value) {
-    __isset_vector[__LATITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LATITUDE_ISSET_ID, value);
   }
 
   public double getLongitude() {
@@ -393,16 +400,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetLongitude() {
-    __isset_vector[__LONGITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LONGITUDE_ISSET_ID);
   }
 
   /** Returns true if field longitude is set (has been asigned a value) and false otherwise */
   public boolean isSetLongitude() {
-    return __isset_vector[__LONGITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LONGITUDE_ISSET_ID);
   }
 
   public void setLongitudeIsSet(boolean value) {
-    __isset_vector[__LONGITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LONGITUDE_ISSET_ID, value);
   }
 
   public double getAltitude() {
@@ -415,16 +422,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetAltitude() {
-    __isset_vector[__ALTITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ALTITUDE_ISSET_ID);
   }
 
   /** Returns true if field altitude is set (has been asigned a value) and false otherwise */
   public boolean isSetAltitude() {
-    return __isset_vector[__ALTITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ALTITUDE_ISSET_ID);
   }
 
   public void setAltitudeIsSet(boolean value) {
-    __isset_vector[__ALTITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ALTITUDE_ISSET_ID, value);
   }
 
   public String getAuthor() {
@@ -529,16 +536,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetShareDate() {
-    __isset_vector[__SHAREDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SHAREDATE_ISSET_ID);
   }
 
   /** Returns true if field shareDate is set (has been asigned a value) and false otherwise */
   public boolean isSetShareDate() {
-    return __isset_vector[__SHAREDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SHAREDATE_ISSET_ID);
   }
 
   public void setShareDateIsSet(boolean value) {
-    __isset_vector[__SHAREDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SHAREDATE_ISSET_ID, value);
   }
 
   public long getReminderOrder() {
@@ -551,16 +558,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetReminderOrder() {
-    __isset_vector[__REMINDERORDER_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REMINDERORDER_ISSET_ID);
   }
 
   /** Returns true if field reminderOrder is set (has been asigned a value) and false otherwise */
   public boolean isSetReminderOrder() {
-    return __isset_vector[__REMINDERORDER_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REMINDERORDER_ISSET_ID);
   }
 
   public void setReminderOrderIsSet(boolean value) {
-    __isset_vector[__REMINDERORDER_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REMINDERORDER_ISSET_ID, value);
   }
 
   public long getReminderDoneTime() {
@@ -573,16 +580,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetReminderDoneTime() {
-    __isset_vector[__REMINDERDONETIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REMINDERDONETIME_ISSET_ID);
   }
 
   /** Returns true if field reminderDoneTime is set (has been asigned a value) and false otherwise */
   public boolean isSetReminderDoneTime() {
-    return __isset_vector[__REMINDERDONETIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REMINDERDONETIME_ISSET_ID);
   }
 
   public void setReminderDoneTimeIsSet(boolean value) {
-    __isset_vector[__REMINDERDONETIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REMINDERDONETIME_ISSET_ID, value);
   }
 
   public long getReminderTime() {
@@ -595,16 +602,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetReminderTime() {
-    __isset_vector[__REMINDERTIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REMINDERTIME_ISSET_ID);
   }
 
   /** Returns true if field reminderTime is set (has been asigned a value) and false otherwise */
   public boolean isSetReminderTime() {
-    return __isset_vector[__REMINDERTIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REMINDERTIME_ISSET_ID);
   }
 
   public void setReminderTimeIsSet(boolean value) {
-    __isset_vector[__REMINDERTIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REMINDERTIME_ISSET_ID, value);
   }
 
   public String getPlaceName() {
@@ -743,16 +750,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetCreatorId() {
-    __isset_vector[__CREATORID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CREATORID_ISSET_ID);
   }
 
   /** Returns true if field creatorId is set (has been asigned a value) and false otherwise */
   public boolean isSetCreatorId() {
-    return __isset_vector[__CREATORID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CREATORID_ISSET_ID);
   }
 
   public void setCreatorIdIsSet(boolean value) {
-    __isset_vector[__CREATORID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CREATORID_ISSET_ID, value);
   }
 
   public int getLastEditorId() {
@@ -765,16 +772,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetLastEditorId() {
-    __isset_vector[__LASTEDITORID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LASTEDITORID_ISSET_ID);
   }
 
   /** Returns true if field lastEditorId is set (has been asigned a value) and false otherwise */
   public boolean isSetLastEditorId() {
-    return __isset_vector[__LASTEDITORID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LASTEDITORID_ISSET_ID);
   }
 
   public void setLastEditorIdIsSet(boolean value) {
-    __isset_vector[__LASTEDITORID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LASTEDITORID_ISSET_ID, value);
   }
 
   @Override
@@ -966,7 +973,104 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetSubjectDate()) ? 131071 : 524287);
+    if (isSetSubjectDate())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(subjectDate);
+
+    hashCode = hashCode * 8191 + ((isSetLatitude()) ? 131071 : 524287);
+    if (isSetLatitude())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(latitude);
+
+    hashCode = hashCode * 8191 + ((isSetLongitude()) ? 131071 : 524287);
+    if (isSetLongitude())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(longitude);
+
+    hashCode = hashCode * 8191 + ((isSetAltitude()) ? 131071 : 524287);
+    if (isSetAltitude())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(altitude);
+
+    hashCode = hashCode * 8191 + ((isSetAuthor()) ? 131071 : 524287);
+    if (isSetAuthor())
+      hashCode = hashCode * 8191 + author.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSource()) ? 131071 : 524287);
+    if (isSetSource())
+      hashCode = hashCode * 8191 + source.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSourceURL()) ? 131071 : 524287);
+    if (isSetSourceURL())
+      hashCode = hashCode * 8191 + sourceURL.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSourceApplication()) ? 131071 : 524287);
+    if (isSetSourceApplication())
+      hashCode = hashCode * 8191 + sourceApplication.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetShareDate()) ? 131071 : 524287);
+    if (isSetShareDate())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(shareDate);
+
+    hashCode = hashCode * 8191 + ((isSetReminderOrder()) ? 131071 : 524287);
+    if (isSetReminderOrder())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(reminderOrder);
+
+    hashCode = hashCode * 8191 + ((isSetReminderDoneTime()) ? 131071 : 524287);
+    if (isSetReminderDoneTime())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(reminderDoneTime);
+
+    hashCode = hashCode * 8191 + ((isSetReminderTime()) ? 131071 : 524287);
+    if (isSetReminderTime())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(reminderTime);
+
+    hashCode = hashCode * 8191 + ((isSetPlaceName()) ? 131071 : 524287);
+    if (isSetPlaceName())
+      hashCode = hashCode * 8191 + placeName.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetContentClass()) ? 131071 : 524287);
+    if (isSetContentClass())
+      hashCode = hashCode * 8191 + contentClass.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetApplicationData()) ? 131071 : 524287);
+    if (isSetApplicationData())
+      hashCode = hashCode * 8191 + applicationData.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetLastEditedBy()) ? 131071 : 524287);
+    if (isSetLastEditedBy())
+      hashCode = hashCode * 8191 + lastEditedBy.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetClassifications()) ? 131071 : 524287);
+    if (isSetClassifications())
+      hashCode = hashCode * 8191 + classifications.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetCreatorId()) ? 131071 : 524287);
+    if (isSetCreatorId())
+      hashCode = hashCode * 8191 + creatorId;
+
+    hashCode = hashCode * 8191 + ((isSetLastEditorId()) ? 131071 : 524287);
+    if (isSetLastEditorId())
+      hashCode = hashCode * 8191 + lastEditorId;
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(NoteAttributes other) {
@@ -1153,6 +1257,7 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -1160,6 +1265,11 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // SUBJECT_DATE
           if (field.type == TType.I64) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -173,7 +174,11 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   private static final int __SERVICECREATED_ISSET_ID = 2;
   private static final int __SERVICEUPDATED_ISSET_ID = 3;
   private static final int __PUBLISHED_ISSET_ID = 4;
-  private boolean[] __isset_vector = new boolean[5];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public Notebook() {
   }
@@ -182,7 +187,7 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
    * Performs a deep copy on <i>other</i>.
    */
   public Notebook(Notebook other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetGuid()) {
       this.guid = other.guid;
     }
@@ -230,6 +235,8 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.guid = null;
     this.name = null;
     setUpdateSequenceNumIsSet(false);
@@ -307,16 +314,16 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   }
 
   public void unsetUpdateSequenceNum() {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateSequenceNum() {
-    return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public boolean isDefaultNotebook() {
@@ -329,16 +336,16 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   }
 
   public void unsetDefaultNotebook() {
-    __isset_vector[__DEFAULTNOTEBOOK_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DEFAULTNOTEBOOK_ISSET_ID);
   }
 
   /** Returns true if field defaultNotebook is set (has been asigned a value) and false otherwise */
   public boolean isSetDefaultNotebook() {
-    return __isset_vector[__DEFAULTNOTEBOOK_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DEFAULTNOTEBOOK_ISSET_ID);
   }
 
   public void setDefaultNotebookIsSet(boolean value) {
-    __isset_vector[__DEFAULTNOTEBOOK_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DEFAULTNOTEBOOK_ISSET_ID, value);
   }
 
   public long getServiceCreated() {
@@ -351,16 +358,16 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   }
 
   public void unsetServiceCreated() {
-    __isset_vector[__SERVICECREATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SERVICECREATED_ISSET_ID);
   }
 
   /** Returns true if field serviceCreated is set (has been asigned a value) and false otherwise */
   public boolean isSetServiceCreated() {
-    return __isset_vector[__SERVICECREATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SERVICECREATED_ISSET_ID);
   }
 
   public void setServiceCreatedIsSet(boolean value) {
-    __isset_vector[__SERVICECREATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SERVICECREATED_ISSET_ID, value);
   }
 
   public long getServiceUpdated() {
@@ -373,16 +380,16 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   }
 
   public void unsetServiceUpdated() {
-    __isset_vector[__SERVICEUPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SERVICEUPDATED_ISSET_ID);
   }
 
   /** Returns true if field serviceUpdated is set (has been asigned a value) and false otherwise */
   public boolean isSetServiceUpdated() {
-    return __isset_vector[__SERVICEUPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SERVICEUPDATED_ISSET_ID);
   }
 
   public void setServiceUpdatedIsSet(boolean value) {
-    __isset_vector[__SERVICEUPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SERVICEUPDATED_ISSET_ID, value);
   }
 
   public Publishing getPublishing() {
@@ -418,16 +425,16 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   }
 
   public void unsetPublished() {
-    __isset_vector[__PUBLISHED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PUBLISHED_ISSET_ID);
   }
 
   /** Returns true if field published is set (has been asigned a value) and false otherwise */
   public boolean isSetPublished() {
-    return __isset_vector[__PUBLISHED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PUBLISHED_ISSET_ID);
   }
 
   public void setPublishedIsSet(boolean value) {
-    __isset_vector[__PUBLISHED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PUBLISHED_ISSET_ID, value);
   }
 
   public String getStack() {
@@ -742,7 +749,84 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetGuid()) ? 131071 : 524287);
+    if (isSetGuid())
+      hashCode = hashCode * 8191 + guid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
+    if (isSetName())
+      hashCode = hashCode * 8191 + name.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetUpdateSequenceNum()) ? 131071 : 524287);
+    if (isSetUpdateSequenceNum())
+      hashCode = hashCode * 8191 + updateSequenceNum;
+
+    hashCode = hashCode * 8191 + ((isSetDefaultNotebook()) ? 131071 : 524287);
+    if (isSetDefaultNotebook())
+      hashCode = hashCode * 8191 + (defaultNotebook ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetServiceCreated()) ? 131071 : 524287);
+    if (isSetServiceCreated())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(serviceCreated);
+
+    hashCode = hashCode * 8191 + ((isSetServiceUpdated()) ? 131071 : 524287);
+    if (isSetServiceUpdated())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(serviceUpdated);
+
+    hashCode = hashCode * 8191 + ((isSetPublishing()) ? 131071 : 524287);
+    if (isSetPublishing())
+      hashCode = hashCode * 8191 + publishing.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetPublished()) ? 131071 : 524287);
+    if (isSetPublished())
+      hashCode = hashCode * 8191 + (published ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetStack()) ? 131071 : 524287);
+    if (isSetStack())
+      hashCode = hashCode * 8191 + stack.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSharedNotebookIds()) ? 131071 : 524287);
+    if (isSetSharedNotebookIds())
+      hashCode = hashCode * 8191 + sharedNotebookIds.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSharedNotebooks()) ? 131071 : 524287);
+    if (isSetSharedNotebooks())
+      hashCode = hashCode * 8191 + sharedNotebooks.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetBusinessNotebook()) ? 131071 : 524287);
+    if (isSetBusinessNotebook())
+      hashCode = hashCode * 8191 + businessNotebook.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetContact()) ? 131071 : 524287);
+    if (isSetContact())
+      hashCode = hashCode * 8191 + contact.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetRestrictions()) ? 131071 : 524287);
+    if (isSetRestrictions())
+      hashCode = hashCode * 8191 + restrictions.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(Notebook other) {
@@ -884,6 +968,7 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -891,6 +976,11 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // GUID
           if (field.type == TType.STRING) {
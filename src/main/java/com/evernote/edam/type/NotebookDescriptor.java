@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -63,7 +64,11 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
   // isset id assignments
   private static final int __HASSHAREDNOTEBOOK_ISSET_ID = 0;
   private static final int __JOINEDUSERCOUNT_ISSET_ID = 1;
-  private boolean[] __isset_vector = new boolean[2];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public NotebookDescriptor() {
   }
@@ -72,7 +77,7 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
    * Performs a deep copy on <i>other</i>.
    */
   public NotebookDescriptor(NotebookDescriptor other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetGuid()) {
       this.guid = other.guid;
     }
@@ -91,6 +96,8 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.guid = null;
     this.notebookDisplayName = null;
     this.contactName = null;
@@ -179,16 +186,16 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
   }
 
   public void unsetHasSharedNotebook() {
-    __isset_vector[__HASSHAREDNOTEBOOK_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __HASSHAREDNOTEBOOK_ISSET_ID);
   }
 
   /** Returns true if field hasSharedNotebook is set (has been asigned a value) and false otherwise */
   public boolean isSetHasSharedNotebook() {
-    return __isset_vector[__HASSHAREDNOTEBOOK_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __HASSHAREDNOTEBOOK_ISSET_ID);
   }
 
   public void setHasSharedNotebookIsSet(boolean value) {
-    __isset_vector[__HASSHAREDNOTEBOOK_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __HASSHAREDNOTEBOOK_ISSET_ID, value);
   }
 
   public int getJoinedUserCount() {
@@ -201,16 +208,16 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
   }
 
   public void unsetJoinedUserCount() {
-    __isset_vector[__JOINEDUSERCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __JOINEDUSERCOUNT_ISSET_ID);
   }
 
   /** Returns true if field joinedUserCount is set (has been asigned a value) and false otherwise */
   public boolean isSetJoinedUserCount() {
-    return __isset_vector[__JOINEDUSERCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __JOINEDUSERCOUNT_ISSET_ID);
   }
 
   public void setJoinedUserCountIsSet(boolean value) {
-    __isset_vector[__JOINEDUSERCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __JOINEDUSERCOUNT_ISSET_ID, value);
   }
 
   @Override
@@ -276,7 +283,48 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetGuid()) ? 131071 : 524287);
+    if (isSetGuid())
+      hashCode = hashCode * 8191 + guid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetNotebookDisplayName()) ? 131071 : 524287);
+    if (isSetNotebookDisplayName())
+      hashCode = hashCode * 8191 + notebookDisplayName.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetContactName()) ? 131071 : 524287);
+    if (isSetContactName())
+      hashCode = hashCode * 8191 + contactName.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetHasSharedNotebook()) ? 131071 : 524287);
+    if (isSetHasSharedNotebook())
+      hashCode = hashCode * 8191 + (hasSharedNotebook ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetJoinedUserCount()) ? 131071 : 524287);
+    if (isSetJoinedUserCount())
+      hashCode = hashCode * 8191 + joinedUserCount;
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(NotebookDescriptor other) {
@@ -337,6 +385,7 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -344,6 +393,11 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // GUID
           if (field.type == TType.STRING) {
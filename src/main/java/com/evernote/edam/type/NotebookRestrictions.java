@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -183,7 +184,11 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   private static final int __NOEXPUNGETAGS_ISSET_ID = 15;
   private static final int __NOSETPARENTTAG_ISSET_ID = 16;
   private static final int __NOCREATESHAREDNOTEBOOKS_ISSET_ID = 17;
-  private boolean[] __isset_vector = new boolean[18];
+  private int __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public NotebookRestrictions() {
   }
@@ -192,7 +197,7 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
    * Performs a deep copy on <i>other</i>.
    */
   public NotebookRestrictions(NotebookRestrictions other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.noReadNotes = other.noReadNotes;
     this.noCreateNotes = other.noCreateNotes;
     this.noUpdateNotes = other.noUpdateNotes;
@@ -224,6 +229,8 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setNoReadNotesIsSet(false);
     this.noReadNotes = false;
     setNoCreateNotesIsSet(false);
@@ -274,16 +281,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoReadNotes() {
-    __isset_vector[__NOREADNOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOREADNOTES_ISSET_ID);
   }
 
   /** Returns true if field noReadNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetNoReadNotes() {
-    return __isset_vector[__NOREADNOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOREADNOTES_ISSET_ID);
   }
 
   public void setNoReadNotesIsSet(boolean value) {
-    __isset_vector[__NOREADNOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOREADNOTES_ISSET_ID, value);
   }
 
   public boolean isNoCreateNotes() {
@@ -296,16 +303,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoCreateNotes() {
-    __isset_vector[__NOCREATENOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOCREATENOTES_ISSET_ID);
   }
 
   /** Returns true if field noCreateNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetNoCreateNotes() {
-    return __isset_vector[__NOCREATENOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOCREATENOTES_ISSET_ID);
   }
 
   public void setNoCreateNotesIsSet(boolean value) {
-    __isset_vector[__NOCREATENOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOCREATENOTES_ISSET_ID, value);
   }
 
   public boolean isNoUpdateNotes() {
@@ -318,16 +325,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoUpdateNotes() {
-    __isset_vector[__NOUPDATENOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOUPDATENOTES_ISSET_ID);
   }
 
   /** Returns true if field noUpdateNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetNoUpdateNotes() {
-    return __isset_vector[__NOUPDATENOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOUPDATENOTES_ISSET_ID);
   }
 
   public void setNoUpdateNotesIsSet(boolean value) {
-    __isset_vector[__NOUPDATENOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOUPDATENOTES_ISSET_ID, value);
   }
 
   public boolean isNoExpungeNotes() {
@@ -340,16 +347,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoExpungeNotes() {
-    __isset_vector[__NOEXPUNGENOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOEXPUNGENOTES_ISSET_ID);
   }
 
   /** Returns true if field noExpungeNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetNoExpungeNotes() {
-    return __isset_vector[__NOEXPUNGENOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOEXPUNGENOTES_ISSET_ID);
   }
 
   public void setNoExpungeNotesIsSet(boolean value) {
-    __isset_vector[__NOEXPUNGENOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOEXPUNGENOTES_ISSET_ID, value);
   }
 
   public boolean isNoShareNotes() {
@@ -362,16 +369,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoShareNotes() {
-    __isset_vector[__NOSHARENOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOSHARENOTES_ISSET_ID);
   }
 
   /** Returns true if field noShareNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetNoShareNotes() {
-    return __isset_vector[__NOSHARENOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOSHARENOTES_ISSET_ID);
   }
 
   public void setNoShareNotesIsSet(boolean value) {
-    __isset_vector[__NOSHARENOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOSHARENOTES_ISSET_ID, value);
   }
 
   public boolean isNoEmailNotes() {
@@ -384,16 +391,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoEmailNotes() {
-    __isset_vector[__NOEMAILNOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOEMAILNOTES_ISSET_ID);
   }
 
   /** Returns true if field noEmailNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetNoEmailNotes() {
-    return __isset_vector[__NOEMAILNOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOEMAILNOTES_ISSET_ID);
   }
 
   public void setNoEmailNotesIsSet(boolean value) {
-    __isset_vector[__NOEMAILNOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOEMAILNOTES_ISSET_ID, value);
   }
 
   public boolean isNoSendMessageToRecipients() {
@@ -406,16 +413,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoSendMessageToRecipients() {
-    __isset_vector[__NOSENDMESSAGETORECIPIENTS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOSENDMESSAGETORECIPIENTS_ISSET_ID);
   }
 
   /** Returns true if field noSendMessageToRecipients is set (has been asigned a value) and false otherwise */
   public boolean isSetNoSendMessageToRecipients() {
-    return __isset_vector[__NOSENDMESSAGETORECIPIENTS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOSENDMESSAGETORECIPIENTS_ISSET_ID);
   }
 
   public void setNoSendMessageToRecipientsIsSet(boolean value) {
-    __isset_vector[__NOSENDMESSAGETORECIPIENTS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOSENDMESSAGETORECIPIENTS_ISSET_ID, value);
   }
 
   public boolean isNoUpdateNotebook() {
@@ -428,16 +435,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoUpdateNotebook() {
-    __isset_vector[__NOUPDATENOTEBOOK_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOUPDATENOTEBOOK_ISSET_ID);
   }
 
   /** Returns true if field noUpdateNotebook is set (has been asigned a value) and false otherwise */
   public boolean isSetNoUpdateNotebook() {
-    return __isset_vector[__NOUPDATENOTEBOOK_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOUPDATENOTEBOOK_ISSET_ID);
   }
 
   public void setNoUpdateNotebookIsSet(boolean value) {
-    __isset_vector[__NOUPDATENOTEBOOK_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOUPDATENOTEBOOK_ISSET_ID, value);
   }
 
   public boolean isNoExpungeNotebook() {
@@ -450,16 +457,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoExpungeNotebook() {
-    __isset_vector[__NOEXPUNGENOTEBOOK_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOEXPUNGENOTEBOOK_ISSET_ID);
   }
 
   /** Returns true if field noExpungeNotebook is set (has been asigned a value) and false otherwise */
   public boolean isSetNoExpungeNotebook() {
-    return __isset_vector[__NOEXPUNGENOTEBOOK_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOEXPUNGENOTEBOOK_ISSET_ID);
   }
 
   public void setNoExpungeNotebookIsSet(boolean value) {
-    __isset_vector[__NOEXPUNGENOTEBOOK_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOEXPUNGENOTEBOOK_ISSET_ID, value);
   }
 
   public boolean isNoSetDefaultNotebook() {
@@ -472,16 +479,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoSetDefaultNotebook() {
-    __isset_vector[__NOSETDEFAULTNOTEBOOK_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOSETDEFAULTNOTEBOOK_ISSET_ID);
   }
 
   /** Returns true if field noSetDefaultNotebook is set (has been asigned a value) and false otherwise */
   public boolean isSetNoSetDefaultNotebook() {
-    return __isset_vector[__NOSETDEFAULTNOTEBOOK_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOSETDEFAULTNOTEBOOK_ISSET_ID);
   }
 
   public void setNoSetDefaultNotebookIsSet(boolean value) {
-    __isset_vector[__NOSETDEFAULTNOTEBOOK_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOSETDEFAULTNOTEBOOK_ISSET_ID, value);
   }
 
   public boolean isNoSetNotebookStack() {
@@ -494,16 +501,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoSetNotebookStack() {
-    __isset_vector[__NOSETNOTEBOOKSTACK_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOSETNOTEBOOKSTACK_ISSET_ID);
   }
 
   /** Returns true if field noSetNotebookStack is set (has been asigned a value) and false otherwise */
   public boolean isSetNoSetNotebookStack() {
-    return __isset_vector[__NOSETNOTEBOOKSTACK_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOSETNOTEBOOKSTACK_ISSET_ID);
   }
 
   public void setNoSetNotebookStackIsSet(boolean value) {
-    __isset_vector[__NOSETNOTEBOOKSTACK_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOSETNOTEBOOKSTACK_ISSET_ID, value);
   }
 
   public boolean isNoPublishToPublic() {
@@ -516,16 +523,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoPublishToPublic() {
-    __isset_vector[__NOPUBLISHTOPUBLIC_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOPUBLISHTOPUBLIC_ISSET_ID);
   }
 
   /** Returns true if field noPublishToPublic is set (has been asigned a value) and false otherwise */
   public boolean isSetNoPublishToPublic() {
-    return __isset_vector[__NOPUBLISHTOPUBLIC_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOPUBLISHTOPUBLIC_ISSET_ID);
   }
 
   public void setNoPublishToPublicIsSet(boolean value) {
-    __isset_vector[__NOPUBLISHTOPUBLIC_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOPUBLISHTOPUBLIC_ISSET_ID, value);
   }
 
   public boolean isNoPublishToBusinessLibrary() {
@@ -538,16 +545,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoPublishToBusinessLibrary() {
-    __isset_vector[__NOPUBLISHTOBUSINESSLIBRARY_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOPUBLISHTOBUSINESSLIBRARY_ISSET_ID);
   }
 
   /** Returns true if field noPublishToBusinessLibrary is set (has been asigned a value) and false otherwise */
   public boolean isSetNoPublishToBusinessLibrary() {
-    return __isset_vector[__NOPUBLISHTOBUSINESSLIBRARY_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOPUBLISHTOBUSINESSLIBRARY_ISSET_ID);
   }
 
   public void setNoPublishToBusinessLibraryIsSet(boolean value) {
-    __isset_vector[__NOPUBLISHTOBUSINESSLIBRARY_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOPUBLISHTOBUSINESSLIBRARY_ISSET_ID, value);
   }
 
   public boolean isNoCreateTags() {
@@ -560,16 +567,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoCreateTags() {
-    __isset_vector[__NOCREATETAGS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOCREATETAGS_ISSET_ID);
   }
 
   /** Returns true if field noCreateTags is set (has been asigned a value) and false otherwise */
   public boolean isSetNoCreateTags() {
-    return __isset_vector[__NOCREATETAGS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOCREATETAGS_ISSET_ID);
   }
 
   public void setNoCreateTagsIsSet(boolean value) {
-    __isset_vector[__NOCREATETAGS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOCREATETAGS_ISSET_ID, value);
   }
 
   public boolean isNoUpdateTags() {
@@ -582,16 +589,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoUpdateTags() {
-    __isset_vector[__NOUPDATETAGS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOUPDATETAGS_ISSET_ID);
   }
 
   /** Returns true if field noUpdateTags is set (has been asigned a value) and false otherwise */
   public boolean isSetNoUpdateTags() {
-    return __isset_vector[__NOUPDATETAGS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOUPDATETAGS_ISSET_ID);
   }
 
   public void setNoUpdateTagsIsSet(boolean value) {
-    __isset_vector[__NOUPDATETAGS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOUPDATETAGS_ISSET_ID, value);
   }
 
   public boolean isNoExpungeTags() {
@@ -604,16 +611,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoExpungeTags() {
-    __isset_vector[__NOEXPUNGETAGS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOEXPUNGETAGS_ISSET_ID);
   }
 
   /** Returns true if field noExpungeTags is set (has been asigned a value) and false otherwise */
   public boolean isSetNoExpungeTags() {
-    return __isset_vector[__NOEXPUNGETAGS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOEXPUNGETAGS_ISSET_ID);
   }
 
   public void setNoExpungeTagsIsSet(boolean value) {
-    __isset_vector[__NOEXPUNGETAGS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOEXPUNGETAGS_ISSET_ID, value);
   }
 
   public boolean isNoSetParentTag() {
@@ -626,16 +633,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoSetParentTag() {
-    __isset_vector[__NOSETPARENTTAG_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOSETPARENTTAG_ISSET_ID);
   }
 
   /** Returns true if field noSetParentTag is set (has been asigned a value) and false otherwise */
   public boolean isSetNoSetParentTag() {
-    return __isset_vector[__NOSETPARENTTAG_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOSETPARENTTAG_ISSET_ID);
   }
 
   public void setNoSetParentTagIsSet(boolean value) {
-    __isset_vector[__NOSETPARENTTAG_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOSETPARENTTAG_ISSET_ID, value);
   }
 
   public boolean isNoCreateSharedNotebooks() {
@@ -648,16 +655,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoCreateSharedNotebooks() {
-    __isset_vector[__NOCREATESHAREDNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOCREATESHAREDNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field noCreateSharedNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetNoCreateSharedNotebooks() {
-    return __isset_vector[__NOCREATESHAREDNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOCREATESHAREDNOTEBOOKS_ISSET_ID);
   }
 
   public void setNoCreateSharedNotebooksIsSet(boolean value) {
-    __isset_vector[__NOCREATESHAREDNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOCREATESHAREDNOTEBOOKS_ISSET_ID, value);
   }
 
   /**
@@ -920,7 +927,108 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetNoReadNotes()) ? 131071 : 524287);
+    if (isSetNoReadNotes())
+      hashCode = hashCode * 8191 + (noReadNotes ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoCreateNotes()) ? 131071 : 524287);
+    if (isSetNoCreateNotes())
+      hashCode = hashCode * 8191 + (noCreateNotes ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoUpdateNotes()) ? 131071 : 524287);
+    if (isSetNoUpdateNotes())
+      hashCode = hashCode * 8191 + (noUpdateNotes ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoExpungeNotes()) ? 131071 : 524287);
+    if (isSetNoExpungeNotes())
+      hashCode = hashCode * 8191 + (noExpungeNotes ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoShareNotes()) ? 131071 : 524287);
+    if (isSetNoShareNotes())
+      hashCode = hashCode * 8191 + (noShareNotes ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoEmailNotes()) ? 131071 : 524287);
+    if (isSetNoEmailNotes())
+      hashCode = hashCode * 8191 + (noEmailNotes ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoSendMessageToRecipients()) ? 131071 : 524287);
+    if (isSetNoSendMessageToRecipients())
+      hashCode = hashCode * 8191 + (noSendMessageToRecipients ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoUpdateNotebook()) ? 131071 : 524287);
+    if (isSetNoUpdateNotebook())
+      hashCode = hashCode * 8191 + (noUpdateNotebook ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoExpungeNotebook()) ? 131071 : 524287);
+    if (isSetNoExpungeNotebook())
+      hashCode = hashCode * 8191 + (noExpungeNotebook ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoSetDefaultNotebook()) ? 131071 : 524287);
+    if (isSetNoSetDefaultNotebook())
+      hashCode = hashCode * 8191 + (noSetDefaultNotebook ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoSetNotebookStack()) ? 131071 : 524287);
+    if (isSetNoSetNotebookStack())
+      hashCode = hashCode * 8191 + (noSetNotebookStack ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoPublishToPublic()) ? 131071 : 524287);
+    if (isSetNoPublishToPublic())
+      hashCode = hashCode * 8191 + (noPublishToPublic ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoPublishToBusinessLibrary()) ? 131071 : 524287);
+    if (isSetNoPublishToBusinessLibrary())
+      hashCode = hashCode * 8191 + (noPublishToBusinessLibrary ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoCreateTags()) ? 131071 : 524287);
+    if (isSetNoCreateTags())
+      hashCode = hashCode * 8191 + (noCreateTags ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoUpdateTags()) ? 131071 : 524287);
+    if (isSetNoUpdateTags())
+      hashCode = hashCode * 8191 + (noUpdateTags ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoExpungeTags()) ? 131071 : 524287);
+    if (isSetNoExpungeTags())
+      hashCode = hashCode * 8191 + (noExpungeTags ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoSetParentTag()) ? 131071 : 524287);
+    if (isSetNoSetParentTag())
+      hashCode = hashCode * 8191 + (noSetParentTag ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetNoCreateSharedNotebooks()) ? 131071 : 524287);
+    if (isSetNoCreateSharedNotebooks())
+      hashCode = hashCode * 8191 + (noCreateSharedNotebooks ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetUpdateWhichSharedNotebookRestrictions()) ? 131071 : 524287);
+    if (isSetUpdateWhichSharedNotebookRestrictions())
+      hashCode = hashCode * 8191 + updateWhichSharedNotebookRestrictions.getValue();
+
+    hashCode = hashCode * 8191 + ((isSetExpungeWhichSharedNotebookRestrictions()) ? 131071 : 524287);
+    if (isSetExpungeWhichSharedNotebookRestrictions())
+      hashCode = hashCode * 8191 + expungeWhichSharedNotebookRestrictions.getValue();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(NotebookRestrictions other) {
@@ -1116,6 +1224,7 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -1123,6 +1232,11 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // NO_READ_NOTES
           if (field.type == TType.BOOL) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -104,7 +105,11 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   private static final int __PREMIUMCANCELLATIONPENDING_ISSET_ID = 6;
   private static final int __CANPURCHASEUPLOADALLOWANCE_ISSET_ID = 7;
   private static final int __PREMIUMUPGRADABLE_ISSET_ID = 8;
-  private boolean[] __isset_vector = new boolean[9];
+  private short __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public PremiumInfo() {
   }
@@ -139,7 +144,7 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
    * Performs a deep copy on <i>other</i>.
    */
   public PremiumInfo(PremiumInfo other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.currentTime = other.currentTime;
     this.premium = other.premium;
     this.premiumRecurring = other.premiumRecurring;
@@ -162,6 +167,8 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setCurrentTimeIsSet(false);
     this.currentTime = 0;
     setPremiumIsSet(false);
@@ -194,16 +201,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetCurrentTime() {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   /** Returns true if field currentTime is set (has been asigned a value) and false otherwise */
   public boolean isSetCurrentTime() {
-    return __isset_vector[__CURRENTTIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   public void setCurrentTimeIsSet(boolean value) {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CURRENTTIME_ISSET_ID, value);
   }
 
   public boolean isPremium() {
@@ -216,16 +223,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremium() {
-    __isset_vector[__PREMIUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUM_ISSET_ID);
   }
 
   /** Returns true if field premium is set (has been asigned a value) and false otherwise */
   public boolean isSetPremium() {
-    return __isset_vector[__PREMIUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUM_ISSET_ID);
   }
 
   public void setPremiumIsSet(boolean value) {
-    __isset_vector[__PREMIUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUM_ISSET_ID, value);
   }
 
   public boolean isPremiumRecurring() {
@@ -238,16 +245,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremiumRecurring() {
-    __isset_vector[__PREMIUMRECURRING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMRECURRING_ISSET_ID);
   }
 
   /** Returns true if field premiumRecurring is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumRecurring() {
-    return __isset_vector[__PREMIUMRECURRING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMRECURRING_ISSET_ID);
   }
 
   public void setPremiumRecurringIsSet(boolean value) {
-    __isset_vector[__PREMIUMRECURRING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMRECURRING_ISSET_ID, value);
   }
 
   public long getPremiumExpirationDate() {
@@ -260,16 +267,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremiumExpirationDate() {
-    __isset_vector[__PREMIUMEXPIRATIONDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMEXPIRATIONDATE_ISSET_ID);
   }
 
   /** Returns true if field premiumExpirationDate is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumExpirationDate() {
-    return __isset_vector[__PREMIUMEXPIRATIONDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMEXPIRATIONDATE_ISSET_ID);
   }
 
   public void setPremiumExpirationDateIsSet(boolean value) {
-    __isset_vector[__PREMIUMEXPIRATIONDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMEXPIRATIONDATE_ISSET_ID, value);
   }
 
   public boolean isPremiumExtendable() {
@@ -282,16 +289,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremiumExtendable() {
-    __isset_vector[__PREMIUMEXTENDABLE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMEXTENDABLE_ISSET_ID);
   }
 
   /** Returns true if field premiumExtendable is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumExtendable() {
-    return __isset_vector[__PREMIUMEXTENDABLE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMEXTENDABLE_ISSET_ID);
   }
 
   public void setPremiumExtendableIsSet(boolean value) {
-    __isset_vector[__PREMIUMEXTENDABLE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMEXTENDABLE_ISSET_ID, value);
   }
 
   public boolean isPremiumPending() {
@@ -304,16 +311,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremiumPending() {
-    __isset_vector[__PREMIUMPENDING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMPENDING_ISSET_ID);
   }
 
   /** Returns true if field premiumPending is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumPending() {
-    return __isset_vector[__PREMIUMPENDING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMPENDING_ISSET_ID);
   }
 
   public void setPremiumPendingIsSet(boolean value) {
-    __isset_vector[__PREMIUMPENDING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMPENDING_ISSET_ID, value);
   }
 
   public boolean isPremiumCancellationPending() {
@@ -326,16 +333,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremiumCancellationPending() {
-    __isset_vector[__PREMIUMCANCELLATIONPENDING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMCANCELLATIONPENDING_ISSET_ID);
   }
 
   /** Returns true if field premiumCancellationPending is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumCancellationPending() {
-    return __isset_vector[__PREMIUMCANCELLATIONPENDING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMCANCELLATIONPENDING_ISSET_ID);
   }
 
   public void setPremiumCancellationPendingIsSet(boolean value) {
-    __isset_vector[__PREMIUMCANCELLATIONPENDING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMCANCELLATIONPENDING_ISSET_ID, value);
   }
 
   public boolean isCanPurchaseUploadAllowance() {
@@ -348,16 +355,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetCanPurchaseUploadAllowance() {
-    __isset_vector[__CANPURCHASEUPLOADALLOWANCE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CANPURCHASEUPLOADALLOWANCE_ISSET_ID);
   }
 
   /** Returns true if field canPurchaseUploadAllowance is set (has been asigned a value) and false otherwise */
   public boolean isSetCanPurchaseUploadAllowance() {
-    return __isset_vector[__CANPURCHASEUPLOADALLOWANCE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CANPURCHASEUPLOADALLOWANCE_ISSET_ID);
   }
 
   public void setCanPurchaseUploadAllowanceIsSet(boolean value) {
-    __isset_vector[__CANPURCHASEUPLOADALLOWANCE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CANPURCHASEUPLOADALLOWANCE_ISSET_ID, value);
   }
 
   public String getSponsoredGroupName() {
@@ -424,16 +431,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremiumUpgradable() {
-    __isset_vector[__PREMIUMUPGRADABLE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMUPGRADABLE_ISSET_ID);
   }
 
   /** Returns true if field premiumUpgradable is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumUpgradable() {
-    return __isset_vector[__PREMIUMUPGRADABLE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMUPGRADABLE_ISSET_ID);
   }
 
   public void setPremiumUpgradableIsSet(boolean value) {
-    __isset_vector[__PREMIUMUPGRADABLE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMUPGRADABLE_ISSET_ID, value);
   }
 
   @Override
@@ -553,7 +560,58 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + TBaseHelper.hashCode(currentTime);
+
+    hashCode = hashCode * 8191 + (premium ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + (premiumRecurring ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetPremiumExpirationDate()) ? 131071 : 524287);
+    if (isSetPremiumExpirationDate())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(premiumExpirationDate);
+
+    hashCode = hashCode * 8191 + (premiumExtendable ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + (premiumPending ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + (premiumCancellationPending ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + (canPurchaseUploadAllowance ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetSponsoredGroupName()) ? 131071 : 524287);
+    if (isSetSponsoredGroupName())
+      hashCode = hashCode * 8191 + sponsoredGroupName.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSponsoredGroupRole()) ? 131071 : 524287);
+    if (isSetSponsoredGroupRole())
+      hashCode = hashCode * 8191 + sponsoredGroupRole.getValue();
+
+    hashCode = hashCode * 8191 + ((isSetPremiumUpgradable()) ? 131071 : 524287);
+    if (isSetPremiumUpgradable())
+      hashCode = hashCode * 8191 + (premiumUpgradable ? 131071 : 524287);
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(PremiumInfo other) {
@@ -668,6 +726,7 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -675,6 +734,11 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // CURRENT_TIME
           if (field.type == TType.I64) {
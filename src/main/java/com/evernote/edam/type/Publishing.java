@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -72,7 +73,11 @@ public class Publishing implements TBase<Publishing>, java.io.Serializable, Clon
 
   // isset id assignments
   private static final int __ASCENDING_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public Publishing() {
   }
@@ -81,7 +86,7 @@ public class Publishing implements TBase<Publishing>, java.io.Serializable, Clon
    * Performs a deep copy on <i>other</i>.
    */
   public Publishing(Publishing other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetUri()) {
       this.uri = other.uri;
     }
@@ -99,6 +104,8 @@ public class Publishing implements TBase<Publishing>, java.io.Serializable, Clon
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.uri = null;
     this.order = null;
     setAscendingIsSet(false);
@@ -170,16 +177,16 @@ public class Publishing implements TBase<Publishing>, java.io.Serializable, Clon
   }
 
   public void unsetAscending() {
-    __isset_vector[__ASCENDING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ASCENDING_ISSET_ID);
   }
 
   /** Returns true if field ascending is set (has been asigned a value) and false otherwise */
   public boolean isSetAscending() {
-    return __isset_vector[__ASCENDING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ASCENDING_ISSET_ID);
   }
 
   public void setAscendingIsSet(boolean value) {
-    __isset_vector[__ASCENDING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ASCENDING_ISSET_ID, value);
   }
 
   public String getPublicDescription() {
@@ -259,7 +266,44 @@ public class Publishing implements TBase<Publishing>, java.io.Serializable, Clon
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetUri()) ? 131071 : 524287);
+    if (isSetUri())
+      hashCode = hashCode * 8191 + uri.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetOrder()) ? 131071 : 524287);
+    if (isSetOrder())
+      hashCode = hashCode * 8191 + order.getValue();
+
+    hashCode = hashCode * 8191 + ((isSetAscending()) ? 131071 : 524287);
+    if (isSetAscending())
+      hashCode = hashCode * 8191 + (ascending ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetPublicDescription()) ? 131071 : 524287);
+    if (isSetPublicDescription())
+      hashCode = hashCode * 8191 + publicDescription.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(Publishing other) {
@@ -311,6 +355,7 @@ public class Publishing implements TBase<Publishing>, java.io.Serializable, Clon
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -318,6 +363,11 @@ public class Publishing implements TBase<Publishing>, java.io.Serializable, Clon
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // URI
           if (field.type == TType.STRING) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -95,7 +96,8 @@ import com.evernote.thrift.protocol.*;
  *   this field will be unset.</dd>
  * </dl>
  */
-public class Resource implements TBase<Resource>, java.io.Serializable, Cloneable {
+public class Resource implements TBase<Resource>, java.io.Serializable, Cloneable,
+    TRecyclable {
   private static final TStruct STRUCT_DESC = new TStruct("Resource");
 
   private static final TField GUID_FIELD_DESC = new TField("guid", TType.STRING, (short)1);
@@ -124,6 +126,18 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   private int updateSequenceNum;
   private Data alternateData;
 
+  // encoded values that are decoded on first access, see TProtocol#setLazyDecoding
+  private transient TLazySlice dataSlice;
+  private transient TLazySlice recognitionSlice;
+  private transient TLazySlice attributesSlice;
+  private transient TLazySlice alternateDataSlice;
+
+  // the values created by read(), which recycle() keeps for the next read to refill
+  private transient Data dataOwned;
+  private transient Data recognitionOwned;
+  private transient ResourceAttributes attributesOwned;
+  private transient Data alternateDataOwned;
+  private transient boolean __recycled;
 
   // isset id assignments
   private static final int __WIDTH_ISSET_ID = 0;
@@ -131,7 +145,11 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   private static final int __DURATION_ISSET_ID = 2;
   private static final int __ACTIVE_ISSET_ID = 3;
   private static final int __UPDATESEQUENCENUM_ISSET_ID = 4;
-  private boolean[] __isset_vector = new boolean[5];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public Resource() {
   }
@@ -140,7 +158,8 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
    * Performs a deep copy on <i>other</i>.
    */
   public Resource(Resource other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    other.decodeLazyFields();
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetGuid()) {
       this.guid = other.guid;
     }
@@ -174,6 +193,12 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
+    this.dataSlice = null;
+    this.recognitionSlice = null;
+    this.attributesSlice = null;
+    this.alternateDataSlice = null;
     this.guid = null;
     this.noteGuid = null;
     this.data = null;
@@ -191,6 +216,44 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
     setUpdateSequenceNumIsSet(false);
     this.updateSequenceNum = 0;
     this.alternateData = null;
+    this.dataOwned = null;
+    this.recognitionOwned = null;
+    this.attributesOwned = null;
+    this.alternateDataOwned = null;
+    __recycled = false;
+  }
+
+  /**
+   * Clears this resource like {@link #clear()}, but keeps the data and attributes
+   * created by {@link #read(TProtocol)} for the next read to refill, see
+   * {@link TRecyclable}.
+   */
+  public void recycle() {
+    Data data = this.data == this.dataOwned ? this.data : null;
+    Data recognition = this.recognition == this.recognitionOwned ? this.recognition
+        : null;
+    ResourceAttributes attributes = this.attributes == this.attributesOwned
+        ? this.attributes : null;
+    Data alternateData = this.alternateData == this.alternateDataOwned
+        ? this.alternateData : null;
+    clear();
+    if (data != null) {
+      data.clear();
+      this.dataOwned = data;
+    }
+    if (recognition != null) {
+      recognition.clear();
+      this.recognitionOwned = recognition;
+    }
+    if (attributes != null) {
+      attributes.clear();
+      this.attributesOwned = attributes;
+    }
+    if (alternateData != null) {
+      alternateData.clear();
+      this.alternateDataOwned = alternateData;
+    }
+    __recycled = true;
   }
 
   public String getGuid() {
@@ -240,25 +303,29 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public Data getData() {
+    decodeData();
     return this.data;
   }
 
   public void setData(Data data) {
+    this.dataSlice = null;
     this.data = data;
   }
 
   public void unsetData() {
+    this.dataSlice = null;
     this.data = null;
   }
 
   /** Returns true if field data is set (has been asigned a value) and false otherwise */
   public boolean isSetData() {
-    return this.data != null;
+    return this.data != null || this.dataSlice != null;
   }
 
   public void setDataIsSet(boolean value) {
     if (!value) {
       this.data = null;
+      this.dataSlice = null;
     }
   }
 
@@ -295,16 +362,16 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public void unsetWidth() {
-    __isset_vector[__WIDTH_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WIDTH_ISSET_ID);
   }
 
   /** Returns true if field width is set (has been asigned a value) and false otherwise */
   public boolean isSetWidth() {
-    return __isset_vector[__WIDTH_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __WIDTH_ISSET_ID);
   }
 
   public void setWidthIsSet(boolean value) {
-    __isset_vector[__WIDTH_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WIDTH_ISSET_ID, value);
   }
 
   public short getHeight() {
@@ -317,16 +384,16 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public void unsetHeight() {
-    __isset_vector[__HEIGHT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __HEIGHT_ISSET_ID);
   }
 
   /** Returns true if field height is set (has been asigned a value) and false otherwise */
   public boolean isSetHeight() {
-    return __isset_vector[__HEIGHT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __HEIGHT_ISSET_ID);
   }
 
   public void setHeightIsSet(boolean value) {
-    __isset_vector[__HEIGHT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __HEIGHT_ISSET_ID, value);
   }
 
   public short getDuration() {
@@ -339,16 +406,16 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public void unsetDuration() {
-    __isset_vector[__DURATION_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DURATION_ISSET_ID);
   }
 
   /** Returns true if field duration is set (has been asigned a value) and false otherwise */
   public boolean isSetDuration() {
-    return __isset_vector[__DURATION_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DURATION_ISSET_ID);
   }
 
   public void setDurationIsSet(boolean value) {
-    __isset_vector[__DURATION_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DURATION_ISSET_ID, value);
   }
 
   public boolean isActive() {
@@ -361,61 +428,69 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public void unsetActive() {
-    __isset_vector[__ACTIVE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ACTIVE_ISSET_ID);
   }
 
   /** Returns true if field active is set (has been asigned a value) and false otherwise */
   public boolean isSetActive() {
-    return __isset_vector[__ACTIVE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ACTIVE_ISSET_ID);
   }
 
   public void setActiveIsSet(boolean value) {
-    __isset_vector[__ACTIVE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ACTIVE_ISSET_ID, value);
   }
 
   public Data getRecognition() {
+    decodeRecognition();
     return this.recognition;
   }
 
   public void setRecognition(Data recognition) {
+    this.recognitionSlice = null;
     this.recognition = recognition;
   }
 
   public void unsetRecognition() {
+    this.recognitionSlice = null;
     this.recognition = null;
   }
 
   /** Returns true if field recognition is set (has been asigned a value) and false otherwise */
   public boolean isSetRecognition() {
-    return this.recognition != null;
+    return this.recognition != null || this.recognitionSlice != null;
   }
 
   public void setRecognitionIsSet(boolean value) {
     if (!value) {
       this.recognition = null;
+      this.recognitionSlice = null;
     }
   }
 
   public ResourceAttributes getAttributes() {
+    decodeAttributes();
     return this.attributes;
   }
 
   public void setAttributes(ResourceAttributes attributes) {
+    this.attributesSlice = null;
     this.attributes = attributes;
   }
 
   public void unsetAttributes() {
+    this.attributesSlice = null;
     this.attributes = null;
   }
 
   /** Returns true if field attributes is set (has been asigned a value) and false otherwise */
   public boolean isSetAttributes() {
-    return this.attributes != null;
+    return this.attributes != null || this.attributesSlice != null;
   }
 
   public void setAttributesIsSet(boolean value) {
     if (!value) {
       this.attributes = null;
+      this.attributesSlice = null;
     }
   }
 
@@ -429,38 +504,42 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public void unsetUpdateSequenceNum() {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateSequenceNum() {
-    return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public Data getAlternateData() {
+    decodeAlternateData();
     return this.alternateData;
   }
 
   public void setAlternateData(Data alternateData) {
+    this.alternateDataSlice = null;
     this.alternateData = alternateData;
   }
 
   public void unsetAlternateData() {
+    this.alternateDataSlice = null;
     this.alternateData = null;
   }
 
   /** Returns true if field alternateData is set (has been asigned a value) and false otherwise */
   public boolean isSetAlternateData() {
-    return this.alternateData != null;
+    return this.alternateData != null || this.alternateDataSlice != null;
   }
 
   public void setAlternateDataIsSet(boolean value) {
     if (!value) {
       this.alternateData = null;
+      this.alternateDataSlice = null;
     }
   }
 
@@ -476,6 +555,8 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   public boolean equals(Resource that) {
     if (that == null)
       return false;
+    this.decodeLazyFields();
+    that.decodeLazyFields();
 
     boolean this_present_guid = true && this.isSetGuid();
     boolean that_present_guid = true && that.isSetGuid();
@@ -590,7 +671,77 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    decodeLazyFields();
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetGuid()) ? 131071 : 524287);
+    if (isSetGuid())
+      hashCode = hashCode * 8191 + guid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetNoteGuid()) ? 131071 : 524287);
+    if (isSetNoteGuid())
+      hashCode = hashCode * 8191 + noteGuid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetData()) ? 131071 : 524287);
+    if (isSetData())
+      hashCode = hashCode * 8191 + data.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetMime()) ? 131071 : 524287);
+    if (isSetMime())
+      hashCode = hashCode * 8191 + mime.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetWidth()) ? 131071 : 524287);
+    if (isSetWidth())
+      hashCode = hashCode * 8191 + width;
+
+    hashCode = hashCode * 8191 + ((isSetHeight()) ? 131071 : 524287);
+    if (isSetHeight())
+      hashCode = hashCode * 8191 + height;
+
+    hashCode = hashCode * 8191 + ((isSetDuration()) ? 131071 : 524287);
+    if (isSetDuration())
+      hashCode = hashCode * 8191 + duration;
+
+    hashCode = hashCode * 8191 + ((isSetActive()) ? 131071 : 524287);
+    if (isSetActive())
+      hashCode = hashCode * 8191 + (active ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetRecognition()) ? 131071 : 524287);
+    if (isSetRecognition())
+      hashCode = hashCode * 8191 + recognition.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetAttributes()) ? 131071 : 524287);
+    if (isSetAttributes())
+      hashCode = hashCode * 8191 + attributes.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetUpdateSequenceNum()) ? 131071 : 524287);
+    if (isSetUpdateSequenceNum())
+      hashCode = hashCode * 8191 + updateSequenceNum;
+
+    hashCode = hashCode * 8191 + ((isSetAlternateData()) ? 131071 : 524287);
+    if (isSetAlternateData())
+      hashCode = hashCode * 8191 + alternateData.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(Resource other) {
@@ -600,6 +751,8 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
 
     int lastComparison = 0;
     Resource typedOther = (Resource)other;
+    this.decodeLazyFields();
+    typedOther.decodeLazyFields();
 
     lastComparison = Boolean.valueOf(isSetGuid()).compareTo(typedOther.isSetGuid());
     if (lastComparison != 0) {
@@ -714,6 +867,7 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -721,6 +875,11 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // GUID
           if (field.type == TType.STRING) {
@@ -738,8 +897,10 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
           break;
         case 3: // DATA
           if (field.type == TType.STRUCT) {
-            this.data = new Data();
-            this.data.read(iprot);
+            this.dataSlice = iprot.readLazySlice(field.type);
+            if (this.dataSlice == null) {
+              readData(iprot);
+            }
           } else { 
             TProtocolUtil.skip(iprot, field.type);
           }
@@ -785,16 +946,20 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
           break;
         case 9: // RECOGNITION
           if (field.type == TType.STRUCT) {
-            this.recognition = new Data();
-            this.recognition.read(iprot);
+            this.recognitionSlice = iprot.readLazySlice(field.type);
+            if (this.recognitionSlice == null) {
+              readRecognition(iprot);
+            }
           } else { 
             TProtocolUtil.skip(iprot, field.type);
           }
           break;
         case 11: // ATTRIBUTES
           if (field.type == TType.STRUCT) {
-            this.attributes = new ResourceAttributes();
-            this.attributes.read(iprot);
+            this.attributesSlice = iprot.readLazySlice(field.type);
+            if (this.attributesSlice == null) {
+              readAttributes(iprot);
+            }
           } else { 
             TProtocolUtil.skip(iprot, field.type);
           }
@@ -809,8 +974,10 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
           break;
         case 13: // ALTERNATE_DATA
           if (field.type == TType.STRUCT) {
-            this.alternateData = new Data();
-            this.alternateData.read(iprot);
+            this.alternateDataSlice = iprot.readLazySlice(field.type);
+            if (this.alternateDataSlice == null) {
+              readAlternateData(iprot);
+            }
           } else { 
             TProtocolUtil.skip(iprot, field.type);
           }
@@ -821,10 +988,12 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
       iprot.readFieldEnd();
     }
     iprot.readStructEnd();
+    __recycled = false;
     validate();
   }
 
   public void write(TProtocol oprot) throws TException {
+    decodeLazyFields();
     validate();
 
     oprot.writeStructBegin(STRUCT_DESC);
@@ -908,6 +1077,7 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
 
   @Override
   public String toString() {
+    decodeLazyFields();
     StringBuilder sb = new StringBuilder("Resource(");
     boolean first = true;
 
@@ -1014,6 +1184,94 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
     return sb.toString();
   }
 
+  private void decodeLazyFields() {
+    decodeData();
+    decodeRecognition();
+    decodeAttributes();
+    decodeAlternateData();
+  }
+
+  private void decodeData() {
+    if (this.dataSlice != null) {
+      TProtocol iprot = this.dataSlice.getProtocol();
+      this.dataSlice = null;
+      try {
+        readData(iprot);
+      } catch (TException e) {
+        throw new IllegalStateException("Failed to decode Resource.data", e);
+      }
+    }
+  }
+
+  private void decodeRecognition() {
+    if (this.recognitionSlice != null) {
+      TProtocol iprot = this.recognitionSlice.getProtocol();
+      this.recognitionSlice = null;
+      try {
+        readRecognition(iprot);
+      } catch (TException e) {
+        throw new IllegalStateException("Failed to decode Resource.recognition", e);
+      }
+    }
+  }
+
+  private void decodeAttributes() {
+    if (this.attributesSlice != null) {
+      TProtocol iprot = this.attributesSlice.getProtocol();
+      this.attributesSlice = null;
+      try {
+        readAttributes(iprot);
+      } catch (TException e) {
+        throw new IllegalStateException("Failed to decode Resource.attributes", e);
+      }
+    }
+  }
+
+  private void decodeAlternateData() {
+    if (this.alternateDataSlice != null) {
+      TProtocol iprot = this.alternateDataSlice.getProtocol();
+      this.alternateDataSlice = null;
+      try {
+        readAlternateData(iprot);
+      } catch (TException e) {
+        throw new IllegalStateException("Failed to decode Resource.alternateData", e);
+      }
+    }
+  }
+
+  private void readData(TProtocol iprot) throws TException {
+    this.data = __recycled && this.dataOwned != null
+        ? this.dataOwned : new Data();
+    this.dataOwned = this.data;
+    this.data.read(iprot);
+  }
+
+  private void readRecognition(TProtocol iprot) throws TException {
+    this.recognition = __recycled && this.recognitionOwned != null
+        ? this.recognitionOwned : new Data();
+    this.recognitionOwned = this.recognition;
+    this.recognition.read(iprot);
+  }
+
+  private void readAttributes(TProtocol iprot) throws TException {
+    this.attributes = __recycled && this.attributesOwned != null
+        ? this.attributesOwned : new ResourceAttributes();
+    this.attributesOwned = this.attributes;
+    this.attributes.read(iprot);
+  }
+
+  private void readAlternateData(TProtocol iprot) throws TException {
+    this.alternateData = __recycled && this.alternateDataOwned != null
+        ? this.alternateDataOwned : new Data();
+    this.alternateDataOwned = this.alternateData;
+    this.alternateData.read(iprot);
+  }
+
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    decodeLazyFields();
+    out.defaultWriteObject();
+  }
+
   public void validate() throws TException {
     // check for required fields
   }
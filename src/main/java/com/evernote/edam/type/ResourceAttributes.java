@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -133,7 +134,11 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   private static final int __ALTITUDE_ISSET_ID = 3;
   private static final int __CLIENTWILLINDEX_ISSET_ID = 4;
   private static final int __ATTACHMENT_ISSET_ID = 5;
-  private boolean[] __isset_vector = new boolean[6];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public ResourceAttributes() {
   }
@@ -142,7 +147,7 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
    * Performs a deep copy on <i>other</i>.
    */
   public ResourceAttributes(ResourceAttributes other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetSourceURL()) {
       this.sourceURL = other.sourceURL;
     }
@@ -174,6 +179,8 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.sourceURL = null;
     setTimestampIsSet(false);
     this.timestamp = 0;
@@ -227,16 +234,16 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void unsetTimestamp() {
-    __isset_vector[__TIMESTAMP_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
   }
 
   /** Returns true if field timestamp is set (has been asigned a value) and false otherwise */
   public boolean isSetTimestamp() {
-    return __isset_vector[__TIMESTAMP_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
   }
 
   public void setTimestampIsSet(boolean value) {
-    __isset_vector[__TIMESTAMP_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMESTAMP_ISSET_ID, value);
   }
 
   public double getLatitude() {
@@ -249,16 +256,16 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void unsetLatitude() {
-    __isset_vector[__LATITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LATITUDE_ISSET_ID);
   }
 
   /** Returns true if field latitude is set (has been asigned a value) and false otherwise */
   public boolean isSetLatitude() {
-    return __isset_vector[__LATITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LATITUDE_ISSET_ID);
   }
 
   public void setLatitudeIsSet(boolean value) {
-    __isset_vector[__LATITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LATITUDE_ISSET_ID, value);
   }
 
   public double getLongitude() {
@@ -271,16 +278,16 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void unsetLongitude() {
-    __isset_vector[__LONGITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LONGITUDE_ISSET_ID);
   }
 
   /** Returns true if field longitude is set (has been asigned a value) and false otherwise */
   public boolean isSetLongitude() {
-    return __isset_vector[__LONGITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LONGITUDE_ISSET_ID);
   }
 
   public void setLongitudeIsSet(boolean value) {
-    __isset_vector[__LONGITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LONGITUDE_ISSET_ID, value);
   }
 
   public double getAltitude() {
@@ -293,16 +300,16 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void unsetAltitude() {
-    __isset_vector[__ALTITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ALTITUDE_ISSET_ID);
   }
 
   /** Returns true if field altitude is set (has been asigned a value) and false otherwise */
   public boolean isSetAltitude() {
-    return __isset_vector[__ALTITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ALTITUDE_ISSET_ID);
   }
 
   public void setAltitudeIsSet(boolean value) {
-    __isset_vector[__ALTITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ALTITUDE_ISSET_ID, value);
   }
 
   public String getCameraMake() {
@@ -361,16 +368,16 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void unsetClientWillIndex() {
-    __isset_vector[__CLIENTWILLINDEX_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CLIENTWILLINDEX_ISSET_ID);
   }
 
   /** Returns true if field clientWillIndex is set (has been asigned a value) and false otherwise */
   public boolean isSetClientWillIndex() {
-    return __isset_vector[__CLIENTWILLINDEX_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CLIENTWILLINDEX_ISSET_ID);
   }
 
   public void setClientWillIndexIsSet(boolean value) {
-    __isset_vector[__CLIENTWILLINDEX_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CLIENTWILLINDEX_ISSET_ID, value);
   }
 
   public String getRecoType() {
@@ -429,16 +436,16 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void unsetAttachment() {
-    __isset_vector[__ATTACHMENT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ATTACHMENT_ISSET_ID);
   }
 
   /** Returns true if field attachment is set (has been asigned a value) and false otherwise */
   public boolean isSetAttachment() {
-    return __isset_vector[__ATTACHMENT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ATTACHMENT_ISSET_ID);
   }
 
   public void setAttachmentIsSet(boolean value) {
-    __isset_vector[__ATTACHMENT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ATTACHMENT_ISSET_ID, value);
   }
 
   public LazyMap getApplicationData() {
@@ -590,7 +597,76 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetSourceURL()) ? 131071 : 524287);
+    if (isSetSourceURL())
+      hashCode = hashCode * 8191 + sourceURL.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTimestamp()) ? 131071 : 524287);
+    if (isSetTimestamp())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(timestamp);
+
+    hashCode = hashCode * 8191 + ((isSetLatitude()) ? 131071 : 524287);
+    if (isSetLatitude())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(latitude);
+
+    hashCode = hashCode * 8191 + ((isSetLongitude()) ? 131071 : 524287);
+    if (isSetLongitude())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(longitude);
+
+    hashCode = hashCode * 8191 + ((isSetAltitude()) ? 131071 : 524287);
+    if (isSetAltitude())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(altitude);
+
+    hashCode = hashCode * 8191 + ((isSetCameraMake()) ? 131071 : 524287);
+    if (isSetCameraMake())
+      hashCode = hashCode * 8191 + cameraMake.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetCameraModel()) ? 131071 : 524287);
+    if (isSetCameraModel())
+      hashCode = hashCode * 8191 + cameraModel.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetClientWillIndex()) ? 131071 : 524287);
+    if (isSetClientWillIndex())
+      hashCode = hashCode * 8191 + (clientWillIndex ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetRecoType()) ? 131071 : 524287);
+    if (isSetRecoType())
+      hashCode = hashCode * 8191 + recoType.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetFileName()) ? 131071 : 524287);
+    if (isSetFileName())
+      hashCode = hashCode * 8191 + fileName.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetAttachment()) ? 131071 : 524287);
+    if (isSetAttachment())
+      hashCode = hashCode * 8191 + (attachment ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetApplicationData()) ? 131071 : 524287);
+    if (isSetApplicationData())
+      hashCode = hashCode * 8191 + applicationData.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(ResourceAttributes other) {
@@ -714,6 +790,7 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -721,6 +798,11 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // SOURCE_URL
           if (field.type == TType.STRING) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -48,7 +49,11 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
   private static final int __INCLUDEACCOUNT_ISSET_ID = 0;
   private static final int __INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID = 1;
   private static final int __INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public SavedSearchScope() {
   }
@@ -57,7 +62,7 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
    * Performs a deep copy on <i>other</i>.
    */
   public SavedSearchScope(SavedSearchScope other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.includeAccount = other.includeAccount;
     this.includePersonalLinkedNotebooks = other.includePersonalLinkedNotebooks;
     this.includeBusinessLinkedNotebooks = other.includeBusinessLinkedNotebooks;
@@ -68,6 +73,8 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setIncludeAccountIsSet(false);
     this.includeAccount = false;
     setIncludePersonalLinkedNotebooksIsSet(false);
@@ -86,16 +93,16 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
   }
 
   public void unsetIncludeAccount() {
-    __isset_vector[__INCLUDEACCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEACCOUNT_ISSET_ID);
   }
 
   /** Returns true if field includeAccount is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeAccount() {
-    return __isset_vector[__INCLUDEACCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEACCOUNT_ISSET_ID);
   }
 
   public void setIncludeAccountIsSet(boolean value) {
-    __isset_vector[__INCLUDEACCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEACCOUNT_ISSET_ID, value);
   }
 
   public boolean isIncludePersonalLinkedNotebooks() {
@@ -108,16 +115,16 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
   }
 
   public void unsetIncludePersonalLinkedNotebooks() {
-    __isset_vector[__INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field includePersonalLinkedNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludePersonalLinkedNotebooks() {
-    return __isset_vector[__INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID);
   }
 
   public void setIncludePersonalLinkedNotebooksIsSet(boolean value) {
-    __isset_vector[__INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID, value);
   }
 
   public boolean isIncludeBusinessLinkedNotebooks() {
@@ -130,16 +137,16 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
   }
 
   public void unsetIncludeBusinessLinkedNotebooks() {
-    __isset_vector[__INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field includeBusinessLinkedNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeBusinessLinkedNotebooks() {
-    return __isset_vector[__INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID);
   }
 
   public void setIncludeBusinessLinkedNotebooksIsSet(boolean value) {
-    __isset_vector[__INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID, value);
   }
 
   @Override
@@ -187,7 +194,40 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetIncludeAccount()) ? 131071 : 524287);
+    if (isSetIncludeAccount())
+      hashCode = hashCode * 8191 + (includeAccount ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludePersonalLinkedNotebooks()) ? 131071 : 524287);
+    if (isSetIncludePersonalLinkedNotebooks())
+      hashCode = hashCode * 8191 + (includePersonalLinkedNotebooks ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetIncludeBusinessLinkedNotebooks()) ? 131071 : 524287);
+    if (isSetIncludeBusinessLinkedNotebooks())
+      hashCode = hashCode * 8191 + (includeBusinessLinkedNotebooks ? 131071 : 524287);
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(SavedSearchScope other) {
@@ -230,6 +270,7 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -237,6 +278,11 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // INCLUDE_ACCOUNT
           if (field.type == TType.BOOL) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -117,7 +118,11 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   private static final int __SERVICECREATED_ISSET_ID = 4;
   private static final int __SERVICEUPDATED_ISSET_ID = 5;
   private static final int __ALLOWPREVIEW_ISSET_ID = 6;
-  private boolean[] __isset_vector = new boolean[7];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public SharedNotebook() {
   }
@@ -126,7 +131,7 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
    * Performs a deep copy on <i>other</i>.
    */
   public SharedNotebook(SharedNotebook other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.id = other.id;
     this.userId = other.userId;
     if (other.isSetNotebookGuid()) {
@@ -159,6 +164,8 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setIdIsSet(false);
     this.id = 0;
     setUserIdIsSet(false);
@@ -191,16 +198,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetId() {
-    __isset_vector[__ID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
   }
 
   /** Returns true if field id is set (has been asigned a value) and false otherwise */
   public boolean isSetId() {
-    return __isset_vector[__ID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
   }
 
   public void setIdIsSet(boolean value) {
-    __isset_vector[__ID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
   }
 
   public int getUserId() {
@@ -213,16 +220,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetUserId() {
-    __isset_vector[__USERID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
   }
 
   /** Returns true if field userId is set (has been asigned a value) and false otherwise */
   public boolean isSetUserId() {
-    return __isset_vector[__USERID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
   }
 
   public void setUserIdIsSet(boolean value) {
-    __isset_vector[__USERID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
   }
 
   public String getNotebookGuid() {
@@ -281,16 +288,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetNotebookModifiable() {
-    __isset_vector[__NOTEBOOKMODIFIABLE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOTEBOOKMODIFIABLE_ISSET_ID);
   }
 
   /** Returns true if field notebookModifiable is set (has been asigned a value) and false otherwise */
   public boolean isSetNotebookModifiable() {
-    return __isset_vector[__NOTEBOOKMODIFIABLE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOTEBOOKMODIFIABLE_ISSET_ID);
   }
 
   public void setNotebookModifiableIsSet(boolean value) {
-    __isset_vector[__NOTEBOOKMODIFIABLE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOTEBOOKMODIFIABLE_ISSET_ID, value);
   }
 
   public boolean isRequireLogin() {
@@ -303,16 +310,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetRequireLogin() {
-    __isset_vector[__REQUIRELOGIN_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REQUIRELOGIN_ISSET_ID);
   }
 
   /** Returns true if field requireLogin is set (has been asigned a value) and false otherwise */
   public boolean isSetRequireLogin() {
-    return __isset_vector[__REQUIRELOGIN_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REQUIRELOGIN_ISSET_ID);
   }
 
   public void setRequireLoginIsSet(boolean value) {
-    __isset_vector[__REQUIRELOGIN_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REQUIRELOGIN_ISSET_ID, value);
   }
 
   public long getServiceCreated() {
@@ -325,16 +332,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetServiceCreated() {
-    __isset_vector[__SERVICECREATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SERVICECREATED_ISSET_ID);
   }
 
   /** Returns true if field serviceCreated is set (has been asigned a value) and false otherwise */
   public boolean isSetServiceCreated() {
-    return __isset_vector[__SERVICECREATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SERVICECREATED_ISSET_ID);
   }
 
   public void setServiceCreatedIsSet(boolean value) {
-    __isset_vector[__SERVICECREATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SERVICECREATED_ISSET_ID, value);
   }
 
   public long getServiceUpdated() {
@@ -347,16 +354,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetServiceUpdated() {
-    __isset_vector[__SERVICEUPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SERVICEUPDATED_ISSET_ID);
   }
 
   /** Returns true if field serviceUpdated is set (has been asigned a value) and false otherwise */
   public boolean isSetServiceUpdated() {
-    return __isset_vector[__SERVICEUPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SERVICEUPDATED_ISSET_ID);
   }
 
   public void setServiceUpdatedIsSet(boolean value) {
-    __isset_vector[__SERVICEUPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SERVICEUPDATED_ISSET_ID, value);
   }
 
   public String getShareKey() {
@@ -446,16 +453,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetAllowPreview() {
-    __isset_vector[__ALLOWPREVIEW_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ALLOWPREVIEW_ISSET_ID);
   }
 
   /** Returns true if field allowPreview is set (has been asigned a value) and false otherwise */
   public boolean isSetAllowPreview() {
-    return __isset_vector[__ALLOWPREVIEW_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ALLOWPREVIEW_ISSET_ID);
   }
 
   public void setAllowPreviewIsSet(boolean value) {
-    __isset_vector[__ALLOWPREVIEW_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ALLOWPREVIEW_ISSET_ID, value);
   }
 
   public SharedNotebookRecipientSettings getRecipientSettings() {
@@ -616,7 +623,80 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetId()) ? 131071 : 524287);
+    if (isSetId())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(id);
+
+    hashCode = hashCode * 8191 + ((isSetUserId()) ? 131071 : 524287);
+    if (isSetUserId())
+      hashCode = hashCode * 8191 + userId;
+
+    hashCode = hashCode * 8191 + ((isSetNotebookGuid()) ? 131071 : 524287);
+    if (isSetNotebookGuid())
+      hashCode = hashCode * 8191 + notebookGuid.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetEmail()) ? 131071 : 524287);
+    if (isSetEmail())
+      hashCode = hashCode * 8191 + email.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetNotebookModifiable()) ? 131071 : 524287);
+    if (isSetNotebookModifiable())
+      hashCode = hashCode * 8191 + (notebookModifiable ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetRequireLogin()) ? 131071 : 524287);
+    if (isSetRequireLogin())
+      hashCode = hashCode * 8191 + (requireLogin ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetServiceCreated()) ? 131071 : 524287);
+    if (isSetServiceCreated())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(serviceCreated);
+
+    hashCode = hashCode * 8191 + ((isSetServiceUpdated()) ? 131071 : 524287);
+    if (isSetServiceUpdated())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(serviceUpdated);
+
+    hashCode = hashCode * 8191 + ((isSetShareKey()) ? 131071 : 524287);
+    if (isSetShareKey())
+      hashCode = hashCode * 8191 + shareKey.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetUsername()) ? 131071 : 524287);
+    if (isSetUsername())
+      hashCode = hashCode * 8191 + username.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetPrivilege()) ? 131071 : 524287);
+    if (isSetPrivilege())
+      hashCode = hashCode * 8191 + privilege.getValue();
+
+    hashCode = hashCode * 8191 + ((isSetAllowPreview()) ? 131071 : 524287);
+    if (isSetAllowPreview())
+      hashCode = hashCode * 8191 + (allowPreview ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetRecipientSettings()) ? 131071 : 524287);
+    if (isSetRecipientSettings())
+      hashCode = hashCode * 8191 + recipientSettings.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(SharedNotebook other) {
@@ -749,6 +829,7 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -756,6 +837,11 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // ID
           if (field.type == TType.I64) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -56,7 +57,11 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
   // isset id assignments
   private static final int __REMINDERNOTIFYEMAIL_ISSET_ID = 0;
   private static final int __REMINDERNOTIFYINAPP_ISSET_ID = 1;
-  private boolean[] __isset_vector = new boolean[2];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public SharedNotebookRecipientSettings() {
   }
@@ -65,7 +70,7 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
    * Performs a deep copy on <i>other</i>.
    */
   public SharedNotebookRecipientSettings(SharedNotebookRecipientSettings other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.reminderNotifyEmail = other.reminderNotifyEmail;
     this.reminderNotifyInApp = other.reminderNotifyInApp;
   }
@@ -75,6 +80,8 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setReminderNotifyEmailIsSet(false);
     this.reminderNotifyEmail = false;
     setReminderNotifyInAppIsSet(false);
@@ -91,16 +98,16 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
   }
 
   public void unsetReminderNotifyEmail() {
-    __isset_vector[__REMINDERNOTIFYEMAIL_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REMINDERNOTIFYEMAIL_ISSET_ID);
   }
 
   /** Returns true if field reminderNotifyEmail is set (has been asigned a value) and false otherwise */
   public boolean isSetReminderNotifyEmail() {
-    return __isset_vector[__REMINDERNOTIFYEMAIL_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REMINDERNOTIFYEMAIL_ISSET_ID);
   }
 
   public void setReminderNotifyEmailIsSet(boolean value) {
-    __isset_vector[__REMINDERNOTIFYEMAIL_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REMINDERNOTIFYEMAIL_ISSET_ID, value);
   }
 
   public boolean isReminderNotifyInApp() {
@@ -113,16 +120,16 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
   }
 
   public void unsetReminderNotifyInApp() {
-    __isset_vector[__REMINDERNOTIFYINAPP_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REMINDERNOTIFYINAPP_ISSET_ID);
   }
 
   /** Returns true if field reminderNotifyInApp is set (has been asigned a value) and false otherwise */
   public boolean isSetReminderNotifyInApp() {
-    return __isset_vector[__REMINDERNOTIFYINAPP_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REMINDERNOTIFYINAPP_ISSET_ID);
   }
 
   public void setReminderNotifyInAppIsSet(boolean value) {
-    __isset_vector[__REMINDERNOTIFYINAPP_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REMINDERNOTIFYINAPP_ISSET_ID, value);
   }
 
   @Override
@@ -161,7 +168,36 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetReminderNotifyEmail()) ? 131071 : 524287);
+    if (isSetReminderNotifyEmail())
+      hashCode = hashCode * 8191 + (reminderNotifyEmail ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetReminderNotifyInApp()) ? 131071 : 524287);
+    if (isSetReminderNotifyInApp())
+      hashCode = hashCode * 8191 + (reminderNotifyInApp ? 131071 : 524287);
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(SharedNotebookRecipientSettings other) {
@@ -195,6 +231,7 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -202,6 +239,11 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // REMINDER_NOTIFY_EMAIL
           if (field.type == TType.BOOL) {
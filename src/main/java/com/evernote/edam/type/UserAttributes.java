@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -279,7 +280,11 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   private static final int __HIDESPONSORBILLING_ISSET_ID = 13;
   private static final int __TAXEXEMPT_ISSET_ID = 14;
   private static final int __USEEMAILAUTOFILING_ISSET_ID = 15;
-  private boolean[] __isset_vector = new boolean[16];
+  private short __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public UserAttributes() {
   }
@@ -288,7 +293,7 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
    * Performs a deep copy on <i>other</i>.
    */
   public UserAttributes(UserAttributes other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetDefaultLocationName()) {
       this.defaultLocationName = other.defaultLocationName;
     }
@@ -365,6 +370,8 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.defaultLocationName = null;
     setDefaultLatitudeIsSet(false);
     this.defaultLatitude = 0.0;
@@ -447,16 +454,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetDefaultLatitude() {
-    __isset_vector[__DEFAULTLATITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DEFAULTLATITUDE_ISSET_ID);
   }
 
   /** Returns true if field defaultLatitude is set (has been asigned a value) and false otherwise */
   public boolean isSetDefaultLatitude() {
-    return __isset_vector[__DEFAULTLATITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DEFAULTLATITUDE_ISSET_ID);
   }
 
   public void setDefaultLatitudeIsSet(boolean value) {
-    __isset_vector[__DEFAULTLATITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DEFAULTLATITUDE_ISSET_ID, value);
   }
 
   public double getDefaultLongitude() {
@@ -469,16 +476,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetDefaultLongitude() {
-    __isset_vector[__DEFAULTLONGITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DEFAULTLONGITUDE_ISSET_ID);
   }
 
   /** Returns true if field defaultLongitude is set (has been asigned a value) and false otherwise */
   public boolean isSetDefaultLongitude() {
-    return __isset_vector[__DEFAULTLONGITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DEFAULTLONGITUDE_ISSET_ID);
   }
 
   public void setDefaultLongitudeIsSet(boolean value) {
-    __isset_vector[__DEFAULTLONGITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DEFAULTLONGITUDE_ISSET_ID, value);
   }
 
   public boolean isPreactivation() {
@@ -491,16 +498,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetPreactivation() {
-    __isset_vector[__PREACTIVATION_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREACTIVATION_ISSET_ID);
   }
 
   /** Returns true if field preactivation is set (has been asigned a value) and false otherwise */
   public boolean isSetPreactivation() {
-    return __isset_vector[__PREACTIVATION_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREACTIVATION_ISSET_ID);
   }
 
   public void setPreactivationIsSet(boolean value) {
-    __isset_vector[__PREACTIVATION_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREACTIVATION_ISSET_ID, value);
   }
 
   public int getViewedPromotionsSize() {
@@ -635,16 +642,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetDateAgreedToTermsOfService() {
-    __isset_vector[__DATEAGREEDTOTERMSOFSERVICE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DATEAGREEDTOTERMSOFSERVICE_ISSET_ID);
   }
 
   /** Returns true if field dateAgreedToTermsOfService is set (has been asigned a value) and false otherwise */
   public boolean isSetDateAgreedToTermsOfService() {
-    return __isset_vector[__DATEAGREEDTOTERMSOFSERVICE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DATEAGREEDTOTERMSOFSERVICE_ISSET_ID);
   }
 
   public void setDateAgreedToTermsOfServiceIsSet(boolean value) {
-    __isset_vector[__DATEAGREEDTOTERMSOFSERVICE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DATEAGREEDTOTERMSOFSERVICE_ISSET_ID, value);
   }
 
   public int getMaxReferrals() {
@@ -657,16 +664,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetMaxReferrals() {
-    __isset_vector[__MAXREFERRALS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXREFERRALS_ISSET_ID);
   }
 
   /** Returns true if field maxReferrals is set (has been asigned a value) and false otherwise */
   public boolean isSetMaxReferrals() {
-    return __isset_vector[__MAXREFERRALS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __MAXREFERRALS_ISSET_ID);
   }
 
   public void setMaxReferralsIsSet(boolean value) {
-    __isset_vector[__MAXREFERRALS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXREFERRALS_ISSET_ID, value);
   }
 
   public int getReferralCount() {
@@ -679,16 +686,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetReferralCount() {
-    __isset_vector[__REFERRALCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REFERRALCOUNT_ISSET_ID);
   }
 
   /** Returns true if field referralCount is set (has been asigned a value) and false otherwise */
   public boolean isSetReferralCount() {
-    return __isset_vector[__REFERRALCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REFERRALCOUNT_ISSET_ID);
   }
 
   public void setReferralCountIsSet(boolean value) {
-    __isset_vector[__REFERRALCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REFERRALCOUNT_ISSET_ID, value);
   }
 
   public String getRefererCode() {
@@ -724,16 +731,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetSentEmailDate() {
-    __isset_vector[__SENTEMAILDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SENTEMAILDATE_ISSET_ID);
   }
 
   /** Returns true if field sentEmailDate is set (has been asigned a value) and false otherwise */
   public boolean isSetSentEmailDate() {
-    return __isset_vector[__SENTEMAILDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SENTEMAILDATE_ISSET_ID);
   }
 
   public void setSentEmailDateIsSet(boolean value) {
-    __isset_vector[__SENTEMAILDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SENTEMAILDATE_ISSET_ID, value);
   }
 
   public int getSentEmailCount() {
@@ -746,16 +753,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetSentEmailCount() {
-    __isset_vector[__SENTEMAILCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SENTEMAILCOUNT_ISSET_ID);
   }
 
   /** Returns true if field sentEmailCount is set (has been asigned a value) and false otherwise */
   public boolean isSetSentEmailCount() {
-    return __isset_vector[__SENTEMAILCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SENTEMAILCOUNT_ISSET_ID);
   }
 
   public void setSentEmailCountIsSet(boolean value) {
-    __isset_vector[__SENTEMAILCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SENTEMAILCOUNT_ISSET_ID, value);
   }
 
   public int getDailyEmailLimit() {
@@ -768,16 +775,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetDailyEmailLimit() {
-    __isset_vector[__DAILYEMAILLIMIT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DAILYEMAILLIMIT_ISSET_ID);
   }
 
   /** Returns true if field dailyEmailLimit is set (has been asigned a value) and false otherwise */
   public boolean isSetDailyEmailLimit() {
-    return __isset_vector[__DAILYEMAILLIMIT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DAILYEMAILLIMIT_ISSET_ID);
   }
 
   public void setDailyEmailLimitIsSet(boolean value) {
-    __isset_vector[__DAILYEMAILLIMIT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DAILYEMAILLIMIT_ISSET_ID, value);
   }
 
   public long getEmailOptOutDate() {
@@ -790,16 +797,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetEmailOptOutDate() {
-    __isset_vector[__EMAILOPTOUTDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __EMAILOPTOUTDATE_ISSET_ID);
   }
 
   /** Returns true if field emailOptOutDate is set (has been asigned a value) and false otherwise */
   public boolean isSetEmailOptOutDate() {
-    return __isset_vector[__EMAILOPTOUTDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __EMAILOPTOUTDATE_ISSET_ID);
   }
 
   public void setEmailOptOutDateIsSet(boolean value) {
-    __isset_vector[__EMAILOPTOUTDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __EMAILOPTOUTDATE_ISSET_ID, value);
   }
 
   public long getPartnerEmailOptInDate() {
@@ -812,16 +819,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetPartnerEmailOptInDate() {
-    __isset_vector[__PARTNEREMAILOPTINDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PARTNEREMAILOPTINDATE_ISSET_ID);
   }
 
   /** Returns true if field partnerEmailOptInDate is set (has been asigned a value) and false otherwise */
   public boolean isSetPartnerEmailOptInDate() {
-    return __isset_vector[__PARTNEREMAILOPTINDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PARTNEREMAILOPTINDATE_ISSET_ID);
   }
 
   public void setPartnerEmailOptInDateIsSet(boolean value) {
-    __isset_vector[__PARTNEREMAILOPTINDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PARTNEREMAILOPTINDATE_ISSET_ID, value);
   }
 
   public String getPreferredLanguage() {
@@ -880,16 +887,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetClipFullPage() {
-    __isset_vector[__CLIPFULLPAGE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CLIPFULLPAGE_ISSET_ID);
   }
 
   /** Returns true if field clipFullPage is set (has been asigned a value) and false otherwise */
   public boolean isSetClipFullPage() {
-    return __isset_vector[__CLIPFULLPAGE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CLIPFULLPAGE_ISSET_ID);
   }
 
   public void setClipFullPageIsSet(boolean value) {
-    __isset_vector[__CLIPFULLPAGE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CLIPFULLPAGE_ISSET_ID, value);
   }
 
   public String getTwitterUserName() {
@@ -1017,16 +1024,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetEducationalDiscount() {
-    __isset_vector[__EDUCATIONALDISCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __EDUCATIONALDISCOUNT_ISSET_ID);
   }
 
   /** Returns true if field educationalDiscount is set (has been asigned a value) and false otherwise */
   public boolean isSetEducationalDiscount() {
-    return __isset_vector[__EDUCATIONALDISCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __EDUCATIONALDISCOUNT_ISSET_ID);
   }
 
   public void setEducationalDiscountIsSet(boolean value) {
-    __isset_vector[__EDUCATIONALDISCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __EDUCATIONALDISCOUNT_ISSET_ID, value);
   }
 
   public String getBusinessAddress() {
@@ -1062,16 +1069,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetHideSponsorBilling() {
-    __isset_vector[__HIDESPONSORBILLING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __HIDESPONSORBILLING_ISSET_ID);
   }
 
   /** Returns true if field hideSponsorBilling is set (has been asigned a value) and false otherwise */
   public boolean isSetHideSponsorBilling() {
-    return __isset_vector[__HIDESPONSORBILLING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __HIDESPONSORBILLING_ISSET_ID);
   }
 
   public void setHideSponsorBillingIsSet(boolean value) {
-    __isset_vector[__HIDESPONSORBILLING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __HIDESPONSORBILLING_ISSET_ID, value);
   }
 
   public boolean isTaxExempt() {
@@ -1084,16 +1091,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetTaxExempt() {
-    __isset_vector[__TAXEXEMPT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TAXEXEMPT_ISSET_ID);
   }
 
   /** Returns true if field taxExempt is set (has been asigned a value) and false otherwise */
   public boolean isSetTaxExempt() {
-    return __isset_vector[__TAXEXEMPT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __TAXEXEMPT_ISSET_ID);
   }
 
   public void setTaxExemptIsSet(boolean value) {
-    __isset_vector[__TAXEXEMPT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TAXEXEMPT_ISSET_ID, value);
   }
 
   public boolean isUseEmailAutoFiling() {
@@ -1106,16 +1113,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetUseEmailAutoFiling() {
-    __isset_vector[__USEEMAILAUTOFILING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USEEMAILAUTOFILING_ISSET_ID);
   }
 
   /** Returns true if field useEmailAutoFiling is set (has been asigned a value) and false otherwise */
   public boolean isSetUseEmailAutoFiling() {
-    return __isset_vector[__USEEMAILAUTOFILING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __USEEMAILAUTOFILING_ISSET_ID);
   }
 
   public void setUseEmailAutoFilingIsSet(boolean value) {
-    __isset_vector[__USEEMAILAUTOFILING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USEEMAILAUTOFILING_ISSET_ID, value);
   }
 
   /**
@@ -1446,7 +1453,152 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetDefaultLocationName()) ? 131071 : 524287);
+    if (isSetDefaultLocationName())
+      hashCode = hashCode * 8191 + defaultLocationName.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetDefaultLatitude()) ? 131071 : 524287);
+    if (isSetDefaultLatitude())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(defaultLatitude);
+
+    hashCode = hashCode * 8191 + ((isSetDefaultLongitude()) ? 131071 : 524287);
+    if (isSetDefaultLongitude())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(defaultLongitude);
+
+    hashCode = hashCode * 8191 + ((isSetPreactivation()) ? 131071 : 524287);
+    if (isSetPreactivation())
+      hashCode = hashCode * 8191 + (preactivation ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetViewedPromotions()) ? 131071 : 524287);
+    if (isSetViewedPromotions())
+      hashCode = hashCode * 8191 + viewedPromotions.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetIncomingEmailAddress()) ? 131071 : 524287);
+    if (isSetIncomingEmailAddress())
+      hashCode = hashCode * 8191 + incomingEmailAddress.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetRecentMailedAddresses()) ? 131071 : 524287);
+    if (isSetRecentMailedAddresses())
+      hashCode = hashCode * 8191 + recentMailedAddresses.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetComments()) ? 131071 : 524287);
+    if (isSetComments())
+      hashCode = hashCode * 8191 + comments.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetDateAgreedToTermsOfService()) ? 131071 : 524287);
+    if (isSetDateAgreedToTermsOfService())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(dateAgreedToTermsOfService);
+
+    hashCode = hashCode * 8191 + ((isSetMaxReferrals()) ? 131071 : 524287);
+    if (isSetMaxReferrals())
+      hashCode = hashCode * 8191 + maxReferrals;
+
+    hashCode = hashCode * 8191 + ((isSetReferralCount()) ? 131071 : 524287);
+    if (isSetReferralCount())
+      hashCode = hashCode * 8191 + referralCount;
+
+    hashCode = hashCode * 8191 + ((isSetRefererCode()) ? 131071 : 524287);
+    if (isSetRefererCode())
+      hashCode = hashCode * 8191 + refererCode.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSentEmailDate()) ? 131071 : 524287);
+    if (isSetSentEmailDate())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(sentEmailDate);
+
+    hashCode = hashCode * 8191 + ((isSetSentEmailCount()) ? 131071 : 524287);
+    if (isSetSentEmailCount())
+      hashCode = hashCode * 8191 + sentEmailCount;
+
+    hashCode = hashCode * 8191 + ((isSetDailyEmailLimit()) ? 131071 : 524287);
+    if (isSetDailyEmailLimit())
+      hashCode = hashCode * 8191 + dailyEmailLimit;
+
+    hashCode = hashCode * 8191 + ((isSetEmailOptOutDate()) ? 131071 : 524287);
+    if (isSetEmailOptOutDate())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(emailOptOutDate);
+
+    hashCode = hashCode * 8191 + ((isSetPartnerEmailOptInDate()) ? 131071 : 524287);
+    if (isSetPartnerEmailOptInDate())
+      hashCode = hashCode * 8191 + TBaseHelper.hashCode(partnerEmailOptInDate);
+
+    hashCode = hashCode * 8191 + ((isSetPreferredLanguage()) ? 131071 : 524287);
+    if (isSetPreferredLanguage())
+      hashCode = hashCode * 8191 + preferredLanguage.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetPreferredCountry()) ? 131071 : 524287);
+    if (isSetPreferredCountry())
+      hashCode = hashCode * 8191 + preferredCountry.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetClipFullPage()) ? 131071 : 524287);
+    if (isSetClipFullPage())
+      hashCode = hashCode * 8191 + (clipFullPage ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetTwitterUserName()) ? 131071 : 524287);
+    if (isSetTwitterUserName())
+      hashCode = hashCode * 8191 + twitterUserName.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTwitterId()) ? 131071 : 524287);
+    if (isSetTwitterId())
+      hashCode = hashCode * 8191 + twitterId.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetGroupName()) ? 131071 : 524287);
+    if (isSetGroupName())
+      hashCode = hashCode * 8191 + groupName.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetRecognitionLanguage()) ? 131071 : 524287);
+    if (isSetRecognitionLanguage())
+      hashCode = hashCode * 8191 + recognitionLanguage.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetReferralProof()) ? 131071 : 524287);
+    if (isSetReferralProof())
+      hashCode = hashCode * 8191 + referralProof.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetEducationalDiscount()) ? 131071 : 524287);
+    if (isSetEducationalDiscount())
+      hashCode = hashCode * 8191 + (educationalDiscount ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetBusinessAddress()) ? 131071 : 524287);
+    if (isSetBusinessAddress())
+      hashCode = hashCode * 8191 + businessAddress.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetHideSponsorBilling()) ? 131071 : 524287);
+    if (isSetHideSponsorBilling())
+      hashCode = hashCode * 8191 + (hideSponsorBilling ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetTaxExempt()) ? 131071 : 524287);
+    if (isSetTaxExempt())
+      hashCode = hashCode * 8191 + (taxExempt ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetUseEmailAutoFiling()) ? 131071 : 524287);
+    if (isSetUseEmailAutoFiling())
+      hashCode = hashCode * 8191 + (useEmailAutoFiling ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetReminderEmailConfig()) ? 131071 : 524287);
+    if (isSetReminderEmailConfig())
+      hashCode = hashCode * 8191 + reminderEmailConfig.getValue();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(UserAttributes other) {
@@ -1741,6 +1893,7 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -1748,6 +1901,11 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // DEFAULT_LOCATION_NAME
           if (field.type == TType.STRING) {
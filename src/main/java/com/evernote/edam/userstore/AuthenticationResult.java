@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -112,7 +113,11 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
   private static final int __CURRENTTIME_ISSET_ID = 0;
   private static final int __EXPIRATION_ISSET_ID = 1;
   private static final int __SECONDFACTORREQUIRED_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public AuthenticationResult() {
   }
@@ -134,7 +139,7 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
    * Performs a deep copy on <i>other</i>.
    */
   public AuthenticationResult(AuthenticationResult other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.currentTime = other.currentTime;
     if (other.isSetAuthenticationToken()) {
       this.authenticationToken = other.authenticationToken;
@@ -163,6 +168,8 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setCurrentTimeIsSet(false);
     this.currentTime = 0;
     this.authenticationToken = null;
@@ -187,16 +194,16 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
   }
 
   public void unsetCurrentTime() {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   /** Returns true if field currentTime is set (has been asigned a value) and false otherwise */
   public boolean isSetCurrentTime() {
-    return __isset_vector[__CURRENTTIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   public void setCurrentTimeIsSet(boolean value) {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CURRENTTIME_ISSET_ID, value);
   }
 
   public String getAuthenticationToken() {
@@ -232,16 +239,16 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
   }
 
   public void unsetExpiration() {
-    __isset_vector[__EXPIRATION_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __EXPIRATION_ISSET_ID);
   }
 
   /** Returns true if field expiration is set (has been asigned a value) and false otherwise */
   public boolean isSetExpiration() {
-    return __isset_vector[__EXPIRATION_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __EXPIRATION_ISSET_ID);
   }
 
   public void setExpirationIsSet(boolean value) {
-    __isset_vector[__EXPIRATION_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __EXPIRATION_ISSET_ID, value);
   }
 
   public com.evernote.edam.type.User getUser() {
@@ -346,16 +353,16 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
   }
 
   public void unsetSecondFactorRequired() {
-    __isset_vector[__SECONDFACTORREQUIRED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SECONDFACTORREQUIRED_ISSET_ID);
   }
 
   /** Returns true if field secondFactorRequired is set (has been asigned a value) and false otherwise */
   public boolean isSetSecondFactorRequired() {
-    return __isset_vector[__SECONDFACTORREQUIRED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SECONDFACTORREQUIRED_ISSET_ID);
   }
 
   public void setSecondFactorRequiredIsSet(boolean value) {
-    __isset_vector[__SECONDFACTORREQUIRED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SECONDFACTORREQUIRED_ISSET_ID, value);
   }
 
   public String getSecondFactorDeliveryHint() {
@@ -480,7 +487,60 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + TBaseHelper.hashCode(currentTime);
+
+    hashCode = hashCode * 8191 + ((isSetAuthenticationToken()) ? 131071 : 524287);
+    if (isSetAuthenticationToken())
+      hashCode = hashCode * 8191 + authenticationToken.hashCode();
+
+    hashCode = hashCode * 8191 + TBaseHelper.hashCode(expiration);
+
+    hashCode = hashCode * 8191 + ((isSetUser()) ? 131071 : 524287);
+    if (isSetUser())
+      hashCode = hashCode * 8191 + user.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetPublicUserInfo()) ? 131071 : 524287);
+    if (isSetPublicUserInfo())
+      hashCode = hashCode * 8191 + publicUserInfo.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetNoteStoreUrl()) ? 131071 : 524287);
+    if (isSetNoteStoreUrl())
+      hashCode = hashCode * 8191 + noteStoreUrl.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetWebApiUrlPrefix()) ? 131071 : 524287);
+    if (isSetWebApiUrlPrefix())
+      hashCode = hashCode * 8191 + webApiUrlPrefix.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSecondFactorRequired()) ? 131071 : 524287);
+    if (isSetSecondFactorRequired())
+      hashCode = hashCode * 8191 + (secondFactorRequired ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetSecondFactorDeliveryHint()) ? 131071 : 524287);
+    if (isSetSecondFactorDeliveryHint())
+      hashCode = hashCode * 8191 + secondFactorDeliveryHint.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(AuthenticationResult other) {
@@ -577,6 +637,7 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -584,6 +645,11 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // CURRENT_TIME
           if (field.type == TType.I64) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -35,6 +36,10 @@ public class BootstrapInfo implements TBase<BootstrapInfo>, java.io.Serializable
 
   // isset id assignments
 
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
+
   public BootstrapInfo() {
   }
 
@@ -63,6 +68,8 @@ public class BootstrapInfo implements TBase<BootstrapInfo>, java.io.Serializable
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.profiles = null;
   }
 
@@ -131,7 +138,32 @@ public class BootstrapInfo implements TBase<BootstrapInfo>, java.io.Serializable
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetProfiles()) ? 131071 : 524287);
+    if (isSetProfiles())
+      hashCode = hashCode * 8191 + profiles.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(BootstrapInfo other) {
@@ -156,6 +188,7 @@ public class BootstrapInfo implements TBase<BootstrapInfo>, java.io.Serializable
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -163,6 +196,11 @@ public class BootstrapInfo implements TBase<BootstrapInfo>, java.io.Serializable
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // PROFILES
           if (field.type == TType.LIST) {
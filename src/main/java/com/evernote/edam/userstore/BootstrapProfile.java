@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -41,6 +42,10 @@ public class BootstrapProfile implements TBase<BootstrapProfile>, java.io.Serial
 
   // isset id assignments
 
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
+
   public BootstrapProfile() {
   }
 
@@ -70,6 +75,8 @@ public class BootstrapProfile implements TBase<BootstrapProfile>, java.io.Serial
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.name = null;
     this.settings = null;
   }
@@ -156,7 +163,36 @@ public class BootstrapProfile implements TBase<BootstrapProfile>, java.io.Serial
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
+    if (isSetName())
+      hashCode = hashCode * 8191 + name.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSettings()) ? 131071 : 524287);
+    if (isSetSettings())
+      hashCode = hashCode * 8191 + settings.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(BootstrapProfile other) {
@@ -190,6 +226,7 @@ public class BootstrapProfile implements TBase<BootstrapProfile>, java.io.Serial
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -197,6 +234,11 @@ public class BootstrapProfile implements TBase<BootstrapProfile>, java.io.Serial
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // NAME
           if (field.type == TType.STRING) {
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -116,7 +117,11 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   private static final int __ENABLETWITTERSHARING_ISSET_ID = 6;
   private static final int __ENABLELINKEDINSHARING_ISSET_ID = 7;
   private static final int __ENABLEPUBLICNOTEBOOKS_ISSET_ID = 8;
-  private boolean[] __isset_vector = new boolean[9];
+  private short __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public BootstrapSettings() {
   }
@@ -138,7 +143,7 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
    * Performs a deep copy on <i>other</i>.
    */
   public BootstrapSettings(BootstrapSettings other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetServiceHost()) {
       this.serviceHost = other.serviceHost;
     }
@@ -167,6 +172,8 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     this.serviceHost = null;
     this.marketingUrl = null;
     this.supportUrl = null;
@@ -293,16 +300,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableFacebookSharing() {
-    __isset_vector[__ENABLEFACEBOOKSHARING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLEFACEBOOKSHARING_ISSET_ID);
   }
 
   /** Returns true if field enableFacebookSharing is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableFacebookSharing() {
-    return __isset_vector[__ENABLEFACEBOOKSHARING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLEFACEBOOKSHARING_ISSET_ID);
   }
 
   public void setEnableFacebookSharingIsSet(boolean value) {
-    __isset_vector[__ENABLEFACEBOOKSHARING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLEFACEBOOKSHARING_ISSET_ID, value);
   }
 
   public boolean isEnableGiftSubscriptions() {
@@ -315,16 +322,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableGiftSubscriptions() {
-    __isset_vector[__ENABLEGIFTSUBSCRIPTIONS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLEGIFTSUBSCRIPTIONS_ISSET_ID);
   }
 
   /** Returns true if field enableGiftSubscriptions is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableGiftSubscriptions() {
-    return __isset_vector[__ENABLEGIFTSUBSCRIPTIONS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLEGIFTSUBSCRIPTIONS_ISSET_ID);
   }
 
   public void setEnableGiftSubscriptionsIsSet(boolean value) {
-    __isset_vector[__ENABLEGIFTSUBSCRIPTIONS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLEGIFTSUBSCRIPTIONS_ISSET_ID, value);
   }
 
   public boolean isEnableSupportTickets() {
@@ -337,16 +344,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableSupportTickets() {
-    __isset_vector[__ENABLESUPPORTTICKETS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLESUPPORTTICKETS_ISSET_ID);
   }
 
   /** Returns true if field enableSupportTickets is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableSupportTickets() {
-    return __isset_vector[__ENABLESUPPORTTICKETS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLESUPPORTTICKETS_ISSET_ID);
   }
 
   public void setEnableSupportTicketsIsSet(boolean value) {
-    __isset_vector[__ENABLESUPPORTTICKETS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLESUPPORTTICKETS_ISSET_ID, value);
   }
 
   public boolean isEnableSharedNotebooks() {
@@ -359,16 +366,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableSharedNotebooks() {
-    __isset_vector[__ENABLESHAREDNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLESHAREDNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field enableSharedNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableSharedNotebooks() {
-    return __isset_vector[__ENABLESHAREDNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLESHAREDNOTEBOOKS_ISSET_ID);
   }
 
   public void setEnableSharedNotebooksIsSet(boolean value) {
-    __isset_vector[__ENABLESHAREDNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLESHAREDNOTEBOOKS_ISSET_ID, value);
   }
 
   public boolean isEnableSingleNoteSharing() {
@@ -381,16 +388,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableSingleNoteSharing() {
-    __isset_vector[__ENABLESINGLENOTESHARING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLESINGLENOTESHARING_ISSET_ID);
   }
 
   /** Returns true if field enableSingleNoteSharing is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableSingleNoteSharing() {
-    return __isset_vector[__ENABLESINGLENOTESHARING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLESINGLENOTESHARING_ISSET_ID);
   }
 
   public void setEnableSingleNoteSharingIsSet(boolean value) {
-    __isset_vector[__ENABLESINGLENOTESHARING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLESINGLENOTESHARING_ISSET_ID, value);
   }
 
   public boolean isEnableSponsoredAccounts() {
@@ -403,16 +410,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableSponsoredAccounts() {
-    __isset_vector[__ENABLESPONSOREDACCOUNTS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLESPONSOREDACCOUNTS_ISSET_ID);
   }
 
   /** Returns true if field enableSponsoredAccounts is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableSponsoredAccounts() {
-    return __isset_vector[__ENABLESPONSOREDACCOUNTS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLESPONSOREDACCOUNTS_ISSET_ID);
   }
 
   public void setEnableSponsoredAccountsIsSet(boolean value) {
-    __isset_vector[__ENABLESPONSOREDACCOUNTS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLESPONSOREDACCOUNTS_ISSET_ID, value);
   }
 
   public boolean isEnableTwitterSharing() {
@@ -425,16 +432,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableTwitterSharing() {
-    __isset_vector[__ENABLETWITTERSHARING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLETWITTERSHARING_ISSET_ID);
   }
 
   /** Returns true if field enableTwitterSharing is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableTwitterSharing() {
-    return __isset_vector[__ENABLETWITTERSHARING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLETWITTERSHARING_ISSET_ID);
   }
 
   public void setEnableTwitterSharingIsSet(boolean value) {
-    __isset_vector[__ENABLETWITTERSHARING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLETWITTERSHARING_ISSET_ID, value);
   }
 
   public boolean isEnableLinkedInSharing() {
@@ -447,16 +454,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableLinkedInSharing() {
-    __isset_vector[__ENABLELINKEDINSHARING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLELINKEDINSHARING_ISSET_ID);
   }
 
   /** Returns true if field enableLinkedInSharing is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableLinkedInSharing() {
-    return __isset_vector[__ENABLELINKEDINSHARING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLELINKEDINSHARING_ISSET_ID);
   }
 
   public void setEnableLinkedInSharingIsSet(boolean value) {
-    __isset_vector[__ENABLELINKEDINSHARING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLELINKEDINSHARING_ISSET_ID, value);
   }
 
   public boolean isEnablePublicNotebooks() {
@@ -469,16 +476,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnablePublicNotebooks() {
-    __isset_vector[__ENABLEPUBLICNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLEPUBLICNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field enablePublicNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetEnablePublicNotebooks() {
-    return __isset_vector[__ENABLEPUBLICNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLEPUBLICNOTEBOOKS_ISSET_ID);
   }
 
   public void setEnablePublicNotebooksIsSet(boolean value) {
-    __isset_vector[__ENABLEPUBLICNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLEPUBLICNOTEBOOKS_ISSET_ID, value);
   }
 
   @Override
@@ -616,7 +623,80 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + ((isSetServiceHost()) ? 131071 : 524287);
+    if (isSetServiceHost())
+      hashCode = hashCode * 8191 + serviceHost.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetMarketingUrl()) ? 131071 : 524287);
+    if (isSetMarketingUrl())
+      hashCode = hashCode * 8191 + marketingUrl.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetSupportUrl()) ? 131071 : 524287);
+    if (isSetSupportUrl())
+      hashCode = hashCode * 8191 + supportUrl.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetAccountEmailDomain()) ? 131071 : 524287);
+    if (isSetAccountEmailDomain())
+      hashCode = hashCode * 8191 + accountEmailDomain.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetEnableFacebookSharing()) ? 131071 : 524287);
+    if (isSetEnableFacebookSharing())
+      hashCode = hashCode * 8191 + (enableFacebookSharing ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetEnableGiftSubscriptions()) ? 131071 : 524287);
+    if (isSetEnableGiftSubscriptions())
+      hashCode = hashCode * 8191 + (enableGiftSubscriptions ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetEnableSupportTickets()) ? 131071 : 524287);
+    if (isSetEnableSupportTickets())
+      hashCode = hashCode * 8191 + (enableSupportTickets ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetEnableSharedNotebooks()) ? 131071 : 524287);
+    if (isSetEnableSharedNotebooks())
+      hashCode = hashCode * 8191 + (enableSharedNotebooks ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetEnableSingleNoteSharing()) ? 131071 : 524287);
+    if (isSetEnableSingleNoteSharing())
+      hashCode = hashCode * 8191 + (enableSingleNoteSharing ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetEnableSponsoredAccounts()) ? 131071 : 524287);
+    if (isSetEnableSponsoredAccounts())
+      hashCode = hashCode * 8191 + (enableSponsoredAccounts ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetEnableTwitterSharing()) ? 131071 : 524287);
+    if (isSetEnableTwitterSharing())
+      hashCode = hashCode * 8191 + (enableTwitterSharing ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetEnableLinkedInSharing()) ? 131071 : 524287);
+    if (isSetEnableLinkedInSharing())
+      hashCode = hashCode * 8191 + (enableLinkedInSharing ? 131071 : 524287);
+
+    hashCode = hashCode * 8191 + ((isSetEnablePublicNotebooks()) ? 131071 : 524287);
+    if (isSetEnablePublicNotebooks())
+      hashCode = hashCode * 8191 + (enablePublicNotebooks ? 131071 : 524287);
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(BootstrapSettings other) {
@@ -749,6 +829,7 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -756,6 +837,11 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // SERVICE_HOST
           if (field.type == TType.STRING) {
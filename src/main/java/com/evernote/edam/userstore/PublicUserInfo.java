@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -71,7 +72,11 @@ public class PublicUserInfo implements TBase<PublicUserInfo>, java.io.Serializab
 
   // isset id assignments
   private static final int __USERID_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
+
+  // set by freeze(), the hash code is cached from then on
+  private transient boolean __frozen;
+  private transient int __hash_code;
 
   public PublicUserInfo() {
   }
@@ -90,7 +95,7 @@ public class PublicUserInfo implements TBase<PublicUserInfo>, java.io.Serializab
    * Performs a deep copy on <i>other</i>.
    */
   public PublicUserInfo(PublicUserInfo other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.userId = other.userId;
     if (other.isSetShardId()) {
       this.shardId = other.shardId;
@@ -114,6 +119,8 @@ public class PublicUserInfo implements TBase<PublicUserInfo>, java.io.Serializab
   }
 
   public void clear() {
+    __frozen = false;
+    __hash_code = 0;
     setUserIdIsSet(false);
     this.userId = 0;
     this.shardId = null;
@@ -133,16 +140,16 @@ public class PublicUserInfo implements TBase<PublicUserInfo>, java.io.Serializab
   }
 
   public void unsetUserId() {
-    __isset_vector[__USERID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
   }
 
   /** Returns true if field userId is set (has been asigned a value) and false otherwise */
   public boolean isSetUserId() {
-    return __isset_vector[__USERID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
   }
 
   public void setUserIdIsSet(boolean value) {
-    __isset_vector[__USERID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
   }
 
   public String getShardId() {
@@ -340,7 +347,50 @@ public class PublicUserInfo implements TBase<PublicUserInfo>, java.io.Serializab
 
   @Override
   public int hashCode() {
-    return 0;
+    if (__frozen && __hash_code != 0) {
+      return __hash_code;
+    }
+    int hashCode = 1;
+
+    hashCode = hashCode * 8191 + userId;
+
+    hashCode = hashCode * 8191 + ((isSetShardId()) ? 131071 : 524287);
+    if (isSetShardId())
+      hashCode = hashCode * 8191 + shardId.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetPrivilege()) ? 131071 : 524287);
+    if (isSetPrivilege())
+      hashCode = hashCode * 8191 + privilege.getValue();
+
+    hashCode = hashCode * 8191 + ((isSetUsername()) ? 131071 : 524287);
+    if (isSetUsername())
+      hashCode = hashCode * 8191 + username.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetNoteStoreUrl()) ? 131071 : 524287);
+    if (isSetNoteStoreUrl())
+      hashCode = hashCode * 8191 + noteStoreUrl.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetWebApiUrlPrefix()) ? 131071 : 524287);
+    if (isSetWebApiUrlPrefix())
+      hashCode = hashCode * 8191 + webApiUrlPrefix.hashCode();
+
+    if (__frozen) {
+      __hash_code = hashCode;
+    }
+    return hashCode;
+  }
+
+  /**
+   * Declares that this struct won't be modified anymore, which lets it cache its
+   * hash code. Modifying a frozen struct, or any value it holds, leaves the cached
+   * hash code stale.
+   */
+  public void freeze() {
+    __frozen = true;
+  }
+
+  public boolean isFrozen() {
+    return __frozen;
   }
 
   public int compareTo(PublicUserInfo other) {
@@ -410,6 +460,7 @@ public class PublicUserInfo implements TBase<PublicUserInfo>, java.io.Serializab
 
   public void read(TProtocol iprot) throws TException {
     TField field;
+    BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
     iprot.readStructBegin();
     while (true)
     {
@@ -417,6 +468,11 @@ public class PublicUserInfo implements TBase<PublicUserInfo>, java.io.Serializab
       if (field.type == TType.STOP) { 
         break;
       }
+      if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+        TProtocolUtil.skip(iprot, field.type);
+        iprot.readFieldEnd();
+        continue;
+      }
       switch (field.id) {
         case 1: // USER_ID
           if (field.type == TType.I32) {
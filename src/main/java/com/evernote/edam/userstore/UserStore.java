@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.BitSet;
 
 import com.evernote.thrift.*;
 import com.evernote.thrift.protocol.*;
@@ -569,7 +570,7 @@ public class UserStore {
     // isset id assignments
     private static final int __EDAMVERSIONMAJOR_ISSET_ID = 0;
     private static final int __EDAMVERSIONMINOR_ISSET_ID = 1;
-    private boolean[] __isset_vector = new boolean[2];
+    private byte __isset_bitfield = 0;
 
     public checkVersion_args() {
       this.edamVersionMajor = (short)1;
@@ -582,7 +583,7 @@ public class UserStore {
      * Performs a deep copy on <i>other</i>.
      */
     public checkVersion_args(checkVersion_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetClientName()) {
         this.clientName = other.clientName;
       }
@@ -618,11 +619,11 @@ public class UserStore {
 
     /** Returns true if field edamVersionMajor is set (has been asigned a value) and false otherwise */
     public boolean isSetEdamVersionMajor() {
-      return __isset_vector[__EDAMVERSIONMAJOR_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __EDAMVERSIONMAJOR_ISSET_ID);
     }
 
     public void setEdamVersionMajorIsSet(boolean value) {
-      __isset_vector[__EDAMVERSIONMAJOR_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __EDAMVERSIONMAJOR_ISSET_ID, value);
     }
 
     public void setEdamVersionMinor(short edamVersionMinor) {
@@ -632,11 +633,11 @@ public class UserStore {
 
     /** Returns true if field edamVersionMinor is set (has been asigned a value) and false otherwise */
     public boolean isSetEdamVersionMinor() {
-      return __isset_vector[__EDAMVERSIONMINOR_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __EDAMVERSIONMINOR_ISSET_ID);
     }
 
     public void setEdamVersionMinorIsSet(boolean value) {
-      __isset_vector[__EDAMVERSIONMINOR_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __EDAMVERSIONMINOR_ISSET_ID, value);
     }
 
     public int compareTo(checkVersion_args other) {
@@ -679,6 +680,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -686,6 +688,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // CLIENT_NAME
             if (field.type == TType.STRING) {
@@ -754,7 +761,7 @@ public class UserStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public checkVersion_result() {
     }
@@ -763,7 +770,7 @@ public class UserStore {
      * Performs a deep copy on <i>other</i>.
      */
     public checkVersion_result(checkVersion_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
     }
 
@@ -778,11 +785,11 @@ public class UserStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public int compareTo(checkVersion_result other) {
@@ -807,6 +814,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -814,6 +822,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.BOOL) {
@@ -911,6 +924,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -918,6 +932,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // LOCALE
             if (field.type == TType.STRING) {
@@ -1011,6 +1030,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -1018,6 +1038,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -1072,7 +1097,7 @@ public class UserStore {
 
     // isset id assignments
     private static final int __SUPPORTSTWOFACTOR_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public authenticate_args() {
     }
@@ -1081,7 +1106,7 @@ public class UserStore {
      * Performs a deep copy on <i>other</i>.
      */
     public authenticate_args(authenticate_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetUsername()) {
         this.username = other.username;
       }
@@ -1153,11 +1178,11 @@ public class UserStore {
 
     /** Returns true if field supportsTwoFactor is set (has been asigned a value) and false otherwise */
     public boolean isSetSupportsTwoFactor() {
-      return __isset_vector[__SUPPORTSTWOFACTOR_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUPPORTSTWOFACTOR_ISSET_ID);
     }
 
     public void setSupportsTwoFactorIsSet(boolean value) {
-      __isset_vector[__SUPPORTSTWOFACTOR_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUPPORTSTWOFACTOR_ISSET_ID, value);
     }
 
     public int compareTo(authenticate_args other) {
@@ -1218,6 +1243,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -1225,6 +1251,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // USERNAME
             if (field.type == TType.STRING) {
@@ -1405,6 +1436,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -1412,6 +1444,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -1494,7 +1531,7 @@ public class UserStore {
 
     // isset id assignments
     private static final int __SUPPORTSTWOFACTOR_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public authenticateLongSession_args() {
     }
@@ -1503,7 +1540,7 @@ public class UserStore {
      * Performs a deep copy on <i>other</i>.
      */
     public authenticateLongSession_args(authenticateLongSession_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetUsername()) {
         this.username = other.username;
       }
@@ -1601,11 +1638,11 @@ public class UserStore {
 
     /** Returns true if field supportsTwoFactor is set (has been asigned a value) and false otherwise */
     public boolean isSetSupportsTwoFactor() {
-      return __isset_vector[__SUPPORTSTWOFACTOR_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUPPORTSTWOFACTOR_ISSET_ID);
     }
 
     public void setSupportsTwoFactorIsSet(boolean value) {
-      __isset_vector[__SUPPORTSTWOFACTOR_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUPPORTSTWOFACTOR_ISSET_ID, value);
     }
 
     public int compareTo(authenticateLongSession_args other) {
@@ -1684,6 +1721,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -1691,6 +1729,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // USERNAME
             if (field.type == TType.STRING) {
@@ -1895,6 +1938,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -1902,6 +1946,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -2095,6 +2144,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -2102,6 +2152,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -2271,6 +2326,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -2278,6 +2334,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -2399,6 +2460,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -2406,6 +2468,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -2519,6 +2586,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -2526,6 +2594,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // USER_EXCEPTION
             if (field.type == TType.STRUCT) {
@@ -2635,6 +2708,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -2642,6 +2716,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -2775,6 +2854,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -2782,6 +2862,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -2903,6 +2988,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -2910,6 +2996,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -3043,6 +3134,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -3050,6 +3142,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -3171,6 +3268,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -3178,6 +3276,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -3311,6 +3414,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -3318,6 +3422,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -3439,6 +3548,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -3446,6 +3556,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // USERNAME
             if (field.type == TType.STRING) {
@@ -3599,6 +3714,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -3606,6 +3722,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -3739,6 +3860,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -3746,6 +3868,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -3879,6 +4006,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -3886,6 +4014,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRUCT) {
@@ -4007,6 +4140,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -4014,6 +4148,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 1: // AUTHENTICATION_TOKEN
             if (field.type == TType.STRING) {
@@ -4147,6 +4286,7 @@ public class UserStore {
 
     public void read(TProtocol iprot) throws TException {
       TField field;
+      BitSet excluded = iprot.getExcludedFields(STRUCT_DESC);
       iprot.readStructBegin();
       while (true)
       {
@@ -4154,6 +4294,11 @@ public class UserStore {
         if (field.type == TType.STOP) { 
           break;
         }
+        if (excluded != null && field.id > 0 && excluded.get(field.id)) {
+          TProtocolUtil.skip(iprot, field.type);
+          iprot.readFieldEnd();
+          continue;
+        }
         switch (field.id) {
           case 0: // SUCCESS
             if (field.type == TType.STRING) {
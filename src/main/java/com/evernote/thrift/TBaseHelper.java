@@ -120,6 +120,20 @@ public class TBaseHelper {
     return 0;
   }
 
+  public static int compareTo(ByteBuffer a, ByteBuffer b) {
+    int sizeCompare = compareTo(a.remaining(), b.remaining());
+    if (sizeCompare != 0) {
+      return sizeCompare;
+    }
+    for (int i = 0; i < a.remaining(); i++) {
+      int byteCompare = compareTo(a.get(a.position() + i), b.get(b.position() + i));
+      if (byteCompare != 0) {
+        return byteCompare;
+      }
+    }
+    return 0;
+  }
+
   public static int compareTo(Comparable a, Comparable b) {
     return a.compareTo(b);
   }
@@ -218,16 +232,31 @@ public class TBaseHelper {
     }
   }
 
+  public static int hashCode(long value) {
+    return (int) (value ^ (value >>> 32));
+  }
+
+  public static int hashCode(double value) {
+    // 0.0 and -0.0 are equal, so they must have the same hash code
+    return value == 0.0 ? 0 : hashCode(Double.doubleToLongBits(value));
+  }
+
   public static void toString(byte[] bytes, StringBuilder sb) {
     toString(bytes, 0, bytes.length, sb);
   }
 
   public static void toString(ByteBuffer bb, StringBuilder sb) {
+    if (!bb.hasArray()) {
+      byte[] bytes = byteBufferToByteArray(bb);
+      toString(bytes, 0, bytes.length, sb);
+      return;
+    }
     byte[] buf = bb.array();
 
     int arrayOffset = bb.arrayOffset();
-    int origLimit = bb.limit();
-    toString(buf, arrayOffset, origLimit, sb);
+    int offset = arrayOffset + bb.position();
+    int origLimit = arrayOffset + bb.limit();
+    toString(buf, offset, origLimit, sb);
   }
 
   public static void toString(byte[] buf, int arrayOffset, int origLimit, StringBuilder sb) {
@@ -248,4 +277,63 @@ public class TBaseHelper {
     int extended = (b | 0x100) & 0x1ff;
     return Integer.toHexString(extended).toUpperCase().substring(1);
   }
+
+  /**
+   * Returns the remaining bytes of the given buffer as an array. The buffer's own
+   * array is returned if it holds exactly those bytes, otherwise they are copied. Direct
+   * and read-only buffers are always copied.
+   */
+  public static byte[] byteBufferToByteArray(ByteBuffer byteBuffer) {
+    if (wouldFitInByteArray(byteBuffer)) {
+      return byteBuffer.array();
+    }
+    byte[] target = new byte[byteBuffer.remaining()];
+    copyRemaining(byteBuffer, target);
+    return target;
+  }
+
+  private static void copyRemaining(ByteBuffer byteBuffer, byte[] target) {
+    if (byteBuffer.hasArray()) {
+      System.arraycopy(byteBuffer.array(), byteBuffer.arrayOffset()
+          + byteBuffer.position(), target, 0, target.length);
+    } else {
+      // direct and read-only buffers don't expose an array
+      byteBuffer.duplicate().get(target);
+    }
+  }
+
+  /**
+   * @return true if the buffer's array holds exactly its remaining bytes
+   */
+  public static boolean wouldFitInByteArray(ByteBuffer byteBuffer) {
+    return byteBuffer.hasArray() && byteBuffer.arrayOffset() == 0
+        && byteBuffer.position() == 0 && byteBuffer.remaining() == byteBuffer.array().length;
+  }
+
+  /**
+   * Returns a buffer whose array holds exactly the remaining bytes of the given
+   * buffer, copying them only if necessary. Use this to stop sharing memory with a
+   * transport buffer that a view was taken from.
+   */
+  public static ByteBuffer rightSize(ByteBuffer in) {
+    if (in == null) {
+      return null;
+    }
+    if (wouldFitInByteArray(in)) {
+      return in;
+    }
+    return ByteBuffer.wrap(byteBufferToByteArray(in));
+  }
+
+  /**
+   * @return a buffer holding a copy of the remaining bytes of the given buffer
+   */
+  public static ByteBuffer copyBinary(ByteBuffer orig) {
+    if (orig == null) {
+      return null;
+    }
+    byte[] copy = new byte[orig.remaining()];
+    copyRemaining(orig, copy);
+    return ByteBuffer.wrap(copy);
+  }
 }
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.evernote.thrift;
+
+/**
+ * A struct that a {@link TStructPool} can recycle without giving up the values it
+ * owns. {@link #recycle()} clears it like {@link TBase#clear()}, but keeps the lists
+ * and nested structs that its {@link TBase#read} created, so that the next read
+ * refills them instead of allocating new ones.
+ * <p>
+ * Containers and nested structs set from outside, e.g. through a setter, are not
+ * owned and are simply dropped. Everything obtained from the struct before it was
+ * recycled, including the lists and nested structs returned by its getters, must not
+ * be used afterwards.
+ */
+public interface TRecyclable {
+
+  /**
+   * Clears the struct and keeps its owned lists and nested structs for the next read.
+   */
+  public void recycle();
+}
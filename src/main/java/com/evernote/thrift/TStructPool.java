@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.evernote.thrift;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pool of cleared struct instances that decoding can read into instead of
+ * allocating new ones, e.g. with
+ * {@code SyncChunkStreamReader#setStructPool(TStructPool)}.
+ * <p>
+ * {@link #acquire(Class)} hands out a pooled instance, or a new one if the pool
+ * has none of that type. Code that is done with a struct may give it back with
+ * {@link #release(TBase)}, which clears it for the next use. Releasing is optional;
+ * structs that are never released are simply garbage collected.
+ * <p>
+ * Releasing a struct hands it and everything it owns to the pool. Structs that
+ * implement {@link TRecyclable}, such as notes and resources, keep the lists and
+ * nested structs that their last read created, and the next read refills them. The
+ * struct and anything obtained from it, e.g. the tag list of a note or its
+ * resources, must not be used after it has been released. Strings are not
+ * recycled; a {@link com.evernote.thrift.protocol.TStringTable} avoids decoding
+ * repeated ones again. Releasing a struct that is already idle in the pool throws
+ * an {@link IllegalStateException}.
+ * <p>
+ * This class is thread safe, so structs can be released by another thread than
+ * the one that decoded them.
+ */
+public class TStructPool {
+
+  public static final int DEFAULT_MAX_IDLE_PER_TYPE = 64;
+
+  private final int maxIdlePerType;
+  private final Map<Class<?>, List<TBase<?>>> idle =
+      new HashMap<Class<?>, List<TBase<?>>>();
+  private long createdCount;
+  private long reusedCount;
+
+  public TStructPool() {
+    this(DEFAULT_MAX_IDLE_PER_TYPE);
+  }
+
+  /**
+   * @param maxIdlePerType how many released instances of each type to keep
+   */
+  public TStructPool(int maxIdlePerType) {
+    this.maxIdlePerType = maxIdlePerType;
+  }
+
+  /**
+   * @return a cleared instance of the given struct type
+   * @throws IllegalArgumentException if the type can't be instantiated
+   */
+  public <T extends TBase<?>> T acquire(Class<T> type) {
+    synchronized (this) {
+      List<TBase<?>> structs = idle.get(type);
+      if (structs != null && !structs.isEmpty()) {
+        reusedCount++;
+        return type.cast(structs.remove(structs.size() - 1));
+      }
+      createdCount++;
+    }
+    try {
+      return type.getDeclaredConstructor().newInstance();
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Can't create " + type.getName(), e);
+    }
+  }
+
+  /**
+   * Clears the struct, or recycles it if it is {@link TRecyclable}, and keeps it for
+   * a later {@link #acquire(Class)}, unless the pool already holds enough idle
+   * instances of its type.
+   * 
+   * @throws IllegalStateException if the struct has already been released
+   */
+  public void release(TBase<?> struct) {
+    synchronized (this) {
+      checkNotIdle(struct);
+    }
+    if (struct instanceof TRecyclable) {
+      ((TRecyclable) struct).recycle();
+    } else {
+      struct.clear();
+    }
+    synchronized (this) {
+      // checked again in case another thread released it at the same time
+      checkNotIdle(struct);
+      List<TBase<?>> structs = idle.get(struct.getClass());
+      if (structs == null) {
+        structs = new ArrayList<TBase<?>>();
+        idle.put(struct.getClass(), structs);
+      }
+      if (structs.size() < maxIdlePerType) {
+        structs.add(struct);
+      }
+    }
+  }
+
+  private void checkNotIdle(TBase<?> struct) {
+    List<TBase<?>> structs = idle.get(struct.getClass());
+    if (structs != null) {
+      for (TBase<?> idleStruct : structs) {
+        if (idleStruct == struct) {
+          throw new IllegalStateException("The struct has already been released");
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the number of structs created because no idle instance was available
+   */
+  public synchronized long getCreatedCount() {
+    return createdCount;
+  }
+
+  /**
+   * @return the number of times an idle struct was handed out again
+   */
+  public synchronized long getReusedCount() {
+    return reusedCount;
+  }
+}
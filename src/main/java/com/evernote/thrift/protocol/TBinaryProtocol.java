@@ -20,7 +20,6 @@
 package com.evernote.thrift.protocol;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.Charset;
 
 import com.evernote.thrift.TException;
 import com.evernote.thrift.transport.TTransport;
@@ -28,12 +27,13 @@ import com.evernote.thrift.transport.TTransport;
 /**
  * Binary protocol implementation for thrift.
  *
+ * The field and container headers returned by the read methods are shared,
+ * immutable instances, so they must not be compared by identity.
+ *
  */
 public class TBinaryProtocol extends TProtocol {
   private static final TStruct ANONYMOUS_STRUCT = new TStruct();
 
-  private static final Charset UTF8 = Charset.forName("UTF-8");
-
   protected static final int VERSION_MASK = 0xffff0000;
   protected static final int VERSION_1 = 0x80010000;
 
@@ -203,11 +203,11 @@ public class TBinaryProtocol extends TProtocol {
 
   @Override
   public void writeString(String str) throws TException {
-    ByteBuffer encoded = UTF8.encode(str);
-    byte[] dat = new byte[encoded.remaining()];
-    encoded.get(dat, 0, dat.length);      
-    writeI32(dat.length);
-    trans_.write(dat, 0, dat.length);
+    int length = TUtf8.encodedLength(str);
+    byte[] dat = byteScratch(length);
+    TUtf8.encode(str, dat, 0);
+    writeI32(length);
+    trans_.write(dat, 0, length);
   }
 
   @Override
@@ -252,7 +252,7 @@ public class TBinaryProtocol extends TProtocol {
   public TField readFieldBegin() throws TException {
     byte type = readByte();
     short id = type == TType.STOP ? 0 : readI16();
-    return new TField("", type, id);
+    return THeaderCache.field(type, id);
   }
 
   @Override
@@ -260,7 +260,7 @@ public class TBinaryProtocol extends TProtocol {
 
   @Override
   public TMap readMapBegin() throws TException {
-    return new TMap(readByte(), readByte(), readI32());
+    return THeaderCache.map(readByte(), readByte(), readI32());
   }
 
   @Override
@@ -268,7 +268,7 @@ public class TBinaryProtocol extends TProtocol {
 
   @Override
   public TList readListBegin() throws TException {
-    return new TList(readByte(), readI32());
+    return THeaderCache.list(readByte(), readI32());
   }
 
   @Override
@@ -276,7 +276,7 @@ public class TBinaryProtocol extends TProtocol {
 
   @Override
   public TSet readSetBegin() throws TException {
-    return new TSet(readByte(), readI32());
+    return THeaderCache.set(readByte(), readI32());
   }
 
   @Override
@@ -373,9 +373,8 @@ public class TBinaryProtocol extends TProtocol {
   public String readString() throws TException {
     int size = readI32();
 
-    if (trans_.getBytesRemainingInBuffer() >= size) {
-      String s = UTF8.decode(ByteBuffer.wrap(trans_.getBuffer(),
-          trans_.getBufferPosition(), size)).toString();
+    if (size >= 0 && trans_.getBytesRemainingInBuffer() >= size) {
+      String s = decodeString(trans_.getBuffer(), trans_.getBufferPosition(), size);
       trans_.consumeBuffer(size);
       return s;
     }
@@ -385,9 +384,9 @@ public class TBinaryProtocol extends TProtocol {
 
   public String readStringBody(int size) throws TException {
     checkReadLength(size);
-    byte[] buf = new byte[size];
+    byte[] buf = byteScratch(size);
     trans_.readAll(buf, 0, size);
-    return UTF8.decode(ByteBuffer.wrap(buf)).toString();
+    return decodeString(buf, 0, size);
   }
 
   @Override
@@ -398,6 +397,7 @@ public class TBinaryProtocol extends TProtocol {
     if (trans_.getBytesRemainingInBuffer() >= size) {
       ByteBuffer bb = ByteBuffer.wrap(trans_.getBuffer(), trans_.getBufferPosition(), size);
       trans_.consumeBuffer(size);
+      trans_.retainBuffer();
       return bb;
     }
 
@@ -409,11 +409,24 @@ public class TBinaryProtocol extends TProtocol {
   @Override
   public byte[] readBytes() throws TException {
     int size = readI32();
+    checkReadLength(size);
     byte[] buf = new byte[size];
     trans_.readAll(buf, 0, size);
     return buf;
   }
 
+  @Override
+  protected TProtocolFactory getSliceProtocolFactory() {
+    return new Factory(strictRead_, strictWrite_);
+  }
+
+  @Override
+  public void skipBinary() throws TException {
+    int size = readI32();
+    checkReadLength(size);
+    trans_.skip(size);
+  }
+
   private int readAll(byte[] buf, int off, int len) throws TException {
     checkReadLength(len);
     return trans_.readAll(buf, off, len);
@@ -425,9 +438,7 @@ public class TBinaryProtocol extends TProtocol {
   }
 
   protected void checkReadLength(int length) throws TException {
-    if (length < 0) {
-      throw new TException("Negative length: " + length);
-    }
+    checkNegativeSize(length);
     if (checkReadLength_) {
       readLength_ -= length;
       if (readLength_ < 0) {
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.evernote.thrift.protocol;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.evernote.thrift.TBase;
+
+/**
+ * A set of struct fields that are skipped when structs are read from a
+ * protocol the mask is set on, see {@link TProtocol#setFieldMask(TFieldMask)}.
+ * Skipped fields are left unset, as if the other side hadn't sent them, and
+ * none of the data in them is materialized.
+ * <p>
+ * Fields are identified by struct and field id, or by the struct class and
+ * the field names used in the IDL:
+ * <pre>
+ * TFieldMask mask = new TFieldMask()
+ *     .exclude(Note.class, "content")
+ *     .exclude(Resource.class, "recognition", "alternateData");
+ * </pre>
+ * Excluding a required field makes the struct fail validation when it is read.
+ * <p>
+ * A mask may be shared by any number of protocols, but it must not be changed
+ * once it is in use.
+ */
+public class TFieldMask {
+
+  private final Map<String, BitSet> excluded_ = new HashMap<String, BitSet>();
+
+  /**
+   * Excludes fields of the struct with the given name.
+   *
+   * @param structName the name of the struct in the IDL, e.g. "Note"
+   * @param fieldIds the ids of the fields to skip
+   * @return this mask
+   */
+  public TFieldMask exclude(String structName, short... fieldIds) {
+    BitSet fields = excluded_.get(structName);
+    if (fields == null) {
+      fields = new BitSet();
+      excluded_.put(structName, fields);
+    }
+    for (short id : fieldIds) {
+      if (id <= 0) {
+        throw new IllegalArgumentException("Invalid field id: " + id);
+      }
+      fields.set(id);
+    }
+    return this;
+  }
+
+  /**
+   * Excludes fields of a generated struct by name.
+   *
+   * @param structClass the generated class, e.g. {@code Note.class}
+   * @param fieldNames the names of the fields in the IDL, e.g. "content"
+   * @return this mask
+   * @throws IllegalArgumentException if the struct has no field with one of the
+   *           names
+   */
+  public TFieldMask exclude(Class<? extends TBase<?>> structClass, String... fieldNames) {
+    String structName = null;
+    Map<String, Short> ids = new HashMap<String, Short>();
+    try {
+      for (Field f : structClass.getDeclaredFields()) {
+        if (!Modifier.isStatic(f.getModifiers())) {
+          continue;
+        }
+        if (f.getType() == TStruct.class) {
+          f.setAccessible(true);
+          structName = ((TStruct) f.get(null)).name;
+        } else if (f.getType() == TField.class) {
+          f.setAccessible(true);
+          TField field = (TField) f.get(null);
+          ids.put(field.name, field.id);
+        }
+      }
+    } catch (IllegalAccessException e) {
+      throw new IllegalArgumentException("Can't inspect " + structClass.getName(), e);
+    }
+    if (structName == null) {
+      throw new IllegalArgumentException(structClass.getName()
+          + " is not a generated struct");
+    }
+
+    short[] fieldIds = new short[fieldNames.length];
+    for (int i = 0; i < fieldNames.length; i++) {
+      Short id = ids.get(fieldNames[i]);
+      if (id == null) {
+        throw new IllegalArgumentException(structName + " has no field "
+            + fieldNames[i]);
+      }
+      fieldIds[i] = id;
+    }
+    return exclude(structName, fieldIds);
+  }
+
+  /**
+   * @return the ids of the excluded fields of the given struct, or null if all
+   *         of its fields are read
+   */
+  public BitSet getExcludedFields(String structName) {
+    return excluded_.get(structName);
+  }
+
+  @Override
+  public String toString() {
+    return "TFieldMask" + excluded_;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.evernote.thrift.protocol;
+
+/**
+ * Shared instances of the immutable field and container headers returned by the
+ * protocol readers, so that decoding a struct doesn't allocate a new header for
+ * every field, list, set and map it contains.
+ * <p>
+ * Headers are created on first use and then reused by all protocols. Field ids
+ * and container sizes outside of the cached ranges get a new instance every time.
+ */
+final class THeaderCache {
+
+  static final int MAX_FIELD_ID = 255;
+  static final int MAX_CONTAINER_SIZE = 63;
+  static final int MAX_MAP_SIZE = 15;
+
+  // TType.STOP through TType.ENUM
+  private static final int TYPES = TType.ENUM + 1;
+
+  private static final TField[][] FIELDS = new TField[TYPES][MAX_FIELD_ID + 1];
+  private static final TList[][] LISTS = new TList[TYPES][MAX_CONTAINER_SIZE + 1];
+  private static final TSet[][] SETS = new TSet[TYPES][MAX_CONTAINER_SIZE + 1];
+  private static final TMap[][][] MAPS = new TMap[TYPES][TYPES][MAX_MAP_SIZE + 1];
+
+  private THeaderCache() {}
+
+  // The caches are filled without locking. All header fields are final, so a
+  // header seen by another thread is always fully initialized; a lost update
+  // only means that one more instance gets created.
+
+  static TField field(byte type, short id) {
+    if (!isCached(type) || id < 0 || id > MAX_FIELD_ID) {
+      return new TField("", type, id);
+    }
+    TField field = FIELDS[type][id];
+    if (field == null) {
+      field = new TField("", type, id);
+      FIELDS[type][id] = field;
+    }
+    return field;
+  }
+
+  static TList list(byte elemType, int size) {
+    if (!isCached(elemType) || size < 0 || size > MAX_CONTAINER_SIZE) {
+      return new TList(elemType, size);
+    }
+    TList list = LISTS[elemType][size];
+    if (list == null) {
+      list = new TList(elemType, size);
+      LISTS[elemType][size] = list;
+    }
+    return list;
+  }
+
+  static TSet set(byte elemType, int size) {
+    if (!isCached(elemType) || size < 0 || size > MAX_CONTAINER_SIZE) {
+      return new TSet(elemType, size);
+    }
+    TSet set = SETS[elemType][size];
+    if (set == null) {
+      set = new TSet(elemType, size);
+      SETS[elemType][size] = set;
+    }
+    return set;
+  }
+
+  static TMap map(byte keyType, byte valueType, int size) {
+    if (!isCached(keyType) || !isCached(valueType) || size < 0 || size > MAX_MAP_SIZE) {
+      return new TMap(keyType, valueType, size);
+    }
+    TMap map = MAPS[keyType][valueType][size];
+    if (map == null) {
+      map = new TMap(keyType, valueType, size);
+      MAPS[keyType][valueType][size] = map;
+    }
+    return map;
+  }
+
+  private static boolean isCached(byte type) {
+    return type >= 0 && type < TYPES;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.evernote.thrift.protocol;
+
+import com.evernote.thrift.transport.TMemoryInputTransport;
+
+/**
+ * The encoded form of a struct field that hasn't been decoded yet, see
+ * {@link TProtocol#setLazyDecoding(boolean)}. It references the buffer of the
+ * transport it was read from, and keeps the read settings of the protocol it was read
+ * with, so that decoding it later gives the same result as decoding it right away.
+ * <p>
+ * The string table of that protocol is the one setting that isn't kept. A lazy value
+ * is typically decoded on another thread while the protocol reads the next message,
+ * and a {@link TStringTable} must not be used by two threads at once.
+ */
+public final class TLazySlice {
+
+  private final byte[] buf_;
+  private final int off_;
+  private final int len_;
+  private final TProtocolFactory factory_;
+  private final TFieldMask fieldMask_;
+  private final boolean lazyDecoding_;
+  private final boolean zeroCopyBinary_;
+
+  TLazySlice(byte[] buf, int off, int len, TProtocolFactory factory, TProtocol source) {
+    buf_ = buf;
+    off_ = off;
+    len_ = len;
+    factory_ = factory;
+    fieldMask_ = source.getFieldMask();
+    lazyDecoding_ = source.isLazyDecoding();
+    zeroCopyBinary_ = source.isZeroCopyBinary();
+  }
+
+  /**
+   * @return a protocol that reads the encoded value, with the same field mask, lazy
+   *         decoding and zero copy binary settings as the protocol the value was read
+   *         from
+   */
+  public TProtocol getProtocol() {
+    TProtocol protocol = factory_.getProtocol(new TMemoryInputTransport(buf_, off_, len_));
+    protocol.setFieldMask(fieldMask_);
+    protocol.setLazyDecoding(lazyDecoding_);
+    protocol.setZeroCopyBinary(zeroCopyBinary_);
+    return protocol;
+  }
+
+  /**
+   * @return the size of the encoded value in bytes
+   */
+  public int length() {
+    return len_;
+  }
+}
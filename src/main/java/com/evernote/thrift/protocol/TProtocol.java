@@ -22,7 +22,10 @@ package com.evernote.thrift.protocol;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.BitSet;
 
+import com.evernote.thrift.TBaseHelper;
 import com.evernote.thrift.TException;
 import com.evernote.thrift.transport.TTransport;
 
@@ -56,6 +59,215 @@ public abstract class TProtocol {
     return trans_;
   }
 
+  /**
+   * Fields skipped by the read methods of generated structs
+   */
+  private TFieldMask fieldMask_;
+
+  public TFieldMask getFieldMask() {
+    return fieldMask_;
+  }
+
+  /**
+   * Makes structs read from this protocol skip the fields excluded by the given
+   * mask. Pass null to read all fields again.
+   */
+  public void setFieldMask(TFieldMask fieldMask) {
+    fieldMask_ = fieldMask;
+  }
+
+  /**
+   * @return the ids of the fields of the given struct that should be skipped, or
+   *         null if all of them should be read
+   */
+  public BitSet getExcludedFields(TStruct struct) {
+    return fieldMask_ == null ? null : fieldMask_.getExcludedFields(struct.name);
+  }
+
+  /**
+   * Whether generated structs may keep nested values encoded until they're used
+   */
+  private boolean lazyDecoding_;
+
+  public boolean isLazyDecoding() {
+    return lazyDecoding_;
+  }
+
+  /**
+   * Makes structs that support it keep some of their nested values, such as
+   * {@code Note.resources} or {@code Resource.data}, in their encoded form when
+   * they are read from this protocol. Each value is decoded the first time it is
+   * accessed, and values that are never accessed are never decoded.
+   * <p>
+   * Lazy values reference the buffer of the transport, so this only has an effect
+   * if the transport buffers whole messages, e.g. a {@code THttpClient} with
+   * response buffering enabled. Structs holding lazy values decode them on
+   * access, so they must not be shared between threads without synchronization.
+   */
+  public void setLazyDecoding(boolean lazyDecoding) {
+    lazyDecoding_ = lazyDecoding;
+  }
+
+  /**
+   * Reads the next value of the given type without decoding it, if lazy decoding
+   * is enabled and possible with the current transport.
+   *
+   * @return the encoded value, or null if the value has to be read as usual
+   */
+  public TLazySlice readLazySlice(byte type) throws TException {
+    if (!lazyDecoding_) {
+      return null;
+    }
+    TProtocolFactory factory = getSliceProtocolFactory();
+    byte[] buf = trans_.getBuffer();
+    if (factory == null || buf == null) {
+      return null;
+    }
+    int start = trans_.getBufferPosition();
+    TProtocolUtil.skip(this, type);
+    if (trans_.getBuffer() != buf) {
+      throw new TProtocolException("Transport buffer changed while reading a lazy value");
+    }
+    trans_.retainBuffer();
+    return new TLazySlice(buf, start, trans_.getBufferPosition() - start, factory, this);
+  }
+
+  /**
+   * @return a factory for protocols that can read values written by this protocol,
+   *         or null if lazy decoding isn't supported
+   */
+  protected TProtocolFactory getSliceProtocolFactory() {
+    return null;
+  }
+
+  /**
+   * Recently decoded strings, reused when the same bytes are read again
+   */
+  private TStringTable stringTable_;
+
+  public TStringTable getStringTable() {
+    return stringTable_;
+  }
+
+  /**
+   * Makes this protocol look up short strings in the given table before decoding
+   * them, so that values repeated within or across messages share one String
+   * instance. Pass null to decode every string again.
+   * <p>
+   * Lazy values read by this protocol don't use the table, since they may be decoded
+   * on another thread, see {@link TLazySlice}.
+   */
+  public void setStringTable(TStringTable stringTable) {
+    stringTable_ = stringTable;
+  }
+
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+
+  /**
+   * Scratch buffers up to this size are kept for the next call
+   */
+  private static final int MAX_SCRATCH_SIZE = 64 * 1024;
+
+  private byte[] byteScratch_ = new byte[0];
+  private char[] charScratch_ = new char[0];
+
+  /**
+   * Decodes a UTF-8 string, or returns the instance in the string table if the
+   * same bytes have been decoded before.
+   */
+  protected String decodeString(byte[] buf, int off, int len) {
+    TStringTable table = stringTable_;
+    int slot = table == null ? -1 : table.slot(buf, off, len);
+    if (slot < 0) {
+      return decodeNewString(buf, off, len);
+    }
+    String str = table.get(slot, buf, off, len);
+    if (str == null) {
+      str = decodeNewString(buf, off, len);
+      table.put(slot, buf, off, len, str);
+    }
+    return str;
+  }
+
+  private String decodeNewString(byte[] buf, int off, int len) {
+    char[] chars = charScratch_;
+    if (chars.length < len) {
+      chars = new char[len];
+      if (len <= MAX_SCRATCH_SIZE) {
+        charScratch_ = chars;
+      }
+    }
+    int n = TUtf8.decode(buf, off, len, chars);
+    if (n < 0) {
+      // let the Charset replace malformed input
+      return UTF8.decode(ByteBuffer.wrap(buf, off, len)).toString();
+    }
+    return new String(chars, 0, n);
+  }
+
+  /**
+   * @return a buffer of at least the given size, which is only valid until the
+   *         next call
+   */
+  protected byte[] byteScratch(int size) {
+    byte[] buf = byteScratch_;
+    if (buf.length < size) {
+      buf = new byte[size];
+      if (size <= MAX_SCRATCH_SIZE) {
+        byteScratch_ = buf;
+      }
+    }
+    return buf;
+  }
+
+  /**
+   * Rejects a negative string or binary length read from the wire before it is used
+   * as an array size.
+   */
+  protected static void checkNegativeSize(int length) throws TProtocolException {
+    if (length < 0) {
+      throw new TProtocolException(TProtocolException.NEGATIVE_SIZE,
+          "Negative length: " + length);
+    }
+  }
+
+  /**
+   * Whether generated structs may keep binary values as views of the transport buffer
+   */
+  private boolean zeroCopyBinary_;
+
+  public boolean isZeroCopyBinary() {
+    return zeroCopyBinary_;
+  }
+
+  /**
+   * Makes structs that store binary values as {@link ByteBuffer}s, such as
+   * {@code Data.body} or {@code Note.contentHash}, keep them as views of the
+   * transport buffer instead of copying each one into a new array.
+   * <p>
+   * A view keeps the whole buffer of the transport reachable, and the transport
+   * allocates a new buffer for the next message instead of reusing it. Structs
+   * hand out the view through their {@code bufferForX()} methods, while their
+   * {@code getX()} methods copy the value into an array of its own the first time
+   * they're called and drop the view. This only has an effect if the transport
+   * buffers whole messages.
+   */
+  public void setZeroCopyBinary(boolean zeroCopyBinary) {
+    zeroCopyBinary_ = zeroCopyBinary;
+  }
+
+  /**
+   * Reads a binary value for a struct field that stores it as a {@link ByteBuffer}.
+   * The result is a view of the transport buffer if zero copy reading is enabled
+   * and possible, and wraps an array of its own otherwise.
+   */
+  public ByteBuffer readBinaryField() throws TException {
+    if (zeroCopyBinary_) {
+      return readBinary();
+    }
+    return ByteBuffer.wrap(readBytes());
+  }
+
   /**
    * Writing methods.
    */
@@ -101,8 +313,12 @@ public abstract class TProtocol {
   public abstract void writeString(String str) throws TException;
 
   public void writeBinary(ByteBuffer buf) throws TException {
-    int length = buf.limit() - buf.position() - buf.arrayOffset();
-    writeBinary(buf.array(), buf.position() + buf.arrayOffset(), length);
+    if (buf.hasArray()) {
+      writeBinary(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+    } else {
+      byte[] bytes = TBaseHelper.byteBufferToByteArray(buf);
+      writeBinary(bytes, 0, bytes.length);
+    }
   }
 
   public void writeStream(InputStream data, long length) throws TException {
@@ -165,10 +381,21 @@ public abstract class TProtocol {
 
   public abstract String readString() throws TException;
 
+  /**
+   * Reads a binary value. If the transport has the whole value in its buffer, the
+   * result is a view of that buffer, and the transport is told to retain it.
+   */
   public abstract ByteBuffer readBinary() throws TException;
 
   public abstract byte[] readBytes() throws TException;
 
+  /**
+   * Skips a string or binary value without materializing it.
+   */
+  public void skipBinary() throws TException {
+    readBinary();
+  }
+
   /**
    * Reset any internal state back to a blank slate. This method only needs to
    * be implemented for stateful protocols.
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.evernote.thrift.protocol;
+
+/**
+ * A bounded table of recently decoded strings, see
+ * {@link TProtocol#setStringTable(TStringTable)}. When a protocol reads a string
+ * whose encoded bytes match an entry of the table, it returns the String of that
+ * entry instead of decoding a new one. Values that repeat within and across
+ * responses, such as notebook and tag GUIDs or note attributes, then share a
+ * single instance.
+ * <p>
+ * The table is direct mapped: the hash of a byte sequence determines the only slot
+ * it can be stored in, and a newly decoded string replaces the previous entry of
+ * its slot. Memory use is bounded by the number of slots and the maximum length of
+ * the strings that are stored.
+ * <p>
+ * This class is not thread safe, each protocol needs its own table. An entry holds
+ * the bytes and the String together and is never modified, so a table that is
+ * shared by mistake can only miss, never return the String of other bytes.
+ */
+public final class TStringTable {
+
+  public static final int DEFAULT_SIZE = 1024;
+  public static final int DEFAULT_MAX_LENGTH = 64;
+
+  private final Entry[] entries_;
+  private final int mask_;
+  private final int maxLength_;
+  private long hits_;
+  private long misses_;
+
+  public TStringTable() {
+    this(DEFAULT_SIZE, DEFAULT_MAX_LENGTH);
+  }
+
+  /**
+   * @param size the number of slots, rounded up to a power of two
+   * @param maxLength the maximum length in bytes of the strings to store; longer
+   *          strings are always decoded
+   */
+  public TStringTable(int size, int maxLength) {
+    if (size < 1 || size > (1 << 24)) {
+      throw new IllegalArgumentException("Invalid size: " + size);
+    }
+    int capacity = 1;
+    while (capacity < size) {
+      capacity <<= 1;
+    }
+    entries_ = new Entry[capacity];
+    mask_ = capacity - 1;
+    maxLength_ = maxLength;
+  }
+
+  /**
+   * @return the slot for the given bytes, or -1 if they're too long to be stored
+   */
+  int slot(byte[] buf, int off, int len) {
+    if (len > maxLength_) {
+      return -1;
+    }
+    int h = len;
+    for (int i = off; i < off + len; i++) {
+      h = 31 * h + buf[i];
+    }
+    h ^= h >>> 16;
+    return h & mask_;
+  }
+
+  /**
+   * @return the stored string if the slot holds the given bytes, null otherwise
+   */
+  String get(int slot, byte[] buf, int off, int len) {
+    Entry entry = entries_[slot];
+    if (entry != null && entry.bytes.length == len) {
+      byte[] stored = entry.bytes;
+      int i = 0;
+      while (i < len && stored[i] == buf[off + i]) {
+        i++;
+      }
+      if (i == len) {
+        hits_++;
+        return entry.string;
+      }
+    }
+    misses_++;
+    return null;
+  }
+
+  void put(int slot, byte[] buf, int off, int len, String str) {
+    byte[] stored = new byte[len];
+    System.arraycopy(buf, off, stored, 0, len);
+    entries_[slot] = new Entry(stored, str);
+  }
+
+  /**
+   * Removes all entries, e.g. to release the strings of a previous response.
+   */
+  public void clear() {
+    for (int i = 0; i < entries_.length; i++) {
+      entries_[i] = null;
+    }
+  }
+
+  /**
+   * @return the number of strings that were found in the table
+   */
+  public long getHitCount() {
+    return hits_;
+  }
+
+  /**
+   * @return the number of strings short enough to be stored that had to be decoded
+   */
+  public long getMissCount() {
+    return misses_;
+  }
+
+  private static final class Entry {
+    final byte[] bytes;
+    final String string;
+
+    Entry(byte[] bytes, String string) {
+      this.bytes = bytes;
+      this.string = string;
+    }
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.evernote.thrift.protocol;
+
+/**
+ * UTF-8 encoding and decoding straight between Strings and byte arrays, without
+ * the intermediate buffers of {@link java.nio.charset.Charset}. Most strings in
+ * the API are ASCII, which takes a fast path.
+ * <p>
+ * The encoder produces the same bytes as the UTF-8 Charset, including the '?'
+ * that replaces an unpaired surrogate. The decoder only handles well formed
+ * input and leaves malformed input to the Charset, which knows how to replace it.
+ */
+final class TUtf8 {
+
+  private TUtf8() {}
+
+  /**
+   * @return the number of bytes needed to encode the given string
+   */
+  static int encodedLength(String str) {
+    int len = str.length();
+    int bytes = len;
+    for (int i = 0; i < len; i++) {
+      char c = str.charAt(i);
+      if (c < 0x80) {
+        continue;
+      } else if (c < 0x800) {
+        bytes += 1;
+      } else if (Character.isHighSurrogate(c) && i + 1 < len
+          && Character.isLowSurrogate(str.charAt(i + 1))) {
+        // a surrogate pair takes 4 bytes for 2 chars
+        bytes += 2;
+        i++;
+      } else if (Character.isHighSurrogate(c) || Character.isLowSurrogate(c)) {
+        // unpaired surrogates are replaced with '?'
+        continue;
+      } else {
+        bytes += 2;
+      }
+    }
+    return bytes;
+  }
+
+  /**
+   * Encodes the string into the buffer, which must have room for
+   * {@link #encodedLength(String)} bytes starting at the given offset.
+   *
+   * @return the offset after the last byte written
+   */
+  static int encode(String str, byte[] buf, int off) {
+    int len = str.length();
+    int i = 0;
+    // ASCII fast path
+    for (; i < len; i++) {
+      char c = str.charAt(i);
+      if (c >= 0x80) {
+        break;
+      }
+      buf[off++] = (byte) c;
+    }
+    for (; i < len; i++) {
+      char c = str.charAt(i);
+      if (c < 0x80) {
+        buf[off++] = (byte) c;
+      } else if (c < 0x800) {
+        buf[off++] = (byte) (0xc0 | (c >> 6));
+        buf[off++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isHighSurrogate(c) && i + 1 < len
+          && Character.isLowSurrogate(str.charAt(i + 1))) {
+        int cp = Character.toCodePoint(c, str.charAt(++i));
+        buf[off++] = (byte) (0xf0 | (cp >> 18));
+        buf[off++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+        buf[off++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+        buf[off++] = (byte) (0x80 | (cp & 0x3f));
+      } else if (Character.isHighSurrogate(c) || Character.isLowSurrogate(c)) {
+        buf[off++] = (byte) '?';
+      } else {
+        buf[off++] = (byte) (0xe0 | (c >> 12));
+        buf[off++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        buf[off++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+    return off;
+  }
+
+  /**
+   * Decodes len bytes starting at off into chars, which must have room for at
+   * least len chars.
+   *
+   * @return the number of chars decoded, or -1 if the input isn't well formed
+   *         UTF-8
+   */
+  static int decode(byte[] buf, int off, int len, char[] chars) {
+    int end = off + len;
+    int n = 0;
+    // ASCII fast path
+    while (off < end && buf[off] >= 0) {
+      chars[n++] = (char) buf[off++];
+    }
+    while (off < end) {
+      int b1 = buf[off++];
+      if (b1 >= 0) {
+        chars[n++] = (char) b1;
+      } else if ((b1 & 0xe0) == 0xc0) {
+        if (off >= end) {
+          return -1;
+        }
+        int b2 = buf[off++];
+        if ((b2 & 0xc0) != 0x80 || (b1 & 0x1e) == 0) {
+          // bad continuation byte or overlong encoding
+          return -1;
+        }
+        chars[n++] = (char) (((b1 & 0x1f) << 6) | (b2 & 0x3f));
+      } else if ((b1 & 0xf0) == 0xe0) {
+        if (off + 1 >= end) {
+          return -1;
+        }
+        int b2 = buf[off++];
+        int b3 = buf[off++];
+        if ((b2 & 0xc0) != 0x80 || (b3 & 0xc0) != 0x80) {
+          return -1;
+        }
+        char c = (char) (((b1 & 0x0f) << 12) | ((b2 & 0x3f) << 6) | (b3 & 0x3f));
+        if (c < 0x800 || (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE)) {
+          return -1;
+        }
+        chars[n++] = c;
+      } else if ((b1 & 0xf8) == 0xf0) {
+        if (off + 2 >= end) {
+          return -1;
+        }
+        int b2 = buf[off++];
+        int b3 = buf[off++];
+        int b4 = buf[off++];
+        if ((b2 & 0xc0) != 0x80 || (b3 & 0xc0) != 0x80 || (b4 & 0xc0) != 0x80) {
+          return -1;
+        }
+        int cp = ((b1 & 0x07) << 18) | ((b2 & 0x3f) << 12) | ((b3 & 0x3f) << 6)
+            | (b4 & 0x3f);
+        if (cp < Character.MIN_SUPPLEMENTARY_CODE_POINT
+            || cp > Character.MAX_CODE_POINT) {
+          return -1;
+        }
+        cp -= Character.MIN_SUPPLEMENTARY_CODE_POINT;
+        chars[n++] = (char) (Character.MIN_HIGH_SURROGATE + (cp >> 10));
+        chars[n++] = (char) (Character.MIN_LOW_SURROGATE + (cp & 0x3ff));
+      } else {
+        return -1;
+      }
+    }
+    return n;
+  }
+}
@@ -19,26 +19,55 @@
 
 package com.evernote.thrift.transport;
 
-import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.InputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import java.net.URL;
 import java.net.HttpURLConnection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.evernote.thrift.TByteArrayOutputStream;
 
 /**
  * HTTP implementation of the TTransport interface. Used for working with a
  * Thrift web services implementation.
  *
+ * <p>
+ * When response buffering is enabled (see {@link #setBufferResponse(boolean)}),
+ * each response body is read into a reusable in-memory buffer which is exposed
+ * through {@link #getBuffer()}, {@link #getBufferPosition()} and
+ * {@link #getBytesRemainingInBuffer()}, so that protocols can decode directly
+ * from the array instead of issuing small reads against the network stream.
+ * </p>
+ *
+ * <p>
+ * If a {@link THttpConnectionPool} is given, requests are sent over persistent
+ * connections borrowed from that pool instead of through
+ * {@link HttpURLConnection}, so that any number of clients talking to the same
+ * host share a small set of warm connections.
+ * </p>
+ *
+ * <p>
+ * Responses can be requested gzip or deflate compressed (see
+ * {@link #setCompressResponses(boolean)}); they are decompressed on the fly
+ * while they are read. Requests can be gzip compressed as well (see
+ * {@link #setCompressRequests(boolean)}). The number of bytes sent and
+ * received, before and after compression, is tracked by each client.
+ * </p>
  */
 public class THttpClient extends TTransport {
 
   private URL url_ = null;
 
-  private final ByteArrayOutputStream requestBuffer_ =
-    new ByteArrayOutputStream();
+  private TByteArrayOutputStream requestBuffer_ =
+    new TByteArrayOutputStream();
 
   private InputStream inputStream_ = null;
 
@@ -48,6 +77,48 @@ public class THttpClient extends TTransport {
 
   private Map<String,String> customHeaders_ = null;
 
+  private THttpConnectionPool connectionPool_ = null;
+
+  /**
+   * The most bytes of an unread response that are skipped on close so that the
+   * underlying connection can be reused.
+   */
+  private static final int MAX_DRAIN = 64 * 1024;
+
+  /**
+   * Default upper bound for the size of a request or response buffer that is
+   * kept between calls. Larger buffers are released once they have been used.
+   */
+  public static final int DEFAULT_MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+  private static final int MIN_RESPONSE_BUFFER_SIZE = 1024;
+
+  private boolean bufferResponse_ = false;
+
+  private int maxRetainedBufferSize_ = DEFAULT_MAX_RETAINED_BUFFER_SIZE;
+
+  private byte[] responseBuffer_ = null;
+
+  private int responsePos_ = 0;
+
+  private int responseLen_ = -1;
+
+  private boolean responseBufferRetained_ = false;
+
+  private boolean compressRequests_ = false;
+
+  private boolean compressResponses_ = false;
+
+  private TByteArrayOutputStream compressedRequest_ = null;
+
+  private long requestBytes_ = 0;
+
+  private long requestWireBytes_ = 0;
+
+  private long responseBytes_ = 0;
+
+  private long responseWireBytes_ = 0;
+
   public THttpClient(String url) throws TTransportException {
     try {
       url_ = new URL(url);
@@ -56,6 +127,20 @@ public class THttpClient extends TTransport {
     }
   }
 
+  /**
+   * Creates a client that sends its requests over connections borrowed from the
+   * given pool.
+   */
+  public THttpClient(String url, THttpConnectionPool connectionPool)
+    throws TTransportException {
+    this(url);
+    connectionPool_ = connectionPool;
+  }
+
+  public THttpConnectionPool getConnectionPool() {
+    return connectionPool_;
+  }
+
   public void setConnectTimeout(int timeout) {
     connectTimeout_ = timeout;
   }
@@ -75,10 +160,105 @@ public class THttpClient extends TTransport {
     customHeaders_.put(key, value);
   }
 
+  /**
+   * Enables or disables response buffering. When enabled, the whole response
+   * body is read into a reusable buffer before decoding starts.
+   */
+  public void setBufferResponse(boolean bufferResponse) {
+    bufferResponse_ = bufferResponse;
+  }
+
+  public boolean isBufferResponse() {
+    return bufferResponse_;
+  }
+
+  /**
+   * Sets the largest buffer size, in bytes, that is kept for re-use after a
+   * request has been sent or a response has been consumed.
+   */
+  public void setMaxRetainedBufferSize(int size) {
+    maxRetainedBufferSize_ = size;
+  }
+
+  public int getMaxRetainedBufferSize() {
+    return maxRetainedBufferSize_;
+  }
+
+  /**
+   * Enables gzip compression of request bodies. Only use this with servers
+   * that accept compressed requests.
+   */
+  public void setCompressRequests(boolean compressRequests) {
+    compressRequests_ = compressRequests;
+  }
+
+  public boolean isCompressRequests() {
+    return compressRequests_;
+  }
+
+  /**
+   * Asks the server to send gzip or deflate compressed responses.
+   */
+  public void setCompressResponses(boolean compressResponses) {
+    compressResponses_ = compressResponses;
+  }
+
+  public boolean isCompressResponses() {
+    return compressResponses_;
+  }
+
+  /**
+   * @return the number of request bytes written by the protocol
+   */
+  public long getRequestBytes() {
+    return requestBytes_;
+  }
+
+  /**
+   * @return the number of request body bytes sent over the network
+   */
+  public long getRequestWireBytes() {
+    return requestWireBytes_;
+  }
+
+  /**
+   * @return the number of response bytes handed to the protocol
+   */
+  public long getResponseBytes() {
+    return responseBytes_;
+  }
+
+  /**
+   * @return the number of response body bytes received over the network
+   */
+  public long getResponseWireBytes() {
+    return responseWireBytes_;
+  }
+
+  /**
+   * @return the ratio of response bytes received over the network to decoded
+   * response bytes, 1 if nothing has been compressed
+   */
+  public double getResponseCompressionRatio() {
+    return responseBytes_ == 0 ? 1.0 : (double) responseWireBytes_ / responseBytes_;
+  }
+
+  public void resetStatistics() {
+    requestBytes_ = 0;
+    requestWireBytes_ = 0;
+    responseBytes_ = 0;
+    responseWireBytes_ = 0;
+  }
+
   public void open() {}
 
   public void close() {
     if (null != inputStream_) {
+      try {
+        drain(inputStream_);
+      } catch (IOException ioe) {
+        ;
+      }
       try {
         inputStream_.close();
       } catch (IOException ioe) {
@@ -86,6 +266,7 @@ public class THttpClient extends TTransport {
       }
       inputStream_ = null;
     }
+    releaseResponseBuffer();
   }
 
   public boolean isOpen() {
@@ -93,6 +274,16 @@ public class THttpClient extends TTransport {
   }
 
   public int read(byte[] buf, int off, int len) throws TTransportException {
+    if (responseLen_ >= 0) {
+      int remaining = responseLen_ - responsePos_;
+      if (remaining <= 0) {
+        throw new TTransportException("No more data available.");
+      }
+      int got = Math.min(len, remaining);
+      System.arraycopy(responseBuffer_, responsePos_, buf, off, got);
+      responsePos_ += got;
+      return got;
+    }
     if (inputStream_ == null) {
       throw new TTransportException("Response buffer is empty, no request.");
     }
@@ -107,15 +298,135 @@ public class THttpClient extends TTransport {
     }
   }
 
+  @Override
+  public void skip(int len) throws TTransportException {
+    if (responseLen_ >= 0) {
+      if (len > responseLen_ - responsePos_) {
+        throw new TTransportException("No more data available.");
+      }
+      responsePos_ += Math.max(len, 0);
+      return;
+    }
+    if (inputStream_ == null) {
+      throw new TTransportException("Response buffer is empty, no request.");
+    }
+    try {
+      while (len > 0) {
+        long ret = inputStream_.skip(len);
+        if (ret <= 0) {
+          // skip() may give up before the end of the stream, read() can tell
+          if (inputStream_.read() == -1) {
+            throw new TTransportException("No more data available.");
+          }
+          ret = 1;
+        }
+        len -= ret;
+      }
+    } catch (IOException iox) {
+      throw new TTransportException(iox);
+    }
+  }
+
   public void write(byte[] buf, int off, int len) {
     requestBuffer_.write(buf, off, len);
   }
 
+  @Override
+  public byte[] getBuffer() {
+    return responseLen_ >= 0 ? responseBuffer_ : null;
+  }
+
+  @Override
+  public int getBufferPosition() {
+    return responseLen_ >= 0 ? responsePos_ : 0;
+  }
+
+  @Override
+  public int getBytesRemainingInBuffer() {
+    return responseLen_ >= 0 ? responseLen_ - responsePos_ : -1;
+  }
+
+  @Override
+  public void consumeBuffer(int len) {
+    responsePos_ += len;
+  }
+
+  @Override
+  public void retainBuffer() {
+    if (responseLen_ >= 0) {
+      responseBufferRetained_ = true;
+    }
+  }
+
   public void flush() throws TTransportException {
-    // Extract request and reset buffer
-    byte[] data = requestBuffer_.toByteArray();
-    requestBuffer_.reset();
+    // Discard whatever is left of the previous response
+    close();
 
+    // The request is sent straight from the buffer, without copying it
+    try {
+      byte[] data = requestBuffer_.get();
+      int len = requestBuffer_.len();
+      requestBytes_ += len;
+      if (compressRequests_) {
+        compressRequest(data, len);
+        data = compressedRequest_.get();
+        len = compressedRequest_.len();
+      }
+      requestWireBytes_ += len;
+
+      Map<String, String> headers = getRequestHeaders();
+      if (connectionPool_ != null) {
+        flushPooled(headers, data, len);
+      } else {
+        flushConnection(headers, data, len);
+      }
+    } finally {
+      if (requestBuffer_.get().length > maxRetainedBufferSize_) {
+        requestBuffer_ = new TByteArrayOutputStream();
+      } else {
+        requestBuffer_.reset();
+      }
+      if (compressedRequest_ != null
+          && compressedRequest_.get().length > maxRetainedBufferSize_) {
+        compressedRequest_ = null;
+      }
+    }
+  }
+
+  private Map<String, String> getRequestHeaders() {
+    Map<String, String> headers = new LinkedHashMap<String, String>();
+    headers.put("Content-Type", "application/x-thrift");
+    headers.put("Accept", "application/x-thrift");
+    headers.put("User-Agent", "Java/THttpClient");
+    if (compressRequests_) {
+      headers.put("Content-Encoding", "gzip");
+    }
+    if (compressResponses_) {
+      headers.put("Accept-Encoding", "gzip, deflate");
+    }
+    if (customHeaders_ != null) {
+      headers.putAll(customHeaders_);
+    }
+    return headers;
+  }
+
+  private void compressRequest(byte[] data, int len) throws TTransportException {
+    if (compressedRequest_ == null) {
+      compressedRequest_ = new TByteArrayOutputStream(Math.max(32, len / 4));
+    } else {
+      compressedRequest_.reset();
+    }
+    try {
+      GZIPOutputStream gzip = new GZIPOutputStream(compressedRequest_);
+      gzip.write(data, 0, len);
+      gzip.close();
+    } catch (IOException iox) {
+      throw new TTransportException(iox);
+    }
+  }
+
+  private void flushConnection(Map<String, String> headers, byte[] data, int len)
+    throws TTransportException {
     try {
       // Create connection object
       HttpURLConnection connection = (HttpURLConnection)url_.openConnection();
@@ -130,17 +441,15 @@ public class THttpClient extends TTransport {
 
       // Make the request
       connection.setRequestMethod("POST");
-      connection.setRequestProperty("Content-Type", "application/x-thrift");
-      connection.setRequestProperty("Accept", "application/x-thrift");
-      connection.setRequestProperty("User-Agent", "Java/THttpClient");
-      if (customHeaders_ != null) {
-        for (Map.Entry<String, String> header : customHeaders_.entrySet()) {
-          connection.setRequestProperty(header.getKey(), header.getValue());
-        }
+      for (Map.Entry<String, String> header : headers.entrySet()) {
+        connection.setRequestProperty(header.getKey(), header.getValue());
       }
       connection.setDoOutput(true);
+      connection.setFixedLengthStreamingMode(len);
       connection.connect();
-      connection.getOutputStream().write(data);
+      OutputStream out = connection.getOutputStream();
+      out.write(data, 0, len);
+      out.close();
 
       int responseCode = connection.getResponseCode();
       if (responseCode != HttpURLConnection.HTTP_OK) {
@@ -148,10 +457,188 @@ public class THttpClient extends TTransport {
       }
 
       // Read the responses
-      inputStream_ = connection.getInputStream();
+      inputStream_ = decodeResponse(connection.getInputStream(),
+          connection.getContentEncoding());
+      if (bufferResponse_) {
+        readResponse(connection.getContentLength());
+      }
+
+    } catch (IOException iox) {
+      throw new TTransportException(iox);
+    }
+  }
+
+  private void flushPooled(Map<String, String> headers, byte[] data, int len)
+    throws TTransportException {
+    String path = url_.getFile();
+    if (path.length() == 0) {
+      path = "/";
+    }
 
+    try {
+      THttpConnection connection;
+      while (true) {
+        connection = connectionPool_.acquire(url_, connectTimeout_, readTimeout_);
+        try {
+          connection.execute(path, headers, data, 0, len);
+          break;
+        } catch (THttpConnection.StaleConnectionException e) {
+          // the server dropped an idle connection before the request reached it
+          if (!connection.isReused()) {
+            throw e;
+          }
+        }
+      }
+
+      inputStream_ = connection.getResponseStream();
+      int responseCode = connection.getResponseCode();
+      if (responseCode != HttpURLConnection.HTTP_OK) {
+        close();
+        throw new TTransportException("HTTP Response code: " + responseCode);
+      }
+      inputStream_ = decodeResponse(inputStream_, connection.getContentEncoding());
+
+      if (bufferResponse_) {
+        readResponse(connection.getContentLength());
+      }
     } catch (IOException iox) {
+      close();
       throw new TTransportException(iox);
     }
   }
+
+  /**
+   * Wraps the raw response stream so that it is decompressed while it is read,
+   * and so that bytes are counted before and after decompression.
+   */
+  private InputStream decodeResponse(InputStream raw, String contentEncoding)
+    throws IOException {
+    if ("gzip".equalsIgnoreCase(contentEncoding)
+        || "x-gzip".equalsIgnoreCase(contentEncoding)) {
+      InputStream wire = new CountingInputStream(raw, true, false);
+      return new CountingInputStream(new GZIPInputStream(wire), false, true);
+    } else if ("deflate".equalsIgnoreCase(contentEncoding)) {
+      InputStream wire = new CountingInputStream(raw, true, false);
+      return new CountingInputStream(new InflaterInputStream(wire), false, true);
+    }
+    return new CountingInputStream(raw, true, true);
+  }
+
+  /**
+   * Adds the bytes read from a response stream to the statistics of this
+   * client.
+   */
+  private class CountingInputStream extends FilterInputStream {
+    private final boolean wire_;
+    private final boolean decoded_;
+
+    CountingInputStream(InputStream in, boolean wire, boolean decoded) {
+      super(in);
+      wire_ = wire;
+      decoded_ = decoded;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = in.read();
+      if (b != -1) {
+        count(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] buf, int off, int len) throws IOException {
+      int ret = in.read(buf, off, len);
+      if (ret > 0) {
+        count(ret);
+      }
+      return ret;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long ret = in.skip(n);
+      if (ret > 0) {
+        count(ret);
+      }
+      return ret;
+    }
+
+    private void count(long n) {
+      if (wire_) {
+        responseWireBytes_ += n;
+      }
+      if (decoded_) {
+        responseBytes_ += n;
+      }
+    }
+  }
+
+  /**
+   * Skips a bounded amount of unread response data so that the connection it came
+   * from can be kept alive.
+   */
+  private static void drain(InputStream in) throws IOException {
+    byte[] skip = new byte[4096];
+    int drained = 0;
+    while (drained < MAX_DRAIN) {
+      int ret = in.read(skip, 0, skip.length);
+      if (ret == -1) {
+        break;
+      }
+      drained += ret;
+    }
+  }
+
+  /**
+   * Reads the whole response body into the response buffer, growing it as
+   * needed, and closes the underlying stream.
+   */
+  private void readResponse(int contentLength) throws IOException {
+    byte[] buf = responseBuffer_;
+    int needed = Math.max(contentLength, MIN_RESPONSE_BUFFER_SIZE);
+    if (buf == null || buf.length < needed) {
+      buf = new byte[needed];
+    }
+
+    int len = 0;
+    try {
+      while (true) {
+        if (len == buf.length) {
+          // Only grow if there is actually more data
+          int next = inputStream_.read();
+          if (next == -1) {
+            break;
+          }
+          byte[] grown = new byte[buf.length * 2];
+          System.arraycopy(buf, 0, grown, 0, len);
+          buf = grown;
+          buf[len++] = (byte) next;
+        }
+        int ret = inputStream_.read(buf, len, buf.length - len);
+        if (ret == -1) {
+          break;
+        }
+        len += ret;
+      }
+    } finally {
+      inputStream_.close();
+      inputStream_ = null;
+    }
+
+    responseBuffer_ = buf;
+    responsePos_ = 0;
+    responseLen_ = len;
+  }
+
+  private void releaseResponseBuffer() {
+    responsePos_ = 0;
+    responseLen_ = -1;
+    if (responseBufferRetained_
+        || (responseBuffer_ != null && responseBuffer_.length > maxRetainedBufferSize_)) {
+      responseBuffer_ = null;
+      responseBufferRetained_ = false;
+    }
+  }
 }
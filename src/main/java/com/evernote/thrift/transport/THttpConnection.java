@@ -0,0 +1,539 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.transport;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import javax.naming.InvalidNameException;
+import javax.naming.ldap.LdapName;
+import javax.naming.ldap.Rdn;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import javax.security.auth.x500.X500Principal;
+
+/**
+ * A single persistent HTTP/1.1 connection owned by a {@link THttpConnectionPool}.
+ * It sends one request at a time and hands the connection back to the pool once the
+ * response body has been read to the end and closed.
+ */
+class THttpConnection {
+
+  /**
+   * The most bytes of an unread response body that are skipped on close in order to
+   * keep the connection reusable.
+   */
+  private static final int MAX_DRAIN = 64 * 1024;
+
+  private static final Pattern IPV4_ADDRESS = Pattern
+      .compile("\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}");
+
+  /**
+   * Thrown if writing the request to a reused connection failed, or if the server
+   * closed a reused connection without sending any part of the response. The
+   * request never reached the service and can safely be retried.
+   */
+  static class StaleConnectionException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    StaleConnectionException(String message) {
+      super(message);
+    }
+  }
+
+  private final THttpConnectionPool pool;
+  private final String key;
+  private final Socket socket;
+  private final InputStream in;
+  private final OutputStream out;
+  private final String hostHeader;
+
+  private long lastUsed;
+  private boolean reused;
+
+  private int responseCode;
+  private int contentLength;
+  private String contentEncoding;
+  private ResponseStream responseStream;
+
+  THttpConnection(THttpConnectionPool pool, String key, URL url, int connectTimeout,
+      SSLSocketFactory sslSocketFactory) throws IOException {
+    this.pool = pool;
+    this.key = key;
+
+    String host = url.getHost();
+    int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+    hostHeader = url.getPort() == -1 ? host : host + ":" + port;
+
+    Socket plain = new Socket();
+    try {
+      plain.setTcpNoDelay(true);
+      plain.connect(new InetSocketAddress(host, port), connectTimeout);
+      if ("https".equalsIgnoreCase(url.getProtocol())) {
+        SSLSocket ssl = (SSLSocket) sslSocketFactory.createSocket(plain, host, port, true);
+        ssl.startHandshake();
+        verifyHostname(ssl, host);
+        socket = ssl;
+      } else {
+        socket = plain;
+      }
+      in = new BufferedInputStream(socket.getInputStream(), 8192);
+      out = socket.getOutputStream();
+    } catch (IOException e) {
+      try {
+        plain.close();
+      } catch (IOException ignored) {
+        ;
+      }
+      throw e;
+    }
+  }
+
+  String getKey() {
+    return key;
+  }
+
+  long getLastUsed() {
+    return lastUsed;
+  }
+
+  void setLastUsed(long lastUsed) {
+    this.lastUsed = lastUsed;
+    this.reused = true;
+  }
+
+  /**
+   * @return true if this connection has already carried a request
+   */
+  boolean isReused() {
+    return reused;
+  }
+
+  void setReadTimeout(int readTimeout) throws IOException {
+    socket.setSoTimeout(readTimeout);
+  }
+
+  int getResponseCode() {
+    return responseCode;
+  }
+
+  /**
+   * @return the length of the response body or -1 if it isn't known in advance
+   */
+  int getContentLength() {
+    return contentLength;
+  }
+
+  /**
+   * @return the Content-Encoding of the response or null if it isn't encoded
+   */
+  String getContentEncoding() {
+    return contentEncoding;
+  }
+
+  InputStream getResponseStream() {
+    return responseStream;
+  }
+
+  /**
+   * POSTs the request body and reads the response status line and headers. The body
+   * is then available from {@link #getResponseStream()}; closing that stream returns
+   * the connection to its pool.
+   */
+  void execute(String path, Map<String, String> headers, byte[] data, int off, int len)
+      throws IOException {
+    boolean requestSent = false;
+    try {
+      StringBuilder head = new StringBuilder(256);
+      head.append("POST ").append(path).append(" HTTP/1.1\r\n");
+      head.append("Host: ").append(hostHeader).append("\r\n");
+      head.append("Content-Length: ").append(len).append("\r\n");
+      for (Map.Entry<String, String> header : headers.entrySet()) {
+        head.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+      }
+      head.append("\r\n");
+      out.write(head.toString().getBytes("ISO-8859-1"));
+      out.write(data, off, len);
+      out.flush();
+      requestSent = true;
+
+      String statusLine = readLine();
+      if (statusLine == null) {
+        if (reused) {
+          throw new StaleConnectionException("Connection closed by server");
+        }
+        throw new IOException("Connection closed by server");
+      }
+      readResponseHead(statusLine);
+    } catch (IOException e) {
+      pool.release(this, false);
+      // Once the whole request is out, the server may be processing it. Only a clean
+      // close without a single byte of response shows that it dropped the connection
+      // instead, so a read timeout or reset must not lead to the request being resent.
+      if (reused && !requestSent && !(e instanceof StaleConnectionException)) {
+        StaleConnectionException stale = new StaleConnectionException(e.getMessage());
+        stale.initCause(e);
+        throw stale;
+      }
+      throw e;
+    }
+  }
+
+  void closeSocket() {
+    try {
+      socket.close();
+    } catch (IOException e) {
+      ;
+    }
+  }
+
+  private void readResponseHead(String statusLine) throws IOException {
+    String[] status = statusLine.split(" ", 3);
+    if (status.length < 2 || !status[0].startsWith("HTTP/")) {
+      throw new IOException("Malformed HTTP status line: " + statusLine);
+    }
+    try {
+      responseCode = Integer.parseInt(status[1]);
+    } catch (NumberFormatException e) {
+      throw new IOException("Malformed HTTP status line: " + statusLine);
+    }
+
+    boolean keepAlive = !"HTTP/1.0".equals(status[0]);
+    boolean chunked = false;
+    contentLength = -1;
+    contentEncoding = null;
+    String line;
+    while ((line = readLine()) != null && line.length() > 0) {
+      int colon = line.indexOf(':');
+      if (colon <= 0) {
+        continue;
+      }
+      String name = line.substring(0, colon).trim();
+      String value = line.substring(colon + 1).trim();
+      if ("Content-Length".equalsIgnoreCase(name)) {
+        try {
+          contentLength = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+          throw new IOException("Malformed Content-Length: " + value);
+        }
+      } else if ("Content-Encoding".equalsIgnoreCase(name)) {
+        contentEncoding = value;
+      } else if ("Transfer-Encoding".equalsIgnoreCase(name)) {
+        chunked = value.toLowerCase().indexOf("chunked") >= 0;
+      } else if ("Connection".equalsIgnoreCase(name)) {
+        if ("close".equalsIgnoreCase(value)) {
+          keepAlive = false;
+        } else if ("keep-alive".equalsIgnoreCase(value)) {
+          keepAlive = true;
+        }
+      }
+    }
+    if (line == null) {
+      throw new IOException("Connection closed while reading response headers");
+    }
+
+    if (chunked) {
+      contentLength = -1;
+    } else if (contentLength < 0) {
+      // the body is delimited by the end of the connection
+      keepAlive = false;
+    }
+    responseStream = new ResponseStream(chunked, contentLength, keepAlive);
+  }
+
+  private String readLine() throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+    int b;
+    while ((b = in.read()) != -1) {
+      if (b == '\n') {
+        return line.toString("ISO-8859-1");
+      }
+      if (b != '\r') {
+        line.write(b);
+      }
+    }
+    return line.size() == 0 ? null : line.toString("ISO-8859-1");
+  }
+
+  private static void verifyHostname(SSLSocket socket, String host) throws IOException {
+    Certificate[] chain;
+    try {
+      chain = socket.getSession().getPeerCertificates();
+    } catch (SSLPeerUnverifiedException e) {
+      throw new SSLException("Server certificate could not be verified for " + host, e);
+    }
+    if (chain.length == 0 || !(chain[0] instanceof X509Certificate)
+        || !matchesCertificate(host, (X509Certificate) chain[0])) {
+      throw new SSLException("Server certificate doesn't match host name " + host);
+    }
+  }
+
+  /**
+   * Checks the host name against the server certificate as described in RFC 2818. An
+   * IP address has to match an iPAddress subject alternative name. A host name has to
+   * match a dNSName subject alternative name, or the common name of the subject if the
+   * certificate has no dNSName.
+   */
+  static boolean matchesCertificate(String host, X509Certificate certificate) {
+    try {
+      return matchesCertificate(host, certificate.getSubjectAlternativeNames(),
+          certificate.getSubjectX500Principal());
+    } catch (CertificateParsingException e) {
+      return false;
+    }
+  }
+
+  static boolean matchesCertificate(String host, Collection<List<?>> altNames,
+      X500Principal subject) {
+    if (host.startsWith("[") && host.endsWith("]")) {
+      host = host.substring(1, host.length() - 1);
+    }
+    host = host.toLowerCase();
+    boolean ipAddress = isIpAddress(host);
+    boolean hasDnsNames = false;
+    if (altNames != null) {
+      for (List<?> altName : altNames) {
+        int type = ((Integer) altName.get(0)).intValue();
+        // 2 and 7 are the dNSName and iPAddress types of the GeneralName choice
+        if (type == 2) {
+          hasDnsNames = true;
+          if (!ipAddress && matchesName(host, (String) altName.get(1))) {
+            return true;
+          }
+        } else if (type == 7) {
+          if (ipAddress && matchesIpAddress(host, (String) altName.get(1))) {
+            return true;
+          }
+        }
+      }
+    }
+    if (ipAddress || hasDnsNames) {
+      return false;
+    }
+    try {
+      LdapName name = new LdapName(subject.getName());
+      for (Rdn rdn : name.getRdns()) {
+        if ("CN".equalsIgnoreCase(rdn.getType()) && rdn.getValue() instanceof String
+            && matchesName(host, (String) rdn.getValue())) {
+          return true;
+        }
+      }
+    } catch (InvalidNameException e) {
+      return false;
+    }
+    return false;
+  }
+
+  private static boolean isIpAddress(String host) {
+    return host.indexOf(':') >= 0 || IPV4_ADDRESS.matcher(host).matches();
+  }
+
+  private static boolean matchesIpAddress(String host, String address) {
+    if (!isIpAddress(address)) {
+      return false;
+    }
+    try {
+      // both are literals, so this doesn't resolve anything
+      return InetAddress.getByName(host).equals(InetAddress.getByName(address));
+    } catch (UnknownHostException e) {
+      return false;
+    }
+  }
+
+  static boolean matchesName(String host, String pattern) {
+    pattern = pattern.toLowerCase();
+    if (pattern.startsWith("*.")) {
+      String suffix = pattern.substring(1);
+      return host.endsWith(suffix) && host.length() > suffix.length()
+          && host.lastIndexOf('.', host.length() - suffix.length() - 1) == -1;
+    }
+    return host.equals(pattern);
+  }
+
+  /**
+   * The body of the current response. Reading it to the end or closing it releases
+   * the connection for the next request.
+   */
+  private class ResponseStream extends InputStream {
+    private final boolean chunked;
+    private final boolean keepAlive;
+    private int remaining;
+    private boolean eof;
+    private boolean closed;
+    private boolean released;
+
+    ResponseStream(boolean chunked, int length, boolean keepAlive) {
+      this.chunked = chunked;
+      this.keepAlive = keepAlive;
+      this.remaining = chunked ? 0 : length;
+      this.eof = !chunked && length == 0;
+      if (eof) {
+        release(true);
+      }
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] b = new byte[1];
+      int ret = read(b, 0, 1);
+      return ret == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buf, int off, int len) throws IOException {
+      if (closed) {
+        throw new IOException("Response stream closed");
+      }
+      if (eof) {
+        return -1;
+      }
+      if (released) {
+        throw new IOException("Connection has been released");
+      }
+      if (len == 0) {
+        return 0;
+      }
+      if (chunked && remaining == 0) {
+        if (!nextChunk()) {
+          return -1;
+        }
+      }
+      if (remaining >= 0) {
+        len = Math.min(len, remaining);
+      }
+      int ret = in.read(buf, off, len);
+      if (ret == -1) {
+        if (remaining >= 0) {
+          throw new IOException("Connection closed before the end of the response");
+        }
+        eof = true;
+        release(false);
+        return -1;
+      }
+      if (remaining >= 0) {
+        remaining -= ret;
+        if (remaining == 0 && !chunked) {
+          eof = true;
+          release(true);
+        }
+      }
+      return ret;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      if (closed) {
+        throw new IOException("Response stream closed");
+      }
+      if (eof || n <= 0) {
+        return 0;
+      }
+      if (released) {
+        throw new IOException("Connection has been released");
+      }
+      if (chunked && remaining == 0) {
+        if (!nextChunk()) {
+          return 0;
+        }
+      }
+      long ret = in.skip(remaining >= 0 ? Math.min(n, remaining) : n);
+      if (ret > 0 && remaining >= 0) {
+        remaining -= ret;
+        if (remaining == 0 && !chunked) {
+          eof = true;
+          release(true);
+        }
+      }
+      return ret;
+    }
+
+    @Override
+    public int available() throws IOException {
+      if (eof || closed || released) {
+        return 0;
+      }
+      int available = in.available();
+      return remaining >= 0 ? Math.min(available, remaining) : available;
+    }
+
+    private boolean nextChunk() throws IOException {
+      String line = readLine();
+      if (line == null) {
+        throw new IOException("Connection closed before the end of the response");
+      }
+      if (line.length() == 0) {
+        // CRLF terminating the previous chunk
+        line = readLine();
+      }
+      int semicolon = line == null ? -1 : line.indexOf(';');
+      try {
+        remaining = Integer.parseInt(
+            (semicolon >= 0 ? line.substring(0, semicolon) : line).trim(), 16);
+      } catch (RuntimeException e) {
+        throw new IOException("Malformed chunk header: " + line);
+      }
+      if (remaining == 0) {
+        // skip trailers
+        String trailer;
+        while ((trailer = readLine()) != null && trailer.length() > 0) {
+          ;
+        }
+        eof = true;
+        release(true);
+        return false;
+      }
+      return true;
+    }
+
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+      try {
+        byte[] skip = new byte[4096];
+        int drained = 0;
+        while (!eof && !released && drained < MAX_DRAIN) {
+          int ret = read(skip, 0, skip.length);
+          if (ret == -1) {
+            break;
+          }
+          drained += ret;
+        }
+      } catch (IOException e) {
+        ;
+      }
+      closed = true;
+      release(false);
+    }
+
+    /**
+     * Hands the connection back to the pool. It is only kept alive if the whole
+     * response has been read and the server allows it.
+     */
+    private void release(boolean complete) {
+      if (!released) {
+        released = true;
+        pool.release(THttpConnection.this, complete && keepAlive);
+      }
+    }
+  }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.transport;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * A pool of persistent HTTP/1.1 connections that can be shared by any number of
+ * {@link THttpClient} instances, see {@link THttpClient#THttpClient(String,
+ * THttpConnectionPool)}.
+ * <p>
+ * Connections are kept per host. At most {@link #getMaxConnectionsPerHost()}
+ * connections are open to the same host at any time; callers that need a connection
+ * while the limit is reached wait up to {@link #getBorrowTimeout()} milliseconds for
+ * one to be returned. Connections that stay idle for longer than
+ * {@link #getIdleTimeout()} milliseconds are closed. Idle eviction happens lazily
+ * whenever a connection is borrowed or returned, or when
+ * {@link #evictIdleConnections()} is called.
+ * <p>
+ * The pool connects directly to the target host and doesn't use the proxy settings
+ * of {@link java.net.HttpURLConnection}.
+ * <p>
+ * This class is thread safe.
+ */
+public class THttpConnectionPool {
+
+  public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 8;
+  public static final long DEFAULT_IDLE_TIMEOUT = 30 * 1000L;
+  public static final long DEFAULT_BORROW_TIMEOUT = 60 * 1000L;
+
+  private final Map<String, HostPool> hosts = new HashMap<String, HostPool>();
+
+  private int maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+  private long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+  private long borrowTimeout = DEFAULT_BORROW_TIMEOUT;
+  private SSLSocketFactory sslSocketFactory;
+  private boolean shutdown;
+
+  private long createdCount;
+  private long reusedCount;
+  private long evictedCount;
+  private long closedCount;
+
+  public synchronized int getMaxConnectionsPerHost() {
+    return maxConnectionsPerHost;
+  }
+
+  public synchronized void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+    if (maxConnectionsPerHost < 1) {
+      throw new IllegalArgumentException("maxConnectionsPerHost must be positive");
+    }
+    this.maxConnectionsPerHost = maxConnectionsPerHost;
+    notifyAll();
+  }
+
+  public synchronized long getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  /**
+   * @param idleTimeout how long, in milliseconds, a connection may stay unused
+   *          before it is closed
+   */
+  public synchronized void setIdleTimeout(long idleTimeout) {
+    this.idleTimeout = idleTimeout;
+  }
+
+  public synchronized long getBorrowTimeout() {
+    return borrowTimeout;
+  }
+
+  /**
+   * @param borrowTimeout how long, in milliseconds, to wait for a connection when the
+   *          per host limit has been reached. 0 means wait forever.
+   */
+  public synchronized void setBorrowTimeout(long borrowTimeout) {
+    this.borrowTimeout = borrowTimeout;
+  }
+
+  public synchronized SSLSocketFactory getSSLSocketFactory() {
+    if (sslSocketFactory == null) {
+      return HttpsURLConnection.getDefaultSSLSocketFactory();
+    }
+    return sslSocketFactory;
+  }
+
+  public synchronized void setSSLSocketFactory(SSLSocketFactory sslSocketFactory) {
+    this.sslSocketFactory = sslSocketFactory;
+  }
+
+  /**
+   * @return the number of connections opened by this pool
+   */
+  public synchronized long getCreatedCount() {
+    return createdCount;
+  }
+
+  /**
+   * @return the number of times an idle connection was handed out again
+   */
+  public synchronized long getReusedCount() {
+    return reusedCount;
+  }
+
+  /**
+   * @return the number of idle connections closed because of the idle timeout
+   */
+  public synchronized long getEvictedCount() {
+    return evictedCount;
+  }
+
+  /**
+   * @return the number of connections closed because they couldn't be reused
+   */
+  public synchronized long getClosedCount() {
+    return closedCount;
+  }
+
+  /**
+   * @return the number of connections currently in use
+   */
+  public synchronized int getLeasedCount() {
+    int leased = 0;
+    for (HostPool host : hosts.values()) {
+      leased += host.leased;
+    }
+    return leased;
+  }
+
+  /**
+   * @return the number of open connections waiting to be reused
+   */
+  public synchronized int getIdleCount() {
+    int idle = 0;
+    for (HostPool host : hosts.values()) {
+      idle += host.idle.size();
+    }
+    return idle;
+  }
+
+  /**
+   * Closes all connections that have been idle for longer than the idle timeout.
+   */
+  public void evictIdleConnections() {
+    List<THttpConnection> expired;
+    synchronized (this) {
+      expired = removeExpiredConnections();
+    }
+    closeConnections(expired);
+  }
+
+  /**
+   * Removes the connections that have been idle for longer than the idle timeout. They
+   * are closed by the caller once it has released the lock, since closing an SSL
+   * socket sends a close_notify alert and may block the other threads.
+   */
+  private List<THttpConnection> removeExpiredConnections() {
+    List<THttpConnection> expired = new ArrayList<THttpConnection>();
+    long now = System.currentTimeMillis();
+    for (HostPool host : hosts.values()) {
+      Iterator<THttpConnection> it = host.idle.iterator();
+      while (it.hasNext()) {
+        THttpConnection connection = it.next();
+        if (now - connection.getLastUsed() >= idleTimeout) {
+          it.remove();
+          expired.add(connection);
+          evictedCount++;
+        }
+      }
+    }
+    return expired;
+  }
+
+  /**
+   * Closes all idle connections. Connections that are in use are closed as soon as
+   * they are returned, and no new connections are handed out.
+   */
+  public void shutdown() {
+    List<THttpConnection> idleConnections = new ArrayList<THttpConnection>();
+    synchronized (this) {
+      shutdown = true;
+      for (HostPool host : hosts.values()) {
+        idleConnections.addAll(host.idle);
+        closedCount += host.idle.size();
+        host.idle.clear();
+      }
+      notifyAll();
+    }
+    closeConnections(idleConnections);
+  }
+
+  private static void closeConnections(List<THttpConnection> connections) {
+    for (THttpConnection connection : connections) {
+      connection.closeSocket();
+    }
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "THttpConnectionPool(leased:" + getLeasedCount() + ", idle:" + getIdleCount()
+        + ", created:" + createdCount + ", reused:" + reusedCount + ", evicted:"
+        + evictedCount + ", closed:" + closedCount + ")";
+  }
+
+  /**
+   * Borrows a connection to the host of the given URL, opening a new one if no idle
+   * connection is available.
+   */
+  THttpConnection acquire(URL url, int connectTimeout, int readTimeout)
+      throws IOException {
+    String key = keyFor(url);
+    THttpConnection connection = null;
+    evictIdleConnections();
+    synchronized (this) {
+      HostPool host = hosts.get(key);
+      if (host == null) {
+        host = new HostPool();
+        hosts.put(key, host);
+      }
+
+      long deadline = borrowTimeout > 0 ? System.currentTimeMillis() + borrowTimeout : 0;
+      while (true) {
+        if (shutdown) {
+          throw new IOException("Connection pool has been shut down");
+        }
+        if (!host.idle.isEmpty()) {
+          connection = host.idle.removeFirst();
+          host.leased++;
+          reusedCount++;
+          break;
+        }
+        if (host.leased < maxConnectionsPerHost) {
+          host.leased++;
+          createdCount++;
+          break;
+        }
+        long wait = 0;
+        if (deadline > 0) {
+          wait = deadline - System.currentTimeMillis();
+          if (wait <= 0) {
+            throw new IOException("Timed out waiting for a connection to " + key);
+          }
+        }
+        try {
+          wait(wait);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while waiting for a connection to " + key);
+        }
+      }
+    }
+
+    if (connection == null) {
+      try {
+        connection = new THttpConnection(this, key, url, connectTimeout,
+            getSSLSocketFactory());
+      } catch (IOException e) {
+        synchronized (this) {
+          hosts.get(key).leased--;
+          notifyAll();
+        }
+        throw e;
+      }
+    }
+    try {
+      connection.setReadTimeout(readTimeout);
+    } catch (IOException e) {
+      release(connection, false);
+      throw e;
+    }
+    return connection;
+  }
+
+  /**
+   * Returns a borrowed connection to the pool. If it can't be reused, its socket is
+   * closed.
+   */
+  void release(THttpConnection connection, boolean reusable) {
+    boolean close;
+    List<THttpConnection> expired;
+    synchronized (this) {
+      HostPool host = hosts.get(connection.getKey());
+      host.leased--;
+      close = !reusable || shutdown;
+      if (close) {
+        closedCount++;
+      } else {
+        connection.setLastUsed(System.currentTimeMillis());
+        host.idle.addFirst(connection);
+      }
+      expired = removeExpiredConnections();
+      notifyAll();
+    }
+    if (close) {
+      connection.closeSocket();
+    }
+    closeConnections(expired);
+  }
+
+  private static String keyFor(URL url) {
+    int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+    return url.getProtocol().toLowerCase() + "://" + url.getHost().toLowerCase() + ":"
+        + port;
+  }
+
+  private static class HostPool {
+    // most recently used first, so that warm connections are preferred
+    final LinkedList<THttpConnection> idle = new LinkedList<THttpConnection>();
+    int leased;
+  }
+}
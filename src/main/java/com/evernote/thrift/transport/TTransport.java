@@ -90,6 +90,29 @@ public abstract class TTransport {
     return got;
   }
 
+  /**
+   * Skips exactly len bytes of input. Buffered transports just advance their
+   * position; others read the data in small pieces and discard it, so that
+   * skipping a large value never allocates a buffer for all of it.
+   *
+   * @param len Number of bytes to skip
+   * @throws TTransportException if there was an error reading data
+   */
+  public void skip(int len)
+    throws TTransportException {
+    if (len <= 0) {
+      return;
+    }
+    if (getBytesRemainingInBuffer() >= len) {
+      consumeBuffer(len);
+      return;
+    }
+    byte[] buf = new byte[Math.min(len, 4096)];
+    while (len > 0) {
+      len -= readAll(buf, 0, Math.min(len, buf.length));
+    }
+  }
+
   /**
    * Writes the buffer to the output
    *
@@ -151,4 +174,10 @@ public abstract class TTransport {
    * @param len
    */
   public void consumeBuffer(int len) {}
+
+  /**
+   * Tells a buffered transport that the data in its current buffer is still
+   * referenced, so the buffer must not be reused for new data.
+   */
+  public void retainBuffer() {}
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2015 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.stub;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.error.EDAMNotFoundException;
+import com.evernote.edam.notestore.NoteStoreIface;
+import com.evernote.edam.type.Note;
+import com.evernote.thrift.transport.TTransportException;
+
+public class AsyncNoteStoreClientTest {
+
+  NoteStoreClient noteStoreClient;
+  AtomicInteger createdClients;
+  List<NoteStoreClient> closedClients;
+  AsyncNoteStoreClient client;
+
+  @Before
+  public void initialize() throws Exception {
+    noteStoreClient = mock(NoteStoreClient.class);
+    createdClients = new AtomicInteger();
+    closedClients = Collections.synchronizedList(new ArrayList<NoteStoreClient>());
+    client = new AsyncNoteStoreClient(null, "https://localhost/shard/s1/notestore",
+        "token", Executors.newFixedThreadPool(4), true) {
+      @Override
+      protected NoteStoreClient createClient() throws TTransportException {
+        createdClients.incrementAndGet();
+        return noteStoreClient;
+      }
+
+      @Override
+      protected void closeClient(NoteStoreClient client) {
+        closedClients.add(client);
+      }
+    };
+  }
+
+  @After
+  public void shutdown() {
+    client.shutdown();
+  }
+
+  @Test
+  public void testWrappedMethods() {
+    Set<String> originalMethodNames = new HashSet<String>();
+    for (Method m : NoteStoreIface.class.getDeclaredMethods()) {
+      originalMethodNames.add(m.getName());
+    }
+    for (Method m : AsyncNoteStoreClient.class.getDeclaredMethods()) {
+      if (Future.class.equals(m.getReturnType())) {
+        originalMethodNames.remove(m.getName());
+      }
+    }
+
+    if (!originalMethodNames.isEmpty()) {
+      fail("Following methods are not implemented: " + originalMethodNames.toString());
+    }
+  }
+
+  @Test
+  public void testSuccessfulCall() throws Exception {
+    Note note = new Note();
+    note.setGuid("guid");
+    stub(noteStoreClient.getNote("guid", true, false, false, false)).toReturn(note);
+
+    final AtomicReference<Note> received = new AtomicReference<Note>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    Future<Note> future = client.getNote("guid", true, false, false, false,
+        new OnClientCallback<Note>() {
+          public void onSuccess(Note data) {
+            received.set(data);
+            latch.countDown();
+          }
+
+          public void onException(Exception exception) {
+            latch.countDown();
+          }
+        });
+
+    assertSame(note, future.get(5, TimeUnit.SECONDS));
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertSame(note, received.get());
+
+    // the client is re-used for the next call
+    client.getNote("guid", true, false, false, false, null).get(5, TimeUnit.SECONDS);
+    assertEquals(1, createdClients.get());
+  }
+
+  @Test
+  public void testFailedCall() throws Exception {
+    stub(noteStoreClient.getNote("missing", false, false, false, false)).toThrow(
+        new EDAMNotFoundException());
+    stub(noteStoreClient.getNote("broken", false, false, false, false)).toThrow(
+        new TTransportException("broken"));
+
+    final AtomicReference<Exception> received = new AtomicReference<Exception>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    Future<Note> future = client.getNote("missing", false, false, false, false,
+        new OnClientCallback<Note>() {
+          public void onSuccess(Note data) {
+            latch.countDown();
+          }
+
+          public void onException(Exception exception) {
+            received.set(exception);
+            latch.countDown();
+          }
+        });
+
+    try {
+      future.get(5, TimeUnit.SECONDS);
+      fail("Expected an exception");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof EDAMNotFoundException);
+    }
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertTrue(received.get() instanceof EDAMNotFoundException);
+
+    // a transport failure discards the client
+    try {
+      client.getNote("broken", false, false, false, false, null).get(5, TimeUnit.SECONDS);
+      fail("Expected an exception");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof TTransportException);
+    }
+    assertEquals(1, closedClients.size());
+    client.getNote("missing", false, false, false, false, null);
+    client.shutdown();
+    client.getExecutor().awaitTermination(5, TimeUnit.SECONDS);
+    assertEquals(2, createdClients.get());
+    // shutting down closes the idle clients
+    assertEquals(2, closedClients.size());
+  }
+}
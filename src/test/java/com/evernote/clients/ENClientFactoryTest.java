@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.evernote.auth.EvernoteAuth;
+import com.evernote.auth.EvernoteService;
+import com.evernote.thrift.transport.THttpClient;
+import com.evernote.thrift.transport.TTransport;
+import com.evernote.thrift.transport.TTransportException;
+
+public class ENClientFactoryTest {
+
+  private static final String TOKEN =
+      "S=s1:U=11a1a:E=222b22bbb22:C=33c333c3333:P=4dd:A=en-devtoken:V=2:H=e5555ee5ee55555555eee555ee55e5ee";
+
+  @Test
+  public void testRequestHeaders() {
+    ENClientFactory factory = new ENClientFactory(new EvernoteAuth(
+        EvernoteService.SANDBOX, TOKEN));
+    factory.setCustomHeaders(Collections.singletonMap("X-Custom", "value"));
+
+    Map<String, String> headers = factory.getRequestHeaders();
+    assertTrue(headers.get("User-Agent").startsWith("en-devtoken / "));
+    assertEquals("value", headers.get("X-Custom"));
+  }
+
+  @Test
+  public void testCustomTransport() throws Exception {
+    final TTransport[] created = new TTransport[1];
+    ENClientFactory factory = new ENClientFactory(new EvernoteAuth(
+        EvernoteService.SANDBOX, TOKEN)) {
+      @Override
+      protected TTransport createTransport(String url) throws TTransportException {
+        created[0] = new THttpClient(url);
+        return created[0];
+      }
+    };
+
+    NoteStoreClient client = factory.createStoreClient(NoteStoreClient.class,
+        "https://sandbox.evernote.com/shard/s1/notestore", TOKEN);
+    assertSame(created[0], client.getClient().getInputProtocol().getTransport());
+    assertSame(created[0], client.getClient().getOutputProtocol().getTransport());
+  }
+}
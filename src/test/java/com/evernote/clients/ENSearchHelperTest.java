@@ -0,0 +1,256 @@
+/*
+ * Copyright 2015 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.evernote.auth.EvernoteAuth;
+import com.evernote.auth.EvernoteService;
+import com.evernote.clients.ENSearchHelper.SearchParam;
+import com.evernote.edam.error.EDAMErrorCode;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.notestore.NoteFilter;
+import com.evernote.edam.notestore.NoteMetadata;
+import com.evernote.edam.notestore.NotesMetadataList;
+import com.evernote.edam.notestore.NotesMetadataResultSpec;
+import com.evernote.thrift.transport.TTransportException;
+
+public class ENSearchHelperTest {
+
+  static final String NOTE_STORE_URL = "https://localhost/shard/s1/notestore";
+
+  // notes the fake server holds, and how many it returns per call at most
+  int totalNotes = 1000;
+  int serverPageSize = 100;
+  long latency;
+  int failAtOffset = -1;
+  AtomicInteger calls;
+  ExecutorService executor;
+  NoteStoreClientPool pool;
+  ENSearchHelper helper;
+
+  @Before
+  public void initialize() throws Exception {
+    calls = new AtomicInteger();
+    executor = Executors.newFixedThreadPool(8);
+    ENClientFactory factory = new ENClientFactory(createAuth());
+    helper = new ENSearchHelper(factory, createClient());
+    pool = createPool(factory);
+    helper.setClientPool(pool);
+  }
+
+  @After
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  static EvernoteAuth createAuth() {
+    return new EvernoteAuth(EvernoteService.SANDBOX, "token", NOTE_STORE_URL,
+        "https://localhost/", 1);
+  }
+
+  NoteStoreClientPool createPool(ENClientFactory factory) {
+    return new NoteStoreClientPool(factory, NOTE_STORE_URL, "token") {
+      @Override
+      protected NoteStoreClient createClient(String noteStoreUrl, String token) {
+        return ENSearchHelperTest.this.createClient();
+      }
+
+      @Override
+      protected void closeClient(NoteStoreClient client) {
+        // mocks have no transport
+      }
+    };
+  }
+
+  NoteStoreClient createClient() {
+    NoteStoreClient client = mock(NoteStoreClient.class);
+    when(client.getToken()).thenReturn("token");
+    try {
+      when(client.findNotesMetadata(any(NoteFilter.class), anyInt(), anyInt(),
+          any(NotesMetadataResultSpec.class))).thenAnswer(new Answer<NotesMetadataList>() {
+        public NotesMetadataList answer(InvocationOnMock invocation) throws Throwable {
+          int offset = (Integer) invocation.getArguments()[1];
+          int maxNotes = (Integer) invocation.getArguments()[2];
+          return findNotesMetadata(offset, maxNotes);
+        }
+      });
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    return client;
+  }
+
+  NotesMetadataList findNotesMetadata(int offset, int maxNotes) throws Exception {
+    calls.incrementAndGet();
+    if (offset == failAtOffset) {
+      throw new EDAMSystemException(EDAMErrorCode.RATE_LIMIT_REACHED);
+    }
+    if (latency > 0) {
+      Thread.sleep(latency);
+    }
+    NotesMetadataList list = new NotesMetadataList();
+    list.setStartIndex(offset);
+    list.setTotalNotes(totalNotes);
+    list.setNotes(new ArrayList<NoteMetadata>());
+    int end = Math.min(totalNotes, offset + Math.min(maxNotes, serverPageSize));
+    for (int i = offset; i < end; i++) {
+      list.addToNotes(new NoteMetadata("note" + i));
+    }
+    return list;
+  }
+
+  static List<String> guids(List<NotesMetadataList> result) {
+    List<String> guids = new ArrayList<String>();
+    for (NotesMetadataList list : result) {
+      for (NoteMetadata note : list.getNotes()) {
+        guids.add(note.getGuid());
+      }
+    }
+    return guids;
+  }
+
+  static List<String> expectedGuids(int start, int end) {
+    List<String> guids = new ArrayList<String>();
+    for (int i = start; i < end; i++) {
+      guids.add("note" + i);
+    }
+    return guids;
+  }
+
+  @Test
+  public void testSequential() throws Exception {
+    SearchParam search = new SearchParam();
+    search.setMaxNotes(550);
+    search.setOffset(20);
+    List<NotesMetadataList> result = helper.findPersonalNotes(search);
+    assertEquals(expectedGuids(20, 550), guids(result));
+    assertEquals(6, calls.get());
+  }
+
+  @Test
+  public void testParallel() throws Exception {
+    helper.setExecutor(executor);
+    SearchParam search = new SearchParam();
+    search.setMaxNotes(10000);
+    search.setMaxConcurrentPages(4);
+    List<NotesMetadataList> result = helper.findPersonalNotes(search);
+    assertEquals(expectedGuids(0, 1000), guids(result));
+    assertEquals(10, result.size());
+    assertEquals(10, calls.get());
+
+    // pages larger than the server returns leave gaps that are filled afterwards
+    calls.set(0);
+    search.setPageSize(250);
+    search.setOffset(10);
+    assertEquals(expectedGuids(10, 1000), guids(helper.findPersonalNotes(search)));
+  }
+
+  @Test
+  public void testParallelFailure() throws Exception {
+    helper.setExecutor(executor);
+    failAtOffset = 500;
+    SearchParam search = new SearchParam();
+    search.setMaxNotes(1000);
+    search.setMaxConcurrentPages(4);
+    try {
+      helper.findPersonalNotes(search);
+      fail("Expected an exception");
+    } catch (EDAMSystemException e) {
+      assertEquals(EDAMErrorCode.RATE_LIMIT_REACHED, e.getErrorCode());
+    }
+  }
+
+  @Test
+  public void testTimeout() throws Exception {
+    helper.setExecutor(executor);
+    latency = 200;
+    SearchParam search = new SearchParam();
+    search.setMaxNotes(1000);
+    search.setPageSize(100);
+    search.setMaxConcurrentPages(2);
+    search.setTimeout(300);
+    long start = System.currentTimeMillis();
+    List<NotesMetadataList> result = helper.findPersonalNotes(search);
+    assertTrue(System.currentTimeMillis() - start < 1000);
+    // the pages that arrived within the budget, in order
+    assertTrue(result.size() >= 1 && result.size() < 10);
+    assertEquals(expectedGuids(0, result.size() * 100), guids(result));
+  }
+
+  @Test
+  public void testShutdownClosesCreatedPoolOnly() throws Exception {
+    helper.setExecutor(executor);
+    helper.shutdown();
+    // the pool set from outside still lends clients
+    pool.returnClient(pool.borrowClient());
+
+    final List<NoteStoreClientPool> created = new ArrayList<NoteStoreClientPool>();
+    ENClientFactory factory = new ENClientFactory(createAuth()) {
+      @Override
+      public NoteStoreClientPool createNoteStoreClientPool() {
+        NoteStoreClientPool createdPool = createPool(this);
+        created.add(createdPool);
+        return createdPool;
+      }
+    };
+    helper = new ENSearchHelper(factory, createClient());
+    helper.setExecutor(executor);
+    SearchParam search = new SearchParam();
+    search.setMaxNotes(1000);
+    search.setMaxConcurrentPages(4);
+    assertEquals(expectedGuids(0, 1000), guids(helper.findPersonalNotes(search)));
+    assertEquals(1, created.size());
+    assertTrue(created.get(0).getIdleCount() > 0);
+
+    helper.shutdown();
+    assertEquals(0, created.get(0).getIdleCount());
+    try {
+      created.get(0).borrowClient();
+      fail("Expected an exception");
+    } catch (TTransportException e) {
+      // shut down
+    }
+  }
+}
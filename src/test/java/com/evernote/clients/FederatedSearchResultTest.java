@@ -0,0 +1,362 @@
+/*
+ * Copyright 2015 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.evernote.auth.EvernoteAuth;
+import com.evernote.auth.EvernoteService;
+import com.evernote.clients.ENSearchHelper.SearchParam;
+import com.evernote.clients.FederatedSearchResult.Scope;
+import com.evernote.clients.FederatedSearchResult.ScopeType;
+import com.evernote.edam.error.EDAMErrorCode;
+import com.evernote.edam.error.EDAMUserException;
+import com.evernote.edam.notestore.NoteFilter;
+import com.evernote.edam.notestore.NoteMetadata;
+import com.evernote.edam.notestore.NotesMetadataList;
+import com.evernote.edam.notestore.NotesMetadataResultSpec;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.type.NoteSortOrder;
+
+public class FederatedSearchResultTest {
+
+  // how each note store answers, by the token of its clients
+  final Map<String, Answer<NotesMetadataList>> stores =
+      new ConcurrentHashMap<String, Answer<NotesMetadataList>>();
+  // calls made on a client that was already in a call on another thread
+  final AtomicInteger overlappingCalls = new AtomicInteger();
+  ExecutorService executor;
+  NoteStoreClient linkedClient;
+  NoteStoreClient businessClient;
+  ENClientFactory factory;
+  NoteStoreClientPool pool;
+  ENSearchHelper helper;
+  LinkedNotebook linkedNotebook;
+  LinkedNotebook businessNotebook;
+
+  @Before
+  public void initialize() throws Exception {
+    executor = Executors.newFixedThreadPool(4);
+    stores.put("personal", new Notes("personal", 0, 0));
+    stores.put("linked", new Notes("linked", 1, 0));
+    stores.put("business", new Notes("business", 2, 0));
+    linkedClient = createClient("linked");
+    businessClient = createClient("business");
+    linkedNotebook = new LinkedNotebook();
+    linkedNotebook.setGuid("linked");
+    linkedNotebook.setNoteStoreUrl("https://localhost/shard/s2/notestore");
+    businessNotebook = new LinkedNotebook();
+    businessNotebook.setGuid("business");
+    businessNotebook.setBusinessId(1);
+
+    factory = new ENClientFactory(new EvernoteAuth(
+        EvernoteService.SANDBOX, "token", "https://localhost/shard/s1/notestore",
+        "https://localhost/", 1)) {
+      @Override
+      public ENLinkedNotebookHelper createLinkedNotebookHelper(LinkedNotebook notebook)
+          throws EDAMUserException {
+        ENLinkedNotebookHelper linkedHelper = mock(ENLinkedNotebookHelper.class);
+        when(linkedHelper.getSharedClient()).thenReturn(linkedClient);
+        return linkedHelper;
+      }
+
+      @Override
+      public ENBusinessNotebookHelper createBusinessNotebookHelper() {
+        ENBusinessNotebookHelper businessHelper = mock(ENBusinessNotebookHelper.class);
+        when(businessHelper.getBusinessClient()).thenReturn(businessClient);
+        return businessHelper;
+      }
+
+      @Override
+      synchronized String getBusinessNoteStoreUrl() {
+        return "https://localhost/shard/s3/notestore";
+      }
+    };
+    pool = new NoteStoreClientPool(factory, "https://localhost/shard/s1/notestore",
+        "personal") {
+      @Override
+      protected NoteStoreClient createClient(String noteStoreUrl, String token) {
+        return FederatedSearchResultTest.this.createClient(token);
+      }
+
+      @Override
+      protected void closeClient(NoteStoreClient client) {
+        // mocks have no transport
+      }
+    };
+    helper = new ENSearchHelper(factory, createClient("personal"));
+    helper.setExecutor(executor);
+    helper.setClientPool(pool);
+  }
+
+  @After
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Creates a client for the given token that answers like the note store of that
+   * token in {@link #stores}, and counts the calls made while it is already in a call.
+   */
+  NoteStoreClient createClient(final String token) {
+    NoteStoreClient client = mock(NoteStoreClient.class);
+    when(client.getToken()).thenReturn(token);
+    final AtomicInteger activeCalls = new AtomicInteger();
+    try {
+      when(client.findNotesMetadata(any(NoteFilter.class), anyInt(), anyInt(),
+          any(NotesMetadataResultSpec.class))).thenAnswer(new Answer<NotesMetadataList>() {
+        public NotesMetadataList answer(InvocationOnMock invocation) throws Throwable {
+          if (activeCalls.incrementAndGet() > 1) {
+            overlappingCalls.incrementAndGet();
+          }
+          try {
+            return stores.get(token).answer(invocation);
+          } finally {
+            activeCalls.decrementAndGet();
+          }
+        }
+      });
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    return client;
+  }
+
+  /**
+   * A note store whose 30 notes were updated at times 90 - 3 * i - timeOffset, and
+   * which returns at most 10 notes per call, sorted by update time.
+   */
+  static class Notes implements Answer<NotesMetadataList> {
+    private final String name;
+    private final int timeOffset;
+    private final long latency;
+
+    Notes(String name, int timeOffset, long latency) {
+      this.name = name;
+      this.timeOffset = timeOffset;
+      this.latency = latency;
+    }
+
+    public NotesMetadataList answer(InvocationOnMock invocation) throws Throwable {
+      Thread.sleep(latency);
+      assertTrue(((NotesMetadataResultSpec) invocation.getArguments()[3])
+          .isIncludeUpdated());
+      boolean ascending = ((NoteFilter) invocation.getArguments()[0]).isAscending();
+      int offset = (Integer) invocation.getArguments()[1];
+      int maxNotes = (Integer) invocation.getArguments()[2];
+      NotesMetadataList list = new NotesMetadataList();
+      list.setStartIndex(offset);
+      list.setTotalNotes(30);
+      list.setNotes(new ArrayList<NoteMetadata>());
+      for (int i = offset; i < Math.min(30, offset + Math.min(maxNotes, 10)); i++) {
+        int index = ascending ? 29 - i : i;
+        NoteMetadata note = new NoteMetadata(name + index);
+        note.setUpdated(90 - 3 * index - timeOffset);
+        list.addToNotes(note);
+      }
+      return list;
+    }
+  }
+
+  static SearchParam createSearch() {
+    SearchParam search = new SearchParam();
+    search.setResultSpec(new NotesMetadataResultSpec());
+    return search;
+  }
+
+  @Test
+  public void testMergeByOrder() throws Exception {
+    final List<Scope> reported = Collections.synchronizedList(new ArrayList<Scope>());
+    FederatedSearchResult result = helper.findNotesInAllScopes(createSearch(), Arrays
+        .asList(linkedNotebook, linkedNotebook, businessNotebook), true,
+        new FederatedSearchResult.Listener() {
+          public void onScopeFinished(Scope scope) {
+            reported.add(scope);
+          }
+        });
+
+    assertTrue(result.isComplete());
+    // the business notebook is covered by the business scope, duplicates are skipped
+    assertEquals(3, result.getScopes().size());
+    assertEquals(3, reported.size());
+    assertEquals(ScopeType.PERSONAL, result.getScopes().get(0).getType());
+    assertSame(linkedNotebook, result.getScopes().get(1).getLinkedNotebook());
+    assertEquals(ScopeType.BUSINESS, result.getScopes().get(2).getType());
+    assertEquals(3, result.getScopes().get(1).getPages().size());
+
+    List<NoteMetadata> notes = result.getNotes();
+    assertEquals(90, notes.size());
+    for (int i = 0; i < notes.size(); i++) {
+      // updated descending, the default order of SearchParam
+      assertEquals(90 - i, notes.get(i).getUpdated());
+    }
+    assertEquals("personal0", notes.get(0).getGuid());
+    assertEquals("linked0", notes.get(1).getGuid());
+    assertSame(result.getScopes().get(2), result.getScope(2));
+  }
+
+  @Test
+  public void testAscendingAndRelevance() throws Exception {
+    SearchParam search = createSearch();
+    search.getNoteFilter().setAscending(true);
+    FederatedSearchResult result = helper.findNotesInAllScopes(search, null, true, null);
+    assertEquals(60, result.getNotes().size());
+    assertEquals(1, result.getNotes().get(0).getUpdated());
+    assertEquals("business29", result.getNotes().get(0).getGuid());
+
+    search.getNoteFilter().setOrder(NoteSortOrder.RELEVANCE.getValue());
+    search.getNoteFilter().setAscending(false);
+    search.setResultSpec(new NotesMetadataResultSpec());
+    search.getResultSpec().setIncludeUpdated(true);
+    result = helper.findNotesInAllScopes(search, null, true, null);
+    // interleaved by rank
+    assertEquals("personal0", result.getNotes().get(0).getGuid());
+    assertEquals("business0", result.getNotes().get(1).getGuid());
+    assertEquals("personal1", result.getNotes().get(2).getGuid());
+  }
+
+  @Test
+  public void testSlowAndFailingScopes() throws Exception {
+    stores.put("business", new Notes("business", 2, 2000));
+    stores.put("linked", new Answer<NotesMetadataList>() {
+      public NotesMetadataList answer(InvocationOnMock invocation) throws Throwable {
+        throw new EDAMUserException(EDAMErrorCode.PERMISSION_DENIED);
+      }
+    });
+    SearchParam search = createSearch();
+    search.setTimeout(300);
+
+    long start = System.currentTimeMillis();
+    FederatedSearchResult result = helper.findNotesInAllScopes(search, Arrays
+        .asList(linkedNotebook), true, null);
+    assertTrue(System.currentTimeMillis() - start < 1500);
+    assertFalse(result.isComplete());
+
+    Scope personal = result.getScopes().get(0);
+    assertTrue(personal.isComplete());
+    assertEquals(30, personal.getPages().size() * 10);
+    Scope linked = result.getScopes().get(1);
+    assertEquals(EDAMErrorCode.PERMISSION_DENIED, ((EDAMUserException) linked
+        .getException()).getErrorCode());
+    Scope business = result.getScopes().get(2);
+    assertTrue(business.isTimedOut());
+    assertNull(business.getException());
+    assertEquals(0, business.getPages().size());
+    assertEquals(30, result.getNotes().size());
+  }
+
+  @Test
+  public void testOffsetAndMaxNotesApplyToMergedNotes() throws Exception {
+    SearchParam search = createSearch();
+    search.setOffset(5);
+    search.setMaxNotes(20);
+    FederatedSearchResult result = helper.findNotesInAllScopes(search, Arrays
+        .asList(linkedNotebook), true, null);
+
+    List<NoteMetadata> notes = result.getNotes();
+    assertEquals(15, notes.size());
+    for (int i = 0; i < notes.size(); i++) {
+      assertEquals(85 - i, notes.get(i).getUpdated());
+    }
+    // each scope is searched from its first note
+    for (Scope scope : result.getScopes()) {
+      assertEquals(0, scope.getPages().get(0).getStartIndex());
+      assertEquals(20, scope.getPages().size() * 10);
+    }
+  }
+
+  @Test
+  public void testTimeoutCountsFromCallWithoutExecutor() throws Exception {
+    helper.setExecutor(null);
+    stores.put("personal", new Notes("personal", 0, 200));
+    stores.put("linked", new Notes("linked", 1, 200));
+    SearchParam search = createSearch();
+    search.setTimeout(100);
+
+    long start = System.currentTimeMillis();
+    FederatedSearchResult result = helper.findNotesInAllScopes(search, Arrays
+        .asList(linkedNotebook), true, null);
+    assertTrue(System.currentTimeMillis() - start < 400);
+
+    Scope personal = result.getScopes().get(0);
+    assertTrue(personal.isTimedOut());
+    assertEquals(1, personal.getPages().size());
+    for (int i = 1; i < 3; i++) {
+      assertTrue(result.getScopes().get(i).isTimedOut());
+      assertEquals(0, result.getScopes().get(i).getPages().size());
+    }
+    assertEquals(10, result.getNotes().size());
+  }
+
+  @Test
+  public void testSearchAgainAfterTimeout() throws Exception {
+    stores.put("business", new Notes("business", 2, 300));
+    SearchParam search = createSearch();
+    search.setTimeout(100);
+    FederatedSearchResult result = helper.findNotesInAllScopes(search, Arrays
+        .asList(linkedNotebook), true, null);
+    assertTrue(result.getScopes().get(2).isTimedOut());
+
+    // the business scope is still running, on a client of its own
+    search.setTimeout(0);
+    result = helper.findNotesInAllScopes(search, Arrays.asList(linkedNotebook), true,
+        null);
+    assertTrue(result.isComplete());
+    assertEquals(90, result.getNotes().size());
+    search.getResultSpec().setIncludeUpdated(true);
+    assertEquals(30, helper.findBusinessNotes(search).size() * 10);
+
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    assertEquals(0, overlappingCalls.get());
+    assertEquals(0, pool.getLeasedCount());
+  }
+}
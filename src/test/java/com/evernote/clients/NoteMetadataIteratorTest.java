@@ -0,0 +1,187 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.evernote.auth.EvernoteAuth;
+import com.evernote.auth.EvernoteService;
+import com.evernote.clients.ENSearchHelper.SearchParam;
+import com.evernote.edam.error.EDAMErrorCode;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.notestore.NoteFilter;
+import com.evernote.edam.notestore.NoteMetadata;
+import com.evernote.edam.notestore.NotesMetadataList;
+import com.evernote.edam.notestore.NotesMetadataResultSpec;
+
+public class NoteMetadataIteratorTest {
+
+  final AtomicInteger calls = new AtomicInteger();
+  final AtomicInteger fetching = new AtomicInteger();
+  volatile int failAtOffset = -1;
+  volatile long fetchDelay;
+  ExecutorService executor;
+  ENSearchHelper helper;
+
+  @Before
+  public void initialize() throws Exception {
+    executor = Executors.newSingleThreadExecutor();
+    NoteStoreClient client = mock(NoteStoreClient.class);
+    // 95 notes, at most 20 per call
+    when(client.findNotesMetadata(any(NoteFilter.class), anyInt(), anyInt(),
+        any(NotesMetadataResultSpec.class))).thenAnswer(new Answer<NotesMetadataList>() {
+      public NotesMetadataList answer(InvocationOnMock invocation) throws Throwable {
+        calls.incrementAndGet();
+        fetching.incrementAndGet();
+        try {
+          int offset = (Integer) invocation.getArguments()[1];
+          int maxNotes = (Integer) invocation.getArguments()[2];
+          if (offset == failAtOffset) {
+            throw new EDAMSystemException(EDAMErrorCode.RATE_LIMIT_REACHED);
+          }
+          Thread.sleep(fetchDelay);
+          NotesMetadataList list = new NotesMetadataList();
+          list.setStartIndex(offset);
+          list.setTotalNotes(95);
+          list.setNotes(new ArrayList<NoteMetadata>());
+          for (int i = offset; i < Math.min(95, offset + Math.min(maxNotes, 20)); i++) {
+            list.addToNotes(new NoteMetadata("note" + i));
+          }
+          return list;
+        } finally {
+          fetching.decrementAndGet();
+        }
+      }
+    });
+    helper = new ENSearchHelper(new ENClientFactory(new EvernoteAuth(
+        EvernoteService.SANDBOX, "token")), client);
+  }
+
+  @After
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void testIterateAll() {
+    SearchParam search = new SearchParam();
+    search.setOffset(10);
+    search.setMaxNotes(1000);
+    NoteMetadataIterator iterator = helper.iteratePersonalNotes(search);
+    assertEquals(-1, iterator.getTotalNotes());
+    for (int i = 10; i < 95; i++) {
+      assertTrue(iterator.hasNext());
+      assertEquals("note" + i, iterator.next().getGuid());
+    }
+    assertFalse(iterator.hasNext());
+    assertEquals(95, iterator.getTotalNotes());
+    assertEquals(5, calls.get());
+    try {
+      iterator.next();
+      fail("Expected an exception");
+    } catch (NoSuchElementException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testPrefetchAndStop() throws Exception {
+    helper.setExecutor(executor);
+    SearchParam search = new SearchParam();
+    search.setMaxNotes(1000);
+    search.setPageSize(20);
+    NoteMetadataIterator iterator = helper.iteratePersonalNotes(search);
+    for (int i = 0; i < 5; i++) {
+      assertEquals("note" + i, iterator.next().getGuid());
+    }
+    // the second page is requested while the first one is processed
+    executor.submit(new Runnable() {
+      public void run() {
+      }
+    }).get();
+    assertEquals(2, calls.get());
+    NotesMetadataList first = iterator.getCurrentPage();
+
+    iterator.close();
+    assertFalse(iterator.hasNext());
+    assertEquals(2, calls.get());
+    assertEquals(0, first.getStartIndex());
+  }
+
+  @Test
+  public void testCloseWaitsForPrefetch() throws Exception {
+    helper.setExecutor(executor);
+    SearchParam search = new SearchParam();
+    search.setMaxNotes(1000);
+    search.setPageSize(20);
+    NoteMetadataIterator iterator = helper.iteratePersonalNotes(search);
+    iterator.next();
+    fetchDelay = 200;
+    // a page is prefetched on the executor while the second page is being processed
+    for (int i = 1; i < 21; i++) {
+      iterator.next();
+    }
+    while (fetching.get() == 0) {
+      Thread.sleep(5);
+    }
+
+    iterator.close();
+    // the client is free once close() has returned
+    assertEquals(0, fetching.get());
+    assertEquals(3, calls.get());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void testMaxNotes() {
+    SearchParam search = new SearchParam();
+    search.setMaxNotes(30);
+    NoteMetadataIterator iterator = helper.iteratePersonalNotes(search);
+    int count = 0;
+    while (iterator.hasNext()) {
+      iterator.next();
+      count++;
+    }
+    assertEquals(30, count);
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void testFailure() {
+    helper.setExecutor(executor);
+    failAtOffset = 40;
+    SearchParam search = new SearchParam();
+    search.setMaxNotes(1000);
+    NoteMetadataIterator iterator = helper.iteratePersonalNotes(search);
+    for (int i = 0; i < 40; i++) {
+      iterator.next();
+    }
+    try {
+      iterator.hasNext();
+      fail("Expected an exception");
+    } catch (RuntimeException e) {
+      assertEquals(EDAMErrorCode.RATE_LIMIT_REACHED, ((EDAMSystemException) e.getCause())
+          .getErrorCode());
+    }
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2015 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.error.EDAMNotFoundException;
+import com.evernote.thrift.transport.TTransportException;
+
+public class NoteStoreClientPoolTest {
+
+  static final String SHARD_1 = "https://localhost/shard/s1/notestore";
+  static final String SHARD_2 = "https://localhost/shard/s2/notestore";
+
+  List<NoteStoreClient> closedClients;
+  volatile NoteStoreClient slowClient;
+  final CountDownLatch closeLatch = new CountDownLatch(1);
+  NoteStoreClientPool pool;
+
+  @Before
+  public void initialize() {
+    closedClients = Collections.synchronizedList(new ArrayList<NoteStoreClient>());
+    pool = new NoteStoreClientPool(null, SHARD_1, "token") {
+      @Override
+      protected NoteStoreClient createClient(String noteStoreUrl, String token) {
+        return mock(NoteStoreClient.class);
+      }
+
+      @Override
+      protected void closeClient(NoteStoreClient client) {
+        if (client == slowClient) {
+          try {
+            closeLatch.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        closedClients.add(client);
+      }
+    };
+  }
+
+  @Test
+  public void testBorrowAndReturn() throws Exception {
+    NoteStoreClient client = pool.borrowClient();
+    assertEquals(1, pool.getLeasedCount());
+    assertEquals(1, pool.getLeasedCount(SHARD_1));
+    pool.returnClient(client);
+    assertEquals(0, pool.getLeasedCount());
+    assertEquals(1, pool.getIdleCount());
+
+    assertSame(client, pool.borrowClient());
+    // clients aren't shared between tokens
+    NoteStoreClient other = pool.borrowClient(SHARD_1, "other");
+    assertNotSame(client, other);
+    pool.returnClient(other, false);
+    assertEquals(2, pool.getCreatedCount());
+    assertEquals(1, pool.getReusedCount());
+    assertEquals(1, pool.getClosedCount());
+    assertEquals(1, closedClients.size());
+
+    try {
+      pool.returnClient(other);
+      fail("Expected an exception");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    final AtomicReference<NoteStoreClient> used = new AtomicReference<NoteStoreClient>();
+    assertEquals("result", pool.execute(new NoteStoreClientPool.Call<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        used.set(client);
+        return "result";
+      }
+    }));
+    assertEquals(1, pool.getIdleCount());
+
+    try {
+      pool.execute(new NoteStoreClientPool.Call<String>() {
+        public String call(NoteStoreClient client) throws Exception {
+          assertSame(used.get(), client);
+          throw new EDAMNotFoundException();
+        }
+      });
+      fail("Expected an exception");
+    } catch (EDAMNotFoundException e) {
+      // expected
+    }
+    assertEquals(1, pool.getIdleCount());
+
+    try {
+      pool.execute(new NoteStoreClientPool.Call<String>() {
+        public String call(NoteStoreClient client) throws Exception {
+          throw new TTransportException("broken");
+        }
+      });
+      fail("Expected an exception");
+    } catch (TTransportException e) {
+      // expected
+    }
+    // the broken client is closed instead of reused
+    assertEquals(0, pool.getIdleCount());
+    assertEquals(0, pool.getLeasedCount());
+    assertEquals(1, closedClients.size());
+  }
+
+  @Test
+  public void testMaxClientsPerShard() throws Exception {
+    pool.setMaxClientsPerShard(2);
+    pool.setBorrowTimeout(50);
+    final NoteStoreClient first = pool.borrowClient();
+    pool.borrowClient(SHARD_1, "other");
+    // other shards have their own limit
+    pool.borrowClient(SHARD_2, "token");
+
+    try {
+      pool.borrowClient();
+      fail("Expected a timeout");
+    } catch (TTransportException e) {
+      // expected
+    }
+
+    pool.setBorrowTimeout(5000);
+    final CountDownLatch borrowed = new CountDownLatch(1);
+    final AtomicReference<NoteStoreClient> waiter = new AtomicReference<NoteStoreClient>();
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        try {
+          waiter.set(pool.borrowClient());
+          borrowed.countDown();
+        } catch (TTransportException e) {
+          // fails the await below
+        }
+      }
+    };
+    thread.start();
+    Thread.sleep(20);
+    assertEquals(1, borrowed.getCount());
+    pool.returnClient(first);
+    assertTrue(borrowed.await(5, TimeUnit.SECONDS));
+    assertSame(first, waiter.get());
+    assertEquals(2, pool.getLeasedCount(SHARD_1));
+  }
+
+  @Test
+  public void testWarmUpAndEviction() throws Exception {
+    pool.warmUp(3);
+    pool.warmUp(2);
+    assertEquals(3, pool.getIdleCount());
+    assertEquals(3, pool.getCreatedCount());
+
+    pool.borrowClient();
+    assertEquals(1, pool.getReusedCount());
+
+    pool.setIdleTimeout(0);
+    pool.evictIdleClients();
+    assertEquals(0, pool.getIdleCount());
+    assertEquals(2, pool.getEvictedCount());
+    assertEquals(2, closedClients.size());
+  }
+
+  @Test
+  public void testWarmUpCountsBorrowedClients() throws Exception {
+    pool.setMaxClientsPerShard(3);
+    pool.borrowClient();
+    pool.borrowClient(SHARD_1, "other");
+    pool.warmUp(5);
+    assertEquals(1, pool.getIdleCount());
+    assertEquals(3, pool.getCreatedCount());
+  }
+
+  @Test(timeout = 5000)
+  public void testSlowCloseDoesNotBlockPool() throws Exception {
+    slowClient = pool.borrowClient();
+    pool.returnClient(slowClient);
+    pool.setIdleTimeout(0);
+    Thread evictor = new Thread() {
+      @Override
+      public void run() {
+        pool.evictIdleClients();
+      }
+    };
+    evictor.start();
+    while (pool.getEvictedCount() == 0) {
+      Thread.sleep(5);
+    }
+
+    // the evictor is stuck closing the client outside the lock
+    NoteStoreClient client = pool.borrowClient(SHARD_2, "token");
+    pool.returnClient(client, false);
+    assertEquals(0, pool.getLeasedCount());
+    closeLatch.countDown();
+    evictor.join(5000);
+    assertEquals(2, closedClients.size());
+  }
+
+  @Test
+  public void testShutdown() throws Exception {
+    NoteStoreClient client = pool.borrowClient();
+    pool.warmUp(SHARD_2, "token", 1);
+    pool.shutdown();
+    assertEquals(1, closedClients.size());
+    try {
+      pool.borrowClient();
+      fail("Expected an exception");
+    } catch (TTransportException e) {
+      // expected
+    }
+    pool.returnClient(client);
+    assertEquals(2, closedClients.size());
+    assertEquals(0, pool.getIdleCount());
+    assertTrue(pool.toString().contains("closed:2"));
+  }
+}
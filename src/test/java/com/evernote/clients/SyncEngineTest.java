@@ -0,0 +1,285 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.notestore.SyncChunkFilter;
+import com.evernote.edam.notestore.SyncState;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.type.Note;
+
+public class SyncEngineTest {
+
+  static final int UPDATE_COUNT = 250;
+
+  final AtomicLong responseBytes = new AtomicLong();
+  final AtomicInteger fetching = new AtomicInteger();
+  volatile long fetchDelay;
+  final List<SyncChunkFilter> filters = new ArrayList<SyncChunkFilter>();
+  SyncState state;
+  NoteStoreClient client;
+  MemoryStore store;
+  ExecutorService executor;
+
+  /**
+   * Keeps the USNs of the applied notes.
+   */
+  static class MemoryStore implements SyncStore {
+    final List<Integer> notes = new ArrayList<Integer>();
+    int updateCount;
+    long lastSyncTime;
+    int clearCount;
+    int failAtUpdateCount = -1;
+
+    public int getUpdateCount() {
+      return updateCount;
+    }
+
+    public long getLastSyncTime() {
+      return lastSyncTime;
+    }
+
+    public void clear() {
+      notes.clear();
+      updateCount = 0;
+      clearCount++;
+    }
+
+    public void applyChunk(SyncChunk chunk, int updateCount, long syncTime)
+        throws SyncStoreException {
+      if (updateCount == failAtUpdateCount) {
+        throw new SyncStoreException("disk full");
+      }
+      assertTrue(updateCount > this.updateCount);
+      for (Note note : chunk.getNotes()) {
+        notes.add(note.getUpdateSequenceNum());
+      }
+      this.updateCount = updateCount;
+      this.lastSyncTime = syncTime;
+    }
+  }
+
+  @Before
+  public void initialize() throws Exception {
+    state = new SyncState(2000, 0, UPDATE_COUNT);
+    client = mock(NoteStoreClient.class);
+    when(client.getSyncState()).thenAnswer(new Answer<SyncState>() {
+      public SyncState answer(InvocationOnMock invocation) {
+        return state;
+      }
+    });
+    // one note per USN, 1000 bytes per note
+    when(client.getFilteredSyncChunk(anyInt(), anyInt(), any(SyncChunkFilter.class)))
+        .thenAnswer(new Answer<SyncChunk>() {
+          public SyncChunk answer(InvocationOnMock invocation) throws Exception {
+            fetching.incrementAndGet();
+            try {
+              synchronized (filters) {
+                filters.add((SyncChunkFilter) invocation.getArguments()[2]);
+              }
+              Thread.sleep(fetchDelay);
+              return createChunk((Integer) invocation.getArguments()[0],
+                  (Integer) invocation.getArguments()[1], UPDATE_COUNT);
+            } finally {
+              fetching.decrementAndGet();
+            }
+          }
+        });
+    store = new MemoryStore();
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @After
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  SyncChunk createChunk(int afterUSN, int maxEntries, int updateCount) {
+    SyncChunk chunk = new SyncChunk(2000, updateCount);
+    chunk.setNotes(new ArrayList<Note>());
+    for (int usn = afterUSN + 1; usn <= Math.min(updateCount, afterUSN + maxEntries);
+        usn++) {
+      Note note = new Note();
+      note.setUpdateSequenceNum(usn);
+      chunk.addToNotes(note);
+      chunk.setChunkHighUSN(usn);
+    }
+    responseBytes.addAndGet(1000 * chunk.getNotesSize());
+    return chunk;
+  }
+
+  SyncEngine createEngine() {
+    SyncEngine engine = new SyncEngine(client, store) {
+      @Override
+      protected long getResponseBytes() {
+        return responseBytes.get();
+      }
+    };
+    engine.setTargetChunkBytes(0);
+    return engine;
+  }
+
+  static List<Integer> usns(int from, int to) {
+    List<Integer> usns = new ArrayList<Integer>();
+    for (int usn = from; usn <= to; usn++) {
+      usns.add(usn);
+    }
+    return usns;
+  }
+
+  @Test
+  public void testFullSync() throws Exception {
+    SyncEngine engine = createEngine();
+    assertEquals(UPDATE_COUNT, engine.sync());
+    assertEquals(usns(1, UPDATE_COUNT), store.notes);
+    assertEquals(UPDATE_COUNT, store.updateCount);
+    assertEquals(2000, store.lastSyncTime);
+    assertEquals(1, store.clearCount);
+    assertEquals(3, engine.getChunkCount());
+    // expunged entries aren't needed during a full sync
+    assertFalse(filters.get(0).isIncludeExpunged());
+    assertTrue(filters.get(0).isIncludeNotes());
+
+    // nothing to do once up to date
+    filters.clear();
+    assertEquals(UPDATE_COUNT, engine.sync());
+    assertEquals(0, engine.getChunkCount());
+    assertTrue(filters.isEmpty());
+  }
+
+  @Test
+  public void testIncrementalSync() throws Exception {
+    store.updateCount = 200;
+    store.lastSyncTime = 1500;
+    state.setFullSyncBefore(1000);
+    assertEquals(UPDATE_COUNT, createEngine().sync());
+    assertEquals(usns(201, UPDATE_COUNT), store.notes);
+    assertEquals(0, store.clearCount);
+    assertTrue(filters.get(0).isIncludeExpunged());
+
+    // the service asks for a full sync
+    store.updateCount = 200;
+    state.setFullSyncBefore(1800);
+    store.lastSyncTime = 1500;
+    createEngine().sync();
+    assertEquals(1, store.clearCount);
+    assertEquals(usns(1, UPDATE_COUNT), store.notes);
+  }
+
+  @Test
+  public void testPipelined() throws Exception {
+    SyncEngine engine = createEngine();
+    engine.setExecutor(executor);
+    engine.setMaxEntries(30);
+    assertEquals(UPDATE_COUNT, engine.sync());
+    assertEquals(usns(1, UPDATE_COUNT), store.notes);
+    assertEquals(9, engine.getChunkCount());
+  }
+
+  @Test
+  public void testStoreFailure() throws Exception {
+    SyncEngine engine = createEngine();
+    engine.setExecutor(executor);
+    engine.setMaxEntries(50);
+    store.failAtUpdateCount = 150;
+    fetchDelay = 50;
+    try {
+      engine.sync();
+      fail("Expected an exception");
+    } catch (SyncStoreException e) {
+      assertEquals("disk full", e.getMessage());
+    }
+    // the fetcher has finished, the client can be used again
+    assertEquals(0, fetching.get());
+    // the applied chunks stay applied, and the next sync resumes after them
+    assertEquals(100, store.updateCount);
+    store.failAtUpdateCount = -1;
+    assertEquals(UPDATE_COUNT, engine.sync());
+    assertEquals(usns(1, UPDATE_COUNT), store.notes);
+  }
+
+  @Test
+  public void testAdaptiveMaxEntries() throws Exception {
+    SyncEngine engine = createEngine();
+    engine.setTargetChunkBytes(1024 * 1024);
+    engine.sync();
+    // 100 and 150 notes of 1000 bytes, growing by at most a factor of two
+    assertEquals(2, engine.getChunkCount());
+    assertEquals(400, engine.getMaxEntries());
+
+    engine.setMaxEntries(100);
+    engine.setTargetChunkBytes(20 * 1000);
+    store.updateCount = 0;
+    engine.sync();
+    assertEquals(20, engine.getMaxEntries());
+  }
+
+  @Test
+  public void testLinkedNotebook() throws Exception {
+    LinkedNotebook linkedNotebook = new LinkedNotebook();
+    final SyncState linkedState = new SyncState(2000, 0, 120);
+    final List<String> requests = new ArrayList<String>();
+    when(client.getLinkedNotebookSyncState(linkedNotebook)).thenAnswer(
+        new Answer<SyncState>() {
+          public SyncState answer(InvocationOnMock invocation) {
+            return linkedState;
+          }
+        });
+    when(client.getLinkedNotebookSyncChunk(any(LinkedNotebook.class), anyInt(),
+        anyInt(), anyBoolean())).thenAnswer(new Answer<SyncChunk>() {
+      public SyncChunk answer(InvocationOnMock invocation) {
+        Object[] args = invocation.getArguments();
+        int afterUSN = (Integer) args[1];
+        requests.add(afterUSN + (((Boolean) args[3]) ? " full" : ""));
+        return createChunk(afterUSN, (Integer) args[2], linkedState.getUpdateCount());
+      }
+    });
+    SyncEngine engine = new SyncEngine(client, linkedNotebook, store);
+    engine.setTargetChunkBytes(0);
+    engine.setMaxEntries(50);
+
+    assertEquals(120, engine.sync());
+    assertEquals(Arrays.asList("0 full", "50 full", "100 full"), requests);
+    assertEquals(usns(1, 120), store.notes);
+    assertEquals(120, store.updateCount);
+    assertEquals(3, engine.getChunkCount());
+
+    // resumes after the last applied chunk
+    requests.clear();
+    linkedState.setUpdateCount(130);
+    assertEquals(130, engine.sync());
+    assertEquals(Arrays.asList("120"), requests);
+    assertEquals(usns(1, 130), store.notes);
+    assertEquals(1, store.clearCount);
+    verify(client, never()).getSyncState();
+    verify(client, never()).getFilteredSyncChunk(anyInt(), anyInt(),
+        any(SyncChunkFilter.class));
+  }
+}
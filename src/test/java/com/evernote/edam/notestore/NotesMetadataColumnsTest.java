@@ -0,0 +1,211 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.edam.notestore;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.evernote.edam.error.EDAMErrorCode;
+import com.evernote.edam.error.EDAMUserException;
+import com.evernote.edam.type.NoteAttributes;
+import com.evernote.thrift.TBase;
+import com.evernote.thrift.protocol.TBinaryProtocol;
+import com.evernote.thrift.protocol.TField;
+import com.evernote.thrift.protocol.TFieldMask;
+import com.evernote.thrift.protocol.TList;
+import com.evernote.thrift.protocol.TMessage;
+import com.evernote.thrift.protocol.TMessageType;
+import com.evernote.thrift.protocol.TProtocol;
+import com.evernote.thrift.protocol.TProtocolException;
+import com.evernote.thrift.protocol.TStruct;
+import com.evernote.thrift.protocol.TType;
+import com.evernote.thrift.transport.TMemoryBuffer;
+import com.evernote.thrift.transport.TTransportException;
+
+public class NotesMetadataColumnsTest {
+
+  private static NotesMetadataList createList(int notes) {
+    NotesMetadataList list = new NotesMetadataList();
+    list.setStartIndex(50);
+    list.setTotalNotes(1000);
+    list.setUpdateCount(77);
+    list.setSearchedWords(Arrays.asList("foo", "bar"));
+    for (int i = 0; i < notes; i++) {
+      NoteMetadata note = new NoteMetadata();
+      note.setGuid("note" + i);
+      note.setTitle("Note " + i);
+      note.setCreated(1420070400000L + i);
+      note.setUpdated(1420070400000L + 2 * i);
+      note.setUpdateSequenceNum(100 + i);
+      note.setNotebookGuid("notebook" + (i % 3));
+      if (i % 2 == 0) {
+        note.setContentLength(1024 + i);
+        note.addToTagGuids("tag" + (i % 4));
+        note.addToTagGuids("tag" + ((i + 1) % 4));
+      }
+      if (i == 3) {
+        note.setTagGuids(new ArrayList<String>());
+        note.setDeleted(1420080000000L);
+        note.setLargestResourceMime("image/png");
+        note.setLargestResourceSize(4096);
+        NoteAttributes attributes = new NoteAttributes();
+        attributes.setAuthor("author");
+        note.setAttributes(attributes);
+      }
+      list.addToNotes(note);
+    }
+    return list;
+  }
+
+  @Test
+  public void testRead() throws Exception {
+    NotesMetadataList list = createList(10);
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    list.write(new TBinaryProtocol(buffer));
+
+    NotesMetadataColumns columns = NotesMetadataColumns.read(new TBinaryProtocol(buffer));
+    assertEquals(0, buffer.getBytesRemainingInBuffer());
+    assertEquals(list, columns.toNotesMetadataList());
+
+    assertEquals(10, columns.size());
+    assertEquals(50, columns.getStartIndex());
+    assertEquals(1000, columns.getTotalNotes());
+    assertTrue(columns.isSetUpdateCount());
+    assertNull(columns.getStoppedWords());
+    assertEquals(Arrays.asList("notebook0", "notebook1", "notebook2"),
+        columns.getNotebookGuidDictionary());
+    assertEquals(4, columns.getTagGuidDictionary().size());
+    assertEquals(10, columns.getCreatedColumn().length);
+    assertEquals(1420070400005L, columns.getCreatedColumn()[5]);
+    assertEquals(2, columns.getNotebookIndexColumn()[5]);
+    assertEquals("notebook2", columns.getNotebookGuid(5));
+
+    assertTrue(columns.isSetContentLength(4));
+    assertFalse(columns.isSetContentLength(5));
+    assertEquals(0, columns.getContentLengthColumn()[5]);
+    assertEquals(2, columns.getTagCount(4));
+    assertEquals("tag1", columns.getTagGuidDictionary().get(columns.getTagIndex(4, 1)));
+    assertNull(columns.getTagGuids(5));
+    assertTrue(columns.isSetTagGuids(3));
+    assertEquals(0, columns.getTagCount(3));
+    assertEquals("image/png", columns.getLargestResourceMime(3));
+    assertNull(columns.getLargestResourceMime(4));
+    assertEquals("author", columns.getAttributes(3).getAuthor());
+  }
+
+  @Test
+  public void testFieldMask() throws Exception {
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    createList(5).write(new TBinaryProtocol(buffer));
+
+    TBinaryProtocol protocol = new TBinaryProtocol(buffer);
+    protocol.setFieldMask(new TFieldMask().exclude(NoteMetadata.class, "title", "tagGuids"));
+    NotesMetadataColumns columns = NotesMetadataColumns.read(protocol);
+    assertEquals(5, columns.size());
+    assertNull(columns.getTitle(2));
+    assertFalse(columns.isSetTagGuids(2));
+    assertEquals(0, columns.getTagGuidDictionary().size());
+    assertArrayEquals(new int[] { 100, 101, 102, 103, 104 },
+        columns.getUpdateSequenceNumColumn());
+  }
+
+  @Test
+  public void testColumnsGrowWithTheNotes() throws Exception {
+    NotesMetadataList list = createList(600);
+    for (NoteMetadata note : list.getNotes()) {
+      for (int i = 0; i < 3; i++) {
+        note.addToTagGuids("extra" + i);
+      }
+    }
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    list.write(new TBinaryProtocol(buffer));
+
+    NotesMetadataColumns columns = NotesMetadataColumns.read(new TBinaryProtocol(buffer));
+    assertEquals(list, columns.toNotesMetadataList());
+    assertEquals(600, columns.size());
+    assertEquals(600, columns.getCreatedColumn().length);
+  }
+
+  @Test
+  public void testCorruptListSize() throws Exception {
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    writeNotesHeader(new TBinaryProtocol(buffer), -1);
+    try {
+      NotesMetadataColumns.read(new TBinaryProtocol(buffer));
+      fail("Expected an exception");
+    } catch (TProtocolException e) {
+      assertEquals(TProtocolException.NEGATIVE_SIZE, e.getType());
+    }
+
+    // a huge size doesn't allocate the columns up front, the read just runs out of data
+    buffer = new TMemoryBuffer(1024);
+    writeNotesHeader(new TBinaryProtocol(buffer), 100000000);
+    try {
+      NotesMetadataColumns.read(new TBinaryProtocol(buffer));
+      fail("Expected an exception");
+    } catch (TTransportException e) {
+      // expected
+    }
+  }
+
+  private static void writeNotesHeader(TProtocol protocol, int size) throws Exception {
+    protocol.writeStructBegin(new TStruct("NotesMetadataList"));
+    protocol.writeFieldBegin(new TField("", TType.I32, (short) 1));
+    protocol.writeI32(0);
+    protocol.writeFieldEnd();
+    protocol.writeFieldBegin(new TField("", TType.I32, (short) 2));
+    protocol.writeI32(1);
+    protocol.writeFieldEnd();
+    protocol.writeFieldBegin(new TField("", TType.LIST, (short) 3));
+    protocol.writeListBegin(new TList(TType.STRUCT, size));
+  }
+
+  @Test
+  public void testFindNotesMetadata() throws Exception {
+    TMemoryBuffer response = new TMemoryBuffer(1024);
+    NoteStore.Client client = new NoteStore.Client(new TBinaryProtocol(response),
+        new TBinaryProtocol(new TMemoryBuffer(1024)));
+
+    NotesMetadataList list = createList(3);
+    writeResult(response, client, 0, list);
+    NotesMetadataColumns columns = NotesMetadataColumns.findNotesMetadata(client,
+        "token", new NoteFilter(), 0, 100, new NotesMetadataResultSpec());
+    assertEquals(list, columns.toNotesMetadataList());
+
+    response.reset();
+    EDAMUserException userException = new EDAMUserException();
+    userException.setErrorCode(EDAMErrorCode.AUTH_EXPIRED);
+    writeResult(response, client, 1, userException);
+    try {
+      NotesMetadataColumns.findNotesMetadata(client, "token", new NoteFilter(), 0, 100,
+          new NotesMetadataResultSpec());
+      fail("Expected an exception");
+    } catch (EDAMUserException e) {
+      assertEquals(EDAMErrorCode.AUTH_EXPIRED, e.getErrorCode());
+    }
+  }
+
+  private static void writeResult(TMemoryBuffer response, NoteStore.Client client,
+      int fieldId, TBase<?> value) throws Exception {
+    TProtocol protocol = new TBinaryProtocol(response);
+    protocol.writeMessageBegin(new TMessage("findNotesMetadata", TMessageType.REPLY,
+        client.seqid_ + 1));
+    protocol.writeStructBegin(new TStruct("findNotesMetadata_result"));
+    protocol.writeFieldBegin(new TField("", TType.STRUCT, (short) fieldId));
+    value.write(protocol);
+    protocol.writeFieldEnd();
+    protocol.writeFieldStop();
+    protocol.writeStructEnd();
+    protocol.writeMessageEnd();
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.edam.notestore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.error.EDAMErrorCode;
+import com.evernote.edam.error.EDAMNotFoundException;
+import com.evernote.edam.error.EDAMUserException;
+import com.evernote.edam.type.Data;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.NoteAttributes;
+import com.evernote.edam.type.Resource;
+import com.evernote.edam.type.Tag;
+import com.evernote.thrift.TBase;
+import com.evernote.thrift.TStructPool;
+import com.evernote.thrift.protocol.TBinaryProtocol;
+import com.evernote.thrift.protocol.TField;
+import com.evernote.thrift.protocol.TMessage;
+import com.evernote.thrift.protocol.TMessageType;
+import com.evernote.thrift.protocol.TProtocol;
+import com.evernote.thrift.protocol.TStruct;
+import com.evernote.thrift.protocol.TType;
+import com.evernote.thrift.transport.TMemoryBuffer;
+
+public class SyncChunkStreamReaderTest {
+
+  private TMemoryBuffer response;
+  private NoteStore.Client client;
+  private SyncChunkStreamReader reader;
+
+  @Before
+  public void setUp() {
+    response = new TMemoryBuffer(1024);
+    client = new NoteStore.Client(new TBinaryProtocol(response), new TBinaryProtocol(
+        new TMemoryBuffer(1024)));
+    reader = new SyncChunkStreamReader(client);
+  }
+
+  @Test
+  public void testEntriesAreVisited() throws Exception {
+    SyncChunk chunk = new SyncChunk();
+    chunk.setCurrentTime(1234L);
+    chunk.setChunkHighUSN(20);
+    chunk.setUpdateCount(25);
+    for (int i = 0; i < 3; i++) {
+      Note note = new Note();
+      note.setGuid("note" + i);
+      note.setContent("<en-note>" + i + "</en-note>");
+      chunk.addToNotes(note);
+    }
+    Tag tag = new Tag();
+    tag.setGuid("tag");
+    chunk.addToTags(tag);
+    chunk.addToExpungedNotes("expunged1");
+    chunk.addToExpungedNotes("expunged2");
+    writeResult(0, chunk);
+
+    final List<Note> notes = new ArrayList<Note>();
+    final List<Tag> tags = new ArrayList<Tag>();
+    final List<String> expunged = new ArrayList<String>();
+    SyncChunk read = reader.getSyncChunk("token", 0, 100, false, new SyncChunkVisitor() {
+      @Override
+      public void visitNote(Note note) {
+        notes.add(note);
+      }
+
+      @Override
+      public void visitTag(Tag tag) {
+        tags.add(tag);
+      }
+
+      @Override
+      public void visitExpungedNote(String guid) {
+        expunged.add(guid);
+      }
+    });
+
+    assertEquals(chunk.getNotes(), notes);
+    assertEquals(chunk.getTags(), tags);
+    assertEquals(chunk.getExpungedNotes(), expunged);
+    assertEquals(1234L, read.getCurrentTime());
+    assertEquals(20, read.getChunkHighUSN());
+    assertEquals(25, read.getUpdateCount());
+    assertFalse(read.isSetNotes());
+    assertEquals(0, response.getBytesRemainingInBuffer());
+  }
+
+  @Test
+  public void testStructPool() throws Exception {
+    SyncChunk chunk = new SyncChunk();
+    chunk.setCurrentTime(1234L);
+    chunk.setChunkHighUSN(20);
+    chunk.setUpdateCount(25);
+    for (int i = 0; i < 5; i++) {
+      Note note = new Note();
+      note.setGuid("note" + i);
+      if (i % 2 == 0) {
+        note.setTitle("Note " + i);
+        note.setActive(true);
+      }
+      chunk.addToNotes(note);
+    }
+    writeResult(0, chunk);
+
+    final TStructPool pool = new TStructPool();
+    final List<Note> notes = new ArrayList<Note>();
+    reader.setStructPool(pool);
+    reader.getSyncChunk("token", 0, 100, false, new SyncChunkVisitor() {
+      @Override
+      public void visitNote(Note note) {
+        notes.add(note.deepCopy());
+        pool.release(note);
+      }
+    });
+
+    assertEquals(chunk.getNotes(), notes);
+    assertNull(notes.get(1).getTitle());
+    assertFalse(notes.get(1).isSetActive());
+    assertEquals(1, pool.getCreatedCount());
+    assertEquals(4, pool.getReusedCount());
+  }
+
+  @Test
+  public void testStructPoolReusesNestedValues() throws Exception {
+    SyncChunk chunk = new SyncChunk();
+    chunk.setCurrentTime(1234L);
+    chunk.setChunkHighUSN(20);
+    chunk.setUpdateCount(25);
+    for (int i = 0; i < 4; i++) {
+      Note note = new Note();
+      note.setGuid("note" + i);
+      note.addToTagGuids("tag" + i);
+      NoteAttributes attributes = new NoteAttributes();
+      attributes.setAuthor("author" + i);
+      note.setAttributes(attributes);
+      // the resource list grows from the first to the second note and shrinks again
+      for (int r = 0; r < (i == 1 || i == 2 ? 2 : 1); r++) {
+        Resource resource = new Resource();
+        resource.setGuid("resource" + i + "-" + r);
+        Data data = new Data();
+        data.setSize(100 * i + r);
+        resource.setData(data);
+        note.addToResources(resource);
+      }
+      chunk.addToNotes(note);
+    }
+    writeResult(0, chunk);
+
+    final TStructPool pool = new TStructPool();
+    final List<Note> notes = new ArrayList<Note>();
+    final Map<Object, Boolean> nested = new IdentityHashMap<Object, Boolean>();
+    reader.setStructPool(pool);
+    reader.getSyncChunk("token", 0, 100, false, new SyncChunkVisitor() {
+      @Override
+      public void visitNote(Note note) {
+        notes.add(note.deepCopy());
+        nested.put(note.getTagGuids(), Boolean.TRUE);
+        nested.put(note.getAttributes(), Boolean.TRUE);
+        nested.put(note.getResources(), Boolean.TRUE);
+        for (Resource resource : note.getResources()) {
+          nested.put(resource, Boolean.TRUE);
+          nested.put(resource.getData(), Boolean.TRUE);
+        }
+        pool.release(note);
+      }
+    });
+
+    assertEquals(chunk.getNotes(), notes);
+    assertEquals(1, pool.getCreatedCount());
+    // one tag list, attributes and resource list, and two resources with their data
+    assertEquals(7, nested.size());
+  }
+
+  @Test
+  public void testExceptions() throws Exception {
+    EDAMUserException userException = new EDAMUserException();
+    userException.setErrorCode(EDAMErrorCode.AUTH_EXPIRED);
+    writeResult(1, userException);
+    try {
+      reader.getFilteredSyncChunk("token", 0, 100, new SyncChunkFilter(),
+          new SyncChunkVisitor() {});
+      fail("Expected an exception");
+    } catch (EDAMUserException e) {
+      assertEquals(EDAMErrorCode.AUTH_EXPIRED, e.getErrorCode());
+    }
+
+    response.reset();
+    EDAMNotFoundException notFound = new EDAMNotFoundException();
+    notFound.setIdentifier("LinkedNotebook.guid");
+    writeResult(3, notFound);
+    try {
+      reader.getLinkedNotebookSyncChunk("token", new LinkedNotebook(), 0, 100, false,
+          new SyncChunkVisitor() {});
+      fail("Expected an exception");
+    } catch (EDAMNotFoundException e) {
+      assertEquals("LinkedNotebook.guid", e.getIdentifier());
+    }
+  }
+
+  /**
+   * Writes a reply to the next call with a *SyncChunk_result struct that has the
+   * given field set.
+   */
+  private void writeResult(int fieldId, TBase<?> value) throws Exception {
+    TProtocol protocol = new TBinaryProtocol(response);
+    protocol.writeMessageBegin(new TMessage("getSyncChunk", TMessageType.REPLY,
+        client.seqid_ + 1));
+    protocol.writeStructBegin(new TStruct("getSyncChunk_result"));
+    protocol.writeFieldBegin(new TField("", TType.STRUCT, (short) fieldId));
+    value.write(protocol);
+    protocol.writeFieldEnd();
+    protocol.writeFieldStop();
+    protocol.writeStructEnd();
+    protocol.writeMessageEnd();
+  }
+}
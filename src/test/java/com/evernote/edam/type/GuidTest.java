@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.edam.type;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.evernote.edam.limits.Constants;
+
+public class GuidTest {
+
+  @Test
+  public void testParseAndFormat() {
+    Random random = new Random(42);
+    for (int i = 0; i < 1000; i++) {
+      String string = new UUID(random.nextLong(), random.nextLong()).toString();
+      assertTrue(string.matches(Constants.EDAM_GUID_REGEX));
+      assertTrue(Guid.isValid(string));
+      Guid guid = Guid.parse(string);
+      assertEquals(string, guid.toString());
+      assertEquals(guid, Guid.parse(guid.toString()));
+      assertEquals(guid.hashCode(), Guid.parse(string).hashCode());
+    }
+    assertEquals("00000000-0000-0000-0000-000000000000", new Guid(0, 0).toString());
+    assertEquals("ffffffff-ffff-ffff-ffff-ffffffffffff", new Guid(-1, -1).toString());
+  }
+
+  @Test
+  public void testInvalid() {
+    String[] invalid = { "", "0d6f2a3c-5ce4-4ae1-b7f4-2a8b6f1c2e3",
+        "0D6F2A3C-5CE4-4AE1-B7F4-2A8B6F1C2E3D", "0d6f2a3c-5ce4-4ae1-b7f4-2a8b6f1c2e3g",
+        "0d6f2a3c5ce4-4ae1-b7f4-2a8b6f1c2e3d0", "0d6f2a3c-5ce4-4ae1-b7f4-2a8b6f1c2e3\u0663" };
+    for (String guid : invalid) {
+      assertFalse(guid.matches(Constants.EDAM_GUID_REGEX));
+      assertFalse(Guid.isValid(guid));
+      try {
+        Guid.parse(guid);
+        fail("Expected an exception for " + guid);
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+    }
+    assertFalse(Guid.isValid(null));
+  }
+
+  @Test
+  public void testOrderMatchesStrings() {
+    Random random = new Random(7);
+    for (int i = 0; i < 1000; i++) {
+      Guid a = new Guid(random.nextLong(), random.nextInt(3) == 0 ? 0 : random.nextLong());
+      Guid b = new Guid(random.nextInt(3) == 0 ? a.getMostSignificantBits()
+          : random.nextLong(), random.nextLong());
+      assertEquals(Integer.signum(a.toString().compareTo(b.toString())),
+          Integer.signum(a.compareTo(b)));
+    }
+  }
+
+  @Test
+  public void testMapMatchesHashMap() {
+    Random random = new Random(1);
+    GuidMap<Integer> map = new GuidMap<Integer>();
+    Map<Guid, Integer> expected = new HashMap<Guid, Integer>();
+    List<Guid> keys = new ArrayList<Guid>();
+    for (int i = 0; i < 2000; i++) {
+      keys.add(new Guid(random.nextLong(), random.nextLong()));
+    }
+    for (int i = 0; i < 50000; i++) {
+      Guid key = keys.get(random.nextInt(keys.size()));
+      switch (random.nextInt(3)) {
+        case 0:
+          assertEquals(expected.put(key, i), map.put(key, i));
+          break;
+        case 1:
+          assertEquals(expected.remove(key), map.remove(key.toString()));
+          break;
+        default:
+          assertEquals(expected.get(key), map.get(key));
+          assertEquals(expected.containsKey(key), map.containsKey(key.toString()));
+      }
+      assertEquals(expected.size(), map.size());
+    }
+
+    Set<Guid> iterated = new HashSet<Guid>();
+    Iterator<Guid> keyIterator = map.keyIterator();
+    Iterator<Integer> valueIterator = map.valueIterator();
+    while (keyIterator.hasNext()) {
+      Guid key = keyIterator.next();
+      assertTrue(iterated.add(key));
+      assertEquals(expected.get(key), valueIterator.next());
+    }
+    assertEquals(expected.keySet(), iterated);
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertNull(map.get(keys.get(0)));
+  }
+
+  @Test
+  public void testSet() {
+    GuidSet set = new GuidSet(2);
+    String guid = "0d6f2a3c-5ce4-4ae1-b7f4-2a8b6f1c2e3d";
+    assertTrue(set.add(guid));
+    assertFalse(set.add(Guid.parse(guid)));
+    assertTrue(set.contains(guid));
+    for (long i = 0; i < 100; i++) {
+      assertTrue(set.add(i, i));
+    }
+    assertEquals(101, set.size());
+
+    int count = 0;
+    for (Guid element : set) {
+      assertTrue(set.contains(element));
+      count++;
+    }
+    assertEquals(101, count);
+
+    Iterator<Guid> iterator = set.iterator();
+    iterator.next();
+    set.remove(guid);
+    try {
+      iterator.next();
+      fail("Expected an exception");
+    } catch (ConcurrentModificationException e) {
+      // expected
+    }
+    assertFalse(set.contains(guid));
+    assertFalse(set.remove(guid));
+    assertEquals(100, set.size());
+  }
+}
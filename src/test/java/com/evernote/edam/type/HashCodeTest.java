@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.edam.type;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.thrift.protocol.TBinaryProtocol;
+import com.evernote.thrift.protocol.SampleSyncChunks;
+import com.evernote.thrift.transport.TMemoryBuffer;
+
+public class HashCodeTest {
+
+  @Test
+  public void testEqualStructsHaveEqualHashCodes() throws Exception {
+    SyncChunk chunk = SampleSyncChunks.create(20);
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    chunk.write(new TBinaryProtocol(buffer));
+    TBinaryProtocol protocol = new TBinaryProtocol(buffer);
+    protocol.setLazyDecoding(true);
+    protocol.setZeroCopyBinary(true);
+    SyncChunk read = new SyncChunk();
+    read.read(protocol);
+
+    assertEquals(chunk, read);
+    assertEquals(chunk.hashCode(), read.hashCode());
+    assertEquals(chunk.hashCode(), new SyncChunk(chunk).hashCode());
+    for (int i = 0; i < chunk.getNotesSize(); i++) {
+      assertEquals(chunk.getNotes().get(i).hashCode(), read.getNotes().get(i).hashCode());
+    }
+  }
+
+  @Test
+  public void testDifferentStructsAreSpread() {
+    Set<Integer> hashCodes = new HashSet<Integer>();
+    for (Note note : SampleSyncChunks.create(100).getNotes()) {
+      hashCodes.add(note.hashCode());
+    }
+    assertEquals(100, hashCodes.size());
+
+    // an unset field differs from a field set to its default value
+    Tag tag = new Tag();
+    Tag other = new Tag();
+    other.setUpdateSequenceNum(0);
+    assertNotEquals(tag.hashCode(), other.hashCode());
+  }
+
+  @Test
+  public void testBinaryAndDoubleValues() {
+    Data data = new Data();
+    data.setBody(new byte[] { 1, 2, 3 });
+    Data view = new Data();
+    view.setBody(ByteBuffer.wrap(new byte[] { 0, 1, 2, 3, 4 }, 1, 3));
+    assertEquals(data, view);
+    assertEquals(data.hashCode(), view.hashCode());
+
+    NoteAttributes attributes = new NoteAttributes();
+    attributes.setLatitude(0.0);
+    NoteAttributes negative = new NoteAttributes();
+    negative.setLatitude(-0.0);
+    assertEquals(attributes, negative);
+    assertEquals(attributes.hashCode(), negative.hashCode());
+  }
+
+  @Test
+  public void testFrozenHashCodeIsCached() {
+    Notebook notebook = new Notebook();
+    notebook.setName("Inbox");
+    int hashCode = notebook.hashCode();
+
+    notebook.setName("Archive");
+    assertFalse(hashCode == notebook.hashCode());
+
+    notebook.setName("Inbox");
+    notebook.freeze();
+    assertTrue(notebook.isFrozen());
+    assertEquals(hashCode, notebook.hashCode());
+
+    // modifying a frozen struct leaves its hash code stale
+    notebook.setName("Archive");
+    assertEquals(hashCode, notebook.hashCode());
+    assertFalse(new Notebook(notebook).isFrozen());
+    notebook.clear();
+    assertFalse(notebook.isFrozen());
+    assertEquals(new Notebook().hashCode(), notebook.hashCode());
+  }
+}
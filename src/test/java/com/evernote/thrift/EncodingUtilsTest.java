@@ -0,0 +1,58 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.evernote.edam.type.User;
+
+public class EncodingUtilsTest {
+
+  @Test
+  public void testBits() {
+    byte b = 0;
+    b = EncodingUtils.setBit(b, 7, true);
+    assertEquals((byte) 0x80, b);
+    assertTrue(EncodingUtils.testBit(b, 7));
+    assertFalse(EncodingUtils.testBit(b, 6));
+    assertEquals(0, EncodingUtils.clearBit(b, 7));
+
+    short s = EncodingUtils.setBit((short) 0, 15, true);
+    assertEquals((short) 0x8000, s);
+    assertTrue(EncodingUtils.testBit(s, 15));
+    assertEquals(0, EncodingUtils.setBit(s, 15, false));
+
+    int i = EncodingUtils.setBit(0, 31, true);
+    assertTrue(EncodingUtils.testBit(i, 31));
+    assertEquals(Integer.MIN_VALUE, i);
+
+    long l = EncodingUtils.setBit(0L, 63, true);
+    assertTrue(EncodingUtils.testBit(l, 63));
+    assertFalse(EncodingUtils.testBit(l, 31));
+    assertEquals(0L, EncodingUtils.clearBit(l, 63));
+  }
+
+  @Test
+  public void testIssetFields() {
+    User user = new User();
+    user.setId(1);
+    user.setActive(false);
+    assertTrue(user.isSetId());
+    assertTrue(user.isSetActive());
+    assertFalse(user.isSetCreated());
+
+    User copy = new User(user);
+    copy.unsetId();
+    assertFalse(copy.isSetId());
+    assertTrue(copy.isSetActive());
+    assertTrue(user.isSetId());
+
+    copy.clear();
+    assertFalse(copy.isSetActive());
+  }
+}
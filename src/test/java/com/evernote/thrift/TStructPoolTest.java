@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.NoteAttributes;
+import com.evernote.edam.type.Tag;
+import com.evernote.thrift.protocol.TBinaryProtocol;
+import com.evernote.thrift.transport.TMemoryBuffer;
+
+public class TStructPoolTest {
+
+  @Test
+  public void testAcquireAndRelease() {
+    TStructPool pool = new TStructPool();
+    Tag tag = pool.acquire(Tag.class);
+    tag.setName("name");
+    pool.release(tag);
+
+    assertSame(tag, pool.acquire(Tag.class));
+    assertFalse(tag.isSetName());
+    assertEquals(1, pool.getCreatedCount());
+    assertEquals(1, pool.getReusedCount());
+  }
+
+  @Test
+  public void testDoubleRelease() {
+    TStructPool pool = new TStructPool();
+    Tag tag = pool.acquire(Tag.class);
+    pool.release(tag);
+    try {
+      pool.release(tag);
+      fail("Expected an exception");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+    assertSame(tag, pool.acquire(Tag.class));
+    assertSame(Tag.class, pool.acquire(Tag.class).getClass());
+    assertEquals(2, pool.getCreatedCount());
+  }
+
+  @Test
+  public void testRecycledNoteRefillsOwnedValues() throws Exception {
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    Note original = new Note();
+    original.setGuid("guid");
+    original.setTagGuids(Arrays.asList("tag1", "tag2"));
+    original.setAttributes(new NoteAttributes());
+    original.getAttributes().setAuthor("author");
+    original.write(new TBinaryProtocol(buffer));
+    original.write(new TBinaryProtocol(buffer));
+
+    TStructPool pool = new TStructPool();
+    Note note = pool.acquire(Note.class);
+    note.read(new TBinaryProtocol(buffer));
+    List<String> tagGuids = note.getTagGuids();
+    NoteAttributes attributes = note.getAttributes();
+    pool.release(note);
+    assertNull(note.getTagGuids());
+    assertNull(note.getAttributes());
+    assertEquals(0, tagGuids.size());
+
+    note = pool.acquire(Note.class);
+    note.read(new TBinaryProtocol(buffer));
+    assertEquals(original, note);
+    assertSame(tagGuids, note.getTagGuids());
+    assertSame(attributes, note.getAttributes());
+  }
+
+  @Test
+  public void testValuesSetFromOutsideAreNotRecycled() throws Exception {
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    Note original = new Note();
+    original.setGuid("guid");
+    original.setTagGuids(Arrays.asList("tag1", "tag2"));
+    original.write(new TBinaryProtocol(buffer));
+
+    TStructPool pool = new TStructPool();
+    Note note = pool.acquire(Note.class);
+    List<String> tagGuids = new ArrayList<String>(Arrays.asList("mine"));
+    note.setTagGuids(tagGuids);
+    pool.release(note);
+    assertEquals(Arrays.asList("mine"), tagGuids);
+
+    note = pool.acquire(Note.class);
+    note.read(new TBinaryProtocol(buffer));
+    assertEquals(original, note);
+    assertEquals(Arrays.asList("mine"), tagGuids);
+  }
+}
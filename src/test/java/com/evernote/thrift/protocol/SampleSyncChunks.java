@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.protocol;
+
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.NoteAttributes;
+
+/**
+ * Builds {@link SyncChunk}s with realistic note metadata for protocol and struct
+ * tests.
+ */
+public class SampleSyncChunks {
+
+  private SampleSyncChunks() {
+  }
+
+  public static SyncChunk create(int notes) {
+    SyncChunk chunk = new SyncChunk();
+    chunk.setCurrentTime(System.currentTimeMillis());
+    chunk.setChunkHighUSN(notes);
+    chunk.setUpdateCount(notes);
+    for (int i = 0; i < notes; i++) {
+      Note note = new Note();
+      note.setGuid("0d6f2a3c-5ce4-4ae1-b7f4-" + (100000000000L + i));
+      note.setTitle("Note " + i);
+      note.setContentLength(1024 + i);
+      note.setContentHash(new byte[16]);
+      note.setCreated(1420070400000L + i);
+      note.setUpdated(1420070400000L + 2 * i);
+      note.setActive(true);
+      note.setUpdateSequenceNum(i);
+      note.setNotebookGuid("6d8c2f9e-0b5a-4a43-9d87-6b2e4e1f0c11");
+      for (int t = 0; t < i % 5; t++) {
+        note.addToTagGuids("b2f7c2e0-1f4b-4c8e-9a1d-00000000000" + t);
+      }
+      NoteAttributes attributes = new NoteAttributes();
+      attributes.setSubjectDate(1420070400000L);
+      attributes.setLatitude(47.6);
+      attributes.setLongitude(-122.3);
+      attributes.setSource("desktop.mac");
+      note.setAttributes(attributes);
+      chunk.addToNotes(note);
+    }
+    return chunk;
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.protocol;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.thrift.TException;
+import com.evernote.thrift.transport.TMemoryBuffer;
+import com.evernote.thrift.transport.TTransport;
+
+/**
+ * Measures the heap allocated by the current thread while decoding a 250 note
+ * {@link SyncChunk}, once with the shared headers of {@link TBinaryProtocol} and once
+ * with a protocol that allocates a new header for every field and container like it
+ * used to.
+ * <p>
+ * Each protocol walks the chunk twice. Skipping it reads every header but
+ * materializes no values, so it shows the allocation caused by the headers alone.
+ * Decoding it also builds the structs, lists, strings and binary buffers, which is
+ * the allocation that remains with shared headers.
+ * <p>
+ * The tests are skipped on JVMs that can't measure allocation per thread.
+ */
+public class TBinaryProtocolAllocationTest {
+
+  private static final int NOTES = 250;
+  private static final int ITERATIONS = 500;
+
+  private TMemoryBuffer buffer;
+
+  @Before
+  public void setUp() throws Exception {
+    assumeTrue(allocatedBytes() >= 0);
+    buffer = new TMemoryBuffer(1024);
+    SampleSyncChunks.create(NOTES).write(new TBinaryProtocol(buffer));
+  }
+
+  @Test
+  public void testSkippingAllocatesNoHeaders() throws Exception {
+    long shared = skip(new TBinaryProtocol(buffer));
+    long allocating = skip(new AllocatingBinaryProtocol(buffer));
+
+    // noise from the measurement itself, far below one header per note
+    assertTrue("shared headers: " + shared + " bytes/chunk", shared < 1024);
+    assertTrue("allocating headers: " + allocating + " bytes/chunk",
+        allocating > NOTES * 16 * 10);
+  }
+
+  @Test
+  public void testDecodingAllocatesOnlyValues() throws Exception {
+    long sharedSkip = skip(new TBinaryProtocol(buffer));
+    long sharedDecode = decode(new TBinaryProtocol(buffer));
+    long allocatingSkip = skip(new AllocatingBinaryProtocol(buffer));
+    long allocatingDecode = decode(new AllocatingBinaryProtocol(buffer));
+
+    String allocation = "decode " + sharedDecode + " (was " + allocatingDecode
+        + ") bytes/chunk, of which headers " + sharedSkip + " (was " + allocatingSkip
+        + ")";
+    assertTrue(allocation, sharedDecode < allocatingDecode);
+    // what is left are the values themselves: one struct per note and attributes,
+    // the tag lists, the strings and the content hashes
+    assertTrue(allocation, sharedDecode - sharedSkip > NOTES * 100);
+  }
+
+  private long skip(TProtocol protocol) throws TException {
+    for (int i = 0; i < ITERATIONS; i++) {
+      buffer.rewind();
+      TProtocolUtil.skip(protocol, TType.STRUCT);
+    }
+    long before = allocatedBytes();
+    for (int i = 0; i < ITERATIONS; i++) {
+      buffer.rewind();
+      TProtocolUtil.skip(protocol, TType.STRUCT);
+    }
+    return (allocatedBytes() - before) / ITERATIONS;
+  }
+
+  private long decode(TProtocol protocol) throws TException {
+    for (int i = 0; i < ITERATIONS; i++) {
+      buffer.rewind();
+      new SyncChunk().read(protocol);
+    }
+    long before = allocatedBytes();
+    for (int i = 0; i < ITERATIONS; i++) {
+      buffer.rewind();
+      new SyncChunk().read(protocol);
+    }
+    return (allocatedBytes() - before) / ITERATIONS;
+  }
+
+  /**
+   * @return the number of bytes allocated by the current thread, or -1 if the JVM
+   *         can't tell
+   */
+  private static long allocatedBytes() {
+    try {
+      ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+      Method method = Class.forName("com.sun.management.ThreadMXBean").getMethod(
+          "getThreadAllocatedBytes", long.class);
+      return (Long) method.invoke(bean, Thread.currentThread().getId());
+    } catch (Exception e) {
+      return -1;
+    }
+  }
+
+  private static class AllocatingBinaryProtocol extends TBinaryProtocol {
+    AllocatingBinaryProtocol(TTransport trans) {
+      super(trans);
+    }
+
+    @Override
+    public TField readFieldBegin() throws TException {
+      byte type = readByte();
+      short id = type == TType.STOP ? 0 : readI16();
+      return new TField("", type, id);
+    }
+
+    @Override
+    public TMap readMapBegin() throws TException {
+      return new TMap(readByte(), readByte(), readI32());
+    }
+
+    @Override
+    public TList readListBegin() throws TException {
+      return new TList(readByte(), readI32());
+    }
+
+    @Override
+    public TSet readSetBegin() throws TException {
+      return new TSet(readByte(), readI32());
+    }
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.type.Data;
+import com.evernote.thrift.TBaseHelper;
+import com.evernote.thrift.transport.TMemoryBuffer;
+
+public class TBinaryProtocolTest {
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    SyncChunk chunk = SampleSyncChunks.create(50);
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    chunk.write(new TBinaryProtocol(buffer));
+
+    SyncChunk read = new SyncChunk();
+    read.read(new TBinaryProtocol(buffer));
+    assertEquals(chunk, read);
+    assertEquals(0, buffer.getBytesRemainingInBuffer());
+  }
+
+  @Test
+  public void testHeadersAreShared() throws Exception {
+    TMemoryBuffer buffer = new TMemoryBuffer(64);
+    TBinaryProtocol protocol = new TBinaryProtocol(buffer);
+    for (int i = 0; i < 2; i++) {
+      protocol.writeFieldBegin(new TField("name", TType.STRING, (short) 3));
+      protocol.writeListBegin(new TList(TType.I32, 2));
+      protocol.writeSetBegin(new TSet(TType.STRING, 5));
+      protocol.writeMapBegin(new TMap(TType.STRING, TType.I64, 1));
+    }
+    protocol.writeListBegin(new TList(TType.I32, 1000));
+    protocol.writeListBegin(new TList(TType.I32, 1000));
+
+    TField field = protocol.readFieldBegin();
+    assertEquals(TType.STRING, field.type);
+    assertEquals(3, field.id);
+    TList list = protocol.readListBegin();
+    assertEquals(TType.I32, list.elemType);
+    assertEquals(2, list.size);
+    TSet set = protocol.readSetBegin();
+    assertEquals(TType.STRING, set.elemType);
+    assertEquals(5, set.size);
+    TMap map = protocol.readMapBegin();
+    assertEquals(TType.STRING, map.keyType);
+    assertEquals(TType.I64, map.valueType);
+    assertEquals(1, map.size);
+
+    assertSame(field, protocol.readFieldBegin());
+    assertSame(list, protocol.readListBegin());
+    assertSame(set, protocol.readSetBegin());
+    assertSame(map, protocol.readMapBegin());
+
+    // large containers aren't cached
+    TList large = protocol.readListBegin();
+    assertEquals(1000, large.size);
+    assertNotSame(large, protocol.readListBegin());
+  }
+
+  @Test
+  public void testZeroCopyBinary() throws Exception {
+    byte[] body = new byte[1000];
+    for (int i = 0; i < body.length; i++) {
+      body[i] = (byte) i;
+    }
+    Data data = new Data();
+    data.setBodyHash(new byte[] { 1, 2, 3 });
+    data.setSize(body.length);
+    data.setBody(body);
+
+    TMemoryBuffer buffer = new TMemoryBuffer(2048);
+    TBinaryProtocol protocol = new TBinaryProtocol(buffer);
+    data.write(protocol);
+    data.write(protocol);
+
+    Data copied = new Data();
+    copied.read(protocol);
+    assertNotSame(buffer.getArray(), copied.bufferForBody().array());
+
+    protocol.setZeroCopyBinary(true);
+    Data viewed = new Data();
+    viewed.read(protocol);
+    ByteBuffer view = viewed.bufferForBody();
+    assertSame(buffer.getArray(), view.array());
+    assertEquals(body.length, view.remaining());
+    assertEquals(data, viewed);
+    assertEquals(copied, viewed);
+    assertEquals(0, viewed.compareTo(data));
+    assertEquals(data.toString(), viewed.toString());
+
+    // the retained buffer isn't overwritten by the next message
+    buffer.reset();
+    data.setBody(new byte[body.length]);
+    data.write(protocol);
+    assertArrayEquals(body, TBaseHelper.byteBufferToByteArray(viewed.bufferForBody()));
+
+    // the getter copies the value and stops sharing the buffer
+    assertArrayEquals(body, viewed.getBody());
+    assertNotSame(view.array(), viewed.bufferForBody().array());
+    assertSame(viewed.getBody(), viewed.getBody());
+  }
+
+  @Test
+  public void testBuffersWithoutArray() throws Exception {
+    byte[] body = new byte[] { 1, 2, 3, 4, 5 };
+    ByteBuffer direct = ByteBuffer.allocateDirect(body.length);
+    direct.put(body);
+    direct.flip();
+    ByteBuffer[] buffers = { direct, ByteBuffer.wrap(body).asReadOnlyBuffer() };
+
+    for (ByteBuffer buffer : buffers) {
+      Data data = new Data();
+      data.setBody(buffer);
+      data.setBodyHash(buffer.duplicate());
+      assertEquals(new Data(data), data);
+      assertEquals(data.deepCopy().toString(), data.toString());
+
+      TMemoryBuffer transport = new TMemoryBuffer(64);
+      TBinaryProtocol protocol = new TBinaryProtocol(transport);
+      data.write(protocol);
+      Data read = new Data();
+      read.read(protocol);
+      assertEquals(data, read);
+
+      assertArrayEquals(body, TBaseHelper.byteBufferToByteArray(buffer));
+      assertArrayEquals(body, data.getBody());
+      assertArrayEquals(body, data.getBodyHash());
+      assertEquals(5, buffer.remaining());
+    }
+  }
+
+  @Test
+  public void testNegativeLength() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      TMemoryBuffer buffer = new TMemoryBuffer(64);
+      TBinaryProtocol protocol = new TBinaryProtocol(buffer);
+      protocol.writeI32(-5);
+      protocol.writeI64(0);
+      try {
+        if (i == 0) {
+          protocol.readString();
+        } else if (i == 1) {
+          protocol.readBinary();
+        } else {
+          protocol.readBytes();
+        }
+        fail("Expected an exception");
+      } catch (TProtocolException e) {
+        assertEquals(TProtocolException.NEGATIVE_SIZE, e.getType());
+      }
+    }
+  }
+
+  @Test
+  public void testBinarySerialization() throws Exception {
+    TMemoryBuffer buffer = new TMemoryBuffer(64);
+    TBinaryProtocol protocol = new TBinaryProtocol(buffer);
+    protocol.writeBinary(new byte[] { 9, 8, 7, 6 });
+    protocol.setZeroCopyBinary(true);
+    Data data = new Data();
+    data.setBody(protocol.readBinaryField());
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ObjectOutputStream out = new ObjectOutputStream(bytes);
+    out.writeObject(data);
+    out.close();
+    Data read = (Data) new ObjectInputStream(new ByteArrayInputStream(
+        bytes.toByteArray())).readObject();
+    assertEquals(data, read);
+    assertArrayEquals(new byte[] { 9, 8, 7, 6 }, read.getBody());
+    assertEquals(null, read.getBodyHash());
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.thrift.transport.TMemoryBuffer;
+import com.evernote.thrift.transport.TTransport;
+import com.evernote.thrift.transport.TTransportException;
+
+public class TCompactProtocolTest {
+
+  @Test
+  public void testStructRoundTrip() throws Exception {
+    SyncChunk chunk = SampleSyncChunks.create(100);
+
+    TMemoryBuffer binary = new TMemoryBuffer(1024);
+    chunk.write(new TBinaryProtocol(binary));
+    TMemoryBuffer compact = new TMemoryBuffer(1024);
+    chunk.write(new TCompactProtocol.Factory().getProtocol(compact));
+    assertTrue(compact.length() < binary.length() * 4 / 5);
+
+    SyncChunk read = new SyncChunk();
+    read.read(new TCompactProtocol(compact));
+    assertEquals(chunk, read);
+    assertEquals(0, compact.getBytesRemainingInBuffer());
+
+    // without direct access to the transport buffer
+    compact.rewind();
+    read = new SyncChunk();
+    read.read(new TCompactProtocol(new UnbufferedTransport(compact)));
+    assertEquals(chunk, read);
+
+    compact.rewind();
+    TProtocolUtil.skip(new TCompactProtocol(compact), TType.STRUCT);
+    assertEquals(0, compact.getBytesRemainingInBuffer());
+  }
+
+  @Test
+  public void testValues() throws Exception {
+    TMemoryBuffer buffer = new TMemoryBuffer(64);
+    TCompactProtocol protocol = new TCompactProtocol(buffer);
+
+    protocol.writeMessageBegin(new TMessage("getNote", TMessageType.REPLY, 42));
+    protocol.writeStructBegin(new TStruct("test"));
+    protocol.writeFieldBegin(new TField("a", TType.BOOL, (short) 1));
+    protocol.writeBool(true);
+    protocol.writeFieldBegin(new TField("b", TType.BOOL, (short) 200));
+    protocol.writeBool(false);
+    protocol.writeFieldBegin(new TField("c", TType.I32, (short) 3));
+    protocol.writeI32(Integer.MIN_VALUE);
+    protocol.writeFieldStop();
+    protocol.writeStructEnd();
+    protocol.writeI16(Short.MIN_VALUE);
+    protocol.writeI32(-1);
+    protocol.writeI32(Integer.MAX_VALUE);
+    protocol.writeI64(Long.MIN_VALUE);
+    protocol.writeI64(Long.MAX_VALUE);
+    protocol.writeDouble(-1.5e300);
+    protocol.writeString("");
+    protocol.writeString("Héllo 世界 📝");
+    protocol.writeBinary(new byte[] {1, 2, 3});
+    protocol.writeListBegin(new TList(TType.BOOL, 2));
+    protocol.writeBool(false);
+    protocol.writeBool(true);
+    protocol.writeSetBegin(new TSet(TType.I64, 20));
+    protocol.writeMapBegin(new TMap(TType.STRING, TType.I32, 0));
+    protocol.writeMapBegin(new TMap(TType.STRING, TType.DOUBLE, 300));
+    protocol.writeMessageEnd();
+
+    TMessage message = protocol.readMessageBegin();
+    assertEquals("getNote", message.name);
+    assertEquals(TMessageType.REPLY, message.type);
+    assertEquals(42, message.seqid);
+    protocol.readStructBegin();
+    TField field = protocol.readFieldBegin();
+    assertEquals(TType.BOOL, field.type);
+    assertEquals(1, field.id);
+    assertTrue(protocol.readBool());
+    field = protocol.readFieldBegin();
+    assertEquals(TType.BOOL, field.type);
+    assertEquals(200, field.id);
+    assertFalse(protocol.readBool());
+    field = protocol.readFieldBegin();
+    assertEquals(TType.I32, field.type);
+    assertEquals(3, field.id);
+    assertEquals(Integer.MIN_VALUE, protocol.readI32());
+    assertEquals(TType.STOP, protocol.readFieldBegin().type);
+    protocol.readStructEnd();
+    assertEquals(Short.MIN_VALUE, protocol.readI16());
+    assertEquals(-1, protocol.readI32());
+    assertEquals(Integer.MAX_VALUE, protocol.readI32());
+    assertEquals(Long.MIN_VALUE, protocol.readI64());
+    assertEquals(Long.MAX_VALUE, protocol.readI64());
+    assertEquals(-1.5e300, protocol.readDouble(), 0.0);
+    assertEquals("", protocol.readString());
+    assertEquals("Héllo 世界 📝", protocol.readString());
+    assertArrayEquals(new byte[] {1, 2, 3}, protocol.readBytes());
+    TList list = protocol.readListBegin();
+    assertEquals(TType.BOOL, list.elemType);
+    assertEquals(2, list.size);
+    assertFalse(protocol.readBool());
+    assertTrue(protocol.readBool());
+    TSet set = protocol.readSetBegin();
+    assertEquals(TType.I64, set.elemType);
+    assertEquals(20, set.size);
+    assertEquals(0, protocol.readMapBegin().size);
+    TMap map = protocol.readMapBegin();
+    assertEquals(TType.STRING, map.keyType);
+    assertEquals(TType.DOUBLE, map.valueType);
+    assertEquals(300, map.size);
+    assertEquals(0, buffer.getBytesRemainingInBuffer());
+  }
+
+  @Test(expected = TProtocolException.class)
+  public void testSizeLimit() throws Exception {
+    TMemoryBuffer buffer = new TMemoryBuffer(64);
+    new TCompactProtocol(buffer).writeString("too long");
+    new TCompactProtocol.Factory(4).getProtocol(buffer).readString();
+  }
+
+  private static class UnbufferedTransport extends TTransport {
+    private final TTransport delegate;
+
+    UnbufferedTransport(TTransport delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void open() {}
+
+    @Override
+    public void close() {}
+
+    @Override
+    public int read(byte[] buf, int off, int len) throws TTransportException {
+      return delegate.read(buf, off, len);
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) throws TTransportException {
+      delegate.write(buf, off, len);
+    }
+  }
+}
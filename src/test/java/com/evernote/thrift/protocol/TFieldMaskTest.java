@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.protocol;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.evernote.edam.type.Data;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.Resource;
+import com.evernote.thrift.transport.TMemoryBuffer;
+
+public class TFieldMaskTest {
+
+  @Test
+  public void testExcludedFieldsAreSkipped() throws Exception {
+    Note note = new Note();
+    note.setGuid("guid");
+    note.setTitle("title");
+    note.setContent("<en-note>content</en-note>");
+    note.setUpdateSequenceNum(12);
+    Resource resource = new Resource();
+    resource.setGuid("resource");
+    resource.setMime("image/png");
+    Data data = new Data();
+    data.setBody(new byte[1024]);
+    data.setSize(1024);
+    resource.setData(data);
+    Data recognition = new Data();
+    recognition.setBody(new byte[512]);
+    resource.setRecognition(recognition);
+    note.addToResources(resource);
+
+    TMemoryBuffer buffer = new TMemoryBuffer(2048);
+    note.write(new TBinaryProtocol(buffer));
+
+    TProtocol protocol = new TBinaryProtocol(buffer);
+    protocol.setFieldMask(new TFieldMask()
+        .exclude(Note.class, "content")
+        .exclude(Resource.class, "recognition")
+        .exclude("Data", (short) 3));
+    Note read = new Note();
+    read.read(protocol);
+    assertEquals(0, buffer.getBytesRemainingInBuffer());
+
+    assertFalse(read.isSetContent());
+    assertEquals("guid", read.getGuid());
+    assertEquals("title", read.getTitle());
+    assertEquals(12, read.getUpdateSequenceNum());
+    Resource readResource = read.getResources().get(0);
+    assertEquals("image/png", readResource.getMime());
+    assertFalse(readResource.isSetRecognition());
+    assertTrue(readResource.isSetData());
+    assertEquals(1024, readResource.getData().getSize());
+    assertFalse(readResource.getData().isSetBody());
+
+    // without a mask everything is read again
+    buffer.rewind();
+    protocol.setFieldMask(null);
+    read = new Note();
+    read.read(protocol);
+    assertEquals(note, read);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownField() {
+    new TFieldMask().exclude(Note.class, "body");
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.evernote.edam.type.Data;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.NoteAttributes;
+import com.evernote.edam.type.Resource;
+import com.evernote.thrift.transport.TMemoryBuffer;
+
+public class TLazySliceTest {
+
+  static Note createNote() {
+    Note note = new Note();
+    note.setGuid("guid");
+    note.setTitle("title");
+    NoteAttributes attributes = new NoteAttributes();
+    attributes.setAuthor("author");
+    note.setAttributes(attributes);
+    for (int i = 0; i < 3; i++) {
+      Resource resource = new Resource();
+      resource.setGuid("resource" + i);
+      Data data = new Data();
+      data.setBody(new byte[] {1, 2, (byte) i});
+      data.setSize(3);
+      resource.setData(data);
+      Data recognition = new Data();
+      recognition.setBody(new byte[100]);
+      resource.setRecognition(recognition);
+      note.addToResources(resource);
+    }
+    return note;
+  }
+
+  @Test
+  public void testLazyFieldsAreDecodedOnAccess() throws Exception {
+    Note note = createNote();
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    note.write(new TBinaryProtocol(buffer));
+
+    TProtocol protocol = new TBinaryProtocol(buffer);
+    protocol.setLazyDecoding(true);
+    Note read = new Note();
+    read.read(protocol);
+    assertEquals(0, buffer.getBytesRemainingInBuffer());
+    assertTrue(read.isSetResources());
+    assertTrue(read.isSetAttributes());
+
+    // the encoded values must survive the buffer being reused
+    buffer.reset();
+    buffer.write(new byte[2048], 0, 2048);
+
+    assertEquals("author", read.getAttributes().getAuthor());
+    assertEquals(3, read.getResourcesSize());
+    Resource resource = read.getResources().get(2);
+    assertArrayEquals(new byte[] {1, 2, 2}, resource.getData().getBody());
+    assertEquals(note, read);
+  }
+
+  @Test
+  public void testSettersReplaceLazyFields() throws Exception {
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    createNote().write(new TBinaryProtocol(buffer));
+    TProtocol protocol = new TCompactProtocol(new TMemoryBuffer(1024));
+    Note note = new Note();
+    note.read(new TBinaryProtocol(buffer));
+    note.write(protocol);
+
+    protocol.setLazyDecoding(true);
+    Note read = new Note();
+    read.read(protocol);
+    read.unsetAttributes();
+    assertFalse(read.isSetAttributes());
+    assertEquals(null, read.getAttributes());
+    read.setResourcesIsSet(false);
+    assertFalse(read.isSetResources());
+    assertEquals(0, read.getResourcesSize());
+
+    note.unsetAttributes();
+    note.unsetResources();
+    assertEquals(note, read);
+  }
+
+  @Test
+  public void testSliceKeepsProtocolSettings() throws Exception {
+    Note note = createNote();
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    note.write(new TBinaryProtocol(buffer));
+    note.write(new TBinaryProtocol(buffer));
+
+    TProtocol protocol = new TBinaryProtocol(buffer);
+    TFieldMask mask = new TFieldMask().exclude(Resource.class, "recognition");
+    TStringTable table = new TStringTable();
+    protocol.setFieldMask(mask);
+    protocol.setLazyDecoding(true);
+    protocol.setZeroCopyBinary(true);
+    protocol.setStringTable(table);
+
+    TLazySlice slice = protocol.readLazySlice(TType.STRUCT);
+    TProtocol sliceProtocol = slice.getProtocol();
+    assertSame(mask, sliceProtocol.getFieldMask());
+    assertTrue(sliceProtocol.isLazyDecoding());
+    assertTrue(sliceProtocol.isZeroCopyBinary());
+    // lazy values may be decoded on another thread, so they don't share the table
+    assertNull(sliceProtocol.getStringTable());
+
+    // the resources of a lazily decoded note are read like the note itself
+    Note read = new Note();
+    read.read(protocol);
+    Resource resource = read.getResources().get(1);
+    assertFalse(resource.isSetRecognition());
+    assertSame(buffer.getArray(), resource.getData().bufferForBody().array());
+    Note first = new Note();
+    first.read(slice.getProtocol());
+    assertEquals(first.getResources().get(1).getGuid(), resource.getGuid());
+  }
+}
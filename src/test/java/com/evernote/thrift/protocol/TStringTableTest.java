@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.protocol;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.type.Note;
+import com.evernote.thrift.transport.TMemoryBuffer;
+
+public class TStringTableTest {
+
+  @Test
+  public void testRepeatedStringsAreShared() throws Exception {
+    testRepeatedStringsAreShared(new TBinaryProtocol.Factory());
+    testRepeatedStringsAreShared(new TCompactProtocol.Factory());
+  }
+
+  private void testRepeatedStringsAreShared(TProtocolFactory factory) throws Exception {
+    SyncChunk chunk = SampleSyncChunks.create(20);
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    chunk.write(factory.getProtocol(buffer));
+
+    TProtocol protocol = factory.getProtocol(buffer);
+    TStringTable table = new TStringTable();
+    protocol.setStringTable(table);
+    SyncChunk read = new SyncChunk();
+    read.read(protocol);
+    assertEquals(chunk, read);
+
+    List<Note> notes = read.getNotes();
+    assertSame(notes.get(0).getNotebookGuid(), notes.get(19).getNotebookGuid());
+    assertSame(notes.get(0).getAttributes().getSource(),
+        notes.get(19).getAttributes().getSource());
+    assertSame(notes.get(9).getTagGuids().get(0), notes.get(14).getTagGuids().get(0));
+    assertNotSame(notes.get(0).getGuid(), notes.get(1).getGuid());
+    assertEquals(true, table.getHitCount() > 40);
+
+    // strings are shared across messages until the table is cleared
+    buffer.reset();
+    chunk.write(factory.getProtocol(buffer));
+    SyncChunk second = new SyncChunk();
+    second.read(protocol);
+    assertSame(notes.get(0).getNotebookGuid(), second.getNotes().get(0).getNotebookGuid());
+  }
+
+  @Test
+  public void testCollisionsAndLimits() throws Exception {
+    TMemoryBuffer buffer = new TMemoryBuffer(1024);
+    TBinaryProtocol protocol = new TBinaryProtocol(buffer);
+    protocol.setStringTable(new TStringTable(1, 8));
+    String[] values = { "a", "a", "b", "a", "too long string", "too long string",
+        "\u00e9t\u00e9", "\u00e9t\u00e9" };
+    for (String value : values) {
+      protocol.writeString(value);
+    }
+    String[] read = new String[values.length];
+    for (int i = 0; i < values.length; i++) {
+      read[i] = protocol.readString();
+      assertEquals(values[i], read[i]);
+    }
+    assertSame(read[0], read[1]);
+    // "b" replaced "a" in the only slot
+    assertNotSame(read[0], read[3]);
+    assertNotSame(read[4], read[5]);
+    assertSame(read[6], read[7]);
+    assertEquals(2, protocol.getStringTable().getHitCount());
+  }
+}
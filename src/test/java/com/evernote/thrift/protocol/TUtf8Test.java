@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.evernote.thrift.transport.TMemoryBuffer;
+
+/**
+ * Checks the UTF-8 codec of {@link TBinaryProtocol} against the UTF-8 Charset with
+ * random input.
+ */
+public class TUtf8Test {
+
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+  private static final int RUNS = 5000;
+
+  private final Random random = new Random(20150601L);
+
+  @Test
+  public void testEncode() throws Exception {
+    for (int i = 0; i < RUNS; i++) {
+      String str = randomString();
+      TMemoryBuffer buffer = new TMemoryBuffer(16);
+      TBinaryProtocol protocol = new TBinaryProtocol(buffer);
+      protocol.writeString(str);
+
+      byte[] expected = toBytes(UTF8.encode(str));
+      assertEquals(expected.length, TUtf8.encodedLength(str));
+      assertEquals(expected.length, protocol.readI32());
+      byte[] actual = new byte[expected.length];
+      buffer.readAll(actual, 0, actual.length);
+      assertArrayEquals(str, expected, actual);
+    }
+  }
+
+  @Test
+  public void testDecode() throws Exception {
+    for (int i = 0; i < RUNS; i++) {
+      byte[] bytes;
+      switch (i % 3) {
+      case 0:
+        bytes = toBytes(UTF8.encode(randomString()));
+        break;
+      case 1:
+        // well formed input with a few bytes flipped
+        bytes = toBytes(UTF8.encode(randomString()));
+        for (int j = 0; j < bytes.length / 8 + 1 && bytes.length > 0; j++) {
+          bytes[random.nextInt(bytes.length)] = (byte) random.nextInt(256);
+        }
+        break;
+      default:
+        bytes = new byte[random.nextInt(16)];
+        random.nextBytes(bytes);
+      }
+      String expected = UTF8.decode(ByteBuffer.wrap(bytes)).toString();
+
+      TMemoryBuffer buffer = new TMemoryBuffer(16);
+      TBinaryProtocol protocol = new TBinaryProtocol(buffer);
+      protocol.writeBinary(bytes, 0, bytes.length);
+      protocol.writeBinary(bytes, 0, bytes.length);
+
+      // once from the transport buffer and once through a copy
+      assertEquals(expected, protocol.readString());
+      assertEquals(expected, protocol.readStringBody(protocol.readI32()));
+    }
+  }
+
+  private String randomString() {
+    int length = random.nextInt(random.nextBoolean() ? 8 : 200);
+    StringBuilder str = new StringBuilder(length);
+    int kind = random.nextInt(4);
+    for (int i = 0; i < length; i++) {
+      switch (kind == 3 ? random.nextInt(3) : kind) {
+      case 0:
+        str.append((char) random.nextInt(0x80));
+        break;
+      case 1:
+        str.append((char) random.nextInt(0x10000));
+        break;
+      default:
+        str.appendCodePoint(random.nextInt(Character.MAX_CODE_POINT + 1));
+      }
+    }
+    return str.toString();
+  }
+
+  private static byte[] toBytes(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.transport;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A minimal HTTP/1.1 server used as a stand-in for the Evernote service in transport
+ * tests. Connections are kept alive, and every request body is handed to a
+ * {@link Handler} which produces the response body. Like the service, it accepts gzip
+ * compressed requests and compresses responses for clients that accept gzip.
+ */
+class LocalHttpServer {
+
+  interface Handler {
+    byte[] handle(Map<String, String> headers, byte[] body) throws IOException;
+  }
+
+  static final Handler ECHO = new Handler() {
+    public byte[] handle(Map<String, String> headers, byte[] body) {
+      return body;
+    }
+  };
+
+  private final ServerSocket serverSocket;
+  private final Handler handler;
+  private final AtomicInteger connections = new AtomicInteger();
+  private final AtomicInteger requests = new AtomicInteger();
+  private volatile Map<String, String> lastHeaders;
+  private volatile boolean running = true;
+  private volatile boolean closeAfterResponse;
+
+  LocalHttpServer(Handler handler) throws IOException {
+    this.handler = handler;
+    this.serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+    Thread acceptor = new Thread(new Runnable() {
+      public void run() {
+        acceptLoop();
+      }
+    }, "LocalHttpServer");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  String getUrl() {
+    return "http://127.0.0.1:" + serverSocket.getLocalPort() + "/edam/note/shard";
+  }
+
+  int getConnectionCount() {
+    return connections.get();
+  }
+
+  int getRequestCount() {
+    return requests.get();
+  }
+
+  /**
+   * Makes the server silently drop each connection after one response, like a server
+   * that closes idle keep-alive connections.
+   */
+  void setCloseAfterResponse(boolean closeAfterResponse) {
+    this.closeAfterResponse = closeAfterResponse;
+  }
+
+  Map<String, String> getLastHeaders() {
+    return lastHeaders;
+  }
+
+  void stop() throws IOException {
+    running = false;
+    serverSocket.close();
+  }
+
+  private void acceptLoop() {
+    while (running) {
+      try {
+        final Socket socket = serverSocket.accept();
+        connections.incrementAndGet();
+        Thread worker = new Thread(new Runnable() {
+          public void run() {
+            serve(socket);
+          }
+        });
+        worker.setDaemon(true);
+        worker.start();
+      } catch (IOException e) {
+        return;
+      }
+    }
+  }
+
+  private void serve(Socket socket) {
+    try {
+      InputStream in = new BufferedInputStream(socket.getInputStream());
+      OutputStream out = socket.getOutputStream();
+      while (true) {
+        String requestLine = readLine(in);
+        if (requestLine == null || requestLine.length() == 0) {
+          break;
+        }
+        Map<String, String> headers = new HashMap<String, String>();
+        String line;
+        while ((line = readLine(in)) != null && line.length() > 0) {
+          int colon = line.indexOf(':');
+          headers.put(line.substring(0, colon).trim().toLowerCase(),
+              line.substring(colon + 1).trim());
+        }
+        int length = Integer.parseInt(headers.get("content-length"));
+        byte[] body = new byte[length];
+        int got = 0;
+        while (got < length) {
+          int ret = in.read(body, got, length - got);
+          if (ret < 0) {
+            throw new IOException("Unexpected end of request");
+          }
+          got += ret;
+        }
+        lastHeaders = headers;
+        requests.incrementAndGet();
+
+        if ("gzip".equals(headers.get("content-encoding"))) {
+          body = gunzip(body);
+        }
+        byte[] response = handler.handle(headers, body);
+        String encoding = "";
+        String accept = headers.get("accept-encoding");
+        if (accept != null && accept.indexOf("gzip") >= 0) {
+          response = gzip(response);
+          encoding = "Content-Encoding: gzip\r\n";
+        }
+        String head = "HTTP/1.1 200 OK\r\n"
+            + "Content-Type: application/x-thrift\r\n" + encoding
+            + "Content-Length: " + response.length + "\r\n\r\n";
+        out.write(head.getBytes("US-ASCII"));
+        out.write(response);
+        out.flush();
+        if (closeAfterResponse) {
+          break;
+        }
+      }
+    } catch (IOException e) {
+      // connection closed by the client
+    } finally {
+      try {
+        socket.close();
+      } catch (IOException e) {
+        ;
+      }
+    }
+  }
+
+  private static byte[] gzip(byte[] data) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    GZIPOutputStream gzip = new GZIPOutputStream(out);
+    gzip.write(data);
+    gzip.close();
+    return out.toByteArray();
+  }
+
+  private static byte[] gunzip(byte[] data) throws IOException {
+    GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buf = new byte[4096];
+    int ret;
+    while ((ret = in.read(buf)) != -1) {
+      out.write(buf, 0, ret);
+    }
+    return out.toByteArray();
+  }
+
+  private static String readLine(InputStream in) throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int b;
+    while ((b = in.read()) != -1) {
+      if (b == '\n') {
+        break;
+      }
+      if (b != '\r') {
+        line.write(b);
+      }
+    }
+    if (b == -1 && line.size() == 0) {
+      return null;
+    }
+    return line.toString("US-ASCII");
+  }
+}
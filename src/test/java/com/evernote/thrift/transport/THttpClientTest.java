@@ -0,0 +1,217 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.NoteAttributes;
+import com.evernote.thrift.protocol.TBinaryProtocol;
+import com.evernote.thrift.protocol.TProtocolUtil;
+import com.evernote.thrift.protocol.TType;
+
+public class THttpClientTest {
+
+  private LocalHttpServer server;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new LocalHttpServer(LocalHttpServer.ECHO);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    server.stop();
+  }
+
+  @Test
+  public void testBufferedResponse() throws Exception {
+    THttpClient client = new THttpClient(server.getUrl());
+    client.setBufferResponse(true);
+    TBinaryProtocol protocol = new TBinaryProtocol(client);
+
+    assertEquals(-1, client.getBytesRemainingInBuffer());
+    protocol.writeI32(42);
+    protocol.writeString("Hello, Evernote");
+    client.flush();
+
+    assertNotNull(client.getBuffer());
+    assertEquals(4 + 4 + 15, client.getBytesRemainingInBuffer());
+    assertEquals(42, protocol.readI32());
+    assertEquals("Hello, Evernote", protocol.readString());
+    assertEquals(0, client.getBytesRemainingInBuffer());
+
+    client.close();
+    assertNull(client.getBuffer());
+  }
+
+  @Test
+  public void testBufferGrowsBeyondInitialSize() throws Exception {
+    THttpClient client = new THttpClient(server.getUrl());
+    client.setBufferResponse(true);
+    TBinaryProtocol protocol = new TBinaryProtocol(client);
+
+    for (int call = 0; call < 2; call++) {
+      for (int i = 0; i < 10000; i++) {
+        protocol.writeI32(i);
+      }
+      client.flush();
+      for (int i = 0; i < 10000; i++) {
+        assertEquals(i, protocol.readI32());
+      }
+      client.close();
+    }
+  }
+
+  @Test
+  public void testUnbufferedResponse() throws Exception {
+    THttpClient client = new THttpClient(server.getUrl());
+    TBinaryProtocol protocol = new TBinaryProtocol(client);
+
+    protocol.writeI64(1234567890123L);
+    client.flush();
+
+    assertEquals(-1, client.getBytesRemainingInBuffer());
+    assertEquals(1234567890123L, protocol.readI64());
+    client.close();
+  }
+
+  @Test
+  public void testFixedLengthRequest() throws Exception {
+    THttpClient client = new THttpClient(server.getUrl());
+    client.setMaxRetainedBufferSize(1024);
+    TBinaryProtocol protocol = new TBinaryProtocol(client);
+
+    // larger than the retained buffer size
+    byte[] body = new byte[64 * 1024];
+    for (int i = 0; i < body.length; i++) {
+      body[i] = (byte) i;
+    }
+    protocol.writeBinary(body);
+    client.flush();
+    assertEquals(String.valueOf(4 + body.length), server.getLastHeaders().get(
+        "content-length"));
+    assertEquals(body.length, protocol.readBytes().length);
+    client.close();
+
+    protocol.writeI16((short) 12);
+    client.flush();
+    assertEquals("2", server.getLastHeaders().get("content-length"));
+    assertEquals(12, protocol.readI16());
+    client.close();
+  }
+
+  @Test
+  public void testCompression() throws Exception {
+    THttpConnectionPool pool = new THttpConnectionPool();
+    THttpClient[] clients = new THttpClient[] {
+        new THttpClient(server.getUrl()), new THttpClient(server.getUrl(), pool) };
+    for (THttpClient client : clients) {
+      client.setCompressRequests(true);
+      client.setCompressResponses(true);
+      TBinaryProtocol protocol = new TBinaryProtocol(client);
+
+      StringBuilder content = new StringBuilder();
+      for (int i = 0; i < 1000; i++) {
+        content.append("<div>Hello, Evernote</div>");
+      }
+      protocol.writeString(content.toString());
+      protocol.writeI32(1);
+      client.flush();
+
+      assertEquals("gzip", server.getLastHeaders().get("content-encoding"));
+      assertEquals(content.toString(), protocol.readString());
+      assertEquals(1, protocol.readI32());
+      client.close();
+
+      int length = 4 + content.length() + 4;
+      assertEquals(length, client.getRequestBytes());
+      assertEquals(length, client.getResponseBytes());
+      assertTrue(client.getRequestWireBytes() < length / 10);
+      assertTrue(client.getResponseWireBytes() < length / 10);
+      assertTrue(client.getResponseCompressionRatio() < 0.1);
+    }
+    assertEquals(0, pool.getLeasedCount());
+    pool.shutdown();
+  }
+
+  @Test
+  public void testStatisticsWithoutCompression() throws Exception {
+    THttpClient client = new THttpClient(server.getUrl());
+    client.setBufferResponse(true);
+    TBinaryProtocol protocol = new TBinaryProtocol(client);
+
+    protocol.writeI64(1L);
+    client.flush();
+    assertNull(server.getLastHeaders().get("accept-encoding"));
+    assertEquals(1L, protocol.readI64());
+
+    assertEquals(8, client.getRequestBytes());
+    assertEquals(8, client.getRequestWireBytes());
+    assertEquals(8, client.getResponseBytes());
+    assertEquals(8, client.getResponseWireBytes());
+    assertEquals(1.0, client.getResponseCompressionRatio(), 0.0);
+  }
+
+  @Test
+  public void testSkip() throws Exception {
+    THttpConnectionPool pool = new THttpConnectionPool();
+    THttpClient[] clients = new THttpClient[] {
+        new THttpClient(server.getUrl()), new THttpClient(server.getUrl(), pool),
+        new THttpClient(server.getUrl()) };
+    clients[2].setBufferResponse(true);
+    byte[] blob = new byte[3 * 1024 * 1024];
+    for (THttpClient client : clients) {
+      TBinaryProtocol protocol = new TBinaryProtocol(client);
+      protocol.writeBinary(blob);
+      protocol.writeString("after");
+      protocol.writeBinary(blob);
+      protocol.writeI32(7);
+      client.flush();
+
+      TProtocolUtil.skip(protocol, TType.STRING);
+      assertEquals("after", protocol.readString());
+      protocol.skipBinary();
+      assertEquals(7, protocol.readI32());
+      client.close();
+    }
+    assertEquals(0, pool.getLeasedCount());
+    assertEquals(1, pool.getIdleCount());
+    pool.shutdown();
+  }
+
+  @Test
+  public void testRetainedResponseBuffer() throws Exception {
+    THttpClient client = new THttpClient(server.getUrl());
+    client.setBufferResponse(true);
+    TBinaryProtocol protocol = new TBinaryProtocol(client);
+    protocol.setLazyDecoding(true);
+
+    Note note = new Note();
+    note.setTitle("title");
+    note.setAttributes(new NoteAttributes());
+    note.getAttributes().setAuthor("author");
+    note.write(protocol);
+    client.flush();
+    Note read = new Note();
+    read.read(protocol);
+
+    // the next response must not overwrite the lazily read attributes
+    for (int i = 0; i < 100; i++) {
+      protocol.writeI32(-1);
+    }
+    client.flush();
+    assertEquals(-1, protocol.readI32());
+    client.close();
+
+    assertEquals("author", read.getAttributes().getAuthor());
+  }
+}
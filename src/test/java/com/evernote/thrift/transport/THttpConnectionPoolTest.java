@@ -0,0 +1,169 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.thrift.protocol.TBinaryProtocol;
+
+public class THttpConnectionPoolTest {
+
+  private LocalHttpServer server;
+  private THttpConnectionPool pool;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new LocalHttpServer(LocalHttpServer.ECHO);
+    pool = new THttpConnectionPool();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    pool.shutdown();
+    server.stop();
+  }
+
+  @Test
+  public void testConnectionIsReused() throws Exception {
+    THttpClient first = new THttpClient(server.getUrl(), pool);
+    THttpClient second = new THttpClient(server.getUrl(), pool);
+
+    for (int i = 0; i < 5; i++) {
+      assertEquals(i, call(first, i));
+      assertEquals(i, call(second, i));
+    }
+
+    assertEquals(10, server.getRequestCount());
+    assertEquals(1, server.getConnectionCount());
+    assertEquals(1, pool.getCreatedCount());
+    assertEquals(9, pool.getReusedCount());
+    assertEquals(0, pool.getLeasedCount());
+    assertEquals(1, pool.getIdleCount());
+  }
+
+  @Test
+  public void testBufferedResponseReleasesConnection() throws Exception {
+    THttpClient client = new THttpClient(server.getUrl(), pool);
+    client.setBufferResponse(true);
+    TBinaryProtocol protocol = new TBinaryProtocol(client);
+
+    protocol.writeI32(7);
+    client.flush();
+    assertEquals(0, pool.getLeasedCount());
+    assertEquals(7, protocol.readI32());
+  }
+
+  @Test
+  public void testUnreadResponseIsDrainedOnNextCall() throws Exception {
+    THttpClient client = new THttpClient(server.getUrl(), pool);
+    TBinaryProtocol protocol = new TBinaryProtocol(client);
+
+    protocol.writeI64(1L);
+    client.flush();
+    assertEquals(1, pool.getLeasedCount());
+
+    assertEquals(2, call(client, 2));
+    assertEquals(1, server.getConnectionCount());
+    assertEquals(1, pool.getReusedCount());
+  }
+
+  @Test
+  public void testPerHostLimit() throws Exception {
+    pool.setMaxConnectionsPerHost(1);
+    pool.setBorrowTimeout(100);
+
+    THttpClient first = new THttpClient(server.getUrl(), pool);
+    TBinaryProtocol protocol = new TBinaryProtocol(first);
+    protocol.writeI64(1L);
+    first.flush();
+
+    THttpClient second = new THttpClient(server.getUrl(), pool);
+    try {
+      call(second, 1);
+      fail("Expected the borrow to time out");
+    } catch (TTransportException e) {
+      assertTrue(e.getMessage().indexOf("Timed out") >= 0);
+    }
+
+    first.close();
+    assertEquals(3, call(second, 3));
+  }
+
+  @Test
+  public void testIdleConnectionsAreEvicted() throws Exception {
+    pool.setIdleTimeout(1);
+    call(new THttpClient(server.getUrl(), pool), 1);
+    Thread.sleep(20);
+
+    pool.evictIdleConnections();
+    assertEquals(0, pool.getIdleCount());
+    assertEquals(1, pool.getEvictedCount());
+
+    call(new THttpClient(server.getUrl(), pool), 2);
+    assertEquals(2, server.getConnectionCount());
+  }
+
+  @Test
+  public void testStaleConnectionIsReplaced() throws Exception {
+    server.setCloseAfterResponse(true);
+    THttpClient client = new THttpClient(server.getUrl(), pool);
+
+    assertEquals(1, call(client, 1));
+    Thread.sleep(20);
+    // the idle connection has been closed by the server, a new one is opened
+    assertEquals(2, call(client, 2));
+    assertEquals(2, server.getConnectionCount());
+    assertEquals(2, server.getRequestCount());
+  }
+
+  @Test
+  public void testReadTimeoutOnReusedConnectionIsNotRetried() throws Exception {
+    server.stop();
+    server = new LocalHttpServer(new LocalHttpServer.Handler() {
+      public byte[] handle(Map<String, String> headers, byte[] body) throws IOException {
+        if (body[3] == 2) {
+          try {
+            Thread.sleep(500);
+          } catch (InterruptedException e) {
+            throw new IOException("Interrupted");
+          }
+        }
+        return body;
+      }
+    });
+    THttpClient client = new THttpClient(server.getUrl(), pool);
+    client.setReadTimeout(100);
+
+    assertEquals(1, call(client, 1));
+    try {
+      call(client, 2);
+      fail("Expected the read to time out");
+    } catch (TTransportException e) {
+      assertTrue(e.getCause() instanceof SocketTimeoutException);
+    }
+    // the slow request may have been carried out, it must not be sent again
+    Thread.sleep(100);
+    assertEquals(2, server.getRequestCount());
+    assertEquals(1, server.getConnectionCount());
+  }
+
+  private static int call(THttpClient client, int value) throws Exception {
+    TBinaryProtocol protocol = new TBinaryProtocol(client);
+    protocol.writeI32(value);
+    client.flush();
+    int result = protocol.readI32();
+    client.close();
+    return result;
+  }
+}
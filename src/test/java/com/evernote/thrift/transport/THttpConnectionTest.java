@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015 Evernote Corporation. All rights reserved.
+ */
+package com.evernote.thrift.transport;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import javax.security.auth.x500.X500Principal;
+
+import org.junit.Test;
+
+public class THttpConnectionTest {
+
+  @Test
+  public void testMatchesName() {
+    assertTrue(THttpConnection.matchesName("www.evernote.com", "www.evernote.com"));
+    assertTrue(THttpConnection.matchesName("www.evernote.com", "WWW.Evernote.com"));
+    assertFalse(THttpConnection.matchesName("www.evernote.com", "evernote.com"));
+
+    assertTrue(THttpConnection.matchesName("www.evernote.com", "*.evernote.com"));
+    assertFalse(THttpConnection.matchesName("evernote.com", "*.evernote.com"));
+    assertFalse(THttpConnection.matchesName("a.www.evernote.com", "*.evernote.com"));
+    assertFalse(THttpConnection.matchesName("wwwevernote.com", "*.evernote.com"));
+  }
+
+  @Test
+  public void testMatchesDnsNames() {
+    Certificate certificate = createCertificate("CN=sandbox.evernote.com",
+        altName(2, "www.evernote.com"), altName(2, "*.evernote.com"));
+
+    assertTrue(matches("www.evernote.com", certificate));
+    assertTrue(matches("Api.Evernote.com", certificate));
+    assertFalse(matches("evernote.com", certificate));
+    // the common name is ignored if there are DNS names
+    assertFalse(matches("sandbox.evernote.com.au", certificate));
+    assertFalse(matches("sandbox.evernote.org", certificate));
+  }
+
+  @Test
+  public void testMatchesIpAddresses() {
+    Certificate certificate = createCertificate("CN=127.0.0.1",
+        altName(2, "localhost"), altName(7, "127.0.0.1"), altName(7, "0:0:0:0:0:0:0:1"));
+
+    assertTrue(matches("127.0.0.1", certificate));
+    assertTrue(matches("[::1]", certificate));
+    assertTrue(matches("localhost", certificate));
+    assertFalse(matches("127.0.0.2", certificate));
+
+    // an IP address never matches a DNS name or the common name
+    assertFalse(matches("127.0.0.1",
+        createCertificate("CN=127.0.0.1", altName(2, "127.0.0.1"))));
+    assertFalse(matches("127.0.0.1", createCertificate("CN=127.0.0.1")));
+  }
+
+  @Test
+  public void testMatchesCommonName() {
+    Certificate certificate = createCertificate("CN=www.evernote.com, O=Evernote");
+    assertTrue(matches("www.evernote.com", certificate));
+    assertFalse(matches("evernote.com", certificate));
+
+    assertTrue(matches("www.evernote.com",
+        createCertificate("CN=*.evernote.com, O=Evernote")));
+  }
+
+  @Test
+  public void testCommonNameWithComma() {
+    Certificate certificate = createCertificate(
+        "CN=www.evernote.com, OU=Mail\\,CN=attacker.com, O=Evernote\\, Inc.");
+    assertTrue(matches("www.evernote.com", certificate));
+    assertFalse(matches("attacker.com", certificate));
+
+    assertFalse(matches("www.evernote.com",
+        createCertificate("CN=www.evernote.com\\,evernote.com")));
+  }
+
+  private static boolean matches(String host, Certificate certificate) {
+    return THttpConnection.matchesCertificate(host, certificate.altNames,
+        certificate.subject);
+  }
+
+  private static Certificate createCertificate(String subject, List<?>... altNames) {
+    Certificate certificate = new Certificate();
+    certificate.subject = new X500Principal(subject);
+    if (altNames.length > 0) {
+      certificate.altNames = new ArrayList<List<?>>(Arrays.asList(altNames));
+    }
+    return certificate;
+  }
+
+  private static List<?> altName(int type, String name) {
+    return Arrays.asList(Integer.valueOf(type), name);
+  }
+
+  private static class Certificate {
+    X500Principal subject;
+    Collection<List<?>> altNames;
+  }
+}